@@ -11,6 +11,7 @@ val mockito: String by project
 val webdrivermanager: String by project
 val springDotenv: String by project
 val testcontainersVersion: String by project
+val datasourceMicrometer: String by project
 
 plugins {
     idea
@@ -100,6 +101,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("io.micrometer:micrometer-registry-prometheus")
+
+    // Tracing (OpenTelemetry bridge, OTLP/file exporters, JDBC statement spans)
+    implementation("io.micrometer:micrometer-tracing-bridge-otel")
+    implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+    implementation("io.opentelemetry:opentelemetry-exporter-logging-otlp")
+    implementation("net.ttddyy.observation:datasource-micrometer-spring-boot:$datasourceMicrometer")
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.aspectj:aspectjweaver")
@@ -109,7 +116,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-jdbc")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-database-postgresql")
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql") // Compile scope: PgNotifyInvalidationBus uses PGConnection API
 
     // Dev tools
     developmentOnly("org.springframework.boot:spring-boot-devtools")
@@ -1,8 +1,15 @@
 package org.apolenkov.application.config.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.util.concurrent.TimeUnit;
+import org.apolenkov.application.service.cache.CacheInvalidationBroadcaster;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -11,7 +18,7 @@ import org.springframework.context.annotation.Configuration;
 
 /**
  * Cache configuration using Caffeine for application-level caching.
- * Provides in-memory cache for frequently accessed data like users.
+ * Provides in-memory cache for frequently accessed data like users, newest news and the public landing page.
  */
 @Configuration
 @EnableCaching
@@ -24,6 +31,10 @@ public class CacheConfiguration {
 
     public static final String USER_BY_EMAIL_CACHE = "usersByEmail";
 
+    public static final String LANDING_PAGE_CACHE = "landingPage";
+
+    public static final String LATEST_NEWS_CACHE = "latestNews";
+
     @Value("${app.cache.user.ttl-minutes:30}")
     private int userCacheTtlMinutes;
 
@@ -33,14 +44,40 @@ public class CacheConfiguration {
     /**
      * Creates and configures Caffeine-based cache manager.
      * Uses TTL (Time-To-Live) and size-based eviction.
+     * Evictions are propagated to other nodes when cluster invalidation is enabled.
      *
+     * @param broadcasterProvider provider for cross-node invalidation transport
      * @return configured cache manager
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(USER_CACHE, USER_BY_EMAIL_CACHE);
+    public CacheManager cacheManager(final ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider) {
+        CaffeineCacheManager cacheManager =
+                new CaffeineCacheManager(USER_CACHE, USER_BY_EMAIL_CACHE, LANDING_PAGE_CACHE, LATEST_NEWS_CACHE);
         cacheManager.setCaffeine(caffeineCacheBuilder());
-        return cacheManager;
+        return new ClusterAwareCacheManager(cacheManager, broadcasterProvider);
+    }
+
+    /**
+     * Binds Caffeine statistics of all managed caches to Micrometer.
+     * Spring Boot only binds plain CaffeineCache instances, the cluster-aware wrapper hides them,
+     * so native caches are bound here once with the tag keys used by {@link AppCacheMetrics}.
+     *
+     * @param cacheManagerProvider provider for application cache manager
+     * @return meter binder for Caffeine caches
+     */
+    @Bean
+    public MeterBinder caffeineCacheMetrics(final ObjectProvider<CacheManager> cacheManagerProvider) {
+        return registry -> {
+            CacheManager cacheManager = cacheManagerProvider.getObject();
+            for (String name : cacheManager.getCacheNames()) {
+                Cache cache = cacheManager.getCache(name);
+                Object nativeCache = cache != null ? cache.getNativeCache() : null;
+                if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+                    CaffeineCacheMetrics.monitor(
+                            registry, caffeineCache, name, Tags.of(AppCacheMetrics.SCOPE_TAG, "node"));
+                }
+            }
+        };
     }
 
     /**
@@ -0,0 +1,166 @@
+package org.apolenkov.application.config.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.apolenkov.application.service.cache.CacheInvalidationBroadcaster;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Cache manager decorator that propagates evictions to other nodes.
+ *
+ * <p>Every evict/clear on a managed cache is applied locally and broadcast through
+ * {@link CacheInvalidationBroadcaster} (when one is configured). Invalidations received from
+ * other nodes are applied with {@link ClusterAwareCache#evictLocally(Object)} to avoid echo loops.
+ */
+public class ClusterAwareCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider;
+    private final Map<String, ClusterAwareCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates decorator for cache manager.
+     *
+     * @param delegateValue underlying cache manager
+     * @param broadcasterProviderValue provider for broadcaster (absent on single-node setups)
+     */
+    public ClusterAwareCacheManager(
+            final CacheManager delegateValue,
+            final ObjectProvider<CacheInvalidationBroadcaster> broadcasterProviderValue) {
+        this.delegate = delegateValue;
+        this.broadcasterProvider = broadcasterProviderValue;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new ClusterAwareCache(cache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Broadcasts invalidation if broadcaster is available.
+     *
+     * @param cacheName cache name
+     * @param key key or null for all entries
+     */
+    private void broadcast(final String cacheName, final Object key) {
+        CacheInvalidationBroadcaster broadcaster = broadcasterProvider.getIfAvailable();
+        if (broadcaster != null) {
+            broadcaster.broadcast(cacheName, key);
+        }
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Cache wrapper that broadcasts evictions.
+     */
+    public final class ClusterAwareCache implements Cache {
+        private final Cache target;
+
+        ClusterAwareCache(final Cache targetValue) {
+            this.target = targetValue;
+        }
+
+        /**
+         * Evicts key on this node only (used for invalidations received from other nodes).
+         *
+         * @param key key to evict
+         */
+        public void evictLocally(final Object key) {
+            target.evict(key);
+        }
+
+        /**
+         * Clears cache on this node only (used for invalidations received from other nodes).
+         */
+        public void clearLocally() {
+            target.clear();
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(final Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(final Object key, final Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(final Object key, final Callable<T> valueLoader) {
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public CompletableFuture<?> retrieve(final Object key) {
+            return target.retrieve(key);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader) {
+            return target.retrieve(key, valueLoader);
+        }
+
+        @Override
+        public void put(final Object key, final Object value) {
+            target.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(final Object key, final Object value) {
+            return target.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(final Object key) {
+            target.evict(key);
+            broadcast(getName(), key);
+        }
+
+        @Override
+        public boolean evictIfPresent(final Object key) {
+            boolean evicted = target.evictIfPresent(key);
+            broadcast(getName(), key);
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            broadcast(getName(), null);
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = target.invalidate();
+            broadcast(getName(), null);
+            return invalidated;
+        }
+    }
+}
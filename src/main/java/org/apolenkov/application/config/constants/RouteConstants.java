@@ -82,6 +82,11 @@ public final class RouteConstants {
      */
     public static final String ADMIN_NEWS_ROUTE = "admin/news";
 
+    /**
+     * Route for admin session footprint view.
+     */
+    public static final String ADMIN_SESSIONS_ROUTE = "admin/sessions";
+
     /**
      * Route for 404 error view.
      */
@@ -100,6 +105,20 @@ public final class RouteConstants {
 
     public static final String ACTUATOR_PROMETHEUS = "/actuator/prometheus";
 
+    /**
+     * Cache control endpoint - administrators only.
+     */
+    public static final String ACTUATOR_CACHE_CONTROL = "/actuator/cachecontrol";
+
+    public static final String ACTUATOR_CACHE_CONTROL_PATH = "/actuator/cachecontrol/**";
+
+    /**
+     * JFR profiling endpoint - administrators only.
+     */
+    public static final String ACTUATOR_JFR = "/actuator/jfr";
+
+    public static final String ACTUATOR_JFR_PATH = "/actuator/jfr/**";
+
     /**
      * Actuator base path for authenticated endpoints.
      */
@@ -9,6 +9,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import org.apolenkov.application.config.constants.RouteConstants;
+import org.apolenkov.application.config.monitoring.jfr.JfrUiAccess;
 import org.apolenkov.application.views.shared.utils.NavigationHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -203,7 +204,7 @@ public class ErrorHandlingConfiguration {
         String errorId = UUID.randomUUID().toString();
 
         try {
-            ui.access(() -> {
+            JfrUiAccess.access(ui, "ErrorHandling.navigate", () -> {
                 try {
                     QueryParameters params = createErrorParameters(currentRoute, error, errorId);
                     NavigationHelper.navigateToError(RouteConstants.ERROR_ROUTE, params);
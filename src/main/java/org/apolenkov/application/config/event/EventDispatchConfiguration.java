@@ -0,0 +1,39 @@
+package org.apolenkov.application.config.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Configuration for asynchronous domain event listeners.
+ * Non-critical listeners (metrics, audit) run on virtual threads via {@code @Async(EVENT_EXECUTOR)}
+ * and never add latency to write paths.
+ */
+@Configuration
+@EnableAsync
+public class EventDispatchConfiguration {
+
+    /**
+     * Bean name of executor for asynchronous event listeners.
+     */
+    public static final String EVENT_EXECUTOR = "domainEventExecutor";
+
+    /**
+     * Creates virtual-thread executor for asynchronous event listeners.
+     * Concurrency limit protects against unbounded listener fan-out under write bursts.
+     *
+     * @param concurrencyLimit maximum number of concurrently running listeners
+     * @return task executor backed by virtual threads
+     */
+    @Bean(name = EVENT_EXECUTOR)
+    public TaskExecutor domainEventExecutor(
+            @Value("${app.events.async.concurrency-limit:64}") final int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("domain-event-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
@@ -1,5 +1,7 @@
 package org.apolenkov.application.config.logging;
 
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,13 +12,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.UUID;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 /**
  * Servlet filter that populates MDC with request-scoped information for logging.
- * Provides requestId for request correlation and userId for user-specific logging.
+ * Provides requestId for request correlation, userId for user-specific logging and
+ * traceId of the current span to correlate log lines (Loki) with traces.
  *
  * <p>This class is designed for extension. Subclasses should override {@link #doFilter}
  * to add custom MDC processing while calling the parent method to maintain
@@ -28,6 +32,23 @@ public final class MdcFilter implements Filter {
     private static final String REQUEST_ID_HEADER = "X-Request-ID";
     private static final String REQUEST_ID_MDC_KEY = "requestId";
     private static final String USER_ID_MDC_KEY = "userId";
+    private static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String TRACE_ID_MDC_KEY = "traceId";
+
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    /**
+     * Creates MDC filter.
+     *
+     * @param tracerProviderValue provider of tracer (absent when tracing is disabled)
+     * @throws IllegalArgumentException if tracerProviderValue is null
+     */
+    public MdcFilter(final ObjectProvider<Tracer> tracerProviderValue) {
+        if (tracerProviderValue == null) {
+            throw new IllegalArgumentException("Tracer provider cannot be null");
+        }
+        this.tracerProvider = tracerProviderValue;
+    }
 
     @Override
     public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
@@ -44,6 +65,13 @@ public final class MdcFilter implements Filter {
             // Set response header for client correlation
             httpResponse.setHeader(REQUEST_ID_HEADER, requestId);
 
+            // Expose trace ID of server span (started by observation filter before this one)
+            String traceId = extractTraceId();
+            if (traceId != null) {
+                MDC.put(TRACE_ID_MDC_KEY, traceId);
+                httpResponse.setHeader(TRACE_ID_HEADER, traceId);
+            }
+
             // Extract user ID from security context
             String userId = extractUserId();
             if (userId != null) {
@@ -56,6 +84,7 @@ public final class MdcFilter implements Filter {
             // Clean up MDC to prevent memory leaks
             MDC.remove(REQUEST_ID_MDC_KEY);
             MDC.remove(USER_ID_MDC_KEY);
+            MDC.remove(TRACE_ID_MDC_KEY);
         }
     }
 
@@ -64,6 +93,15 @@ public final class MdcFilter implements Filter {
         return requestId != null ? requestId : UUID.randomUUID().toString().substring(0, 8);
     }
 
+    private String extractTraceId() {
+        Tracer tracer = tracerProvider.getIfAvailable();
+        Span span = tracer != null ? tracer.currentSpan() : null;
+        if (span == null || span.isNoop()) {
+            return null;
+        }
+        return span.context().traceId();
+    }
+
     private String extractUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null
@@ -0,0 +1,431 @@
+package org.apolenkov.application.config.monitoring;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.service.stats.metrics.CacheStatsRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for inspecting and controlling caches at runtime.
+ * Covers session-scoped application caches (aggregated over all live sessions of this node)
+ * and Caffeine caches of the Spring CacheManager.
+ *
+ * <p>Operations:
+ * <ul>
+ *   <li>GET /actuator/cachecontrol - all caches with size, weight, hit rate, TTL and top keys</li>
+ *   <li>GET /actuator/cachecontrol/{name}?top=N - single cache with N top keys</li>
+ *   <li>DELETE /actuator/cachecontrol/{name}?key=K - evict key (or whole cache without key)</li>
+ *   <li>DELETE /actuator/cachecontrol?deckId=D - evict deck from all deck-keyed caches</li>
+ *   <li>POST /actuator/cachecontrol/{name} {"ttlMs":..,"maxSize":..} - tune TTL and max size</li>
+ * </ul>
+ *
+ * <p>Restricted to administrators using HTTP Basic on the stateless actuator chain (SecurityConfig)
+ * and exposed only when listed in management endpoint exposure. Changes apply to this node only and are not persisted;
+ * evictions of Caffeine caches are still propagated by the cluster-aware cache manager.
+ */
+@Component
+@Endpoint(id = CacheControlEndpoint.ID)
+public class CacheControlEndpoint {
+
+    /**
+     * Endpoint ID (path segment under /actuator).
+     */
+    public static final String ID = "cachecontrol";
+
+    private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("org.apolenkov.application.audit");
+    private static final Pattern NUMERIC_KEY = Pattern.compile("-?\\d{1,18}");
+    private static final int DEFAULT_TOP_KEYS = 10;
+    private static final int MAX_TOP_KEYS = 100;
+    private static final String SCOPE_SESSION = "session";
+    private static final String SCOPE_NODE = "node";
+
+    // ==================== Fields ====================
+
+    private final AppCacheMetrics cacheMetrics;
+    private final CacheManager cacheManager;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates endpoint over application and Spring-managed caches.
+     *
+     * @param cacheMetricsValue node-wide application cache metrics
+     * @param cacheManagerValue Spring cache manager
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public CacheControlEndpoint(final AppCacheMetrics cacheMetricsValue, final CacheManager cacheManagerValue) {
+        if (cacheMetricsValue == null) {
+            throw new IllegalArgumentException("AppCacheMetrics cannot be null");
+        }
+        if (cacheManagerValue == null) {
+            throw new IllegalArgumentException("CacheManager cannot be null");
+        }
+        this.cacheMetrics = cacheMetricsValue;
+        this.cacheManager = cacheManagerValue;
+    }
+
+    // ==================== Read Operations ====================
+
+    /**
+     * Lists all caches.
+     *
+     * @return cache descriptors by cache name
+     */
+    @ReadOperation
+    public Map<String, CacheDescriptor> caches() {
+        Map<String, CacheDescriptor> result = new LinkedHashMap<>();
+        for (CacheStatsRecorder recorder : cacheMetrics.recorders()) {
+            result.put(recorder.getCacheName(), describe(recorder, DEFAULT_TOP_KEYS));
+        }
+        for (String name : cacheManager.getCacheNames()) {
+            caffeineCache(name).ifPresent(cache -> result.put(name, describe(cache, DEFAULT_TOP_KEYS)));
+        }
+        return result;
+    }
+
+    /**
+     * Describes single cache.
+     *
+     * @param name cache name
+     * @param top number of top keys to include (default 10, max 100)
+     * @return cache descriptor or null (404) if cache does not exist
+     */
+    @ReadOperation
+    public CacheDescriptor cache(@Selector final String name, @OptionalParameter final Integer top) {
+        int limit = top == null ? DEFAULT_TOP_KEYS : Math.clamp(top, 0, MAX_TOP_KEYS);
+        Optional<CacheStatsRecorder> recorder = recorder(name);
+        if (recorder.isPresent()) {
+            return describe(recorder.get(), limit);
+        }
+        return caffeineCache(name).map(cache -> describe(cache, limit)).orElse(null);
+    }
+
+    // ==================== Delete Operations ====================
+
+    /**
+     * Evicts single key or clears whole cache.
+     * Session caches are keyed by deck ID (user ID for decks), so key must be numeric for them.
+     *
+     * @param securityContext caller security context
+     * @param name cache name
+     * @param key key to evict; clears whole cache when absent
+     * @return eviction result or null (404) if cache does not exist
+     */
+    @DeleteOperation
+    public EvictionResult evict(
+            final SecurityContext securityContext, @Selector final String name, @OptionalParameter final String key) {
+        Optional<CacheStatsRecorder> recorder = recorder(name);
+        Optional<Cache> caffeine = recorder.isPresent() ? Optional.empty() : springCache(name);
+        if (recorder.isEmpty() && caffeine.isEmpty()) {
+            return null;
+        }
+
+        long removed;
+        if (key == null || key.isBlank()) {
+            removed = recorder.map(CacheControlEndpoint::clearAll).orElseGet(() -> clearSpringCache(caffeine.get()));
+        } else if (recorder.isPresent()) {
+            long id = parseNumericKey(key);
+            removed = recorder.get().sources().stream()
+                    .mapToLong(source -> source.evict(id))
+                    .sum();
+        } else {
+            removed = caffeine.get().evictIfPresent(toTypedKey(key)) ? 1 : 0;
+        }
+
+        AUDIT_LOGGER.info(
+                "Cache evicted via control endpoint: cache={}, key={}, removed={}, by={}",
+                name,
+                key == null ? "*" : key,
+                removed,
+                principalName(securityContext));
+        return new EvictionResult(name, key, removed);
+    }
+
+    /**
+     * Evicts deck from all deck-keyed application caches (known cards, counts, pages).
+     *
+     * @param securityContext caller security context
+     * @param deckId the deck ID
+     * @return eviction result per cache
+     */
+    @DeleteOperation
+    public List<EvictionResult> evictDeck(final SecurityContext securityContext, final long deckId) {
+        List<EvictionResult> results = new ArrayList<>();
+        for (CacheStatsRecorder recorder : cacheMetrics.recorders()) {
+            if (!isDeckKeyed(recorder.getCacheName())) {
+                continue;
+            }
+            long removed = recorder.sources().stream()
+                    .mapToLong(source -> source.evict(deckId))
+                    .sum();
+            results.add(new EvictionResult(recorder.getCacheName(), Long.toString(deckId), removed));
+        }
+        AUDIT_LOGGER.info(
+                "Deck evicted from caches via control endpoint: deckId={}, by={}",
+                deckId,
+                principalName(securityContext));
+        return results;
+    }
+
+    // ==================== Write Operations ====================
+
+    /**
+     * Tunes TTL and/or max size of cache on this node.
+     * For session caches non-positive values restore configured defaults.
+     * New max size is enforced on subsequent writes (entries are not dropped eagerly).
+     *
+     * @param securityContext caller security context
+     * @param name cache name
+     * @param ttlMs new time-to-live in milliseconds
+     * @param maxSize new maximum number of entries
+     * @return updated cache descriptor or null (404) if cache does not exist
+     */
+    @WriteOperation
+    public CacheDescriptor tune(
+            final SecurityContext securityContext,
+            @Selector final String name,
+            @OptionalParameter final Long ttlMs,
+            @OptionalParameter final Integer maxSize) {
+        Optional<CacheStatsRecorder> recorder = recorder(name);
+        if (recorder.isPresent()) {
+            recorder.get().tune(ttlMs, maxSize);
+        } else {
+            Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> caffeine = caffeineCache(name);
+            if (caffeine.isEmpty()) {
+                return null;
+            }
+            tuneCaffeine(caffeine.get(), ttlMs, maxSize);
+        }
+
+        AUDIT_LOGGER.info(
+                "Cache tuned via control endpoint: cache={}, ttlMs={}, maxSize={}, by={}",
+                name,
+                ttlMs,
+                maxSize,
+                principalName(securityContext));
+        return cache(name, DEFAULT_TOP_KEYS);
+    }
+
+    // ==================== Application Caches ====================
+
+    private Optional<CacheStatsRecorder> recorder(final String name) {
+        return cacheMetrics.recorders().stream()
+                .filter(recorder -> recorder.getCacheName().equals(name))
+                .findFirst();
+    }
+
+    private static CacheDescriptor describe(final CacheStatsRecorder recorder, final int topKeys) {
+        List<CacheStatsRecorder.Source> sources = recorder.sources();
+        long ttlMs = sources.stream()
+                .mapToLong(CacheStatsRecorder.Source::ttlMs)
+                .max()
+                .orElse(-1);
+        long maxSize = sources.stream()
+                .mapToLong(CacheStatsRecorder.Source::maxSize)
+                .max()
+                .orElse(-1);
+
+        Map<Long, Long> accessCounts = new HashMap<>();
+        long size = 0;
+        long weight = 0;
+        for (CacheStatsRecorder.Source source : sources) {
+            size += source.size();
+            weight += source.weight();
+            source.accessCounts().forEach((key, hits) -> accessCounts.merge(key, hits, Long::sum));
+        }
+        List<KeyAccess> top = accessCounts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(topKeys)
+                .map(entry -> new KeyAccess(entry.getKey().toString(), entry.getValue()))
+                .toList();
+
+        long hits = recorder.hits();
+        long misses = recorder.misses();
+        long loads = recorder.loads();
+        return new CacheDescriptor(
+                SCOPE_SESSION,
+                sources.size(),
+                size,
+                weight,
+                hits,
+                misses,
+                hitRate(hits, misses),
+                recorder.evictions(),
+                loads > 0 ? TimeUnit.NANOSECONDS.toMicros(recorder.loadNanos() / loads) : 0,
+                ttlMs,
+                maxSize,
+                top);
+    }
+
+    private static long clearAll(final CacheStatsRecorder recorder) {
+        long removed = 0;
+        for (CacheStatsRecorder.Source source : recorder.sources()) {
+            removed += source.size();
+            source.clear();
+        }
+        return removed;
+    }
+
+    private static boolean isDeckKeyed(final String cacheName) {
+        return !CacheInvalidationRegistry.DECKS.equals(cacheName);
+    }
+
+    private static long parseNumericKey(final String key) {
+        if (!NUMERIC_KEY.matcher(key).matches()) {
+            throw new InvalidEndpointRequestException(
+                    "Session cache keys are numeric IDs: " + key, "Key must be a numeric ID");
+        }
+        return Long.parseLong(key);
+    }
+
+    // ==================== Caffeine Caches ====================
+
+    private Optional<Cache> springCache(final String name) {
+        return Optional.ofNullable(cacheManager.getCache(name));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> caffeineCache(final String name) {
+        return springCache(name)
+                .map(Cache::getNativeCache)
+                .filter(com.github.benmanes.caffeine.cache.Cache.class::isInstance)
+                .map(nativeCache -> (com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache);
+    }
+
+    private static CacheDescriptor describe(
+            final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, final int topKeys) {
+        com.github.benmanes.caffeine.cache.stats.CacheStats stats = cache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.policy().eviction();
+        Optional<Policy.FixedExpiration<Object, Object>> expiration = cache.policy().expireAfterWrite();
+        List<KeyAccess> top = eviction
+                .map(policy -> policy.hottest(topKeys).keySet().stream()
+                        .map(key -> new KeyAccess(String.valueOf(key), null))
+                        .toList())
+                .orElse(List.of());
+        long size = cache.estimatedSize();
+        long weight = eviction.map(policy -> policy.weightedSize().orElse(size)).orElse(size);
+
+        return new CacheDescriptor(
+                SCOPE_NODE,
+                1,
+                size,
+                weight,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                TimeUnit.NANOSECONDS.toMicros((long) stats.averageLoadPenalty()),
+                expiration.map(policy -> policy.getExpiresAfter(TimeUnit.MILLISECONDS)).orElse(-1L),
+                eviction.map(Policy.Eviction::getMaximum).orElse(-1L),
+                top);
+    }
+
+    private static void tuneCaffeine(
+            final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+            final Long ttlMs,
+            final Integer maxSize) {
+        if (ttlMs != null && ttlMs > 0) {
+            cache.policy().expireAfterWrite().ifPresent(policy -> policy.setExpiresAfter(ttlMs, TimeUnit.MILLISECONDS));
+        }
+        if (maxSize != null && maxSize > 0) {
+            cache.policy().eviction().ifPresent(policy -> policy.setMaximum(maxSize));
+        }
+    }
+
+    private static long clearSpringCache(final Cache cache) {
+        Object nativeCache = cache.getNativeCache();
+        long size = nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine
+                ? caffeine.estimatedSize()
+                : 0;
+        cache.clear();
+        return size;
+    }
+
+    private static Object toTypedKey(final String key) {
+        return NUMERIC_KEY.matcher(key).matches() ? Long.valueOf(key) : key;
+    }
+
+    // ==================== Helpers ====================
+
+    private static double hitRate(final long hits, final long misses) {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+
+    private static String principalName(final SecurityContext securityContext) {
+        Principal principal = securityContext == null ? null : securityContext.getPrincipal();
+        return principal == null ? "unknown" : principal.getName();
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Cache description.
+     *
+     * @param scope "session" for per-session application caches, "node" for Caffeine caches
+     * @param instances live instances (sessions) the numbers are aggregated over
+     * @param size number of entries
+     * @param weight number of values held (entries for Caffeine caches without weigher)
+     * @param hits cache hits
+     * @param misses cache misses
+     * @param hitRate hit rate (0.0 to 1.0)
+     * @param evictions size-based evictions
+     * @param averageLoadMicros average loader duration in microseconds
+     * @param ttlMs effective time-to-live in milliseconds (-1 if unknown)
+     * @param maxSize effective maximum entries per instance (-1 if unknown)
+     * @param topKeys most accessed keys
+     */
+    public record CacheDescriptor(
+            String scope,
+            int instances,
+            long size,
+            long weight,
+            long hits,
+            long misses,
+            double hitRate,
+            long evictions,
+            long averageLoadMicros,
+            long ttlMs,
+            long maxSize,
+            List<KeyAccess> topKeys) {}
+
+    /**
+     * Key with its access count.
+     *
+     * @param key cache key
+     * @param hits hits served from this key, null when cache only ranks keys (Caffeine)
+     */
+    public record KeyAccess(String key, Long hits) {}
+
+    /**
+     * Eviction result.
+     *
+     * @param cache cache name
+     * @param key evicted key, null when whole cache was cleared
+     * @param removed number of removed entries
+     */
+    public record EvictionResult(String cache, String key, long removed) {}
+}
@@ -41,6 +41,7 @@ public class CacheMetricsLogger {
     /**
      * Logs cache metrics at configured intervals.
      * Runs every 5 minutes by default (configurable via app.monitoring.cache.log-interval-ms).
+     * Not cluster-locked: caches are node-local and the job does no database work.
      */
     @Scheduled(fixedDelayString = "${app.monitoring.cache.log-interval-ms:300000}")
     public void logCacheMetrics() {
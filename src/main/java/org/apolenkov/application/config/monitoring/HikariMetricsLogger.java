@@ -36,6 +36,7 @@ public class HikariMetricsLogger {
     /**
      * Logs HikariCP pool metrics at configured intervals.
      * Runs every minute by default (configurable via app.monitoring.hikari.log-interval-ms).
+     * Not cluster-locked: each node reports its own pool.
      */
     @Scheduled(fixedDelayString = "${app.monitoring.hikari.log-interval-ms:60000}")
     public void logPoolMetrics() {
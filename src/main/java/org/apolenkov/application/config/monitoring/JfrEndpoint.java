@@ -0,0 +1,205 @@
+package org.apolenkov.application.config.monitoring;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.util.List;
+import org.apolenkov.application.config.monitoring.jfr.JfrPreset;
+import org.apolenkov.application.config.monitoring.jfr.JfrRecordingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for on-demand JDK Flight Recorder profiling of this node.
+ *
+ * <p>Operations:
+ * <ul>
+ *   <li>GET /actuator/jfr - recordings (always-on continuous recording and on-demand ones)</li>
+ *   <li>POST /actuator/jfr {"preset":"profile","durationSeconds":120} - start recording
+ *       (presets: continuous, profile, locks)</li>
+ *   <li>POST /actuator/jfr/{id} - stop recording, keeping data for download</li>
+ *   <li>GET /actuator/jfr/{id} - download recording (.jfr), running recordings are dumped as-is</li>
+ *   <li>DELETE /actuator/jfr/{id} - close recording and discard data</li>
+ * </ul>
+ *
+ * <p>Restricted to administrators using HTTP Basic on the stateless actuator chain (SecurityConfig),
+ * so recordings can be started and stopped from scripts without a browser session. Exposed only when listed
+ * in management endpoint exposure. Web-only: downloads are binary.
+ */
+@Component
+@WebEndpoint(id = JfrEndpoint.ID)
+public class JfrEndpoint {
+
+    /**
+     * Endpoint ID (path segment under /actuator).
+     */
+    public static final String ID = "jfr";
+
+    private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("org.apolenkov.application.audit");
+    private static final String JFR_CONTENT_TYPE = "application/octet-stream";
+
+    private final JfrRecordingService recordingService;
+
+    /**
+     * Creates JFR endpoint.
+     *
+     * @param recordingServiceValue JFR recording service
+     * @throws IllegalArgumentException if recordingServiceValue is null
+     */
+    public JfrEndpoint(final JfrRecordingService recordingServiceValue) {
+        if (recordingServiceValue == null) {
+            throw new IllegalArgumentException("JfrRecordingService cannot be null");
+        }
+        this.recordingService = recordingServiceValue;
+    }
+
+    // ==================== Read Operations ====================
+
+    /**
+     * Lists recordings.
+     *
+     * @return recording descriptors
+     */
+    @ReadOperation
+    public List<JfrRecordingService.RecordingInfo> recordings() {
+        return recordingService.list();
+    }
+
+    /**
+     * Downloads recording data.
+     *
+     * @param securityContext caller security context
+     * @param id recording ID
+     * @return .jfr file or 404 if recording does not exist
+     */
+    @ReadOperation(produces = JFR_CONTENT_TYPE)
+    public WebEndpointResponse<Resource> download(final SecurityContext securityContext, @Selector final long id) {
+        try {
+            return recordingService
+                    .dump(id)
+                    .map(file -> {
+                        AUDIT_LOGGER.info(
+                                "JFR recording downloaded: id={}, by={}", id, principalName(securityContext));
+                        return new WebEndpointResponse<Resource>(new TemporaryFileResource(file));
+                    })
+                    .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording " + id, e);
+        }
+    }
+
+    // ==================== Write Operations ====================
+
+    /**
+     * Starts on-demand recording.
+     *
+     * @param securityContext caller security context
+     * @param preset preset name (continuous, profile, locks)
+     * @param durationSeconds duration in seconds (default and maximum are configured)
+     * @return descriptor of started recording
+     */
+    @WriteOperation
+    public JfrRecordingService.RecordingInfo start(
+            final SecurityContext securityContext,
+            final String preset,
+            @OptionalParameter final Long durationSeconds) {
+        JfrPreset jfrPreset;
+        try {
+            jfrPreset = JfrPreset.fromName(preset);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR preset: " + preset, "Unknown preset");
+        }
+        JfrRecordingService.RecordingInfo info;
+        try {
+            info = recordingService.start(jfrPreset, durationSeconds);
+        } catch (IllegalStateException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        AUDIT_LOGGER.info(
+                "JFR recording started: id={}, preset={}, durationSeconds={}, by={}",
+                info.id(),
+                info.preset(),
+                info.durationSeconds(),
+                principalName(securityContext));
+        return info;
+    }
+
+    /**
+     * Stops running recording.
+     *
+     * @param securityContext caller security context
+     * @param id recording ID
+     * @return descriptor or null (404) if recording does not exist
+     */
+    @WriteOperation
+    public JfrRecordingService.RecordingInfo stop(final SecurityContext securityContext, @Selector final long id) {
+        JfrRecordingService.RecordingInfo info = recordingService.stop(id).orElse(null);
+        if (info != null) {
+            AUDIT_LOGGER.info("JFR recording stopped: id={}, by={}", id, principalName(securityContext));
+        }
+        return info;
+    }
+
+    // ==================== Delete Operations ====================
+
+    /**
+     * Closes recording and discards its data.
+     *
+     * @param securityContext caller security context
+     * @param id recording ID
+     * @return 204 if closed, 404 if recording does not exist
+     */
+    @DeleteOperation
+    public WebEndpointResponse<Void> close(final SecurityContext securityContext, @Selector final long id) {
+        if (!recordingService.close(id)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        AUDIT_LOGGER.info("JFR recording closed: id={}, by={}", id, principalName(securityContext));
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    private static String principalName(final SecurityContext securityContext) {
+        Principal principal = securityContext == null ? null : securityContext.getPrincipal();
+        return principal == null ? "unknown" : principal.getName();
+    }
+
+    /**
+     * File resource deleting the dumped recording once the response stream is closed.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(final Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
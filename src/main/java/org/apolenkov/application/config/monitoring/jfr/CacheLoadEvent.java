@@ -0,0 +1,41 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for loads of application caches on miss.
+ */
+@Name("memocards.CacheLoad")
+@Label("Cache Load")
+@Description("Loading of missing entries into application cache")
+@Category({"Memocards", "Cache"})
+@StackTrace(false)
+@Threshold("10 ms")
+public final class CacheLoadEvent extends jdk.jfr.Event {
+
+    @Label("Cache")
+    private String cache;
+
+    @Label("Entries")
+    @Description("Number of entries loaded (batch loads may load several)")
+    private int entries;
+
+    /**
+     * Commits event if it passes recording settings.
+     *
+     * @param cacheValue cache name
+     * @param entriesValue number of loaded entries
+     */
+    public void complete(final String cacheValue, final int entriesValue) {
+        if (shouldCommit()) {
+            this.cache = cacheValue;
+            this.entries = entriesValue;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for filtered card queries (dynamic SQL page and count queries).
+ * Search text is not recorded, only whether search was applied.
+ */
+@Name("memocards.CardQuery")
+@Label("Filtered Card Query")
+@Description("Filtered card page or count query built by CardQueryBuilder")
+@Category({"Memocards", "Database"})
+@StackTrace(false)
+@Threshold("20 ms")
+public final class CardQueryEvent extends jdk.jfr.Event {
+
+    /**
+     * Query kind for page queries.
+     */
+    public static final String KIND_PAGE = "page";
+
+    /**
+     * Query kind for count queries.
+     */
+    public static final String KIND_COUNT = "count";
+
+    @Label("Kind")
+    private String kind;
+
+    @Label("Deck ID")
+    private long deckId;
+
+    @Label("Filter")
+    private String filter;
+
+    @Label("Search")
+    private boolean search;
+
+    @Label("Offset")
+    private long offset;
+
+    @Label("Rows")
+    @Description("Rows returned (page) or counted (count)")
+    private long rows;
+
+    /**
+     * Commits event if it passes recording settings.
+     *
+     * @param kindValue query kind ({@link #KIND_PAGE} or {@link #KIND_COUNT})
+     * @param deckIdValue deck ID
+     * @param filterValue filter option name
+     * @param searchValue true if search text was applied
+     * @param offsetValue page offset (0 for count)
+     * @param rowsValue rows returned or counted
+     */
+    public void complete(
+            final String kindValue,
+            final long deckIdValue,
+            final String filterValue,
+            final boolean searchValue,
+            final long offsetValue,
+            final long rowsValue) {
+        if (shouldCommit()) {
+            this.kind = kindValue;
+            this.deckId = deckIdValue;
+            this.filter = filterValue;
+            this.search = searchValue;
+            this.offset = offsetValue;
+            this.rows = rowsValue;
+            commit();
+        }
+    }
+}
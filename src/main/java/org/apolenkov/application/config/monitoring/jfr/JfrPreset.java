@@ -0,0 +1,83 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import jdk.jfr.Configuration;
+
+/**
+ * Recording presets: JDK configuration plus overrides for application and JDK events.
+ */
+public enum JfrPreset {
+
+    /**
+     * Low overhead (JDK "default"), suitable for always-on recording.
+     * Application events keep their {@code @Threshold} defaults, so only slow operations are recorded.
+     */
+    CONTINUOUS("default", Map.of()),
+
+    /**
+     * CPU/allocation profiling (JDK "profile"), all application events without thresholds.
+     */
+    PROFILE(
+            "profile",
+            Map.of(
+                    "memocards.PracticeAnswer#threshold", "0 ms",
+                    "memocards.RecordSession#threshold", "0 ms",
+                    "memocards.CardQuery#threshold", "0 ms",
+                    "memocards.CacheLoad#threshold", "0 ms",
+                    "memocards.UiAccess#threshold", "0 ms")),
+
+    /**
+     * Lock contention: monitor enter, thread park and UI.access with low thresholds.
+     */
+    LOCKS(
+            "default",
+            Map.of(
+                    "jdk.JavaMonitorEnter#threshold", "1 ms",
+                    "jdk.JavaMonitorWait#threshold", "1 ms",
+                    "jdk.ThreadPark#threshold", "1 ms",
+                    "jdk.ThreadPark#stackTrace", "true",
+                    "memocards.UiAccess#threshold", "0 ms"));
+
+    private final String configuration;
+    private final Map<String, String> overrides;
+
+    JfrPreset(final String configurationValue, final Map<String, String> overridesValue) {
+        this.configuration = configurationValue;
+        this.overrides = overridesValue;
+    }
+
+    /**
+     * Builds recording settings of preset.
+     *
+     * @return settings map for {@link jdk.jfr.Recording#Recording(Map)}
+     * @throws IllegalStateException if JDK configuration cannot be loaded
+     */
+    public Map<String, String> settings() {
+        try {
+            Map<String, String> settings =
+                    new HashMap<>(Configuration.getConfiguration(configuration).getSettings());
+            settings.putAll(overrides);
+            return settings;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR configuration: " + configuration, e);
+        }
+    }
+
+    /**
+     * Parses preset name (case-insensitive).
+     *
+     * @param name preset name
+     * @return preset
+     * @throws IllegalArgumentException if name is unknown
+     */
+    public static JfrPreset fromName(final String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Preset name cannot be blank");
+        }
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
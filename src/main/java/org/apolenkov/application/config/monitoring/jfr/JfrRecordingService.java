@@ -0,0 +1,247 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Manages JDK Flight Recorder recordings of this node.
+ *
+ * <p>Keeps an optional always-on continuous recording (disk ring buffer bounded by age and size)
+ * and a bounded number of on-demand recordings started with a preset and maximum duration.
+ * On-demand recordings stop automatically after their duration and are kept until closed,
+ * so they can be downloaded after the fact.
+ */
+@Service
+public class JfrRecordingService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrRecordingService.class);
+    private static final String CONTINUOUS_NAME = "memocards-continuous";
+    private static final String ON_DEMAND_PREFIX = "memocards-";
+    private static final long BYTES_PER_MB = 1024L * 1024;
+
+    // ==================== Fields ====================
+
+    private final Map<Long, ManagedRecording> recordings = new ConcurrentHashMap<>();
+
+    @Value("${app.monitoring.jfr.continuous.enabled:true}")
+    private boolean continuousEnabled;
+
+    @Value("${app.monitoring.jfr.continuous.max-age-minutes:60}")
+    private long continuousMaxAgeMinutes;
+
+    @Value("${app.monitoring.jfr.continuous.max-size-mb:256}")
+    private long continuousMaxSizeMb;
+
+    @Value("${app.monitoring.jfr.max-recordings:3}")
+    private int maxRecordings;
+
+    @Value("${app.monitoring.jfr.max-duration-seconds:900}")
+    private long maxDurationSeconds;
+
+    @Value("${app.monitoring.jfr.default-duration-seconds:60}")
+    private long defaultDurationSeconds;
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Starts continuous recording once application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuous() {
+        if (!continuousEnabled) {
+            return;
+        }
+        try {
+            Recording recording = new Recording(JfrPreset.CONTINUOUS.settings());
+            recording.setName(CONTINUOUS_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(Duration.ofMinutes(continuousMaxAgeMinutes));
+            recording.setMaxSize(continuousMaxSizeMb * BYTES_PER_MB);
+            recording.start();
+            recordings.put(recording.getId(), new ManagedRecording(recording, JfrPreset.CONTINUOUS, true));
+            LOGGER.info(
+                    "Continuous JFR recording started: maxAge={}min, maxSize={}MB",
+                    continuousMaxAgeMinutes,
+                    continuousMaxSizeMb);
+        } catch (IllegalStateException | SecurityException e) {
+            LOGGER.warn("Continuous JFR recording not available: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Closes all recordings on shutdown.
+     */
+    @PreDestroy
+    public void closeAll() {
+        recordings.values().forEach(managed -> managed.recording().close());
+        recordings.clear();
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Lists recordings of this node (continuous first, then by start time).
+     *
+     * @return recording descriptors
+     */
+    public List<RecordingInfo> list() {
+        List<ManagedRecording> snapshot = new ArrayList<>(recordings.values());
+        snapshot.sort(Comparator.comparing((ManagedRecording managed) -> !managed.continuous())
+                .thenComparing(managed -> managed.recording().getId()));
+        return snapshot.stream().map(JfrRecordingService::describe).toList();
+    }
+
+    /**
+     * Starts on-demand recording.
+     *
+     * @param preset recording preset
+     * @param durationSeconds duration (null for default, capped by max duration)
+     * @return descriptor of started recording
+     * @throws IllegalStateException if maximum number of on-demand recordings is reached
+     */
+    public RecordingInfo start(final JfrPreset preset, final Long durationSeconds) {
+        if (preset == null) {
+            throw new IllegalArgumentException("Preset cannot be null");
+        }
+        synchronized (recordings) {
+            long onDemand = recordings.values().stream()
+                    .filter(managed -> !managed.continuous())
+                    .count();
+            if (onDemand >= maxRecordings) {
+                throw new IllegalStateException(
+                        "Maximum of " + maxRecordings + " recordings reached, close finished recordings first");
+            }
+            long seconds = durationSeconds == null || durationSeconds <= 0
+                    ? defaultDurationSeconds
+                    : Math.min(durationSeconds, maxDurationSeconds);
+
+            Recording recording = new Recording(preset.settings());
+            recording.setName(ON_DEMAND_PREFIX + preset.name().toLowerCase(Locale.ROOT));
+            recording.setToDisk(true);
+            recording.setDuration(Duration.ofSeconds(seconds));
+            recording.start();
+            ManagedRecording managed = new ManagedRecording(recording, preset, false);
+            recordings.put(recording.getId(), managed);
+            LOGGER.info("JFR recording started: id={}, preset={}, duration={}s", recording.getId(), preset, seconds);
+            return describe(managed);
+        }
+    }
+
+    /**
+     * Stops running recording; recorded data is kept for download.
+     *
+     * @param id recording ID
+     * @return descriptor or empty if recording does not exist
+     */
+    public Optional<RecordingInfo> stop(final long id) {
+        ManagedRecording managed = recordings.get(id);
+        if (managed == null) {
+            return Optional.empty();
+        }
+        if (managed.recording().getState() == RecordingState.RUNNING) {
+            managed.recording().stop();
+            LOGGER.info("JFR recording stopped: id={}", id);
+        }
+        return Optional.of(describe(managed));
+    }
+
+    /**
+     * Closes recording and discards its data.
+     *
+     * @param id recording ID
+     * @return true if recording existed
+     */
+    public boolean close(final long id) {
+        ManagedRecording managed = recordings.remove(id);
+        if (managed == null) {
+            return false;
+        }
+        managed.recording().close();
+        LOGGER.info("JFR recording closed: id={}", id);
+        return true;
+    }
+
+    /**
+     * Dumps recorded data to temporary file (works for running recordings too).
+     * Caller is responsible for deleting the file.
+     *
+     * @param id recording ID
+     * @return path of .jfr file or empty if recording does not exist
+     * @throws IOException if dump fails
+     */
+    public Optional<Path> dump(final long id) throws IOException {
+        ManagedRecording managed = recordings.get(id);
+        if (managed == null) {
+            return Optional.empty();
+        }
+        Path file = Files.createTempFile(managed.recording().getName() + "-", ".jfr");
+        try {
+            managed.recording().dump(file);
+        } catch (IOException | IllegalStateException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return Optional.of(file);
+    }
+
+    // ==================== Private Methods ====================
+
+    private static RecordingInfo describe(final ManagedRecording managed) {
+        Recording recording = managed.recording();
+        Duration duration = recording.getDuration();
+        return new RecordingInfo(
+                recording.getId(),
+                recording.getName(),
+                managed.preset().name(),
+                recording.getState().name(),
+                managed.continuous(),
+                recording.getStartTime(),
+                duration == null ? null : duration.toSeconds(),
+                recording.getSize());
+    }
+
+    // ==================== Inner Classes ====================
+
+    private record ManagedRecording(Recording recording, JfrPreset preset, boolean continuous) {}
+
+    /**
+     * Recording descriptor.
+     *
+     * @param id recording ID
+     * @param name recording name
+     * @param preset preset name
+     * @param state recording state (NEW, RUNNING, STOPPED, CLOSED)
+     * @param continuous true for always-on recording
+     * @param startTime start time (null if not started)
+     * @param durationSeconds configured duration (null for unbounded)
+     * @param sizeBytes bytes written so far
+     */
+    public record RecordingInfo(
+            long id,
+            String name,
+            String preset,
+            String state,
+            boolean continuous,
+            Instant startTime,
+            Long durationSeconds,
+            long sizeBytes) {}
+}
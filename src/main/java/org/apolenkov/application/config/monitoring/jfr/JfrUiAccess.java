@@ -0,0 +1,37 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.Command;
+import java.util.concurrent.Future;
+
+/**
+ * UI.access wrapper recording lock wait and hold times as {@link UiAccessEvent}.
+ */
+public final class JfrUiAccess {
+
+    private JfrUiAccess() {
+        // Utility class
+    }
+
+    /**
+     * Runs command under session lock of UI (see {@link UI#access(Command)}).
+     *
+     * @param ui the UI to access
+     * @param source component or feature scheduling the command (event label)
+     * @param command command to run
+     * @return future completed when command has run
+     */
+    public static Future<Void> access(final UI ui, final String source, final Command command) {
+        long scheduledAt = System.nanoTime();
+        return ui.access(() -> {
+            UiAccessEvent event = new UiAccessEvent();
+            event.begin();
+            long lockWait = System.nanoTime() - scheduledAt;
+            try {
+                command.execute();
+            } finally {
+                event.complete(source, lockWait);
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for processing of a practice answer (know/hard) including UI update.
+ */
+@Name("memocards.PracticeAnswer")
+@Label("Practice Answer")
+@Description("Processing of practice answer including progress and next card rendering")
+@Category({"Memocards", "Practice"})
+@StackTrace(false)
+@Threshold("20 ms")
+public final class PracticeAnswerEvent extends jdk.jfr.Event {
+
+    @Label("Deck ID")
+    private long deckId;
+
+    @Label("Card ID")
+    private long cardId;
+
+    @Label("Known")
+    private boolean known;
+
+    /**
+     * Commits event if it passes recording settings.
+     *
+     * @param deckIdValue deck ID
+     * @param cardIdValue answered card ID
+     * @param knownValue true if card was marked as known
+     */
+    public void complete(final long deckIdValue, final long cardIdValue, final boolean knownValue) {
+        if (shouldCommit()) {
+            this.deckId = deckIdValue;
+            this.cardId = cardIdValue;
+            this.known = knownValue;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for persisting practice session statistics (StatsService.recordSession).
+ */
+@Name("memocards.RecordSession")
+@Label("Record Session")
+@Description("Persisting practice session statistics and known cards delta")
+@Category({"Memocards", "Practice"})
+@StackTrace(false)
+@Threshold("20 ms")
+public final class RecordSessionEvent extends jdk.jfr.Event {
+
+    @Label("Deck ID")
+    private long deckId;
+
+    @Label("Viewed")
+    private int viewed;
+
+    @Label("Known Delta")
+    @Description("Number of cards newly marked as known")
+    private int knownDelta;
+
+    /**
+     * Commits event if it passes recording settings.
+     *
+     * @param deckIdValue deck ID
+     * @param viewedValue number of viewed cards
+     * @param knownDeltaValue number of cards newly marked as known
+     */
+    public void complete(final long deckIdValue, final int viewedValue, final int knownDeltaValue) {
+        if (shouldCommit()) {
+            this.deckId = deckIdValue;
+            this.viewed = viewedValue;
+            this.knownDelta = knownDeltaValue;
+            commit();
+        }
+    }
+}
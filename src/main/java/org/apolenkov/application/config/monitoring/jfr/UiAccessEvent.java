@@ -0,0 +1,44 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for command executed through UI.access.
+ * Event duration is the time the session lock was held; wait time is queueing before lock acquisition.
+ */
+@Name("memocards.UiAccess")
+@Label("UI Access")
+@Description("Command run under Vaadin session lock via UI.access")
+@Category({"Memocards", "Vaadin"})
+@StackTrace(false)
+@Threshold("20 ms")
+public final class UiAccessEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    @Description("Component or feature that scheduled the command")
+    private String source;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lockWait;
+
+    /**
+     * Commits event if it passes recording settings.
+     *
+     * @param sourceValue command source
+     * @param lockWaitValue nanoseconds between scheduling and lock acquisition
+     */
+    public void complete(final String sourceValue, final long lockWaitValue) {
+        if (shouldCommit()) {
+            this.source = sourceValue;
+            this.lockWait = lockWaitValue;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.apolenkov.application.config.security;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.apolenkov.application.config.constants.RouteConstants;
+import org.apolenkov.application.service.security.LoginRateLimiter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Throttles credential submissions to the form-login endpoint before Spring Security authenticates them.
+ *
+ * <p>The login view authenticates through {@code AuthService} (checked there), but the form-login
+ * processing URL registered for the login view accepts {@code POST /login} directly and is the cheapest
+ * target for credential stuffing. Rejected requests get {@code 429 Too Many Requests} with
+ * {@code Retry-After} and never reach the password encoder.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public final class LoginThrottleFilter implements Filter {
+
+    private static final String USERNAME_PARAMETER = "username";
+
+    private final LoginRateLimiter rateLimiter;
+
+    /**
+     * Creates login throttle filter.
+     *
+     * @param rateLimiterValue login rate limiter
+     * @throws IllegalArgumentException if rateLimiterValue is null
+     */
+    public LoginThrottleFilter(final LoginRateLimiter rateLimiterValue) {
+        if (rateLimiterValue == null) {
+            throw new IllegalArgumentException("LoginRateLimiter cannot be null");
+        }
+        this.rateLimiter = rateLimiterValue;
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (!isLoginSubmission(httpRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        LoginRateLimiter.Decision decision =
+                rateLimiter.tryAcquire(httpRequest.getRemoteAddr(), httpRequest.getParameter(USERNAME_PARAMETER));
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        long retryAfterSeconds = Math.max(1L, (decision.retryAfter().toMillis() + 999) / 1000);
+        httpResponse.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        httpResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    /**
+     * Checks whether request submits credentials to the form-login processing URL.
+     *
+     * @param request HTTP request
+     * @return true for {@code POST /login}
+     */
+    private static boolean isLoginSubmission(final HttpServletRequest request) {
+        String loginPath = request.getContextPath() + RouteConstants.ROOT_PATH + RouteConstants.LOGIN_ROUTE;
+        return "POST".equals(request.getMethod())
+                && loginPath.equals(request.getRequestURI())
+                && request.getQueryString() == null;
+    }
+}
@@ -28,7 +28,8 @@ import org.springframework.stereotype.Component;
  *   <li>Suspicious activity alerting</li>
  * </ul>
  *
- * <p>Part of comprehensive security monitoring (OWASP A07:2021 compliance).
+ * <p>Blocking is done by {@code LoginRateLimiter} before authentication; this aspect only audits.
+ * Part of comprehensive security monitoring (OWASP A07:2021 compliance).
  */
 @Aspect
 @Component
@@ -124,7 +125,6 @@ public class SecurityAuditAspect {
 
         // Future enhancements for consideration:
         // - Email/Slack notifications to security team
-        // - Temporary IP blocking (requires rate limiter integration)
         // - SIEM alert triggering
     }
 
@@ -177,6 +177,7 @@ public class SecurityAuditAspect {
     /**
      * Periodically cleans up old failed attempt trackers.
      * Runs every hour to prevent memory leaks from accumulating failed attempts.
+     * Not cluster-locked: the tracker map lives in this node's memory.
      */
     @Scheduled(fixedRate = 3600000) // 1 hour
     public void cleanupOldAttempts() {
@@ -2,19 +2,27 @@ package org.apolenkov.application.config.security;
 
 import com.vaadin.flow.spring.security.VaadinAwareSecurityContextHolderStrategyConfiguration;
 import com.vaadin.flow.spring.security.VaadinSecurityConfigurer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.apolenkov.application.config.constants.RouteConstants;
 import org.apolenkov.application.config.logging.MdcFilter;
+import org.apolenkov.application.service.security.PasswordHashingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 
 /**
  * Spring Security configuration for the application.
@@ -37,19 +45,20 @@ public class SecurityConfig {
     }
 
     /**
-     * Configures HTTP security including CSRF protection and security headers.
+     * Configures stateless security for actuator endpoints.
+     * Actuator calls authenticate with HTTP Basic on every request; the browser session cookie is never used,
+     * so CSRF protection is not needed here and stays enabled for all session-authenticated requests.
      *
      * @param http the HttpSecurity builder
-     * @return configured SecurityFilterChain
+     * @return configured SecurityFilterChain for actuator endpoints
      * @throws Exception if configuration fails
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(final HttpSecurity http) throws Exception {
-        // Configure public resources and actuator endpoints
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(final HttpSecurity http) throws Exception {
+        http.securityMatcher(EndpointRequest.toAnyEndpoint());
+
         http.authorizeHttpRequests(auth -> auth
-                // Public static resources (icons, images, etc.)
-                .requestMatchers("/icons/**")
-                .permitAll()
                 // Actuator endpoints: health, info, metrics, env, prometheus are public
                 .requestMatchers(
                         RouteConstants.ACTUATOR_HEALTH,
@@ -58,9 +67,46 @@ public class SecurityConfig {
                         RouteConstants.ACTUATOR_ENV,
                         RouteConstants.ACTUATOR_PROMETHEUS)
                 .permitAll()
-                .requestMatchers(RouteConstants.ACTUATOR_BASE_PATH)
+                // Cache control plane can evict and retune caches: administrators only
+                .requestMatchers(RouteConstants.ACTUATOR_CACHE_CONTROL, RouteConstants.ACTUATOR_CACHE_CONTROL_PATH)
+                .hasAuthority(SecurityConstants.ROLE_ADMIN)
+                // Flight recordings expose thread dumps and allocation data: administrators only
+                .requestMatchers(RouteConstants.ACTUATOR_JFR, RouteConstants.ACTUATOR_JFR_PATH)
+                .hasAuthority(SecurityConstants.ROLE_ADMIN)
+                .anyRequest()
                 .authenticated());
 
+        // No HTTP session: security context lives for one request only
+        http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        http.securityContext(
+                context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()));
+        http.httpBasic(Customizer.withDefaults());
+        http.csrf(AbstractHttpConfigurer::disable);
+
+        http.addFilterBefore(mdcFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * Configures HTTP security including CSRF protection and security headers.
+     *
+     * @param http the HttpSecurity builder
+     * @return configured SecurityFilterChain
+     * @throws Exception if configuration fails
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(final HttpSecurity http) throws Exception {
+        // Configure public resources (actuator endpoints have their own chain)
+        http.authorizeHttpRequests(auth -> auth
+                // Public static resources (icons, images, etc.)
+                .requestMatchers("/icons/**")
+                .permitAll()
+                // Stylesheet of the static landing page served to visitors without session
+                .requestMatchers("/landing/**")
+                .permitAll());
+
         // Configure Vaadin's security using VaadinSecurityConfigurer
         http.with(
                 VaadinSecurityConfigurer.vaadin(),
@@ -91,11 +137,31 @@ public class SecurityConfig {
 
     /**
      * Creates password encoder for secure password hashing.
+     * BCrypt runs on a bounded platform-thread pool with adaptive cost (see {@link PasswordHashingService}),
+     * so concurrent logins, registrations and resets cannot monopolize carrier threads.
      *
-     * @return BCrypt password encoder
+     * @param meterRegistry registry for hashing metrics
+     * @param threads number of hashing threads, 0 for number of available processors
+     * @param queueCapacity maximum number of hashes waiting for a thread
+     * @param timeout maximum time a caller waits for its hash
+     * @param targetTime desired verification time of one hash
+     * @param initialCost cost factor used until the first measurement
+     * @param minCost lowest cost factor
+     * @param maxCost highest cost factor
+     * @return bounded BCrypt password encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @SuppressWarnings("java:S107") // Pool, queue and cost bounds are independent settings
+    public PasswordHashingService passwordEncoder(
+            final MeterRegistry meterRegistry,
+            @Value("${app.security.password-hashing.threads:0}") final int threads,
+            @Value("${app.security.password-hashing.queue-capacity:256}") final int queueCapacity,
+            @Value("${app.security.password-hashing.timeout:PT5S}") final Duration timeout,
+            @Value("${app.security.password-hashing.target-time:PT0.1S}") final Duration targetTime,
+            @Value("${app.security.password-hashing.initial-cost:10}") final int initialCost,
+            @Value("${app.security.password-hashing.min-cost:10}") final int minCost,
+            @Value("${app.security.password-hashing.max-cost:14}") final int maxCost) {
+        return new PasswordHashingService(
+                meterRegistry, threads, queueCapacity, timeout, targetTime, initialCost, minCost, maxCost);
     }
 }
@@ -297,7 +297,7 @@ public class DataInitializer {
      * @param news news repository
      */
     private void createWelcomeNews(final NewsRepository news) {
-        if (!news.findAllOrderByCreatedDesc().isEmpty()) {
+        if (!news.findSummaries(null, null, 1, 1).isEmpty()) {
             return;
         }
 
@@ -0,0 +1,48 @@
+package org.apolenkov.application.config.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationFilter;
+import io.micrometer.observation.ObservationView;
+import java.util.List;
+import net.ttddyy.observation.tracing.QueryContext;
+import org.apolenkov.application.infrastructure.repository.jdbc.sql.SqlQueryNames;
+
+/**
+ * Labels JDBC statement observations with a stable query name.
+ *
+ * <p>Name is the SQL constant ("DeckSqlQueries.SELECT_DECK_BY_ID") when statement text
+ * matches one, otherwise the enclosing repository adapter call ("CardJdbcAdapter.findCardsWithFilter")
+ * for dynamically built SQL, otherwise "unknown".
+ */
+public final class JdbcQueryNameObservationFilter implements ObservationFilter {
+
+    static final String UNKNOWN = "unknown";
+
+    @Override
+    public Observation.Context map(final Observation.Context context) {
+        if (context instanceof QueryContext queryContext) {
+            context.addLowCardinalityKeyValue(KeyValue.of(TracingObservations.QUERY_NAME_KEY, resolve(queryContext)));
+        }
+        return context;
+    }
+
+    private static String resolve(final QueryContext context) {
+        List<String> queries = context.getQueries();
+        if (queries != null && !queries.isEmpty()) {
+            String name = SqlQueryNames.nameOf(queries.getFirst());
+            if (name != null) {
+                return name;
+            }
+        }
+        ObservationView parent = context.getParentObservation();
+        while (parent != null) {
+            Observation.ContextView parentContext = parent.getContextView();
+            if (TracingObservations.REPOSITORY.equals(parentContext.getName())) {
+                return parentContext.getContextualName();
+            }
+            parent = parentContext.getParentObservation();
+        }
+        return UNKNOWN;
+    }
+}
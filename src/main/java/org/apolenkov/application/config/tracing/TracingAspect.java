@@ -0,0 +1,79 @@
+package org.apolenkov.application.config.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * AOP aspect creating observations (spans) for use-case and repository adapter calls.
+ *
+ * <p>Together with HTTP/Vaadin request spans and JDBC statement spans this gives the
+ * per-request critical path: view → use case → adapter → statement. Span names are
+ * "Class.method" and stay low-cardinality so timers derived from observations are safe.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Creates tracing aspect.
+     *
+     * @param observationRegistryValue registry for observations
+     * @throws IllegalArgumentException if observationRegistryValue is null
+     */
+    public TracingAspect(final ObservationRegistry observationRegistryValue) {
+        if (observationRegistryValue == null) {
+            throw new IllegalArgumentException("ObservationRegistry cannot be null");
+        }
+        this.observationRegistry = observationRegistryValue;
+    }
+
+    /**
+     * Observes public methods of use-case implementations.
+     *
+     * @param joinPoint the intercepted method call
+     * @return the result of the intercepted method
+     * @throws Throwable if the intercepted method throws an exception
+     */
+    @Around("execution(public * org.apolenkov.application.domain.usecase.*UseCase+.*(..))"
+            + " && within(org.apolenkov.application.service..*)")
+    public Object observeUseCase(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(TracingObservations.USE_CASE, joinPoint);
+    }
+
+    /**
+     * Observes repository adapter methods.
+     *
+     * @param joinPoint the intercepted method call
+     * @return the result of the intercepted method
+     * @throws Throwable if the intercepted method throws an exception
+     */
+    @Around("execution(* org.apolenkov.application.infrastructure.repository.jdbc.adapter.*.*(..))")
+    public Object observeRepository(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(TracingObservations.REPOSITORY, joinPoint);
+    }
+
+    private Object observe(final String name, final ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "." + methodName)
+                .lowCardinalityKeyValue(TracingObservations.CLASS_KEY, className)
+                .lowCardinalityKeyValue(TracingObservations.METHOD_KEY, methodName)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+}
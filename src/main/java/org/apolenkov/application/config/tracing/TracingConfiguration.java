@@ -0,0 +1,41 @@
+package org.apolenkov.application.config.tracing;
+
+import io.micrometer.observation.ObservationFilter;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tracing configuration on top of Spring Boot OpenTelemetry auto-configuration.
+ *
+ * <p>Boot provides the tracer, W3C propagation, trace ids in MDC (traceId/spanId) and the
+ * OTLP exporter, which is enabled by setting management.otlp.tracing.endpoint
+ * (MANAGEMENT_OTLP_TRACING_ENDPOINT) to a collector. For local analysis without a collector
+ * spans can be written as OTLP JSON lines to traces.log (app.tracing.file-exporter.enabled).
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * Adds query names to JDBC statement spans.
+     *
+     * @return observation filter
+     */
+    @Bean
+    public ObservationFilter jdbcQueryNameObservationFilter() {
+        return new JdbcQueryNameObservationFilter();
+    }
+
+    /**
+     * Exports spans as OTLP JSON through logger routed to traces.log (see logback-spring.xml).
+     *
+     * @return span exporter, registered in addition to OTLP exporter if both are configured
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.file-exporter.enabled", havingValue = "true")
+    public SpanExporter fileSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
@@ -0,0 +1,37 @@
+package org.apolenkov.application.config.tracing;
+
+/**
+ * Names and attribute keys of application observations (spans and their timers).
+ */
+public final class TracingObservations {
+
+    /**
+     * Use-case method call (service layer).
+     */
+    public static final String USE_CASE = "app.usecase";
+
+    /**
+     * Repository adapter call (may issue several JDBC statements).
+     */
+    public static final String REPOSITORY = "app.repository";
+
+    /**
+     * Vaadin request (UIDL, heartbeat, init).
+     */
+    public static final String VAADIN_REQUEST = "vaadin.request";
+
+    /**
+     * Vaadin router navigation including view construction and attach.
+     */
+    public static final String VAADIN_NAVIGATION = "vaadin.navigation";
+
+    public static final String CLASS_KEY = "class";
+    public static final String METHOD_KEY = "method";
+    public static final String REQUEST_TYPE_KEY = "vaadin.request.type";
+    public static final String ROUTE_KEY = "vaadin.route";
+    public static final String QUERY_NAME_KEY = "db.query.name";
+
+    private TracingObservations() {
+        // Utility class
+    }
+}
@@ -0,0 +1,157 @@
+package org.apolenkov.application.config.tracing;
+
+import com.vaadin.flow.router.AfterNavigationEvent;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinRequestInterceptor;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates observations (spans) for Vaadin requests and router navigation.
+ *
+ * <p>The servlet HTTP span only shows "POST /"; this adds a child span per Vaadin request
+ * typed by request kind (uidl, init, push) and a span per navigation tagged with the target
+ * view, covering view construction, BeforeEnter/AfterNavigation hooks and attach.
+ * Heartbeats are not observed. Observations are kept in request attributes and closed at
+ * request end even if navigation failed.
+ */
+@Component
+public class VaadinTracingInitializer implements VaadinServiceInitListener {
+
+    private static final String REQUEST_TYPE_PARAMETER = "v-r";
+    private static final String HEARTBEAT = "heartbeat";
+    private static final String PAGE = "page";
+    private static final String REQUEST_OBSERVATION_ATTRIBUTE = VaadinTracingInitializer.class.getName() + ".request";
+    private static final String NAVIGATION_OBSERVATION_ATTRIBUTE =
+            VaadinTracingInitializer.class.getName() + ".navigation";
+
+    private final transient ObservationRegistry observationRegistry;
+
+    /**
+     * Creates Vaadin tracing initializer.
+     *
+     * @param observationRegistryValue registry for observations
+     * @throws IllegalArgumentException if observationRegistryValue is null
+     */
+    public VaadinTracingInitializer(final ObservationRegistry observationRegistryValue) {
+        if (observationRegistryValue == null) {
+            throw new IllegalArgumentException("ObservationRegistry cannot be null");
+        }
+        this.observationRegistry = observationRegistryValue;
+    }
+
+    /**
+     * Registers request interceptor and navigation listeners.
+     *
+     * @param event the service initialization event
+     */
+    @Override
+    public void serviceInit(final ServiceInitEvent event) {
+        if (observationRegistry.isNoop()) {
+            return;
+        }
+        event.addVaadinRequestInterceptor(new RequestObserver());
+        event.getSource().addUIInitListener(uiEvent -> {
+            uiEvent.getUI().addBeforeEnterListener(this::startNavigation);
+            uiEvent.getUI().addAfterNavigationListener(this::stopNavigation);
+        });
+    }
+
+    // ==================== Navigation ====================
+
+    private void startNavigation(final BeforeEnterEvent event) {
+        VaadinRequest request = VaadinRequest.getCurrent();
+        if (request == null || request.getAttribute(NAVIGATION_OBSERVATION_ATTRIBUTE) != null) {
+            // Outside request or rerouted navigation: keep the span of original navigation
+            return;
+        }
+        String route = event.getNavigationTarget().getSimpleName();
+        Observation observation = Observation.createNotStarted(
+                        TracingObservations.VAADIN_NAVIGATION, observationRegistry)
+                .contextualName("navigate " + route)
+                .lowCardinalityKeyValue(TracingObservations.ROUTE_KEY, route)
+                .start();
+        request.setAttribute(NAVIGATION_OBSERVATION_ATTRIBUTE, new ActiveObservation(observation));
+    }
+
+    private void stopNavigation(final AfterNavigationEvent event) {
+        VaadinRequest request = VaadinRequest.getCurrent();
+        if (request != null) {
+            close(request, NAVIGATION_OBSERVATION_ATTRIBUTE, null);
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static void close(final VaadinRequest request, final String attribute, final Exception error) {
+        if (request.getAttribute(attribute) instanceof ActiveObservation active) {
+            request.removeAttribute(attribute);
+            active.close(error);
+        }
+    }
+
+    /**
+     * Started observation with its scope opened on the request thread.
+     */
+    private static final class ActiveObservation {
+        private final Observation observation;
+        private final Observation.Scope scope;
+
+        ActiveObservation(final Observation observationValue) {
+            this.observation = observationValue;
+            this.scope = observationValue.openScope();
+        }
+
+        void close(final Exception error) {
+            scope.close();
+            if (error != null) {
+                observation.error(error);
+            }
+            observation.stop();
+        }
+    }
+
+    /**
+     * Observes Vaadin requests; closes dangling navigation observation at request end.
+     */
+    private final class RequestObserver implements VaadinRequestInterceptor {
+
+        @Override
+        public void requestStart(final VaadinRequest request, final VaadinResponse response) {
+            String type = request.getParameter(REQUEST_TYPE_PARAMETER);
+            if (HEARTBEAT.equals(type)) {
+                return;
+            }
+            String requestType = type != null ? type : PAGE;
+            Observation observation = Observation.createNotStarted(
+                            TracingObservations.VAADIN_REQUEST, observationRegistry)
+                    .contextualName("vaadin " + requestType)
+                    .lowCardinalityKeyValue(TracingObservations.REQUEST_TYPE_KEY, requestType)
+                    .start();
+            request.setAttribute(REQUEST_OBSERVATION_ATTRIBUTE, new ActiveObservation(observation));
+        }
+
+        @Override
+        public void handleException(
+                final VaadinRequest request,
+                final VaadinResponse response,
+                final VaadinSession session,
+                final Exception exception) {
+            close(request, NAVIGATION_OBSERVATION_ATTRIBUTE, exception);
+            close(request, REQUEST_OBSERVATION_ATTRIBUTE, exception);
+        }
+
+        @Override
+        public void requestEnd(
+                final VaadinRequest request, final VaadinResponse response, final VaadinSession session) {
+            close(request, NAVIGATION_OBSERVATION_ATTRIBUTE, null);
+            close(request, REQUEST_OBSERVATION_ATTRIBUTE, null);
+        }
+    }
+}
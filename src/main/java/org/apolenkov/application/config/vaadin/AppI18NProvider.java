@@ -1,17 +1,37 @@
 package org.apolenkov.application.config.vaadin;
 
 import com.vaadin.flow.i18n.I18NProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * Vaadin internationalization (i18n) provider.
  * Supports English, Russian, and Spanish locales with parameter substitution.
+ *
+ * <p>Each locale's bundle is read once into an immutable translation table; lookups are a map read.
+ * Message patterns with parameters are compiled once per (locale, key) and reused. Missing keys are
+ * counted in {@code i18n.missing.keys} and logged once. With {@code app.i18n.hot-reload} (dev profile)
+ * tables are reloaded when a bundle file on the file system changes.
  */
 @Component
 public class AppI18NProvider implements I18NProvider {
@@ -27,6 +47,41 @@ public class AppI18NProvider implements I18NProvider {
     private static final List<Locale> PROVIDED_LOCALES =
             Arrays.asList(Locale.ENGLISH, Locale.forLanguageTag("ru"), Locale.forLanguageTag("es"));
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppI18NProvider.class);
+    private static final ResourceBundle.Control NO_FALLBACK_CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+    private static final Table MISSING_BUNDLE = new Table(Locale.ROOT, Map.of(), null, 0L);
+    private static final String NO_BUNDLE_TAG = "none";
+    private static final int MAX_REPORTED_MISSING_KEYS = 1000;
+    private static final long DEFAULT_RELOAD_CHECK_INTERVAL_MS = 1000L;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Locale, Table> tablesByLocale = new ConcurrentHashMap<>();
+    private final Map<String, Counter> missingCounters = new ConcurrentHashMap<>();
+    private final Set<String> reportedMissingKeys = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.i18n.hot-reload:false}")
+    private boolean hotReload;
+
+    @Value("${app.i18n.reload-check-interval-ms:1000}")
+    private long reloadCheckIntervalMs = DEFAULT_RELOAD_CHECK_INTERVAL_MS;
+
+    private volatile long lastReloadCheck;
+
+    /**
+     * Creates provider and loads translation tables of supported locales.
+     *
+     * @param meterRegistryValue registry for missing key counters
+     * @throws IllegalArgumentException if meterRegistryValue is null
+     */
+    public AppI18NProvider(final MeterRegistry meterRegistryValue) {
+        if (meterRegistryValue == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        this.meterRegistry = meterRegistryValue;
+        PROVIDED_LOCALES.forEach(this::table);
+    }
+
     /**
      * Returns supported locales.
      *
@@ -50,16 +105,208 @@ public class AppI18NProvider implements I18NProvider {
         if (key == null) {
             return "";
         }
-        final Locale used = locale != null ? locale : Locale.ENGLISH;
+        if (hotReload) {
+            reloadIfChanged();
+        }
+        Table table = table(locale != null ? locale : Locale.ENGLISH);
+        String value = table.messages().get(key);
+        if (value == null) {
+            reportMissing(table, key);
+            return key;
+        }
+        return params != null && params.length > 0 ? table.format(key, value, params) : value;
+    }
+
+    // ==================== Tables ====================
+
+    /**
+     * Returns translation table for locale, loading the bundle on first use of the locale.
+     * Locales resolving to the same bundle (en, en_US, en_GB) share one table.
+     *
+     * @param locale requested locale
+     * @return translation table, empty table if there is no bundle for locale
+     */
+    private Table table(final Locale locale) {
+        Table table = tablesByLocale.get(locale);
+        if (table != null) {
+            return table;
+        }
+        Table loaded = load(locale);
+        Table previous = tablesByLocale.putIfAbsent(locale, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * Loads bundle of locale into immutable table (same resolution as {@link ResourceBundle} without
+     * fallback to the default locale).
+     *
+     * @param locale requested locale
+     * @return translation table
+     */
+    private Table load(final Locale locale) {
+        ResourceBundle bundle;
         try {
-            ResourceBundle bundle = ResourceBundle.getBundle(
-                    BUNDLE_PREFIX,
-                    used,
-                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
-            String value = bundle.containsKey(key) ? bundle.getString(key) : key;
-            return params != null && params.length > 0 ? MessageFormat.format(value, params) : value;
+            bundle = ResourceBundle.getBundle(BUNDLE_PREFIX, locale, NO_FALLBACK_CONTROL);
         } catch (MissingResourceException e) {
-            return key;
+            return MISSING_BUNDLE;
+        }
+        Locale bundleLocale = bundle.getLocale();
+        if (!bundleLocale.equals(locale)) {
+            Table shared = tablesByLocale.get(bundleLocale);
+            if (shared != null) {
+                return shared;
+            }
+        }
+
+        Map<String, String> messages = new HashMap<>();
+        for (String key : Collections.list(bundle.getKeys())) {
+            messages.put(key, bundle.getString(key));
+        }
+        Path source = sourceFile(bundleLocale);
+        Table table = new Table(bundleLocale, Map.copyOf(messages), source, lastModified(source));
+        if (!bundleLocale.equals(locale)) {
+            Table previous = tablesByLocale.putIfAbsent(bundleLocale, table);
+            table = previous != null ? previous : table;
+        }
+        LOGGER.debug("Translation table loaded: locale={}, keys={}", bundleLocale, messages.size());
+        return table;
+    }
+
+    /**
+     * Resolves bundle file on the file system (exploded classpath in development).
+     *
+     * @param bundleLocale locale of loaded bundle
+     * @return bundle file, or null if bundle is packaged in a jar
+     */
+    private static Path sourceFile(final Locale bundleLocale) {
+        String name = NO_FALLBACK_CONTROL.toResourceName(
+                NO_FALLBACK_CONTROL.toBundleName(BUNDLE_PREFIX, bundleLocale), "properties");
+        URL url = AppI18NProvider.class.getClassLoader().getResource(name);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private static long lastModified(final Path source) {
+        if (source == null) {
+            return 0L;
+        }
+        try {
+            return Files.getLastModifiedTime(source).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Drops all tables if any bundle file changed (checked at most once per interval).
+     */
+    private void reloadIfChanged() {
+        long now = System.currentTimeMillis();
+        if (now - lastReloadCheck < reloadCheckIntervalMs) {
+            return;
+        }
+        lastReloadCheck = now;
+        boolean changed = tablesByLocale.values().stream()
+                .anyMatch(table -> table.source() != null && lastModified(table.source()) != table.lastModified());
+        if (changed) {
+            ResourceBundle.clearCache(AppI18NProvider.class.getClassLoader());
+            tablesByLocale.clear();
+            reportedMissingKeys.clear();
+            LOGGER.info("Translation bundles changed, tables reloaded");
+        }
+    }
+
+    // ==================== Missing Keys ====================
+
+    /**
+     * Counts missing key and logs it once per (locale, key).
+     *
+     * @param table table where key was not found
+     * @param key missing key
+     */
+    private void reportMissing(final Table table, final String key) {
+        String localeTag = table == MISSING_BUNDLE ? NO_BUNDLE_TAG : table.locale().toLanguageTag();
+        missingCounters
+                .computeIfAbsent(localeTag, tag -> Counter.builder("i18n.missing.keys")
+                        .description("Translation lookups of keys missing in the bundle")
+                        .tag("locale", tag)
+                        .register(meterRegistry))
+                .increment();
+        if (reportedMissingKeys.size() < MAX_REPORTED_MISSING_KEYS && reportedMissingKeys.add(localeTag + ':' + key)) {
+            LOGGER.warn("Missing translation: locale={}, key={}", localeTag, key);
+        }
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Immutable translation table of one bundle with its compiled message formats.
+     * Formats live with the table, so a reloaded table starts with an empty format cache.
+     */
+    private static final class Table {
+
+        private final Locale locale;
+        private final Map<String, String> messages;
+        private final Path source;
+        private final long lastModified;
+        private final Map<String, MessageFormat> formats = new ConcurrentHashMap<>();
+
+        /**
+         * Creates translation table.
+         *
+         * @param localeValue bundle locale
+         * @param messagesValue immutable translations by key
+         * @param sourceValue bundle file for hot reload, null if packaged
+         * @param lastModifiedValue modification time of source when loaded
+         */
+        Table(
+                final Locale localeValue,
+                final Map<String, String> messagesValue,
+                final Path sourceValue,
+                final long lastModifiedValue) {
+            this.locale = localeValue;
+            this.messages = messagesValue;
+            this.source = sourceValue;
+            this.lastModified = lastModifiedValue;
+        }
+
+        Locale locale() {
+            return locale;
+        }
+
+        Map<String, String> messages() {
+            return messages;
+        }
+
+        Path source() {
+            return source;
+        }
+
+        long lastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Formats message with compiled pattern.
+         * {@link MessageFormat} is not thread-safe, so formatting synchronizes on the compiled instance;
+         * critical section is short and different keys never contend.
+         *
+         * @param key message key
+         * @param pattern message pattern
+         * @param params message parameters
+         * @return formatted message
+         */
+        String format(final String key, final String pattern, final Object... params) {
+            MessageFormat format = formats.computeIfAbsent(key, k -> new MessageFormat(pattern));
+            synchronized (format) {
+                return format.format(params);
+            }
         }
     }
 }
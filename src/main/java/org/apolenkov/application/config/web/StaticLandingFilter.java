@@ -0,0 +1,159 @@
+package org.apolenkov.application.config.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.apolenkov.application.config.constants.LocaleConstants;
+import org.apolenkov.application.config.constants.RouteConstants;
+import org.apolenkov.application.views.landing.render.LandingPage;
+import org.apolenkov.application.views.landing.render.LandingPageRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves the pre-rendered public landing page to visitors without a session.
+ *
+ * <p>Runs before Spring Security and Vaadin: a plain {@code GET /} of a visitor without HTTP session
+ * (bots, marketing traffic, first visits) is answered from {@link LandingPageRenderer} and never creates
+ * an HTTP session, Vaadin session or UI. Visitors with a session (logged in, or already navigated to
+ * login/register) and Vaadin's own requests to the root path (with query string) get the regular
+ * {@code LandingView}.
+ *
+ * <p>Responses carry a strong ETag (conditional requests are answered with 304) and short public
+ * Cache-Control, varied by Cookie so a browser that later logs in is not served the anonymous page.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public final class StaticLandingFilter implements Filter {
+
+    private static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    private final LandingPageRenderer renderer;
+    private final Counter servedCounter;
+    private final Counter notModifiedCounter;
+
+    @Value("${app.landing.static.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.landing.static.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    /**
+     * Creates static landing filter.
+     *
+     * @param rendererValue renderer of cached landing pages
+     * @param meterRegistry registry for served/not-modified counters
+     * @throws IllegalArgumentException if rendererValue is null
+     */
+    public StaticLandingFilter(final LandingPageRenderer rendererValue, final MeterRegistry meterRegistry) {
+        if (rendererValue == null) {
+            throw new IllegalArgumentException("LandingPageRenderer cannot be null");
+        }
+        this.renderer = rendererValue;
+        this.servedCounter = Counter.builder("landing.static.requests")
+                .description("Landing page requests answered without a session")
+                .tag("result", "served")
+                .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder("landing.static.requests")
+                .description("Landing page requests answered without a session")
+                .tag("result", "not_modified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (!enabled || !isAnonymousLandingRequest(httpRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        LandingPage page = renderer.getPage(readLocale(httpRequest));
+        writeHeaders(httpRequest, httpResponse, page);
+
+        if (page.etag().equals(httpRequest.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            notModifiedCounter.increment();
+            return;
+        }
+
+        byte[] body = page.html().getBytes(StandardCharsets.UTF_8);
+        httpResponse.setStatus(HttpServletResponse.SC_OK);
+        httpResponse.setContentType(CONTENT_TYPE);
+        httpResponse.setContentLength(body.length);
+        if (!"HEAD".equals(httpRequest.getMethod())) {
+            httpResponse.getOutputStream().write(body);
+        }
+        servedCounter.increment();
+    }
+
+    /**
+     * Checks whether request is a plain landing page navigation of a visitor without session.
+     *
+     * @param request HTTP request
+     * @return true if request can be answered with static landing page
+     */
+    private static boolean isAnonymousLandingRequest(final HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+        String landingPath = request.getContextPath() + RouteConstants.ROOT_PATH + RouteConstants.HOME_ROUTE;
+        return landingPath.equals(request.getRequestURI())
+                && request.getQueryString() == null
+                && request.getSession(false) == null;
+    }
+
+    /**
+     * Reads preferred locale from cookie set by the language switcher.
+     *
+     * @param request HTTP request
+     * @return preferred locale, or null if not set (renderer falls back to English like the UI)
+     */
+    private static Locale readLocale(final HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (LocaleConstants.COOKIE_LOCALE_KEY.equals(cookie.getName())) {
+                return Locale.forLanguageTag(cookie.getValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes caching and security headers (request bypasses the security filter chain).
+     *
+     * @param request HTTP request
+     * @param response HTTP response
+     * @param page landing page
+     */
+    private void writeHeaders(
+            final HttpServletRequest request, final HttpServletResponse response, final LandingPage page) {
+        response.setHeader(HttpHeaders.ETAG, page.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAgeSeconds);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("X-Frame-Options", "DENY");
+        if (request.isSecure()) {
+            response.setHeader("Strict-Transport-Security", "max-age=31536000 ; includeSubDomains");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.apolenkov.application.domain.event;
+
+/**
+ * Domain event that can be merged with equal events published in the same transaction.
+ *
+ * <p>Events with equal coalescing keys are delivered only once after commit,
+ * so repeated writes to the same deck in one transaction trigger a single cache invalidation.
+ */
+public interface CoalescingEvent {
+
+    /**
+     * Returns key identifying equivalent events.
+     *
+     * @return key with value-based equals/hashCode, never null
+     */
+    Object coalescingKey();
+}
@@ -6,7 +6,7 @@ import org.springframework.context.ApplicationEvent;
  * Event published when a deck is modified (created, updated, or deleted).
  * Used to notify UI caches to invalidate stale data.
  */
-public final class DeckModifiedEvent extends ApplicationEvent {
+public final class DeckModifiedEvent extends ApplicationEvent implements CoalescingEvent {
 
     private final Long userId;
     private final Long deckId;
@@ -55,6 +55,25 @@ public final class DeckModifiedEvent extends ApplicationEvent {
         return type;
     }
 
+    /**
+     * Returns coalescing key: same user, deck and modification type.
+     *
+     * @return coalescing key
+     */
+    @Override
+    public Object coalescingKey() {
+        return new Key(userId, deckId, type);
+    }
+
+    /**
+     * Coalescing key for deck modification events.
+     *
+     * @param userId owner user ID
+     * @param deckId deck ID
+     * @param type modification type
+     */
+    private record Key(Long userId, Long deckId, ModificationType type) {}
+
     /**
      * Type of deck modification.
      */
@@ -0,0 +1,94 @@
+package org.apolenkov.application.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Domain event published when news items are created, updated or deleted.
+ *
+ * <p>Event is published by:
+ * <ul>
+ *   <li>NewsService when createNews(), updateNews() or deleteNews() is called</li>
+ * </ul>
+ *
+ * <p>Event is consumed by:
+ * <ul>
+ *   <li>LandingPageRenderer - evicts pre-rendered public landing pages</li>
+ * </ul>
+ */
+public final class NewsChangedEvent extends ApplicationEvent implements CoalescingEvent {
+
+    private final Long newsId;
+    private final ChangeType changeType;
+
+    /**
+     * Type of news change.
+     */
+    public enum ChangeType {
+        /** News item created. */
+        CREATED,
+
+        /** News item title, content or author changed. */
+        UPDATED,
+
+        /** News item deleted. */
+        DELETED
+    }
+
+    /**
+     * Creates news changed event.
+     *
+     * @param source the object on which the event initially occurred
+     * @param newsIdValue news identifier, null for created items (ID assigned by database)
+     * @param changeTypeValue type of news change
+     * @throws IllegalArgumentException if changeTypeValue is null
+     */
+    public NewsChangedEvent(final Object source, final Long newsIdValue, final ChangeType changeTypeValue) {
+        super(source);
+        if (changeTypeValue == null) {
+            throw new IllegalArgumentException("Change type cannot be null");
+        }
+        this.newsId = newsIdValue;
+        this.changeType = changeTypeValue;
+    }
+
+    /**
+     * Gets news identifier.
+     *
+     * @return news ID, or null for created items
+     */
+    public Long getNewsId() {
+        return newsId;
+    }
+
+    /**
+     * Gets change type.
+     *
+     * @return type of news change
+     */
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * Returns coalescing key: same news item and change type.
+     *
+     * @return coalescing key
+     */
+    @Override
+    public Object coalescingKey() {
+        return new Key(newsId, changeType);
+    }
+
+    @Override
+    public String toString() {
+        return "NewsChangedEvent{newsId=" + newsId + ", type=" + changeType + "}";
+    }
+
+    /**
+     * Coalescing key for news change events.
+     *
+     * @param newsId news ID
+     * @param changeType change type
+     */
+    private record Key(Long newsId, ChangeType changeType) {}
+}
@@ -21,7 +21,7 @@ import org.springframework.context.ApplicationEvent;
  *   <li>Future subscribers - analytics, notifications, etc.</li>
  * </ul>
  */
-public final class ProgressChangedEvent extends ApplicationEvent {
+public final class ProgressChangedEvent extends ApplicationEvent implements CoalescingEvent {
 
     private final long deckId;
     private final ChangeType changeType;
@@ -80,8 +80,26 @@ public final class ProgressChangedEvent extends ApplicationEvent {
         return changeType;
     }
 
+    /**
+     * Returns coalescing key: same deck and change type.
+     *
+     * @return coalescing key
+     */
+    @Override
+    public Object coalescingKey() {
+        return new Key(deckId, changeType);
+    }
+
     @Override
     public String toString() {
         return "ProgressChangedEvent{deckId=" + deckId + ", type=" + changeType + "}";
     }
+
+    /**
+     * Coalescing key for progress change events.
+     *
+     * @param deckId deck ID
+     * @param changeType change type
+     */
+    private record Key(long deckId, ChangeType changeType) {}
 }
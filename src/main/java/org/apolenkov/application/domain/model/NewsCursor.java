@@ -0,0 +1,38 @@
+package org.apolenkov.application.domain.model;
+
+import java.time.LocalDateTime;
+import org.apolenkov.application.model.NewsSummary;
+
+/**
+ * Keyset pagination cursor for news ordered newest first.
+ * Next page contains items strictly after the cursor in (createdAt DESC, id DESC) order,
+ * so page cost does not grow with page number and concurrent inserts do not shift pages.
+ *
+ * @param createdAt creation timestamp of the last item of previous page
+ * @param id identifier of the last item of previous page (tie breaker)
+ */
+public record NewsCursor(LocalDateTime createdAt, long id) {
+
+    /**
+     * Creates cursor.
+     *
+     * @param createdAt creation timestamp of the last item of previous page
+     * @param id identifier of the last item of previous page
+     * @throws IllegalArgumentException if createdAt is null
+     */
+    public NewsCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor timestamp cannot be null");
+        }
+    }
+
+    /**
+     * Creates cursor positioned after news item.
+     *
+     * @param item last item of previous page
+     * @return cursor after item
+     */
+    public static NewsCursor after(final NewsSummary item) {
+        return new NewsCursor(item.createdAt(), item.id());
+    }
+}
@@ -0,0 +1,32 @@
+package org.apolenkov.application.domain.model;
+
+import java.util.List;
+import org.apolenkov.application.model.NewsSummary;
+
+/**
+ * Page of news summaries with cursor of the next page.
+ *
+ * @param items news summaries, newest first
+ * @param nextCursor cursor of the next page, null if this is the last page
+ */
+public record NewsPage(List<NewsSummary> items, NewsCursor nextCursor) {
+
+    /**
+     * Creates page.
+     *
+     * @param items news summaries, newest first
+     * @param nextCursor cursor of the next page, null if this is the last page
+     */
+    public NewsPage {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+
+    /**
+     * Checks whether more items follow this page.
+     *
+     * @return true if next page exists
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.model.Card;
 import org.springframework.data.domain.Pageable;
@@ -17,12 +18,14 @@ import org.springframework.data.domain.Pageable;
 public interface CardRepository {
 
     /**
-     * Finds all cards in specific deck.
+     * Streams all cards in specific deck to callback without materializing full list.
+     * Backed by forward-only cursor, resources are closed when method returns.
+     * Must be called inside transaction for cursor-based fetching to take effect.
      *
      * @param deckId deck identifier
-     * @return list of cards in deck
+     * @param action callback invoked for each card in deck order
      */
-    List<Card> findByDeckId(long deckId);
+    void forEachByDeckId(long deckId, Consumer<Card> action);
 
     /**
      * Finds card by identifier.
@@ -43,8 +46,9 @@ public interface CardRepository {
      * Deletes card by identifier.
      *
      * @param id card identifier to delete
+     * @return deleted card, empty if card did not exist
      */
-    void deleteById(long id);
+    Optional<Card> deleteById(long id);
 
     /**
      * Counts number of cards in deck.
@@ -84,11 +88,4 @@ public interface CardRepository {
      * @return count of cards matching criteria
      */
     long countCardsWithFilter(long deckId, String searchQuery, FilterOption filterOption);
-
-    /**
-     * Deletes all cards in specific deck.
-     *
-     * @param deckId deck identifier
-     */
-    void deleteByDeckId(long deckId);
 }
@@ -55,8 +55,28 @@ public interface DeckRepository {
 
     /**
      * Deletes deck from repository by ID.
+     * Deck disappears from all queries immediately; its content is purged in background.
      *
      * @param id unique identifier of deck to delete
+     * @return deleted deck, empty if deck did not exist
      */
-    void deleteById(long id);
+    Optional<Deck> deleteById(long id);
+
+    /**
+     * Finds next deleted deck waiting for purge.
+     *
+     * @param afterId only decks with greater identifier are considered
+     * @return identifier of deleted deck, empty if none is left
+     */
+    Optional<Long> findNextDeletedId(long afterId);
+
+    /**
+     * Purges chunk of deleted deck: known cards, statistics and cards, then the deck itself
+     * once nothing else is left.
+     *
+     * @param deckId identifier of deleted deck
+     * @param limit maximum number of rows to delete
+     * @return number of deleted rows, less than limit only if deck is fully purged
+     */
+    int purgeDeletedChunk(long deckId, int limit);
 }
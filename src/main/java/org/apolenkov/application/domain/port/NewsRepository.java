@@ -2,7 +2,9 @@ package org.apolenkov.application.domain.port;
 
 import java.util.List;
 import java.util.Optional;
+import org.apolenkov.application.domain.model.NewsCursor;
 import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 
 /**
  * Domain port for managing news and announcements.
@@ -14,11 +16,23 @@ public interface NewsRepository {
 
     /**
      * Retrieves all news items ordered by creation date.
+     * Unbounded and loads full content: lists should use {@link #findSummaries}.
      *
      * @return list of news items sorted newest first
      */
     List<News> findAllOrderByCreatedDesc();
 
+    /**
+     * Retrieves page of news summaries ordered newest first using keyset pagination.
+     *
+     * @param after cursor of previous page, null for the first page
+     * @param searchQuery case-insensitive search in title, content and author (null or blank for none)
+     * @param limit maximum number of items
+     * @param excerptLength maximum excerpt length in characters
+     * @return news summaries sorted newest first
+     */
+    List<NewsSummary> findSummaries(NewsCursor after, String searchQuery, int limit, int excerptLength);
+
     /**
      * Finds news item by identifier.
      *
@@ -1,5 +1,7 @@
 package org.apolenkov.application.domain.port;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.apolenkov.application.model.PasswordResetToken;
 
@@ -40,4 +42,14 @@ public interface PasswordResetTokenRepository {
      * @param id token identifier to mark as used
      */
     void markAsUsed(long id);
+
+    /**
+     * Deletes next chunk of tokens expired before cutoff, in identifier order.
+     *
+     * @param afterId only tokens with greater identifier are considered (keyset cursor)
+     * @param expiredBefore tokens expiring before this time are deleted
+     * @param limit maximum number of tokens to delete
+     * @return identifiers of deleted tokens
+     */
+    List<Long> deleteExpiredChunk(long afterId, LocalDateTime expiredBefore, int limit);
 }
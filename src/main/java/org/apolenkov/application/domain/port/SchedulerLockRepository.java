@@ -0,0 +1,30 @@
+package org.apolenkov.application.domain.port;
+
+import java.time.Duration;
+
+/**
+ * Domain port for cluster-wide scheduler locks.
+ *
+ * <p>Lets scheduled jobs run on one node at a time. A lock is a lease: it expires on its own
+ * if the owning node dies, so no manual cleanup is ever needed.</p>
+ */
+public interface SchedulerLockRepository {
+
+    /**
+     * Acquires lock if it is free or its lease has expired.
+     *
+     * @param name lock name
+     * @param owner identifier of acquiring node
+     * @param lease time after which lock expires even if not released
+     * @return true if lock was acquired
+     */
+    boolean tryLock(String name, String owner, Duration lease);
+
+    /**
+     * Releases lock held by owner. Does nothing if lock is held by someone else.
+     *
+     * @param name lock name
+     * @param owner identifier of owning node
+     */
+    void unlock(String name, String owner);
+}
@@ -3,6 +3,7 @@ package org.apolenkov.application.domain.port;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apolenkov.application.domain.dto.SessionStatsDto;
 
@@ -30,16 +31,6 @@ public interface StatsRepository {
      */
     Set<Long> getKnownCardIds(long deckId);
 
-    /**
-     * Checks if specific card is marked as known in deck.
-     * More efficient than getKnownCardIds().contains() for single card checks.
-     *
-     * @param deckId deck identifier
-     * @param cardId card identifier
-     * @return true if card is marked as known
-     */
-    boolean isCardKnownDirect(long deckId, long cardId);
-
     /**
      * Gets known card IDs for multiple decks in single query.
      *
@@ -57,6 +48,16 @@ public interface StatsRepository {
      */
     void setCardKnown(long deckId, long cardId, boolean known);
 
+    /**
+     * Toggles known status of card in single statement.
+     * Cards not belonging to deck are never marked as known.
+     *
+     * @param deckId deck identifier
+     * @param cardId card identifier
+     * @return new status (true if card is now known)
+     */
+    boolean toggleCardKnown(long deckId, long cardId);
+
     /**
      * Resets all progress for deck.
      *
@@ -73,6 +74,14 @@ public interface StatsRepository {
      */
     Map<Long, DeckAggregate> getAggregatesForDecks(Collection<Long> deckIds, LocalDate today);
 
+    /**
+     * Finds deck the user practiced most recently.
+     *
+     * @param userId user identifier
+     * @return deck ID, or empty if user has no practice history
+     */
+    Optional<Long> findLastPracticedDeckId(long userId);
+
     /**
      * Aggregate statistics for deck (all-time and today).
      *
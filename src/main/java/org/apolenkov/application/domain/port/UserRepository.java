@@ -45,8 +45,18 @@ public interface UserRepository {
 
     /**
      * Deletes user by identifier.
+     * User and their decks disappear from all queries immediately; data is purged in background.
      *
      * @param id user identifier to delete
      */
     void deleteById(long id);
+
+    /**
+     * Purges chunk of deleted users whose decks are already purged.
+     *
+     * @param afterId only users with greater identifier are considered (keyset cursor)
+     * @param limit maximum number of users to purge
+     * @return identifiers of purged users
+     */
+    List<Long> purgeDeletedChunk(long afterId, int limit);
 }
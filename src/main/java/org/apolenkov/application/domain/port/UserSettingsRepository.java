@@ -1,5 +1,8 @@
 package org.apolenkov.application.domain.port;
 
+import java.util.Optional;
+import org.apolenkov.application.model.PracticeSettings;
+
 /**
  * Domain port for managing user settings and preferences.
  *
@@ -15,4 +18,20 @@ public interface UserSettingsRepository {
      * @param localeCode locale code to save (e.g., "en", "ru")
      */
     void savePreferredLocaleCode(long userId, String localeCode);
+
+    /**
+     * Finds practice settings of user.
+     *
+     * @param userId user identifier
+     * @return stored settings, empty if user has no settings row
+     */
+    Optional<PracticeSettings> findPracticeSettings(long userId);
+
+    /**
+     * Saves practice settings of user.
+     *
+     * @param userId user identifier
+     * @param settings settings to save
+     */
+    void savePracticeSettings(long userId, PracticeSettings settings);
 }
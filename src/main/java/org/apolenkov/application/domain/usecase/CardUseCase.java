@@ -3,6 +3,7 @@ package org.apolenkov.application.domain.usecase;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.model.Card;
 import org.springframework.data.domain.Pageable;
@@ -12,12 +13,12 @@ import org.springframework.data.domain.Pageable;
  */
 public interface CardUseCase {
     /**
-     * Returns cards belonging to specific deck.
+     * Visits cards belonging to specific deck one by one in bounded memory.
      *
-     * @param deckId ID of deck to retrieve cards for
-     * @return list of all cards in specified deck
+     * @param deckId ID of deck to visit cards for
+     * @param action callback invoked for each card
      */
-    List<Card> getCardsByDeckId(long deckId);
+    void forEachCardInDeck(long deckId, Consumer<Card> action);
 
     /**
      * Saves card to system (creates new or updates existing).
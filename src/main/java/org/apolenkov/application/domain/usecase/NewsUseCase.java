@@ -1,7 +1,11 @@
 package org.apolenkov.application.domain.usecase;
 
 import java.util.List;
+import java.util.Optional;
+import org.apolenkov.application.domain.model.NewsCursor;
+import org.apolenkov.application.domain.model.NewsPage;
 import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 
 /**
  * Core business operations for managing news and announcements.
@@ -14,6 +18,32 @@ public interface NewsUseCase {
      */
     List<News> getAllNews();
 
+    /**
+     * Gets page of news summaries (newest first) using keyset pagination.
+     *
+     * @param after cursor of previous page, null for the first page
+     * @param searchQuery search in title, content and author (null or blank for none)
+     * @param limit page size
+     * @return page of news summaries with cursor of the next page
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    NewsPage getNewsPage(NewsCursor after, String searchQuery, int limit);
+
+    /**
+     * Gets newest news summaries from application-wide cache.
+     *
+     * @return newest news summaries, newest first
+     */
+    List<NewsSummary> getLatestNews();
+
+    /**
+     * Gets news item with full content.
+     *
+     * @param id news identifier
+     * @return news item if found
+     */
+    Optional<News> getNews(long id);
+
     /**
      * Creates new news item.
      *
@@ -68,8 +68,9 @@ public interface StatsUseCase {
      *
      * @param deckId ID of deck containing card
      * @param cardId ID of card to toggle
+     * @return new knowledge status (true if card is now known)
      */
-    void toggleCardKnown(long deckId, long cardId);
+    boolean toggleCardKnown(long deckId, long cardId);
 
     /**
      * Resets all progress for specific deck.
@@ -36,6 +36,14 @@ public interface UserUseCase {
      */
     User getCurrentUser();
 
+    /**
+     * Gets ID of currently authenticated user.
+     * Cheaper than {@link #getCurrentUser()} for callers that only need identity.
+     *
+     * @return ID of currently authenticated user
+     */
+    long getCurrentUserId();
+
     /**
      * Updates existing user and clears request-scoped cache.
      * Use this method instead of direct repository access to ensure proper cache invalidation.
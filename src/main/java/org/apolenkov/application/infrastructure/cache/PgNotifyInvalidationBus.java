@@ -0,0 +1,384 @@
+package org.apolenkov.application.infrastructure.cache;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.apolenkov.application.config.cache.ClusterAwareCacheManager;
+import org.apolenkov.application.config.event.EventDispatchConfiguration;
+import org.apolenkov.application.domain.event.DeckModifiedEvent;
+import org.apolenkov.application.domain.event.DeckModifiedEvent.ModificationType;
+import org.apolenkov.application.domain.event.ProgressChangedEvent;
+import org.apolenkov.application.service.cache.CacheInvalidationBroadcaster;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.event.DomainEventPublisher;
+import org.apolenkov.application.service.stats.event.CacheInvalidationEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cross-node cache invalidation bus based on PostgreSQL LISTEN/NOTIFY.
+ *
+ * <p>Publishing: committed domain events and Spring cache evictions are translated into compact
+ * {@code nodeId|cache|key} lines and sent with {@code pg_notify} on a non-transactional pooled connection
+ * (after commit, off the request thread).
+ *
+ * <p>Receiving: a dedicated connection per node LISTENs on the channel. It comes from a single-connection pool
+ * copied from the application pool configuration (URL, credentials, SSL and driver properties), so the
+ * long-lived LISTEN session neither occupies an application pool slot nor trips its leak detection.
+ * Messages from other nodes are recorded in {@link CacheInvalidationRegistry} for session-scoped caches
+ * and evict Spring caches locally otherwise; a whole-cache message clears only the named cache.
+ * After any connection loss the node reconnects with exponential backoff and resyncs (marks all cached entries
+ * stale), because notifications sent while disconnected are lost.
+ */
+@Component
+@Profile({"dev", "prod", "test"})
+@ConditionalOnProperty(name = "app.cache.cluster.enabled", havingValue = "true", matchIfMissing = true)
+public class PgNotifyInvalidationBus implements CacheInvalidationBroadcaster, SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgNotifyInvalidationBus.class);
+
+    private static final String CHANNEL = "memocards_cache_invalidation";
+    private static final String NOTIFY_SQL = "SELECT pg_notify('" + CHANNEL + "', ?)";
+    private static final String ALL_KEYS = "*";
+    private static final Pattern NUMERIC_KEY = Pattern.compile("-?\\d{1,18}");
+    private static final char FIELD_SEPARATOR = '|';
+    private static final int MAX_PAYLOAD_BYTES = 7900; // PostgreSQL limit is 8000 bytes
+    private static final long INITIAL_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final String LISTENER_POOL_SUFFIX = "-cache-listener";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final DataSource dataSource;
+    private final CacheInvalidationRegistry registry;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TaskExecutor executor;
+
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Counter resyncCounter;
+    private final int pollTimeoutMs;
+
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+    private volatile DataSource listenerDataSource;
+
+    /**
+     * Creates invalidation bus.
+     *
+     * @param dataSourceValue pooled data source used for sending notifications and as listener pool template
+     * @param registryValue registry for session-scoped cache invalidations
+     * @param cacheManagerProviderValue provider for Spring cache manager (lazy to avoid cycle)
+     * @param domainEventPublisherValue publisher used to defer sending until commit
+     * @param executorValue virtual-thread executor for sending notifications
+     * @param meterRegistry registry for bus metrics
+     * @param pollTimeoutMsValue listener poll and connection health-check interval in milliseconds
+     */
+    public PgNotifyInvalidationBus(
+            final DataSource dataSourceValue,
+            final CacheInvalidationRegistry registryValue,
+            final ObjectProvider<CacheManager> cacheManagerProviderValue,
+            final DomainEventPublisher domainEventPublisherValue,
+            @Qualifier(EventDispatchConfiguration.EVENT_EXECUTOR) final TaskExecutor executorValue,
+            final MeterRegistry meterRegistry,
+            @Value("${app.cache.cluster.poll-timeout-ms:10000}") final int pollTimeoutMsValue) {
+        this.dataSource = dataSourceValue;
+        this.registry = registryValue;
+        this.cacheManagerProvider = cacheManagerProviderValue;
+        this.domainEventPublisher = domainEventPublisherValue;
+        this.executor = executorValue;
+        this.pollTimeoutMs = pollTimeoutMsValue;
+        this.sentCounter = Counter.builder("cache.cluster.invalidation.sent")
+                .description("Cache invalidation notifications sent to other nodes")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cache.cluster.invalidation.received")
+                .description("Cache invalidation messages received from other nodes")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("cache.cluster.resync")
+                .description("Full cache resyncs after invalidation delivery gaps")
+                .register(meterRegistry);
+    }
+
+    // ==================== Publishing ====================
+
+    /**
+     * Broadcasts invalidation after commit (or immediately without transaction).
+     *
+     * @param cacheName cache name
+     * @param key invalidated key, or null for whole cache
+     */
+    @Override
+    public void broadcast(final String cacheName, final Object key) {
+        String line = encode(cacheName, key);
+        domainEventPublisher.afterCommit(() -> executor.execute(() -> send(List.of(line))));
+    }
+
+    /**
+     * Broadcasts invalidations caused by deck changes.
+     *
+     * @param event committed deck modified event
+     */
+    @Async(EventDispatchConfiguration.EVENT_EXECUTOR)
+    @EventListener
+    public void onDeckModified(final DeckModifiedEvent event) {
+        List<String> lines = new ArrayList<>(3);
+        lines.add(encode(CacheInvalidationRegistry.DECKS, event.getUserId()));
+        lines.add(encode(CacheInvalidationRegistry.PAGINATION_COUNT, event.getDeckId()));
+        if (event.getType() == ModificationType.DELETED) {
+            lines.add(encode(CacheInvalidationRegistry.KNOWN_CARDS, event.getDeckId()));
+        }
+        send(lines);
+    }
+
+    /**
+     * Broadcasts invalidations caused by progress changes.
+     *
+     * @param event committed progress changed event
+     */
+    @Async(EventDispatchConfiguration.EVENT_EXECUTOR)
+    @EventListener
+    public void onProgressChanged(final ProgressChangedEvent event) {
+        send(List.of(
+                encode(CacheInvalidationRegistry.KNOWN_CARDS, event.getDeckId()),
+                encode(CacheInvalidationRegistry.PAGINATION_COUNT, event.getDeckId())));
+    }
+
+    /**
+     * Broadcasts pagination count invalidations caused by card writes.
+     * Invalidations derived from deck or progress events are already covered above.
+     *
+     * @param event committed cache invalidation event
+     */
+    @Async(EventDispatchConfiguration.EVENT_EXECUTOR)
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        if (CacheInvalidationRegistry.PAGINATION_COUNT.equals(event.getCacheType())
+                && event.getReason() != null
+                && event.getReason().startsWith("card-")) {
+            send(List.of(encode(CacheInvalidationRegistry.PAGINATION_COUNT, event.key())));
+        }
+    }
+
+    /**
+     * Sends lines as one notification on non-transactional pooled connection.
+     *
+     * @param lines encoded invalidation lines
+     */
+    private void send(final List<String> lines) {
+        String payload = String.join("\n", lines);
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            LOGGER.warn("Cache invalidation payload too large, skipping broadcast: {} lines", lines.size());
+            return;
+        }
+        // Direct connection (not DataSourceUtils): must not join a committed or ongoing transaction
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement ps = connection.prepareStatement(NOTIFY_SQL)) {
+            ps.setString(1, payload);
+            ps.execute();
+            sentCounter.increment(lines.size());
+        } catch (SQLException e) {
+            // Other nodes fall back to TTL expiry for this change
+            LOGGER.warn("Failed to broadcast cache invalidation: {}", payload, e);
+        }
+    }
+
+    private String encode(final String cacheName, final Object key) {
+        return nodeId + FIELD_SEPARATOR + cacheName + FIELD_SEPARATOR + (key == null ? ALL_KEYS : key.toString());
+    }
+
+    // ==================== Receiving ====================
+
+    /**
+     * Applies notification payload received from channel.
+     *
+     * @param payload notification payload
+     */
+    private void apply(final String payload) {
+        for (String line : payload.split("\n")) {
+            String[] parts = line.split("\\|", 3);
+            if (parts.length != 3 || nodeId.equals(parts[0])) {
+                continue; // Malformed or own message
+            }
+            String cacheName = parts[1];
+            String key = ALL_KEYS.equals(parts[2]) ? null : parts[2];
+            receivedCounter.increment();
+
+            if (CacheInvalidationRegistry.isSessionCache(cacheName)) {
+                registry.recordRemoteInvalidation(cacheName, key);
+            } else {
+                evictSpringCache(cacheName, key);
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Remote cache invalidation applied: cache={}, key={}", cacheName, parts[2]);
+            }
+        }
+    }
+
+    private void evictSpringCache(final String cacheName, final String key) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof ClusterAwareCacheManager.ClusterAwareCache clusterCache)) {
+            return;
+        }
+        if (key == null) {
+            clusterCache.clearLocally();
+            return;
+        }
+        clusterCache.evictLocally(key);
+        // Keys travel as strings: numeric keys (user IDs) are cached as Long
+        if (NUMERIC_KEY.matcher(key).matches()) {
+            clusterCache.evictLocally(Long.valueOf(key));
+        }
+    }
+
+    /**
+     * Marks all local cache entries stale after notifications may have been missed.
+     */
+    private void resyncAfterGap() {
+        resyncCounter.increment();
+        registry.resync();
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager != null) {
+            for (String name : cacheManager.getCacheNames()) {
+                evictSpringCache(name, null);
+            }
+        }
+    }
+
+    /**
+     * Listener loop: connect, LISTEN, resync if there was a gap, then poll notifications until failure.
+     */
+    private void listenLoop() {
+        boolean gap = false;
+        long backoffMs = INITIAL_BACKOFF_MS;
+        while (running) {
+            try (Connection connection = listenerDataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Resync only after LISTEN is active, so no message can fall between resync and listen
+                if (gap) {
+                    resyncAfterGap();
+                    gap = false;
+                }
+                backoffMs = INITIAL_BACKOFF_MS;
+                LOGGER.info("Cache invalidation listener connected: nodeId={}", nodeId);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null || notifications.length == 0) {
+                        if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                            throw new SQLException("Cache invalidation listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        apply(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                gap = true;
+                LOGGER.warn("Cache invalidation listener disconnected, reconnecting in {}ms", backoffMs, e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+        LOGGER.info("Cache invalidation listener stopped: nodeId={}", nodeId);
+    }
+
+    /**
+     * Creates data source for listener connection.
+     * Application Hikari pool (possibly behind tracing proxy) is copied into single-connection pool
+     * without leak detection; any other data source is used as is.
+     *
+     * @return data source for listener connection
+     */
+    private DataSource createListenerDataSource() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource;
+            }
+            HikariConfig config = new HikariConfig();
+            dataSource.unwrap(HikariDataSource.class).copyStateTo(config);
+            config.setPoolName(config.getPoolName() + LISTENER_POOL_SUFFIX);
+            config.setMaximumPoolSize(1);
+            config.setMinimumIdle(0);
+            config.setLeakDetectionThreshold(0);
+            config.setRegisterMbeans(false);
+            // Database may be unavailable at startup: listener loop retries with backoff
+            config.setInitializationFailTimeout(-1);
+            return new HikariDataSource(config);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot create cache invalidation listener data source", e);
+        }
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        listenerDataSource = createListenerDataSource();
+        running = true;
+        Thread thread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        listenerThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        // Closing pool closes LISTEN connection, which unblocks listener waiting for notifications
+        if (listenerDataSource instanceof HikariDataSource pool) {
+            pool.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
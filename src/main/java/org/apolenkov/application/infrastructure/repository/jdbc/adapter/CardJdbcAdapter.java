@@ -1,11 +1,15 @@
 package org.apolenkov.application.infrastructure.repository.jdbc.adapter;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.apolenkov.application.config.monitoring.jfr.CardQueryEvent;
 import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.domain.port.CardRepository;
 import org.apolenkov.application.infrastructure.repository.jdbc.batch.CardBatchOperations;
@@ -18,9 +22,11 @@ import org.apolenkov.application.model.Card;
 import org.apolenkov.application.service.stats.PaginationCountCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
@@ -68,6 +74,7 @@ public class CardJdbcAdapter implements CardRepository {
 
     private final JdbcTemplate jdbcTemplate;
     private final PaginationCountCache paginationCountCache;
+    private final int streamFetchSize;
 
     // ==================== Constructor ====================
 
@@ -77,12 +84,14 @@ public class CardJdbcAdapter implements CardRepository {
      * @param jdbcTemplateValue the JdbcTemplate for database operations
      * @param batchOperationsValue helper for batch operations
      * @param paginationCountCacheValue cache for pagination COUNT queries
-     * @throws IllegalArgumentException if jdbcTemplate is null
+     * @param streamFetchSizeValue rows fetched per round trip when streaming cards (must be positive)
+     * @throws IllegalArgumentException if any dependency is null or fetch size is not positive
      */
     public CardJdbcAdapter(
             final JdbcTemplate jdbcTemplateValue,
             final CardBatchOperations batchOperationsValue,
-            final PaginationCountCache paginationCountCacheValue) {
+            final PaginationCountCache paginationCountCacheValue,
+            @Value("${app.jdbc.stream-fetch-size:500}") final int streamFetchSizeValue) {
         if (jdbcTemplateValue == null) {
             throw new IllegalArgumentException("JdbcTemplate cannot be null");
         }
@@ -92,8 +101,12 @@ public class CardJdbcAdapter implements CardRepository {
         if (paginationCountCacheValue == null) {
             throw new IllegalArgumentException("PaginationCountCache cannot be null");
         }
+        if (streamFetchSizeValue <= 0) {
+            throw new IllegalArgumentException("Stream fetch size must be positive, got: " + streamFetchSizeValue);
+        }
         this.jdbcTemplate = jdbcTemplateValue;
         this.paginationCountCache = paginationCountCacheValue;
+        this.streamFetchSize = streamFetchSizeValue;
     }
 
     /**
@@ -112,25 +125,45 @@ public class CardJdbcAdapter implements CardRepository {
     }
 
     /**
-     * Retrieves all cards belonging to a specific deck.
+     * Streams all cards of a deck through forward-only cursor.
+     * Rows are fetched in chunks of configured fetch size, so memory stays bounded for large decks.
      *
-     * @param deckId the ID of the deck whose cards to retrieve
-     * @return list of cards in the deck
-     * @throws IllegalArgumentException if deckId is invalid
+     * @param deckId the ID of the deck whose cards to stream
+     * @param action callback invoked for each card
+     * @throws IllegalArgumentException if deckId is invalid or action is null
      */
     @Override
-    public List<Card> findByDeckId(final long deckId) {
+    public void forEachByDeckId(final long deckId, final Consumer<Card> action) {
         if (deckId <= 0) {
             throw new IllegalArgumentException("Deck ID must be positive");
         }
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
 
-        LOGGER.debug("Retrieving cards for deck ID: {}", deckId);
+        LOGGER.debug("Streaming cards for deck ID: {} (fetchSize={})", deckId, streamFetchSize);
         try {
-            List<CardDto> cardDtos =
-                    jdbcTemplate.query(CardSqlQueries.SELECT_CARDS_BY_DECK_ID, CARD_ROW_MAPPER, deckId);
-            return cardDtos.stream().map(CardJdbcAdapter::toModel).toList();
+            RowCallbackHandler handler = new RowCallbackHandler() {
+                private int rowNum;
+
+                @Override
+                public void processRow(final ResultSet rs) throws java.sql.SQLException {
+                    action.accept(toModel(CARD_ROW_MAPPER.mapRow(rs, rowNum++)));
+                }
+            };
+            jdbcTemplate.query(
+                    con -> {
+                        PreparedStatement ps = con.prepareStatement(
+                                CardSqlQueries.SELECT_CARDS_BY_DECK_ID,
+                                ResultSet.TYPE_FORWARD_ONLY,
+                                ResultSet.CONCUR_READ_ONLY);
+                        ps.setFetchSize(streamFetchSize);
+                        ps.setLong(1, deckId);
+                        return ps;
+                    },
+                    handler);
         } catch (DataAccessException e) {
-            throw new CardRetrievalException("Failed to retrieve cards for deck ID: " + deckId, e);
+            throw new CardRetrievalException("Failed to stream cards for deck ID: " + deckId, e);
         }
     }
 
@@ -186,17 +219,19 @@ public class CardJdbcAdapter implements CardRepository {
      * Deletes a card by its unique identifier.
      *
      * @param id the unique identifier of the card to delete
+     * @return deleted card, empty if card did not exist
      */
     @Override
-    public void deleteById(final long id) {
+    public Optional<Card> deleteById(final long id) {
         LOGGER.debug("Deleting card by ID: {}", id);
         try {
-            int deleted = jdbcTemplate.update(CardSqlQueries.DELETE_CARD, id);
-            if (deleted == 0) {
+            List<CardDto> deleted = jdbcTemplate.query(CardSqlQueries.DELETE_CARD, CARD_ROW_MAPPER, id);
+            if (deleted.isEmpty()) {
                 LOGGER.warn("No card found with ID: {}", id);
-            } else {
-                LOGGER.debug("Card deleted from database: id={}", id);
+                return Optional.empty();
             }
+            LOGGER.debug("Card deleted from database: id={}", id);
+            return Optional.of(toModel(deleted.getFirst()));
         } catch (DataAccessException e) {
             throw new CardPersistenceException("Failed to delete card by ID: " + id, e);
         }
@@ -257,27 +292,6 @@ public class CardJdbcAdapter implements CardRepository {
         }
     }
 
-    /**
-     * Deletes all cards belonging to a specific deck.
-     *
-     * @param deckId the ID of the deck whose cards to delete
-     * @throws IllegalArgumentException if deckId is invalid
-     */
-    @Override
-    public void deleteByDeckId(final long deckId) {
-        if (deckId <= 0) {
-            throw new IllegalArgumentException("Deck ID must be positive");
-        }
-
-        LOGGER.debug("Deleting all cards for deck ID: {}", deckId);
-        try {
-            int deleted = jdbcTemplate.update(CardSqlQueries.DELETE_CARDS_BY_DECK_ID, deckId);
-            LOGGER.debug("Deleted {} cards for deck ID: {}", deleted, deckId);
-        } catch (DataAccessException e) {
-            throw new CardPersistenceException("Failed to delete cards for deck ID: " + deckId, e);
-        }
-    }
-
     /**
      * Creates new card in database.
      *
@@ -386,10 +400,13 @@ public class CardJdbcAdapter implements CardRepository {
                 limit,
                 offset);
 
+        CardQueryEvent jfrEvent = new CardQueryEvent();
+        jfrEvent.begin();
+        boolean search = searchQuery != null && !searchQuery.trim().isEmpty();
         try {
             CardQueryBuilder queryBuilder = new CardQueryBuilder().withDeckId(deckId);
 
-            if (searchQuery != null && !searchQuery.trim().isEmpty()) {
+            if (search) {
                 queryBuilder.withSearchQuery(searchQuery);
             }
 
@@ -407,6 +424,8 @@ public class CardJdbcAdapter implements CardRepository {
             }
 
             List<CardDto> cardDtos = jdbcTemplate.query(sql, CARD_ROW_MAPPER, params);
+            jfrEvent.complete(
+                    CardQueryEvent.KIND_PAGE, deckId, String.valueOf(filterOption), search, offset, cardDtos.size());
             return cardDtos.stream().map(CardJdbcAdapter::toModel).toList();
         } catch (DataAccessException e) {
             throw new CardRetrievalException("Failed to find cards with dynamic filter for deck ID: " + deckId, e);
@@ -430,10 +449,13 @@ public class CardJdbcAdapter implements CardRepository {
 
         // Use cache for COUNT queries (30 sec TTL + event-driven invalidation)
         return paginationCountCache.getCount(deckId, searchQuery, filterOption, () -> {
+            CardQueryEvent jfrEvent = new CardQueryEvent();
+            jfrEvent.begin();
+            boolean search = searchQuery != null && !searchQuery.trim().isEmpty();
             try {
                 CardQueryBuilder queryBuilder = new CardQueryBuilder().withDeckId(deckId);
 
-                if (searchQuery != null && !searchQuery.trim().isEmpty()) {
+                if (search) {
                     queryBuilder.withSearchQuery(searchQuery);
                 }
 
@@ -451,7 +473,9 @@ public class CardJdbcAdapter implements CardRepository {
                 }
 
                 Long count = jdbcTemplate.queryForObject(sql, Long.class, params);
-                return count != null ? count : 0L;
+                long result = count != null ? count : 0L;
+                jfrEvent.complete(CardQueryEvent.KIND_COUNT, deckId, String.valueOf(filterOption), search, 0, result);
+                return result;
             } catch (DataAccessException e) {
                 throw new CardRetrievalException("Failed to count cards with dynamic filter for deck ID: " + deckId, e);
             }
@@ -31,6 +31,14 @@ public class DeckJdbcAdapter implements DeckRepository {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DeckJdbcAdapter.class);
 
+    /**
+     * Purge order of deleted deck content: known cards and stats first, so deleting cards cascades nothing.
+     */
+    private static final List<String> PURGE_CONTENT_QUERIES = List.of(
+            DeckSqlQueries.PURGE_DELETED_DECK_KNOWN_CARDS,
+            DeckSqlQueries.PURGE_DELETED_DECK_STATS,
+            DeckSqlQueries.PURGE_DELETED_DECK_CARDS);
+
     // ==================== Row Mappers ====================
 
     /**
@@ -216,25 +224,62 @@ public class DeckJdbcAdapter implements DeckRepository {
     }
 
     /**
-     * Deletes deck by unique identifier.
+     * Soft-deletes deck by unique identifier.
+     * Single-row update, content is purged later by housekeeping.
      *
      * @param id unique identifier of deck to delete
+     * @return deleted deck, empty if deck did not exist
      */
     @Override
-    public void deleteById(final long id) {
+    public Optional<Deck> deleteById(final long id) {
         LOGGER.debug("Deleting deck by ID: {}", id);
         try {
-            int deleted = jdbcTemplate.update(DeckSqlQueries.DELETE_DECK, id);
-            if (deleted == 0) {
+            List<DeckDto> deleted = jdbcTemplate.query(DeckSqlQueries.SOFT_DELETE_DECK, DECK_ROW_MAPPER, id);
+            if (deleted.isEmpty()) {
                 LOGGER.warn("No deck found with ID: {}", id);
-            } else {
-                LOGGER.debug("Deck deleted from database: id={}", id);
+                return Optional.empty();
             }
+            LOGGER.debug("Deck marked as deleted: id={}", id);
+            return Optional.of(toModel(deleted.getFirst()));
         } catch (DataAccessException e) {
             throw new DeckPersistenceException("Failed to delete deck by ID: " + id, e);
         }
     }
 
+    /**
+     * Finds next soft-deleted deck waiting for purge.
+     *
+     * @param afterId keyset cursor (exclusive)
+     * @return deck identifier, empty if none is left
+     */
+    @Override
+    public Optional<Long> findNextDeletedId(final long afterId) {
+        List<Long> ids = jdbcTemplate.queryForList(DeckSqlQueries.SELECT_NEXT_DELETED_DECK_ID, Long.class, afterId);
+        return ids.isEmpty() ? Optional.empty() : Optional.of(ids.getFirst());
+    }
+
+    /**
+     * Purges chunk of soft-deleted deck, dependent rows first.
+     * Every statement is committed on its own, so no lock is held across the chunk.
+     *
+     * @param deckId identifier of deleted deck
+     * @param limit maximum number of rows to delete
+     * @return number of deleted rows
+     */
+    @Override
+    public int purgeDeletedChunk(final long deckId, final int limit) {
+        int purged = 0;
+        for (String sql : PURGE_CONTENT_QUERIES) {
+            purged += jdbcTemplate.update(sql, deckId, limit - purged);
+            if (purged >= limit) {
+                return purged;
+            }
+        }
+        purged += jdbcTemplate.update(DeckSqlQueries.PURGE_DELETED_DECK, deckId);
+        LOGGER.debug("Deleted deck purged: id={}", deckId);
+        return purged;
+    }
+
     /**
      * Creates new deck in database.
      *
@@ -2,14 +2,17 @@ package org.apolenkov.application.infrastructure.repository.jdbc.adapter;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.apolenkov.application.domain.model.NewsCursor;
 import org.apolenkov.application.domain.port.NewsRepository;
 import org.apolenkov.application.infrastructure.repository.jdbc.dto.NewsDto;
 import org.apolenkov.application.infrastructure.repository.jdbc.exception.NewsPersistenceException;
 import org.apolenkov.application.infrastructure.repository.jdbc.exception.NewsRetrievalException;
 import org.apolenkov.application.infrastructure.repository.jdbc.sql.NewsSqlQueries;
 import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
@@ -53,6 +56,31 @@ public class NewsJdbcAdapter implements NewsRepository {
                 updatedAt != null ? updatedAt.toLocalDateTime() : null);
     };
 
+    /**
+     * RowMapper for news summaries; excerpt column holds one character more than requested
+     * so that truncation is detected without reading content length.
+     *
+     * @param excerptLength requested excerpt length
+     * @return row mapper
+     */
+    private static RowMapper<NewsSummary> summaryRowMapper(final int excerptLength) {
+        return (rs, rowNum) -> {
+            String excerpt = rs.getString("excerpt");
+            boolean truncated = excerpt != null && excerpt.codePointCount(0, excerpt.length()) > excerptLength;
+            if (truncated) {
+                excerpt = excerpt.substring(0, excerpt.offsetByCodePoints(0, excerptLength));
+            }
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new NewsSummary(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    excerpt != null ? excerpt : "",
+                    truncated,
+                    rs.getString("author"),
+                    createdAt != null ? createdAt.toLocalDateTime() : null);
+        };
+    }
+
     // ==================== Fields ====================
 
     private final JdbcTemplate jdbcTemplate;
@@ -87,6 +115,16 @@ public class NewsJdbcAdapter implements NewsRepository {
         return news;
     }
 
+    /**
+     * Escapes ILIKE wildcards so the search query matches literally.
+     *
+     * @param query user search query
+     * @return query with backslash, % and _ escaped by backslash
+     */
+    private static String escapeLikePattern(final String query) {
+        return query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     // ==================== Public API ====================
 
     /**
@@ -106,6 +144,57 @@ public class NewsJdbcAdapter implements NewsRepository {
         }
     }
 
+    /**
+     * Retrieves page of news summaries using keyset pagination on (created_at, id).
+     * Only the excerpt of content is transferred, page cost is independent of page number.
+     *
+     * @param after cursor of previous page, null for the first page
+     * @param searchQuery search in title, content and author (null or blank for none)
+     * @param limit maximum number of items
+     * @param excerptLength maximum excerpt length in characters
+     * @return news summaries sorted newest first
+     * @throws IllegalArgumentException if limit or excerptLength is not positive
+     */
+    @Override
+    public List<NewsSummary> findSummaries(
+            final NewsCursor after, final String searchQuery, final int limit, final int excerptLength) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (excerptLength <= 0) {
+            throw new IllegalArgumentException("Excerpt length must be positive");
+        }
+        LOGGER.debug("Retrieving news summaries: after={}, query='{}', limit={}", after, searchQuery, limit);
+
+        StringBuilder sql = new StringBuilder(NewsSqlQueries.SELECT_NEWS_SUMMARIES);
+        List<Object> params = new ArrayList<>(7);
+        params.add(excerptLength + 1);
+        List<String> conditions = new ArrayList<>(2);
+        if (after != null) {
+            conditions.add(NewsSqlQueries.NEWS_KEYSET_CONDITION);
+            params.add(Timestamp.valueOf(after.createdAt()));
+            params.add(after.id());
+        }
+        if (searchQuery != null && !searchQuery.isBlank()) {
+            String searchPattern = "%" + escapeLikePattern(searchQuery.trim()) + "%";
+            conditions.add(NewsSqlQueries.NEWS_SEARCH_CONDITION);
+            params.add(searchPattern);
+            params.add(searchPattern);
+            params.add(searchPattern);
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(NewsSqlQueries.NEWS_SUMMARIES_ORDER_LIMIT);
+        params.add(limit);
+
+        try {
+            return jdbcTemplate.query(sql.toString(), summaryRowMapper(excerptLength), params.toArray());
+        } catch (DataAccessException e) {
+            throw new NewsRetrievalException("Failed to retrieve news summaries", e);
+        }
+    }
+
     /**
      * Retrieves a news item by its unique identifier.
      *
@@ -1,6 +1,7 @@
 package org.apolenkov.application.infrastructure.repository.jdbc.adapter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.apolenkov.application.domain.port.PasswordResetTokenRepository;
 import org.apolenkov.application.infrastructure.repository.jdbc.sql.PasswordResetTokenSqlQueries;
@@ -121,4 +122,18 @@ public class PasswordResetTokenJdbcAdapter implements PasswordResetTokenReposito
         LOGGER.debug("Marking password reset token as used: {}", id);
         jdbcTemplate.update(PasswordResetTokenSqlQueries.MARK_AS_USED, id);
     }
+
+    /**
+     * Deletes next chunk of expired password reset tokens.
+     *
+     * @param afterId keyset cursor (exclusive)
+     * @param expiredBefore expiry cutoff
+     * @param limit maximum number of tokens to delete
+     * @return identifiers of deleted tokens
+     */
+    @Override
+    public List<Long> deleteExpiredChunk(final long afterId, final LocalDateTime expiredBefore, final int limit) {
+        return jdbcTemplate.queryForList(
+                PasswordResetTokenSqlQueries.DELETE_EXPIRED_CHUNK, Long.class, afterId, expiredBefore, limit);
+    }
 }
@@ -0,0 +1,58 @@
+package org.apolenkov.application.infrastructure.repository.jdbc.adapter;
+
+import java.time.Duration;
+import org.apolenkov.application.domain.port.SchedulerLockRepository;
+import org.apolenkov.application.infrastructure.repository.jdbc.sql.SchedulerLockSqlQueries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC implementation of SchedulerLockRepository.
+ * Keeps lock leases in scheduler_locks table; every operation is one auto-committed statement.
+ */
+@Repository
+@Profile({"dev", "prod", "test"})
+public class SchedulerLockJdbcAdapter implements SchedulerLockRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerLockJdbcAdapter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates SchedulerLockJdbcAdapter with JDBC template.
+     *
+     * @param jdbcTemplateValue JDBC template for database operations
+     * @throws IllegalArgumentException if jdbcTemplate is null
+     */
+    public SchedulerLockJdbcAdapter(final JdbcTemplate jdbcTemplateValue) {
+        if (jdbcTemplateValue == null) {
+            throw new IllegalArgumentException("JdbcTemplate cannot be null");
+        }
+        this.jdbcTemplate = jdbcTemplateValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryLock(final String name, final String owner, final Duration lease) {
+        if (name == null || owner == null || lease == null) {
+            throw new IllegalArgumentException("Lock name, owner and lease cannot be null");
+        }
+        boolean acquired = jdbcTemplate.update(SchedulerLockSqlQueries.TRY_LOCK, name, lease.toMillis(), owner) > 0;
+        LOGGER.debug("Scheduler lock {}: name={}, owner={}", acquired ? "acquired" : "busy", name, owner);
+        return acquired;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unlock(final String name, final String owner) {
+        jdbcTemplate.update(SchedulerLockSqlQueries.UNLOCK, name, owner);
+        LOGGER.debug("Scheduler lock released: name={}, owner={}", name, owner);
+    }
+}
@@ -4,7 +4,9 @@ import java.time.LocalDate;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apolenkov.application.domain.dto.SessionStatsDto;
 import org.apolenkov.application.domain.port.StatsRepository;
@@ -107,33 +109,6 @@ public class StatsJdbcAdapter implements StatsRepository {
         return new HashSet<>(jdbcTemplate.queryForList(StatsSqlQueries.SELECT_KNOWN_CARD_IDS, Long.class, deckId));
     }
 
-    /**
-     * Checks if specific card is marked as known in deck.
-     * More efficient than getKnownCardIds().contains() for single card checks.
-     * Uses EXISTS query which stops after first match instead of loading all cards.
-     *
-     * @param deckId the deck ID
-     * @param cardId the card ID
-     * @return true if card is marked as known
-     */
-    @Override
-    public boolean isCardKnownDirect(final long deckId, final long cardId) {
-        LOGGER.debug("Checking if card {} is known in deck ID: {}", cardId, deckId);
-
-        try {
-            Boolean result =
-                    jdbcTemplate.queryForObject(StatsSqlQueries.IS_CARD_KNOWN_DIRECT, Boolean.class, deckId, cardId);
-
-            // EXISTS query always returns true/false, but queryForObject may return null if no rows
-            boolean isKnown = Boolean.TRUE.equals(result);
-            LOGGER.debug("Card {} in deck {}: {}", cardId, deckId, isKnown ? "KNOWN" : "UNKNOWN");
-
-            return isKnown;
-        } catch (DataAccessException e) {
-            throw new StatsRetrievalException("Failed to check card " + cardId + " in deck: " + deckId, e);
-        }
-    }
-
     /**
      * Gets known card IDs for multiple decks.
      *
@@ -164,6 +139,24 @@ public class StatsJdbcAdapter implements StatsRepository {
         }
     }
 
+    /**
+     * Finds most recently practiced deck of user.
+     *
+     * @param userId the user ID
+     * @return deck ID, or empty if user has no practice history
+     */
+    @Override
+    public Optional<Long> findLastPracticedDeckId(final long userId) {
+        LOGGER.debug("Finding last practiced deck for user ID: {}", userId);
+        try {
+            List<Long> ids =
+                    jdbcTemplate.queryForList(StatsSqlQueries.SELECT_LAST_PRACTICED_DECK_ID, Long.class, userId);
+            return ids.stream().findFirst();
+        } catch (DataAccessException e) {
+            throw new StatsRetrievalException("Failed to find last practiced deck for user ID: " + userId, e);
+        }
+    }
+
     /**
      * Sets card known status for a deck.
      * This method can be safely overridden by subclasses.
@@ -184,6 +177,24 @@ public class StatsJdbcAdapter implements StatsRepository {
         LOGGER.debug("Card {} marked as {} in deck {}", cardId, known ? "known" : "unknown", deckId);
     }
 
+    /**
+     * Toggles known status of card with one data-modifying statement.
+     *
+     * @param deckId deck identifier
+     * @param cardId card identifier
+     * @return new status (true if card is now known)
+     */
+    @Override
+    public boolean toggleCardKnown(final long deckId, final long cardId) {
+        LOGGER.debug("Toggling card {} in deck ID: {}", cardId, deckId);
+
+        Boolean result = jdbcTemplate.queryForObject(
+                StatsSqlQueries.TOGGLE_KNOWN_CARD, Boolean.class, deckId, cardId, cardId, deckId);
+        boolean isKnown = Boolean.TRUE.equals(result);
+        LOGGER.debug("Card {} toggled to {} in deck {}", cardId, isKnown ? "known" : "unknown", deckId);
+        return isKnown;
+    }
+
     /**
      * Resets progress for a deck.
      * This method can be safely overridden by subclasses.
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.apolenkov.application.config.cache.CacheConfiguration;
 import org.apolenkov.application.domain.port.UserRepository;
 import org.apolenkov.application.infrastructure.repository.jdbc.dto.UserDto;
@@ -12,10 +13,11 @@ import org.apolenkov.application.infrastructure.repository.jdbc.exception.UserPe
 import org.apolenkov.application.infrastructure.repository.jdbc.exception.UserRetrievalException;
 import org.apolenkov.application.infrastructure.repository.jdbc.sql.UserSqlQueries;
 import org.apolenkov.application.model.User;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -28,6 +30,10 @@ import org.springframework.stereotype.Repository;
  * <p>Implements UserRepository using direct JDBC operations.
  * Provides CRUD operations for users with role management.
  * Active in JDBC profiles only.</p>
+ *
+ * <p>Lookups by ID and email are cached as immutable {@link UserDto} snapshots and every caller gets
+ * its own {@link User} copy, so a mutated model never leaks into the cache. Entries of a written user
+ * are evicted after commit, so concurrent lookups cannot re-cache the pre-commit row.</p>
  */
 @Profile({"dev", "prod", "test"})
 @Repository
@@ -84,6 +90,8 @@ public class UserJdbcAdapter implements UserRepository {
     // ==================== Fields ====================
 
     private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final DomainEventPublisher domainEventPublisher;
 
     // ==================== Constructor ====================
 
@@ -91,13 +99,26 @@ public class UserJdbcAdapter implements UserRepository {
      * Creates adapter with JdbcTemplate dependency.
      *
      * @param jdbcTemplateValue the JdbcTemplate for database operations
-     * @throws IllegalArgumentException if jdbcTemplate is null
+     * @param cacheManagerValue cache manager for user lookups and targeted eviction of user entries
+     * @param domainEventPublisherValue publisher used to defer cache eviction until commit
+     * @throws IllegalArgumentException if any parameter is null
      */
-    public UserJdbcAdapter(final JdbcTemplate jdbcTemplateValue) {
+    public UserJdbcAdapter(
+            final JdbcTemplate jdbcTemplateValue,
+            final CacheManager cacheManagerValue,
+            final DomainEventPublisher domainEventPublisherValue) {
         if (jdbcTemplateValue == null) {
             throw new IllegalArgumentException("JdbcTemplate cannot be null");
         }
+        if (cacheManagerValue == null) {
+            throw new IllegalArgumentException("CacheManager cannot be null");
+        }
+        if (domainEventPublisherValue == null) {
+            throw new IllegalArgumentException("DomainEventPublisher cannot be null");
+        }
         this.jdbcTemplate = jdbcTemplateValue;
+        this.cacheManager = cacheManagerValue;
+        this.domainEventPublisher = domainEventPublisherValue;
     }
 
     // ==================== Private Methods ====================
@@ -116,6 +137,29 @@ public class UserJdbcAdapter implements UserRepository {
         return user;
     }
 
+    /**
+     * Looks up user snapshot in cache, loading and caching it on miss ("not found" is cached too).
+     *
+     * @param cacheName cache to use
+     * @param key cache key
+     * @param loader database lookup returning snapshot or null
+     * @return Optional containing fresh user model if found
+     */
+    private Optional<User> findCached(final String cacheName, final Object key, final Supplier<UserDto> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Cache.ValueWrapper cached = cache != null ? cache.get(key) : null;
+        UserDto snapshot;
+        if (cached != null) {
+            snapshot = (UserDto) cached.get();
+        } else {
+            snapshot = loader.get();
+            if (cache != null) {
+                cache.put(key, snapshot);
+            }
+        }
+        return Optional.ofNullable(snapshot).map(UserJdbcAdapter::toModel);
+    }
+
     // ==================== Public API ====================
 
     /**
@@ -139,24 +183,23 @@ public class UserJdbcAdapter implements UserRepository {
 
     /**
      * Retrieves user by unique identifier with all associated roles.
+     * Results are cached by ID (current user resolution goes through this lookup).
      *
      * @param id unique identifier of user
      * @return Optional containing user with roles if found, empty otherwise
      */
     @Override
     public Optional<User> findById(final long id) {
-        LOGGER.debug("Retrieving user by ID: {}", id);
-        try {
-            List<UserDto> users =
-                    jdbcTemplate.query(UserSqlQueries.SELECT_USER_WITH_ROLES_BY_ID, USER_WITH_ROLES_ROW_MAPPER, id);
-            if (users.isEmpty()) {
-                return Optional.empty();
+        return findCached(CacheConfiguration.USER_CACHE, id, () -> {
+            LOGGER.debug("Retrieving user by ID: {}", id);
+            try {
+                List<UserDto> users = jdbcTemplate.query(
+                        UserSqlQueries.SELECT_USER_WITH_ROLES_BY_ID, USER_WITH_ROLES_ROW_MAPPER, id);
+                return users.isEmpty() ? null : users.getFirst();
+            } catch (DataAccessException e) {
+                throw new UserRetrievalException("Failed to retrieve user by ID: " + id, e);
             }
-
-            return Optional.of(toModel(users.getFirst()));
-        } catch (DataAccessException e) {
-            throw new UserRetrievalException("Failed to retrieve user by ID: " + id, e);
-        }
+        });
     }
 
     /**
@@ -168,36 +211,32 @@ public class UserJdbcAdapter implements UserRepository {
      * @throws IllegalArgumentException if email is null or empty
      */
     @Override
-    @Cacheable(value = CacheConfiguration.USER_BY_EMAIL_CACHE, key = "#email")
     public Optional<User> findByEmail(final String email) {
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
 
-        LOGGER.debug("Retrieving user by email from database: {}", email);
-        try {
-            List<UserDto> users = jdbcTemplate.query(
-                    UserSqlQueries.SELECT_USER_WITH_ROLES_BY_EMAIL, USER_WITH_ROLES_ROW_MAPPER, email);
-            if (users.isEmpty()) {
-                return Optional.empty();
+        return findCached(CacheConfiguration.USER_BY_EMAIL_CACHE, email, () -> {
+            LOGGER.debug("Retrieving user by email from database: {}", email);
+            try {
+                List<UserDto> users = jdbcTemplate.query(
+                        UserSqlQueries.SELECT_USER_WITH_ROLES_BY_EMAIL, USER_WITH_ROLES_ROW_MAPPER, email);
+                return users.isEmpty() ? null : users.getFirst();
+            } catch (DataAccessException e) {
+                throw new UserRetrievalException("Failed to retrieve user by email: " + email, e);
             }
-
-            return Optional.of(toModel(users.getFirst()));
-        } catch (DataAccessException e) {
-            throw new UserRetrievalException("Failed to retrieve user by email: " + email, e);
-        }
+        });
     }
 
     /**
      * Saves user to database (creates new or updates existing).
-     * Invalidates user cache to ensure data consistency.
+     * Evicts only this user's cache entries (by ID, current and previous email).
      *
      * @param user user to save
      * @return saved user with updated fields
      * @throws IllegalArgumentException if user is null
      */
     @Override
-    @CacheEvict(value = CacheConfiguration.USER_BY_EMAIL_CACHE, allEntries = true)
     public User save(final User user) {
         if (user == null) {
             throw new IllegalArgumentException("User cannot be null");
@@ -218,29 +257,40 @@ public class UserJdbcAdapter implements UserRepository {
 
     /**
      * Deletes user by unique identifier.
-     * Invalidates user cache to ensure consistency.
+     * Evicts only this user's cache entries.
      *
      * @param id unique identifier of user to delete
      */
     @Override
-    @CacheEvict(value = CacheConfiguration.USER_BY_EMAIL_CACHE, allEntries = true)
     public void deleteById(final long id) {
         LOGGER.debug("Deleting user by ID: {}", id);
         try {
-            // Delete user roles first (foreign key constraint)
-            jdbcTemplate.update(UserSqlQueries.DELETE_USER_ROLES, id);
-
-            int deleted = jdbcTemplate.update(UserSqlQueries.DELETE_USER, id);
-            if (deleted == 0) {
+            // Marks user and their decks in one statement; roles, decks and content are purged by housekeeping
+            List<String> deletedEmails =
+                    jdbcTemplate.queryForList(UserSqlQueries.SOFT_DELETE_USER_RETURNING_EMAIL, String.class, id);
+            if (deletedEmails.isEmpty()) {
                 LOGGER.warn("No user found with ID: {}", id);
             } else {
-                LOGGER.debug("User deleted from database: id={}, cache cleared", id);
+                evictUserEntries(id, deletedEmails.getFirst(), null);
+                LOGGER.debug("User marked as deleted: id={}, cache evicted", id);
             }
         } catch (DataAccessException e) {
             throw new UserPersistenceException("Failed to delete user by ID: " + id, e);
         }
     }
 
+    /**
+     * Purges chunk of soft-deleted users without remaining decks.
+     *
+     * @param afterId keyset cursor (exclusive)
+     * @param limit maximum number of users to purge
+     * @return identifiers of purged users
+     */
+    @Override
+    public List<Long> purgeDeletedChunk(final long afterId, final int limit) {
+        return jdbcTemplate.queryForList(UserSqlQueries.PURGE_DELETED_USERS_CHUNK, Long.class, afterId, limit);
+    }
+
     /**
      * Creates new user in database.
      *
@@ -259,6 +309,8 @@ public class UserJdbcAdapter implements UserRepository {
                 userDto.createdAt());
 
         insertUserRoles(generatedId, user.getRoles());
+        // Lookup by email may have cached "not found" before registration
+        evictUserEntries(generatedId, userDto.email(), null);
 
         UserDto createdDto = UserDto.forExistingUser(
                 generatedId,
@@ -278,15 +330,51 @@ public class UserJdbcAdapter implements UserRepository {
      * @return updated user
      */
     private User updateUser(final User user) {
-        jdbcTemplate.update(
-                UserSqlQueries.UPDATE_USER, user.getEmail(), user.getPasswordHash(), user.getName(), user.getId());
+        List<String> previousEmails = jdbcTemplate.queryForList(
+                UserSqlQueries.UPDATE_USER_RETURNING_PREVIOUS_EMAIL,
+                String.class,
+                user.getId(),
+                user.getEmail(),
+                user.getPasswordHash(),
+                user.getName(),
+                user.getId());
 
         jdbcTemplate.update(UserSqlQueries.DELETE_USER_ROLES, user.getId());
         insertUserRoles(user.getId(), user.getRoles());
 
+        String previousEmail = previousEmails.isEmpty() ? null : previousEmails.getFirst();
+        evictUserEntries(user.getId(), user.getEmail(), previousEmail);
+
         return user;
     }
 
+    /**
+     * Evicts cache entries of a single user after commit (targeted, other users stay cached).
+     *
+     * @param id user ID
+     * @param email current email
+     * @param previousEmail email before update (null if unchanged or unknown)
+     */
+    private void evictUserEntries(final Long id, final String email, final String previousEmail) {
+        domainEventPublisher.afterCommit(() -> evictUserEntriesNow(id, email, previousEmail));
+    }
+
+    private void evictUserEntriesNow(final Long id, final String email, final String previousEmail) {
+        Cache byId = cacheManager.getCache(CacheConfiguration.USER_CACHE);
+        if (byId != null && id != null) {
+            byId.evict(id);
+        }
+        Cache byEmail = cacheManager.getCache(CacheConfiguration.USER_BY_EMAIL_CACHE);
+        if (byEmail != null) {
+            if (email != null) {
+                byEmail.evict(email);
+            }
+            if (previousEmail != null && !previousEmail.equals(email)) {
+                byEmail.evict(previousEmail);
+            }
+        }
+    }
+
     /**
      * Inserts user roles into database.
      *
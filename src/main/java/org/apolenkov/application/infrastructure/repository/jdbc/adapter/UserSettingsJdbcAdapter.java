@@ -1,7 +1,10 @@
 package org.apolenkov.application.infrastructure.repository.jdbc.adapter;
 
+import java.util.Optional;
 import org.apolenkov.application.domain.port.UserSettingsRepository;
 import org.apolenkov.application.infrastructure.repository.jdbc.sql.UserSettingsSqlQueries;
+import org.apolenkov.application.model.PracticeDirection;
+import org.apolenkov.application.model.PracticeSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
@@ -40,4 +43,41 @@ public class UserSettingsJdbcAdapter implements UserSettingsRepository {
         LOGGER.debug("Saving preferred locale code '{}' for user ID: {}", localeCode, userId);
         jdbcTemplate.update(UserSettingsSqlQueries.UPSERT_PREFERRED_LOCALE, userId, localeCode, localeCode);
     }
+
+    /**
+     * Finds practice settings of the given user.
+     *
+     * @param userId the user ID
+     * @return stored settings, empty if user has no settings row
+     */
+    @Override
+    public Optional<PracticeSettings> findPracticeSettings(final long userId) {
+        return jdbcTemplate
+                .query(
+                        UserSettingsSqlQueries.SELECT_PRACTICE_SETTINGS,
+                        (rs, rowNum) -> new PracticeSettings(
+                                rs.getInt("practice_count"),
+                                rs.getBoolean("practice_random_order"),
+                                PracticeDirection.valueOf(rs.getString("practice_direction"))),
+                        userId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Saves practice settings of the given user.
+     *
+     * @param userId the user ID
+     * @param settings the settings to save
+     */
+    @Override
+    public void savePracticeSettings(final long userId, final PracticeSettings settings) {
+        LOGGER.debug("Saving practice settings {} for user ID: {}", settings, userId);
+        jdbcTemplate.update(
+                UserSettingsSqlQueries.UPSERT_PRACTICE_SETTINGS,
+                userId,
+                settings.defaultCount(),
+                settings.randomOrder(),
+                settings.direction().name());
+    }
 }
@@ -40,6 +40,8 @@ public record UserDto(
         if (roles == null) {
             throw new IllegalArgumentException("Roles cannot be null");
         }
+        // Snapshots are shared through user caches
+        roles = Set.copyOf(roles);
     }
 
     /**
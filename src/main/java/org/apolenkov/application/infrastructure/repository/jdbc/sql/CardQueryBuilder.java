@@ -17,12 +17,13 @@ public final class CardQueryBuilder {
 
     /**
      * Adds deck ID condition.
+     * Deck is resolved once against live decks, so cards of soft-deleted deck match nothing.
      *
      * @param deckId deck identifier
      * @return this builder for method chaining
      */
     public CardQueryBuilder withDeckId(final long deckId) {
-        conditions.add("f.deck_id = ?");
+        conditions.add("f.deck_id = (SELECT d.id FROM decks d WHERE d.id = ? AND d.deleted_at IS NULL)");
         parameters.add(deckId);
         return this;
     }
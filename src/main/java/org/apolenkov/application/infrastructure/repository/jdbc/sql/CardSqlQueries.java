@@ -25,12 +25,13 @@ public final class CardSqlQueries {
     /**
      * SQL query to select cards by deck ID.
      * Ordered by updated_at DESC to show newest cards first.
+     * Deck ID is resolved once against live decks, so cards of soft-deleted deck are hidden until purged.
      */
     public static final String SELECT_CARDS_BY_DECK_ID =
             """
             SELECT f.id, f.deck_id, f.front_text, f.back_text, f.example, f.image_url, f.created_at, f.updated_at
             FROM cards f
-            WHERE f.deck_id = ?
+            WHERE f.deck_id = (SELECT d.id FROM decks d WHERE d.id = ? AND d.deleted_at IS NULL)
             ORDER BY f.created_at DESC
             """;
 
@@ -75,20 +76,13 @@ public final class CardSqlQueries {
             """;
 
     /**
-     * SQL query to delete card by ID.
+     * SQL query to delete card by ID, returning deleted row for audit and cache invalidation.
      */
-    public static final String DELETE_CARD = """
-            DELETE FROM cards
-            WHERE id = ?
-            """;
-
-    /**
-     * SQL query to delete all cards by deck ID.
-     */
-    public static final String DELETE_CARDS_BY_DECK_ID =
+    public static final String DELETE_CARD =
             """
-            DELETE FROM cards
-            WHERE deck_id = ?
+            DELETE FROM cards f
+            WHERE f.id = ?
+            RETURNING f.id, f.deck_id, f.front_text, f.back_text, f.example, f.image_url, f.created_at, f.updated_at
             """;
 
     /**
@@ -98,19 +92,19 @@ public final class CardSqlQueries {
             """
             SELECT COUNT(1)
             FROM cards
-            WHERE deck_id = ?
+            WHERE deck_id = (SELECT d.id FROM decks d WHERE d.id = ? AND d.deleted_at IS NULL)
             """;
 
     /**
      * SQL query to count cards for multiple decks in single query.
-     * Returns only decks that have cards (decks with 0 cards are excluded).
+     * Returns only live decks that have cards (decks with 0 cards are excluded).
      * Note: Requires dynamic SQL for IN clause (deckIds parameter).
      */
     public static final String COUNT_CARDS_BY_DECK_IDS_TEMPLATE =
             """
             SELECT deck_id, COUNT(*) as count
             FROM cards
-            WHERE deck_id IN (%s)
+            WHERE deck_id IN (SELECT d.id FROM decks d WHERE d.id IN (%s) AND d.deleted_at IS NULL)
             GROUP BY deck_id
             """;
 }
@@ -14,11 +14,13 @@ public final class DeckSqlQueries {
 
     /**
      * SQL query to select all decks.
+     * All deck selects skip soft-deleted decks waiting for purge.
      */
     public static final String SELECT_ALL_DECKS =
             """
             SELECT d.id, d.user_id, d.title, d.description, d.created_at, d.updated_at
             FROM decks d
+            WHERE d.deleted_at IS NULL
             ORDER BY d.created_at DESC
             """;
 
@@ -29,7 +31,7 @@ public final class DeckSqlQueries {
             """
             SELECT d.id, d.user_id, d.title, d.description, d.created_at, d.updated_at
             FROM decks d
-            WHERE d.id = ?
+            WHERE d.id = ? AND d.deleted_at IS NULL
             """;
 
     /**
@@ -39,7 +41,7 @@ public final class DeckSqlQueries {
             """
             SELECT d.id, d.user_id, d.title, d.description, d.created_at, d.updated_at
             FROM decks d
-            WHERE d.user_id = ?
+            WHERE d.user_id = ? AND d.deleted_at IS NULL
             ORDER BY d.created_at DESC
             """;
 
@@ -52,7 +54,7 @@ public final class DeckSqlQueries {
             """
             SELECT d.id, d.user_id, d.title, d.description, d.created_at, d.updated_at
             FROM decks d
-            WHERE d.user_id = ?
+            WHERE d.user_id = ? AND d.deleted_at IS NULL
               AND (d.title ILIKE ? OR d.description ILIKE ?)
             ORDER BY d.created_at DESC
             """;
@@ -78,10 +80,81 @@ public final class DeckSqlQueries {
             """;
 
     /**
-     * SQL query to delete deck by ID.
+     * SQL query to soft-delete deck by ID, returning deck row for audit and event publishing.
      */
-    public static final String DELETE_DECK = """
+    public static final String SOFT_DELETE_DECK =
+            """
+            UPDATE decks
+            SET deleted_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND deleted_at IS NULL
+            RETURNING id, user_id, title, description, created_at, updated_at
+            """;
+
+    /**
+     * SQL query to find next soft-deleted deck after keyset cursor.
+     * Uses partial index idx_decks_deleted.
+     */
+    public static final String SELECT_NEXT_DELETED_DECK_ID =
+            """
+            SELECT id
+            FROM decks
+            WHERE id > ? AND deleted_at IS NOT NULL
+            ORDER BY id
+            LIMIT 1
+            """;
+
+    /**
+     * SQL query to purge chunk of known cards of soft-deleted deck.
+     * Purge statements join decks so content of live decks is never touched.
+     */
+    public static final String PURGE_DELETED_DECK_KNOWN_CARDS =
+            """
+            DELETE FROM known_cards
+            WHERE id IN (
+                SELECT kc.id
+                FROM known_cards kc
+                JOIN decks d ON d.id = kc.deck_id
+                WHERE kc.deck_id = ? AND d.deleted_at IS NOT NULL
+                LIMIT ?
+            )
+            """;
+
+    /**
+     * SQL query to purge chunk of daily statistics of soft-deleted deck.
+     */
+    public static final String PURGE_DELETED_DECK_STATS =
+            """
+            DELETE FROM deck_daily_stats
+            WHERE (deck_id, date) IN (
+                SELECT dds.deck_id, dds.date
+                FROM deck_daily_stats dds
+                JOIN decks d ON d.id = dds.deck_id
+                WHERE dds.deck_id = ? AND d.deleted_at IS NOT NULL
+                LIMIT ?
+            )
+            """;
+
+    /**
+     * SQL query to purge chunk of cards of soft-deleted deck.
+     */
+    public static final String PURGE_DELETED_DECK_CARDS =
+            """
+            DELETE FROM cards
+            WHERE id IN (
+                SELECT c.id
+                FROM cards c
+                JOIN decks d ON d.id = c.deck_id
+                WHERE c.deck_id = ? AND d.deleted_at IS NOT NULL
+                LIMIT ?
+            )
+            """;
+
+    /**
+     * SQL query to delete soft-deleted deck row once its content is purged.
+     */
+    public static final String PURGE_DELETED_DECK =
+            """
             DELETE FROM decks
-            WHERE id = ?
+            WHERE id = ? AND deleted_at IS NOT NULL
             """;
 }
@@ -22,6 +22,34 @@ public final class NewsSqlQueries {
             ORDER BY n.created_at DESC
             """;
 
+    /**
+     * SQL query prefix to select news summaries (excerpt instead of full content).
+     * First parameter is excerpt length; one extra character is fetched to detect truncation.
+     */
+    public static final String SELECT_NEWS_SUMMARIES =
+            """
+            SELECT n.id, n.title, left(n.content, ?) AS excerpt, n.author, n.created_at
+            FROM news n
+            """;
+
+    /**
+     * Keyset condition: items strictly after cursor (created_at, id) in descending order.
+     * Served by idx_news_created_at_id.
+     */
+    public static final String NEWS_KEYSET_CONDITION = "(n.created_at, n.id) < (?, ?)";
+
+    /**
+     * Search condition (case-insensitive search in title, content and author).
+     * Pattern wildcards in the user query are escaped with backslash.
+     */
+    public static final String NEWS_SEARCH_CONDITION =
+            "(n.title ILIKE ? ESCAPE '\\' OR n.content ILIKE ? ESCAPE '\\' OR n.author ILIKE ? ESCAPE '\\')";
+
+    /**
+     * Keyset order and page size suffix for news summaries.
+     */
+    public static final String NEWS_SUMMARIES_ORDER_LIMIT = " ORDER BY n.created_at DESC, n.id DESC LIMIT ?";
+
     /**
      * SQL query to select news by ID.
      */
@@ -62,4 +62,22 @@ public final class PasswordResetTokenSqlQueries {
             SET used = true
             WHERE id = ?
             """;
+
+    /**
+     * SQL query to delete next keyset chunk of expired tokens.
+     * Used tokens are covered too: every token expires, used or not.
+     */
+    public static final String DELETE_EXPIRED_CHUNK =
+            """
+            DELETE FROM password_reset_tokens
+            WHERE id IN (
+                SELECT id
+                FROM password_reset_tokens
+                WHERE id > ? AND expires_at < ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """;
 }
@@ -0,0 +1,37 @@
+package org.apolenkov.application.infrastructure.repository.jdbc.sql;
+
+/**
+ * SQL queries for scheduler lock operations.
+ *
+ * <p>Contains all SQL queries used by SchedulerLockJdbcAdapter.
+ * Uses parameterized queries to prevent SQL injection.</p>
+ */
+public final class SchedulerLockSqlQueries {
+
+    private SchedulerLockSqlQueries() {
+        // Utility class
+    }
+
+    /**
+     * SQL query to acquire lock.
+     * Inserts missing lock or takes over expired one in a single statement; updates no row if lock is held.
+     */
+    public static final String TRY_LOCK =
+            """
+            INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by)
+            VALUES (?, CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond', CURRENT_TIMESTAMP, ?)
+            ON CONFLICT (name) DO UPDATE
+            SET locked_until = EXCLUDED.locked_until, locked_at = EXCLUDED.locked_at, locked_by = EXCLUDED.locked_by
+            WHERE scheduler_locks.locked_until <= CURRENT_TIMESTAMP
+            """;
+
+    /**
+     * SQL query to release lock held by owner.
+     */
+    public static final String UNLOCK =
+            """
+            UPDATE scheduler_locks
+            SET locked_until = CURRENT_TIMESTAMP
+            WHERE name = ? AND locked_by = ?
+            """;
+}
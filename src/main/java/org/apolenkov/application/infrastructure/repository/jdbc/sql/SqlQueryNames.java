@@ -0,0 +1,60 @@
+package org.apolenkov.application.infrastructure.repository.jdbc.sql;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reverse lookup of SQL text to query constant name (e.g. "DeckSqlQueries.SELECT_DECK_BY_ID").
+ *
+ * <p>Used to label JDBC statement spans with stable, low-cardinality query names instead of SQL text.
+ * Dynamic SQL (CardQueryBuilder) has no constant and is not resolved.</p>
+ */
+public final class SqlQueryNames {
+
+    private static final List<Class<?>> QUERY_CLASSES = List.of(
+            CardSqlQueries.class,
+            DeckSqlQueries.class,
+            NewsSqlQueries.class,
+            PasswordResetTokenSqlQueries.class,
+            SchedulerLockSqlQueries.class,
+            StatsSqlQueries.class,
+            UserSettingsSqlQueries.class,
+            UserSqlQueries.class);
+
+    private static final Map<String, String> NAMES = buildNames();
+
+    private SqlQueryNames() {
+        // Utility class
+    }
+
+    /**
+     * Resolves query constant name for SQL text.
+     *
+     * @param sql SQL text as passed to JDBC driver
+     * @return "Class.CONSTANT" or null if SQL is not a known constant
+     */
+    public static String nameOf(final String sql) {
+        return sql == null ? null : NAMES.get(sql);
+    }
+
+    private static Map<String, String> buildNames() {
+        Map<String, String> names = new HashMap<>();
+        for (Class<?> type : QUERY_CLASSES) {
+            for (Field field : type.getFields()) {
+                int modifiers = field.getModifiers();
+                if (field.getType() != String.class || !Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers)) {
+                    continue;
+                }
+                try {
+                    names.putIfAbsent((String) field.get(null), type.getSimpleName() + "." + field.getName());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read SQL constant " + field, e);
+                }
+            }
+        }
+        return Map.copyOf(names);
+    }
+}
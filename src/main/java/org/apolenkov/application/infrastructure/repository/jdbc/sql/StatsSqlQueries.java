@@ -44,28 +44,14 @@ public final class StatsSqlQueries {
 
     /**
      * SQL query to select known card IDs for deck.
+     * Empty for soft-deleted deck.
      */
     public static final String SELECT_KNOWN_CARD_IDS =
             """
             SELECT kc.card_id
             FROM known_cards kc
             JOIN cards f ON kc.card_id = f.id
-            WHERE f.deck_id = ?
-            """;
-
-    /**
-     * SQL query to check if specific card is known in deck.
-     * More efficient than SELECT_KNOWN_CARD_IDS + contains() for single card checks.
-     * Uses EXISTS for optimal performance (stops after first match).
-     */
-    public static final String IS_CARD_KNOWN_DIRECT =
-            """
-            SELECT EXISTS(
-                SELECT 1
-                FROM known_cards kc
-                JOIN cards f ON kc.card_id = f.id
-                WHERE f.deck_id = ? AND kc.card_id = ?
-            ) AS is_known
+            WHERE f.deck_id = (SELECT d.id FROM decks d WHERE d.id = ? AND d.deleted_at IS NULL)
             """;
 
     /**
@@ -78,7 +64,7 @@ public final class StatsSqlQueries {
             SELECT f.deck_id, kc.card_id
             FROM known_cards kc
             JOIN cards f ON kc.card_id = f.id
-            WHERE f.deck_id IN (%s)
+            WHERE f.deck_id IN (SELECT d.id FROM decks d WHERE d.id IN (%s) AND d.deleted_at IS NULL)
             """;
 
     /**
@@ -90,6 +76,29 @@ public final class StatsSqlQueries {
             WHERE deck_id = ? AND card_id = ?
             """;
 
+    /**
+     * SQL query to toggle known status of card in single statement.
+     * Removes the known mark if present, otherwise inserts it for a card belonging to the deck.
+     * Both data-modifying CTEs see the same snapshot, so the insert is guarded by the delete result.
+     * Parameters: deckId, cardId, cardId, deckId. Returns new status.
+     */
+    public static final String TOGGLE_KNOWN_CARD =
+            """
+            WITH removed AS (
+                DELETE FROM known_cards
+                WHERE deck_id = ? AND card_id = ?
+                RETURNING card_id
+            ), added AS (
+                INSERT INTO known_cards (deck_id, card_id)
+                SELECT f.deck_id, f.id
+                FROM cards f
+                WHERE f.id = ? AND f.deck_id = ? AND NOT EXISTS (SELECT 1 FROM removed)
+                ON CONFLICT (deck_id, card_id) DO NOTHING
+                RETURNING card_id
+            )
+            SELECT EXISTS(SELECT 1 FROM added) AS is_known
+            """;
+
     /**
      * SQL query to delete all daily stats for deck.
      */
@@ -111,6 +120,7 @@ public final class StatsSqlQueries {
     /**
      * SQL query template for aggregating statistics for multiple decks.
      * Requires placeholders for deck IDs to be formatted at runtime.
+     * Soft-deleted decks are skipped.
      */
     public static final String SELECT_AGGREGATES_FOR_DECKS_TEMPLATE =
             """
@@ -127,7 +137,21 @@ public final class StatsSqlQueries {
                    COALESCE(SUM(CASE WHEN dds.date = ? THEN dds.hard ELSE 0 END), 0) as hard_today
             FROM decks d
             LEFT JOIN deck_daily_stats dds ON d.id = dds.deck_id
-            WHERE d.id IN (%s)
+            WHERE d.id IN (%s) AND d.deleted_at IS NULL
             GROUP BY d.id
             """;
+
+    /**
+     * SQL query to find user's most recently practiced deck.
+     * Uses idx_deck_daily_stats_deck_date; ties on date resolved by latest update.
+     */
+    public static final String SELECT_LAST_PRACTICED_DECK_ID =
+            """
+            SELECT dds.deck_id
+            FROM deck_daily_stats dds
+            JOIN decks d ON d.id = dds.deck_id
+            WHERE d.user_id = ? AND d.deleted_at IS NULL
+            ORDER BY dds.date DESC, dds.updated_at DESC
+            LIMIT 1
+            """;
 }
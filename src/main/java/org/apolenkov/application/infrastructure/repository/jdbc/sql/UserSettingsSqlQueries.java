@@ -22,4 +22,27 @@ public final class UserSettingsSqlQueries {
             ON CONFLICT (user_id)
             DO UPDATE SET preferred_locale_code = ?
             """;
+
+    /**
+     * SQL query to select practice settings of user.
+     */
+    public static final String SELECT_PRACTICE_SETTINGS =
+            """
+            SELECT practice_count, practice_random_order, practice_direction
+            FROM user_settings
+            WHERE user_id = ?
+            """;
+
+    /**
+     * SQL query to upsert practice settings of user.
+     */
+    public static final String UPSERT_PRACTICE_SETTINGS =
+            """
+            INSERT INTO user_settings (user_id, practice_count, practice_random_order, practice_direction)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (user_id)
+            DO UPDATE SET practice_count = EXCLUDED.practice_count,
+                          practice_random_order = EXCLUDED.practice_random_order,
+                          practice_direction = EXCLUDED.practice_direction
+            """;
 }
@@ -14,11 +14,13 @@ public final class UserSqlQueries {
 
     /**
      * SQL query to select all users.
+     * All user selects skip soft-deleted users waiting for purge.
      */
     public static final String SELECT_ALL_USERS =
             """
             SELECT u.id, u.email, u.password_hash, u.name, u.created_at
             FROM users u
+            WHERE u.deleted_at IS NULL
             ORDER BY u.created_at DESC
             """;
 
@@ -32,7 +34,7 @@ public final class UserSqlQueries {
                    COALESCE(ARRAY_AGG(ur.role ORDER BY ur.role) FILTER (WHERE ur.role IS NOT NULL), ARRAY[]::TEXT[]) as roles
             FROM users u
             LEFT JOIN user_roles ur ON ur.user_id = u.id
-            WHERE u.email = ?
+            WHERE u.email = ? AND u.deleted_at IS NULL
             GROUP BY u.id, u.email, u.password_hash, u.name, u.created_at
             """;
 
@@ -46,7 +48,7 @@ public final class UserSqlQueries {
                    COALESCE(ARRAY_AGG(ur.role ORDER BY ur.role) FILTER (WHERE ur.role IS NOT NULL), ARRAY[]::TEXT[]) as roles
             FROM users u
             LEFT JOIN user_roles ur ON ur.user_id = u.id
-            WHERE u.id = ?
+            WHERE u.id = ? AND u.deleted_at IS NULL
             GROUP BY u.id, u.email, u.password_hash, u.name, u.created_at
             """;
 
@@ -79,27 +81,62 @@ public final class UserSqlQueries {
             """
             INSERT INTO users (email, password_hash, name, created_at)
             VALUES (?, ?, ?, ?)
-            ON CONFLICT (email) DO UPDATE
+            ON CONFLICT (email) WHERE deleted_at IS NULL DO UPDATE
             SET email = EXCLUDED.email
             RETURNING id
             """;
 
     /**
      * SQL query to update existing user.
+     * Returns email before update so caches keyed by old email can be evicted.
      */
-    public static final String UPDATE_USER =
+    public static final String UPDATE_USER_RETURNING_PREVIOUS_EMAIL =
             """
-            UPDATE users
+            WITH previous AS (
+                SELECT email FROM users WHERE id = ? FOR UPDATE
+            )
+            UPDATE users u
             SET email = ?, password_hash = ?, name = ?
-            WHERE id = ?
+            FROM previous
+            WHERE u.id = ?
+            RETURNING previous.email
             """;
 
     /**
-     * SQL query to delete user by ID.
+     * SQL query to soft-delete user and all their decks in one statement.
+     * Returns email of deleted user so caches keyed by email can be evicted.
      */
-    public static final String DELETE_USER = """
+    public static final String SOFT_DELETE_USER_RETURNING_EMAIL =
+            """
+            WITH deleted_user AS (
+                UPDATE users
+                SET deleted_at = CURRENT_TIMESTAMP
+                WHERE id = ? AND deleted_at IS NULL
+                RETURNING id, email
+            ), deleted_decks AS (
+                UPDATE decks
+                SET deleted_at = CURRENT_TIMESTAMP
+                WHERE user_id IN (SELECT id FROM deleted_user) AND deleted_at IS NULL
+            )
+            SELECT email FROM deleted_user
+            """;
+
+    /**
+     * SQL query to purge chunk of soft-deleted users whose decks are already purged.
+     * Roles, settings and reset tokens go with the user row by cascade (a few rows per user).
+     */
+    public static final String PURGE_DELETED_USERS_CHUNK =
+            """
             DELETE FROM users
-            WHERE id = ?
+            WHERE id IN (
+                SELECT u.id
+                FROM users u
+                WHERE u.id > ? AND u.deleted_at IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM decks d WHERE d.user_id = u.id)
+                ORDER BY u.id
+                LIMIT ?
+            )
+            RETURNING id
             """;
 
     /**
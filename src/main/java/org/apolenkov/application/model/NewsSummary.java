@@ -0,0 +1,19 @@
+package org.apolenkov.application.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * List projection of a news item: title, excerpt and metadata without full content.
+ *
+ * <p>Used by news lists (landing page, admin list) so that rendering cost does not depend on
+ * article length. Full content is loaded on demand by ID.</p>
+ *
+ * @param id news identifier
+ * @param title news title
+ * @param excerpt beginning of news content
+ * @param truncated true if content is longer than excerpt
+ * @param author news author
+ * @param createdAt creation timestamp (keyset pagination key together with ID)
+ */
+public record NewsSummary(
+        long id, String title, String excerpt, boolean truncated, String author, LocalDateTime createdAt) {}
@@ -0,0 +1,31 @@
+package org.apolenkov.application.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Immutable per-user defaults for new practice sessions.
+ *
+ * @param defaultCount number of cards per session (minimum 1)
+ * @param randomOrder true to present cards in random order
+ * @param direction side of the card shown first
+ */
+public record PracticeSettings(int defaultCount, boolean randomOrder, PracticeDirection direction)
+        implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Settings of users who never changed them.
+     */
+    public static final PracticeSettings DEFAULTS = new PracticeSettings(10, true, PracticeDirection.FRONT_TO_BACK);
+
+    /**
+     * Creates settings, clamping count to at least 1 and defaulting direction to front-to-back.
+     */
+    public PracticeSettings {
+        defaultCount = Math.clamp(defaultCount, 1, Integer.MAX_VALUE);
+        direction = direction == null ? PracticeDirection.FRONT_TO_BACK : direction;
+    }
+}
@@ -1,10 +1,14 @@
 package org.apolenkov.application.service.auth;
 
+import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.apolenkov.application.service.cache.LoginWarmupService;
+import org.apolenkov.application.service.security.LoginRateLimiter;
+import org.apolenkov.application.service.security.LoginThrottledException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -31,6 +35,8 @@ public class AuthService {
     // ==================== Fields ====================
 
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final LoginWarmupService loginWarmupService;
+    private final LoginRateLimiter loginRateLimiter;
 
     // ==================== Constructor ====================
 
@@ -38,13 +44,26 @@ public class AuthService {
      * Creates a new AuthService with authentication configuration.
      *
      * @param authConfig Spring Security authentication configuration
-     * @throws IllegalArgumentException if authConfig is null
+     * @param loginWarmup service preloading user's working set after login
+     * @param rateLimiter login throttling checked before password verification
+     * @throws IllegalArgumentException if any parameter is null
      */
-    public AuthService(final AuthenticationConfiguration authConfig) {
+    public AuthService(
+            final AuthenticationConfiguration authConfig,
+            final LoginWarmupService loginWarmup,
+            final LoginRateLimiter rateLimiter) {
         if (authConfig == null) {
             throw new IllegalArgumentException("AuthenticationConfiguration cannot be null");
         }
+        if (loginWarmup == null) {
+            throw new IllegalArgumentException("LoginWarmupService cannot be null");
+        }
+        if (rateLimiter == null) {
+            throw new IllegalArgumentException("LoginRateLimiter cannot be null");
+        }
         this.authenticationConfiguration = authConfig;
+        this.loginWarmupService = loginWarmup;
+        this.loginRateLimiter = rateLimiter;
     }
 
     // ==================== Public API ====================
@@ -54,21 +73,32 @@ public class AuthService {
      * Performs user authentication using Spring Security's authentication manager
      * and persists authentication context to HTTP session for subsequent requests.
      *
-     * <p>Failed authentication attempts are automatically logged in performAuthentication()
+     * <p>Attempts are throttled per client IP and per account before the password is verified,
+     * so login floods are rejected without running BCrypt.
+     * Failed authentication attempts are automatically logged in performAuthentication()
      * with detailed reason codes for security audit trail (OWASP compliance).
+     * On success, user's working set is preloaded into session caches asynchronously.
      *
      * @param username email address of user to authenticate
      * @param rawPassword plain text password for authentication
+     * @throws LoginThrottledException if too many attempts were made from the client IP or for the account
      * @throws IllegalArgumentException if authentication fails due to invalid credentials or invalid parameters
      */
     public void authenticateAndPersist(final String username, final String rawPassword) {
         validateCredentials(username, rawPassword);
 
+        LoginRateLimiter.Decision decision = loginRateLimiter.tryAcquire(getClientIpAddress(), username);
+        if (!decision.allowed()) {
+            throw new LoginThrottledException(decision.retryAfter());
+        }
+
         LOGGER.debug("Attempting authentication for user: {}", username);
 
         // performAuthentication() handles detailed audit logging for failures
         Authentication auth = performAuthentication(username, rawPassword);
         persistAuthenticationContext(auth);
+        loginRateLimiter.recordSuccess(getClientIpAddress(), username);
+        loginWarmupService.warmUpCurrentSession();
 
         AUDIT_LOGGER.info("User logged in successfully: {}", username);
     }
@@ -91,6 +121,18 @@ public class AuthService {
         }
     }
 
+    /**
+     * Gets client IP address of current Vaadin request.
+     * Proxy headers are resolved by the servlet container (server.forward-headers-strategy),
+     * so a client cannot choose its throttling key by sending X-Forwarded-For.
+     *
+     * @return client IP address, or null outside a Vaadin request
+     */
+    private static String getClientIpAddress() {
+        VaadinRequest request = VaadinService.getCurrentRequest();
+        return request != null ? request.getRemoteAddr() : null;
+    }
+
     /**
      * Performs authentication using Spring Security.
      * Handles different authentication failure scenarios with detailed audit logging.
@@ -0,0 +1,17 @@
+package org.apolenkov.application.service.cache;
+
+/**
+ * Transport for cross-node cache invalidation messages.
+ * Implementations deliver compact (cache, key) messages to every other application node.
+ */
+public interface CacheInvalidationBroadcaster {
+
+    /**
+     * Broadcasts invalidation of single cache key (or whole cache) to other nodes.
+     * Inside transaction the message is sent only after successful commit.
+     *
+     * @param cacheName cache name, for example {@link CacheInvalidationRegistry#DECKS}
+     * @param key invalidated key, or null to invalidate all entries of cache
+     */
+    void broadcast(String cacheName, Object key);
+}
@@ -0,0 +1,158 @@
+package org.apolenkov.application.service.cache;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node-wide registry of invalidations received from other nodes.
+ *
+ * <p>Session-scoped caches cannot be reached from a singleton listener, so remote invalidations
+ * are recorded here with receive time. Caches treat their entry as stale when it was cached
+ * before the latest invalidation of its key, the latest clear of its cache, or the global resync epoch.
+ * Only session cache names ({@link #isSessionCache(String)}) are recorded; application caches are
+ * evicted directly by the bus.
+ *
+ * <p>Memory is bounded: records older than the longest cache TTL are pruned, and if the registry
+ * overflows it degrades to a global epoch bump (full resync) instead of growing.
+ */
+@Component
+public class CacheInvalidationRegistry {
+
+    /**
+     * Cache name for user decks (UserDecksCache, keyed by user ID).
+     */
+    public static final String DECKS = "decks";
+
+    /**
+     * Cache name for known card IDs (KnownCardsCache, keyed by deck ID).
+     */
+    public static final String KNOWN_CARDS = "known-cards";
+
+    /**
+     * Cache name for pagination counts (PaginationCountCache, keyed by deck ID).
+     */
+    public static final String PAGINATION_COUNT = "pagination-count";
+
+    private static final Set<String> SESSION_CACHES = Set.of(DECKS, KNOWN_CARDS, PAGINATION_COUNT);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationRegistry.class);
+    private static final long DEFAULT_RETENTION_MS = 600_000L;
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final Map<InvalidationKey, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> clearedAt = new ConcurrentHashMap<>();
+    private volatile long globalEpochMillis;
+
+    @Value("${app.cache.cluster.retention-ms:600000}")
+    private long retentionMs = DEFAULT_RETENTION_MS;
+
+    @Value("${app.cache.cluster.max-entries:10000}")
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    /**
+     * Checks whether cache name belongs to a session-scoped cache tracked by this registry.
+     *
+     * @param cacheName cache name
+     * @return true for session cache names
+     */
+    public static boolean isSessionCache(final String cacheName) {
+        return cacheName != null && SESSION_CACHES.contains(cacheName);
+    }
+
+    /**
+     * Checks whether cached entry was invalidated by another node after it was cached.
+     * Hot path: a single map lookup, no allocation when nothing was invalidated.
+     *
+     * @param cacheName cache name
+     * @param key cache key
+     * @param cachedAt time the entry was cached
+     * @return true if entry must be reloaded
+     */
+    public boolean isStale(final String cacheName, final Object key, final Instant cachedAt) {
+        long cachedAtMillis = cachedAt.toEpochMilli();
+        if (cachedAtMillis <= globalEpochMillis) {
+            return true;
+        }
+        if (!clearedAt.isEmpty()) {
+            Long cleared = clearedAt.get(cacheName);
+            if (cleared != null && cachedAtMillis <= cleared) {
+                return true;
+            }
+        }
+        if (invalidatedAt.isEmpty()) {
+            return false;
+        }
+        Long invalidated = invalidatedAt.get(new InvalidationKey(cacheName, String.valueOf(key)));
+        return invalidated != null && cachedAtMillis <= invalidated;
+    }
+
+    /**
+     * Records invalidation received from another node.
+     * Names other than session caches are ignored; a null key clears only the named cache.
+     *
+     * @param cacheName cache name
+     * @param key invalidated key, or null for whole cache
+     */
+    public void recordRemoteInvalidation(final String cacheName, final String key) {
+        if (!isSessionCache(cacheName)) {
+            return;
+        }
+        if (key == null) {
+            clearedAt.put(cacheName, System.currentTimeMillis());
+            return;
+        }
+        if (invalidatedAt.size() >= maxEntries) {
+            resync();
+            return;
+        }
+        invalidatedAt.put(new InvalidationKey(cacheName, key), System.currentTimeMillis());
+    }
+
+    /**
+     * Marks every session cache entry cached so far as stale.
+     * Used after a gap in invalidation delivery (listener reconnect) when messages may have been lost.
+     */
+    public void resync() {
+        globalEpochMillis = System.currentTimeMillis();
+        invalidatedAt.clear();
+        clearedAt.clear();
+        LOGGER.info("Cache invalidation registry resynced: all session cache entries are stale");
+    }
+
+    /**
+     * Prunes records older than retention period (longest cache TTL).
+     * Entries cached before a pruned record have expired by TTL anyway.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.cluster.retention-ms:600000}")
+    public void pruneExpired() {
+        long threshold = System.currentTimeMillis() - retentionMs;
+        invalidatedAt.values().removeIf(time -> time < threshold);
+        clearedAt.values().removeIf(time -> time < threshold);
+    }
+
+    /**
+     * Returns number of recorded invalidations.
+     *
+     * @return current registry size
+     */
+    public int size() {
+        return invalidatedAt.size();
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Registry key.
+     *
+     * @param cacheName cache name
+     * @param key cache key as string
+     */
+    private record InvalidationKey(String cacheName, String key) {}
+}
@@ -0,0 +1,444 @@
+package org.apolenkov.application.service.cache;
+
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apolenkov.application.config.ui.UIConfig;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.domain.port.StatsRepository;
+import org.apolenkov.application.domain.usecase.CardUseCase;
+import org.apolenkov.application.service.stats.KnownCardsCache;
+import org.apolenkov.application.service.stats.PaginationCountCache;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Prefetches deck contents into session caches when user shows intent to open a deck.
+ *
+ * <p>Hovering, focusing or touching a deck card in the deck list starts a background load of
+ * what DeckView needs: known card IDs, card counts per filter and the first chunk of the card
+ * list (default filter). Session-scoped caches are resolved on the UI thread and filled on a
+ * virtual thread, same as {@link LoginWarmupService}.
+ *
+ * <p>Prefetch is low priority and never competes with user requests:
+ * <ul>
+ *   <li>starts only after a short intent delay and is cancelled when intent is lost</li>
+ *   <li>one prefetch in flight per session, newer intent supersedes it</li>
+ *   <li>per session minimum interval between starts, warm decks are not prefetched again</li>
+ *   <li>node-wide concurrency budget, prefetch is skipped (not queued) when exhausted</li>
+ * </ul>
+ *
+ * <p>DeckView joins an in-flight prefetch of its deck instead of repeating its queries.
+ * Prefetches used by a navigation count as hits, prefetches expiring unused count as waste
+ * (cache.prefetch.usage{result=hit|waste}).
+ */
+@Service
+public class DeckPrefetchService implements VaadinServiceInitListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckPrefetchService.class);
+    private static final FilterOption DEFAULT_FILTER = FilterOption.UNKNOWN_ONLY;
+
+    // ==================== Fields ====================
+
+    private final CardUseCase cardUseCase;
+    private final StatsRepository statsRepository;
+    private final ObjectProvider<KnownCardsCache> knownCardsCacheProvider;
+    private final ObjectProvider<PaginationCountCache> countCacheProvider;
+    private final ObjectProvider<DeckPageCache> pageCacheProvider;
+    private final int pageSize;
+
+    private final Map<VaadinSession, SessionPrefetches> sessions = new ConcurrentHashMap<>();
+    private final Semaphore budget;
+
+    private final Counter startedCounter;
+    private final Counter throttledCounter;
+    private final Counter skippedCounter;
+    private final Counter cancelledCounter;
+    private final Counter failedCounter;
+    private final Counter hitCounter;
+    private final Counter wasteCounter;
+    private final Timer durationTimer;
+
+    @Value("${app.cache.prefetch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.prefetch.intent-delay-ms:150}")
+    private long intentDelayMs;
+
+    @Value("${app.cache.prefetch.min-interval-ms:250}")
+    private long minIntervalMs;
+
+    @Value("${app.cache.prefetch.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${app.cache.prefetch.await-timeout-ms:300}")
+    private long awaitTimeoutMs;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates deck prefetch service.
+     *
+     * @param cardUseCaseValue use case for card operations
+     * @param statsRepositoryValue repository for known cards
+     * @param knownCardsCacheProviderValue provider of session known cards cache
+     * @param countCacheProviderValue provider of session pagination count cache
+     * @param pageCacheProviderValue provider of session deck page cache
+     * @param uiConfig UI configuration (chunk size of deck card list)
+     * @param meterRegistry registry for prefetch metrics
+     * @param maxConcurrent maximum number of prefetches running at once on this node
+     */
+    @SuppressWarnings("java:S107") // Prefetch spans several caches and their loaders
+    public DeckPrefetchService(
+            final CardUseCase cardUseCaseValue,
+            final StatsRepository statsRepositoryValue,
+            final ObjectProvider<KnownCardsCache> knownCardsCacheProviderValue,
+            final ObjectProvider<PaginationCountCache> countCacheProviderValue,
+            final ObjectProvider<DeckPageCache> pageCacheProviderValue,
+            final UIConfig uiConfig,
+            final MeterRegistry meterRegistry,
+            @Value("${app.cache.prefetch.max-concurrent:4}") final int maxConcurrent) {
+        this.cardUseCase = cardUseCaseValue;
+        this.statsRepository = statsRepositoryValue;
+        this.knownCardsCacheProvider = knownCardsCacheProviderValue;
+        this.countCacheProvider = countCacheProviderValue;
+        this.pageCacheProvider = pageCacheProviderValue;
+        this.pageSize = uiConfig.pagination().pageSize();
+        this.budget = new Semaphore(Math.max(1, maxConcurrent));
+
+        this.startedCounter = resultCounter(meterRegistry, "started");
+        this.throttledCounter = resultCounter(meterRegistry, "throttled");
+        this.skippedCounter = resultCounter(meterRegistry, "skipped");
+        this.cancelledCounter = resultCounter(meterRegistry, "cancelled");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.hitCounter = usageCounter(meterRegistry, "hit");
+        this.wasteCounter = usageCounter(meterRegistry, "waste");
+        this.durationTimer = Timer.builder("cache.prefetch.duration")
+                .description("Time to prefetch deck contents")
+                .register(meterRegistry);
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Signals intent to open deck: starts prefetch of its contents after intent delay.
+     * Must be called on the UI thread (session caches are resolved here).
+     * Never throws: prefetch is an optimization and must not affect the deck list.
+     *
+     * @param deckId the deck ID
+     */
+    public void prefetch(final long deckId) {
+        VaadinSession session = VaadinSession.getCurrent();
+        if (!enabled || session == null) {
+            return;
+        }
+
+        SessionPrefetches state = sessions.computeIfAbsent(session, s -> new SessionPrefetches());
+        long now = System.currentTimeMillis();
+        Prefetch prefetch;
+        synchronized (state) {
+            purgeExpired(state, now);
+            if (state.recent.containsKey(deckId) || (state.pending != null && state.pending.deckId == deckId)) {
+                return;
+            }
+            if (now - state.lastStartedAt < minIntervalMs) {
+                throttledCounter.increment();
+                return;
+            }
+            if (state.pending != null) {
+                state.pending.cancelled = true;
+            }
+            prefetch = new Prefetch(deckId);
+            state.pending = prefetch;
+            state.lastStartedAt = now;
+        }
+
+        try {
+            Targets targets = new Targets(
+                    knownCardsCacheProvider.getObject(),
+                    unwrap(countCacheProvider.getObject()),
+                    pageCacheProvider.getObject());
+            Thread.ofVirtual().name("deck-prefetch-" + deckId).start(() -> run(state, prefetch, targets));
+        } catch (RuntimeException e) {
+            finish(state, prefetch);
+            failedCounter.increment();
+            LOGGER.warn("Deck prefetch could not be started", e);
+        }
+    }
+
+    /**
+     * Signals lost intent (pointer or focus left deck card): cancels its prefetch if still pending.
+     * Queries already running are not interrupted, remaining steps are skipped.
+     *
+     * @param deckId the deck ID
+     */
+    public void cancel(final long deckId) {
+        VaadinSession session = VaadinSession.getCurrent();
+        SessionPrefetches state = session != null ? sessions.get(session) : null;
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.pending != null && state.pending.deckId == deckId) {
+                state.pending.cancelled = true;
+            }
+        }
+    }
+
+    /**
+     * Joins prefetch of deck being opened in current session.
+     * Waits briefly for an in-flight prefetch, so the view reads warm caches instead of
+     * issuing the same queries in parallel. A prefetch still waiting for its intent delay
+     * is cancelled: the view loads the data itself.
+     *
+     * @param deckId the deck ID
+     */
+    public void join(final long deckId) {
+        VaadinSession session = VaadinSession.getCurrent();
+        SessionPrefetches state = session != null ? sessions.get(session) : null;
+        if (state == null) {
+            return;
+        }
+
+        Prefetch prefetch;
+        synchronized (state) {
+            purgeExpired(state, System.currentTimeMillis());
+            prefetch = state.recent.remove(deckId);
+            if (prefetch == null && state.pending != null && state.pending.deckId == deckId) {
+                prefetch = state.pending;
+                if (!prefetch.started) {
+                    prefetch.cancelled = true;
+                    return;
+                }
+                prefetch.joined = true;
+            }
+        }
+        if (prefetch == null) {
+            return;
+        }
+
+        try {
+            prefetch.done.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debug("Deck prefetch not awaited: {}", e.getClass().getSimpleName());
+        }
+        if (prefetch.completedAt > 0) {
+            hitCounter.increment();
+        }
+    }
+
+    /**
+     * Registers session destroy listener cancelling prefetches of the session.
+     *
+     * @param event the service initialization event
+     */
+    @Override
+    public void serviceInit(final ServiceInitEvent event) {
+        event.getSource().addSessionDestroyListener(destroyEvent -> {
+            SessionPrefetches state = sessions.remove(destroyEvent.getSession());
+            if (state != null) {
+                synchronized (state) {
+                    if (state.pending != null) {
+                        state.pending.cancelled = true;
+                    }
+                    wasteCounter.increment(state.recent.size());
+                    state.recent.clear();
+                }
+            }
+        });
+    }
+
+    // ==================== Private Methods ====================
+
+    private void run(final SessionPrefetches state, final Prefetch prefetch, final Targets targets) {
+        boolean acquired = false;
+        Timer.Sample sample = Timer.start();
+        try {
+            Thread.sleep(intentDelayMs);
+            synchronized (state) {
+                prefetch.checkCancelled();
+                prefetch.started = true;
+            }
+            if (!budget.tryAcquire()) {
+                skippedCounter.increment();
+                LOGGER.debug("Deck prefetch skipped: concurrency budget exhausted");
+                return;
+            }
+            acquired = true;
+            startedCounter.increment();
+
+            preload(prefetch, targets);
+            sample.stop(durationTimer);
+            synchronized (state) {
+                prefetch.completedAt = System.currentTimeMillis();
+                // Joined prefetch is already used by navigation, others wait for it until TTL
+                if (!prefetch.joined) {
+                    state.recent.put(prefetch.deckId, prefetch);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelledCounter.increment();
+        } catch (CancellationException e) {
+            cancelledCounter.increment();
+            LOGGER.debug("Deck prefetch cancelled: deckId={}", prefetch.deckId);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            LOGGER.warn("Deck prefetch failed: deckId={}", prefetch.deckId, e);
+        } finally {
+            if (acquired) {
+                budget.release();
+            }
+            finish(state, prefetch);
+        }
+    }
+
+    private void preload(final Prefetch prefetch, final Targets targets) {
+        long deckId = prefetch.deckId;
+
+        // 1. Known card IDs (card list row status, filtered counts)
+        Set<Long> known = targets.knownCards().getKnownCards(deckId, () -> statsRepository.getKnownCardIds(deckId));
+        prefetch.checkCancelled();
+
+        // 2. Card counts: deck size, filtered counts follow from it without extra COUNT queries
+        long size = targets.counts()
+                .getCounts(List.of(deckId), FilterOption.ALL, cardUseCase::countByDeckIds)
+                .getOrDefault(deckId, 0L);
+        targets.counts().preload(deckId, FilterOption.KNOWN_ONLY, known.size());
+        targets.counts().preload(deckId, FilterOption.UNKNOWN_ONLY, Math.max(0, size - known.size()));
+        prefetch.checkCancelled();
+
+        // 3. First chunk of card list with default filter
+        targets.pages()
+                .getPage(
+                        deckId,
+                        DEFAULT_FILTER,
+                        0,
+                        pageSize,
+                        () -> cardUseCase.getCardsWithFilter(
+                                deckId, null, DEFAULT_FILTER, PageRequest.of(0, pageSize)));
+
+        LOGGER.debug("Deck prefetch completed: deckId={}, cards={}, known={}", deckId, size, known.size());
+    }
+
+    private static void finish(final SessionPrefetches state, final Prefetch prefetch) {
+        synchronized (state) {
+            if (state.pending == prefetch) {
+                state.pending = null;
+            }
+        }
+        prefetch.done.complete(null);
+    }
+
+    /**
+     * Drops completed prefetches older than TTL (counted as waste). Caller holds state lock.
+     */
+    private void purgeExpired(final SessionPrefetches state, final long now) {
+        Iterator<Prefetch> iterator = state.recent.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().completedAt > ttlMs) {
+                iterator.remove();
+                wasteCounter.increment();
+            }
+        }
+    }
+
+    private static Counter resultCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.prefetch")
+                .description("Deck prefetches by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter usageCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.prefetch.usage")
+                .description("Completed deck prefetches used by navigation (hit) or expired unused (waste)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resolves target of session-scoped proxy so it can be used off the request thread.
+     */
+    private static PaginationCountCache unwrap(final PaginationCountCache cache) {
+        if (cache instanceof ScopedObject scoped) {
+            return (PaginationCountCache) scoped.getTargetObject();
+        }
+        return cache;
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Session cache instances resolved on the UI thread.
+     *
+     * @param knownCards known card IDs cache
+     * @param counts pagination count cache (proxy target)
+     * @param pages deck page cache
+     */
+    private record Targets(KnownCardsCache knownCards, PaginationCountCache counts, DeckPageCache pages) {}
+
+    /**
+     * Prefetch state of one session. Guarded by its own monitor.
+     */
+    private static final class SessionPrefetches {
+        private final Map<Long, Prefetch> recent = new HashMap<>();
+        private Prefetch pending;
+        private long lastStartedAt;
+    }
+
+    /**
+     * Prefetch of one deck.
+     */
+    private static final class Prefetch {
+        private final long deckId;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile boolean cancelled;
+        private volatile boolean started;
+        private volatile boolean joined;
+        private volatile long completedAt;
+
+        Prefetch(final long deckIdValue) {
+            this.deckId = deckIdValue;
+        }
+
+        void checkCancelled() {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+        }
+    }
+
+    /**
+     * Thrown between prefetch steps after cancellation.
+     */
+    private static final class CancellationException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        CancellationException() {
+            super(null, null, false, false);
+        }
+    }
+}
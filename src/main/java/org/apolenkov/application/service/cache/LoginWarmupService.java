@@ -0,0 +1,335 @@
+package org.apolenkov.application.service.cache;
+
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apolenkov.application.config.ui.UIConfig;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.domain.port.StatsRepository;
+import org.apolenkov.application.domain.usecase.CardUseCase;
+import org.apolenkov.application.domain.usecase.DeckUseCase;
+import org.apolenkov.application.domain.usecase.UserUseCase;
+import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.stats.KnownCardsCache;
+import org.apolenkov.application.service.stats.PaginationCountCache;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
+import org.apolenkov.application.views.deck.cache.UserDecksCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Preloads user's working set into session caches right after login.
+ *
+ * <p>Runs on a virtual thread: deck list, card counts per filter, known card IDs and the first
+ * page of the most recently practiced deck. Session-scoped cache instances are resolved on the
+ * login request thread (scopes are not available on the warmup thread) and filled directly.
+ *
+ * <p>Bounded by a node-wide concurrency budget (warmup is skipped, not queued, when exhausted)
+ * and cancelled when the Vaadin session is destroyed. First views may briefly await an in-flight
+ * warmup instead of issuing the same queries in parallel.
+ */
+@Service
+public class LoginWarmupService implements VaadinServiceInitListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginWarmupService.class);
+
+    // ==================== Fields ====================
+
+    private final DeckUseCase deckUseCase;
+    private final CardUseCase cardUseCase;
+    private final UserUseCase userUseCase;
+    private final StatsRepository statsRepository;
+    private final ObjectProvider<UserDecksCache> decksCacheProvider;
+    private final ObjectProvider<KnownCardsCache> knownCardsCacheProvider;
+    private final ObjectProvider<PaginationCountCache> countCacheProvider;
+    private final ObjectProvider<DeckPageCache> pageCacheProvider;
+    private final int pageSize;
+
+    private final Map<VaadinSession, Warmup> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore budget;
+
+    private final Counter completedCounter;
+    private final Counter skippedCounter;
+    private final Counter cancelledCounter;
+    private final Counter failedCounter;
+    private final Timer durationTimer;
+
+    @Value("${app.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.warmup.await-timeout-ms:300}")
+    private long awaitTimeoutMs;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates login warmup service.
+     *
+     * @param deckUseCaseValue use case for deck operations
+     * @param cardUseCaseValue use case for card operations
+     * @param userUseCaseValue use case for resolving current user
+     * @param statsRepositoryValue repository for known cards and practice history
+     * @param decksCacheProviderValue provider of session deck cache
+     * @param knownCardsCacheProviderValue provider of session known cards cache
+     * @param countCacheProviderValue provider of session pagination count cache
+     * @param pageCacheProviderValue provider of session deck page cache
+     * @param uiConfig UI configuration (page size of deck card list)
+     * @param meterRegistry registry for warmup metrics
+     * @param maxConcurrent maximum number of warmups running at once on this node
+     */
+    @SuppressWarnings("java:S107") // Warmup spans several caches and their loaders
+    public LoginWarmupService(
+            final DeckUseCase deckUseCaseValue,
+            final CardUseCase cardUseCaseValue,
+            final UserUseCase userUseCaseValue,
+            final StatsRepository statsRepositoryValue,
+            final ObjectProvider<UserDecksCache> decksCacheProviderValue,
+            final ObjectProvider<KnownCardsCache> knownCardsCacheProviderValue,
+            final ObjectProvider<PaginationCountCache> countCacheProviderValue,
+            final ObjectProvider<DeckPageCache> pageCacheProviderValue,
+            final UIConfig uiConfig,
+            final MeterRegistry meterRegistry,
+            @Value("${app.cache.warmup.max-concurrent:16}") final int maxConcurrent) {
+        this.deckUseCase = deckUseCaseValue;
+        this.cardUseCase = cardUseCaseValue;
+        this.userUseCase = userUseCaseValue;
+        this.statsRepository = statsRepositoryValue;
+        this.decksCacheProvider = decksCacheProviderValue;
+        this.knownCardsCacheProvider = knownCardsCacheProviderValue;
+        this.countCacheProvider = countCacheProviderValue;
+        this.pageCacheProvider = pageCacheProviderValue;
+        this.pageSize = uiConfig.pagination().pageSize();
+        this.budget = new Semaphore(Math.max(1, maxConcurrent));
+
+        this.completedCounter = resultCounter(meterRegistry, "completed");
+        this.skippedCounter = resultCounter(meterRegistry, "skipped");
+        this.cancelledCounter = resultCounter(meterRegistry, "cancelled");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.durationTimer = Timer.builder("cache.warmup.duration")
+                .description("Time to preload user's working set after login")
+                .register(meterRegistry);
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Starts warmup for the user authenticated in current request.
+     * Must be called on the login request thread (after security context is set).
+     * Never throws: warmup is an optimization and must not affect login.
+     */
+    public void warmUpCurrentSession() {
+        VaadinSession session = VaadinSession.getCurrent();
+        if (!enabled || session == null) {
+            return;
+        }
+        if (!budget.tryAcquire()) {
+            skippedCounter.increment();
+            LOGGER.debug("Login warmup skipped: concurrency budget exhausted");
+            return;
+        }
+
+        try {
+            long userId = userUseCase.getCurrentUserId();
+            Targets targets = new Targets(
+                    decksCacheProvider.getObject(),
+                    knownCardsCacheProvider.getObject(),
+                    unwrap(countCacheProvider.getObject()),
+                    pageCacheProvider.getObject());
+
+            Warmup warmup = new Warmup();
+            Warmup previous = inFlight.put(session, warmup);
+            if (previous != null) {
+                previous.cancel();
+            }
+            warmup.thread = Thread.ofVirtual()
+                    .name("login-warmup-" + userId)
+                    .start(() -> run(session, warmup, userId, targets));
+        } catch (RuntimeException e) {
+            budget.release();
+            failedCounter.increment();
+            LOGGER.warn("Login warmup could not be started", e);
+        }
+    }
+
+    /**
+     * Waits briefly for warmup of current session if it is still running.
+     * Lets the first view read warm caches instead of duplicating warmup queries.
+     * Blocks the caller, so it must run off the session lock (view data loads, not UI event handlers).
+     */
+    public void awaitCurrentSession() {
+        VaadinSession session = VaadinSession.getCurrent();
+        Warmup warmup = session != null ? inFlight.get(session) : null;
+        if (warmup == null) {
+            return;
+        }
+        try {
+            warmup.done.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debug("Login warmup not awaited: {}", e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Registers session destroy listener cancelling in-flight warmups.
+     *
+     * @param event the service initialization event
+     */
+    @Override
+    public void serviceInit(final ServiceInitEvent event) {
+        event.getSource().addSessionDestroyListener(destroyEvent -> {
+            Warmup warmup = inFlight.remove(destroyEvent.getSession());
+            if (warmup != null) {
+                warmup.cancel();
+            }
+        });
+    }
+
+    // ==================== Private Methods ====================
+
+    private void run(final VaadinSession session, final Warmup warmup, final long userId, final Targets targets) {
+        Timer.Sample sample = Timer.start();
+        try {
+            preload(warmup, userId, targets);
+            completedCounter.increment();
+            sample.stop(durationTimer);
+        } catch (CancellationException e) {
+            cancelledCounter.increment();
+            LOGGER.debug("Login warmup cancelled for userId={}", userId);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            LOGGER.warn("Login warmup failed for userId={}", userId, e);
+        } finally {
+            inFlight.remove(session, warmup);
+            warmup.done.complete(null);
+            budget.release();
+        }
+    }
+
+    private void preload(final Warmup warmup, final long userId, final Targets targets) {
+        // 1. Deck list (same loader as DeckListPresenter)
+        List<Deck> decks = targets.decks().getDecks(userId, () -> deckUseCase.getDecksByUserId(userId));
+        List<Long> deckIds = decks.stream().map(Deck::getId).toList();
+        if (deckIds.isEmpty()) {
+            return;
+        }
+        warmup.checkCancelled();
+
+        // 2. Progress counters: card counts and known card IDs in two batch queries
+        Map<Long, Long> sizes = targets.counts().getCounts(deckIds, FilterOption.ALL, cardUseCase::countByDeckIds);
+        warmup.checkCancelled();
+        Map<Long, Set<Long>> known = targets.knownCards()
+                .getKnownCardsBatch(Set.copyOf(deckIds), () -> statsRepository.getKnownCardIdsBatch(deckIds));
+        warmup.checkCancelled();
+
+        // Filtered counts without search follow exactly from the two above (no extra COUNT queries)
+        for (Long deckId : deckIds) {
+            long size = sizes.getOrDefault(deckId, 0L);
+            long knownCount = known.getOrDefault(deckId, Set.of()).size();
+            targets.counts().preload(deckId, FilterOption.KNOWN_ONLY, knownCount);
+            targets.counts().preload(deckId, FilterOption.UNKNOWN_ONLY, Math.max(0, size - knownCount));
+        }
+
+        // 3. First page (default filter) of most recently practiced deck
+        Optional<Long> lastDeckId =
+                statsRepository.findLastPracticedDeckId(userId).filter(deckIds::contains);
+        warmup.checkCancelled();
+        lastDeckId.ifPresent(deckId -> targets.pages()
+                .getPage(
+                        deckId,
+                        FilterOption.UNKNOWN_ONLY,
+                        0,
+                        pageSize,
+                        () -> cardUseCase.getCardsWithFilter(
+                                deckId, null, FilterOption.UNKNOWN_ONLY, PageRequest.of(0, pageSize))));
+
+        LOGGER.debug(
+                "Login warmup completed: userId={}, decks={}, lastPracticedDeck={}",
+                userId,
+                deckIds.size(),
+                lastDeckId.orElse(null));
+    }
+
+    private static Counter resultCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.warmup")
+                .description("Login warmups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resolves target of session-scoped proxy so it can be used off the request thread.
+     */
+    private static PaginationCountCache unwrap(final PaginationCountCache cache) {
+        if (cache instanceof ScopedObject scoped) {
+            return (PaginationCountCache) scoped.getTargetObject();
+        }
+        return cache;
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Session cache instances resolved on the login request thread.
+     *
+     * @param decks deck list cache
+     * @param knownCards known card IDs cache
+     * @param counts pagination count cache (proxy target)
+     * @param pages deck page cache
+     */
+    private record Targets(
+            UserDecksCache decks, KnownCardsCache knownCards, PaginationCountCache counts, DeckPageCache pages) {}
+
+    /**
+     * In-flight warmup handle.
+     */
+    private static final class Warmup {
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile boolean cancelled;
+        private volatile Thread thread;
+
+        void cancel() {
+            cancelled = true;
+            Thread t = thread;
+            if (t != null) {
+                t.interrupt();
+            }
+        }
+
+        void checkCancelled() {
+            if (cancelled || Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+        }
+    }
+
+    /**
+     * Thrown between warmup steps after cancellation.
+     */
+    private static final class CancellationException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        CancellationException() {
+            super(null, null, false, false);
+        }
+    }
+}
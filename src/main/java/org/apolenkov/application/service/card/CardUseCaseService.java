@@ -4,17 +4,18 @@ import jakarta.validation.Validator;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.domain.port.CardRepository;
 import org.apolenkov.application.domain.usecase.CardUseCase;
 import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.apolenkov.application.service.stats.PaginationCountCache;
 import org.apolenkov.application.service.stats.event.CacheInvalidationEvent;
 import org.apolenkov.application.views.core.constants.CoreConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +35,7 @@ public class CardUseCaseService implements CardUseCase {
     private final CardRepository cardRepository;
     private final Validator validator;
     private final PaginationCountCache paginationCountCache;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher eventPublisher;
 
     // ==================== Constructor ====================
 
@@ -44,13 +45,13 @@ public class CardUseCaseService implements CardUseCase {
      * @param cardRepositoryValue the repository for card persistence operations
      * @param validatorValue the validator for card data validation
      * @param paginationCountCacheValue the cache for pagination count queries
-     * @param eventPublisherValue the Spring event publisher for cache invalidation events
+     * @param eventPublisherValue the transaction-aware publisher for cache invalidation events
      */
     public CardUseCaseService(
             final CardRepository cardRepositoryValue,
             final Validator validatorValue,
             final PaginationCountCache paginationCountCacheValue,
-            final ApplicationEventPublisher eventPublisherValue) {
+            final DomainEventPublisher eventPublisherValue) {
         this.cardRepository = cardRepositoryValue;
         this.validator = validatorValue;
         this.paginationCountCache = paginationCountCacheValue;
@@ -60,15 +61,16 @@ public class CardUseCaseService implements CardUseCase {
     // ==================== Public API ====================
 
     /**
-     * Returns cards belonging to specific deck.
+     * Visits cards of deck through streaming cursor.
+     * Runs in read-only transaction so JDBC driver honors cursor fetch size.
      *
-     * @param deckId the ID of the deck to retrieve cards for
-     * @return a list of cards belonging to the specified deck
+     * @param deckId the ID of the deck to visit cards for
+     * @param action callback invoked for each card
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Card> getCardsByDeckId(final long deckId) {
-        return cardRepository.findByDeckId(deckId);
+    public void forEachCardInDeck(final long deckId, final Consumer<Card> action) {
+        cardRepository.forEachByDeckId(deckId, action);
     }
 
     /**
@@ -116,14 +118,17 @@ public class CardUseCaseService implements CardUseCase {
         boolean isNew = card.getId() == null;
         cardRepository.save(card);
 
-        // Invalidate pagination count cache for this deck
-        paginationCountCache.invalidate(card.getDeckId());
-        LOGGER.debug("Pagination count cache invalidated after save for deckId={}", card.getDeckId());
+        // Invalidate pagination count cache for this deck after commit (no re-fill with pre-commit data)
+        long deckId = card.getDeckId();
+        eventPublisher.afterCommit(() -> {
+            paginationCountCache.invalidate(deckId);
+            LOGGER.debug("Pagination count cache invalidated after save for deckId={}", deckId);
+        });
 
         // Publish cache invalidation event for metrics
         CacheInvalidationEvent event =
-                CacheInvalidationEvent.of(CACHE_TYPE, card.getDeckId(), isNew ? "card-created" : "card-updated");
-        eventPublisher.publishEvent(event);
+                CacheInvalidationEvent.of(CACHE_TYPE, deckId, isNew ? "card-created" : "card-updated");
+        eventPublisher.publish(event);
 
         // Audit log with explicit action (truncate frontText for readability)
         String frontTextTruncated = truncate(card.getFrontText());
@@ -146,7 +151,7 @@ public class CardUseCaseService implements CardUseCase {
 
     /**
      * Deletes card by ID.
-     * Logs card details before deletion for audit trail.
+     * Logs details of deleted card, returned by the delete statement, for audit trail.
      *
      * @param id the unique identifier of the card to delete
      */
@@ -155,23 +160,23 @@ public class CardUseCaseService implements CardUseCase {
     public void deleteCard(final long id) {
         LOGGER.debug("Deleting card with ID: {}", id);
 
-        // Get card info before deletion for audit logging and cache invalidation
-        cardRepository.findById(id).ifPresent(card -> {
+        // Deleted row is returned by the delete itself for audit logging and cache invalidation
+        cardRepository.deleteById(id).ifPresent(card -> {
             String frontTextTruncated = truncate(card.getFrontText());
             AUDIT_LOGGER.warn(
                     "Card deleted: cardId={}, deckId={}, front='{}'", id, card.getDeckId(), frontTextTruncated);
 
-            // Invalidate pagination count cache for this deck
-            paginationCountCache.invalidate(card.getDeckId());
-            LOGGER.debug("Pagination count cache invalidated after delete for deckId={}", card.getDeckId());
+            // Invalidate pagination count cache for this deck after commit
+            eventPublisher.afterCommit(() -> {
+                paginationCountCache.invalidate(card.getDeckId());
+                LOGGER.debug("Pagination count cache invalidated after delete for deckId={}", card.getDeckId());
+            });
 
             // Publish cache invalidation event for metrics
             CacheInvalidationEvent event = CacheInvalidationEvent.of(CACHE_TYPE, card.getDeckId(), "card-deleted");
-            eventPublisher.publishEvent(event);
+            eventPublisher.publish(event);
         });
 
-        cardRepository.deleteById(id);
-
         LOGGER.info("Card deleted successfully: id={}", id);
     }
 
@@ -6,14 +6,13 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apolenkov.application.domain.event.DeckModifiedEvent;
 import org.apolenkov.application.domain.event.DeckModifiedEvent.ModificationType;
-import org.apolenkov.application.domain.port.CardRepository;
 import org.apolenkov.application.domain.port.DeckRepository;
 import org.apolenkov.application.domain.usecase.DeckUseCase;
 import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.apolenkov.application.views.core.constants.CoreConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +28,8 @@ public class DeckUseCaseService implements DeckUseCase {
     // ==================== Fields ====================
 
     private final DeckRepository deckRepository;
-    private final CardRepository cardRepository;
     private final Validator validator;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher eventPublisher;
 
     // ==================== Constructor ====================
 
@@ -39,31 +37,25 @@ public class DeckUseCaseService implements DeckUseCase {
      * Creates service with required dependencies.
      *
      * @param deckRepositoryValue repository for deck operations
-     * @param cardRepositoryValue repository for card operations
      * @param validatorValue validator for input validation
-     * @param eventPublisherValue event publisher for domain events
+     * @param eventPublisherValue transaction-aware publisher for domain events
      * @throws IllegalArgumentException if any parameter is null
      */
     public DeckUseCaseService(
             final DeckRepository deckRepositoryValue,
-            final CardRepository cardRepositoryValue,
             final Validator validatorValue,
-            final ApplicationEventPublisher eventPublisherValue) {
+            final DomainEventPublisher eventPublisherValue) {
         if (deckRepositoryValue == null) {
             throw new IllegalArgumentException("DeckRepository cannot be null");
         }
-        if (cardRepositoryValue == null) {
-            throw new IllegalArgumentException("CardRepository cannot be null");
-        }
         if (validatorValue == null) {
             throw new IllegalArgumentException("Validator cannot be null");
         }
         if (eventPublisherValue == null) {
-            throw new IllegalArgumentException("ApplicationEventPublisher cannot be null");
+            throw new IllegalArgumentException("DomainEventPublisher cannot be null");
         }
 
         this.deckRepository = deckRepositoryValue;
-        this.cardRepository = cardRepositoryValue;
         this.validator = validatorValue;
         this.eventPublisher = eventPublisherValue;
     }
@@ -164,8 +156,8 @@ public class DeckUseCaseService implements DeckUseCase {
                     savedDeck.getTitle(),
                     savedDeck.getUserId());
 
-            // Publish event to invalidate UI caches
-            eventPublisher.publishEvent(
+            // Publish event to invalidate UI caches (delivered after commit)
+            eventPublisher.publish(
                     new DeckModifiedEvent(this, savedDeck.getUserId(), savedDeck.getId(), ModificationType.CREATED));
         } else {
             AUDIT_LOGGER.info(
@@ -174,8 +166,8 @@ public class DeckUseCaseService implements DeckUseCase {
                     savedDeck.getTitle(),
                     savedDeck.getUserId());
 
-            // Publish event to invalidate UI caches
-            eventPublisher.publishEvent(
+            // Publish event to invalidate UI caches (delivered after commit)
+            eventPublisher.publish(
                     new DeckModifiedEvent(this, savedDeck.getUserId(), savedDeck.getId(), ModificationType.UPDATED));
         }
 
@@ -184,6 +176,8 @@ public class DeckUseCaseService implements DeckUseCase {
 
     /**
      * Deletes deck and all associated cards.
+     * The deck is hidden at once; cards, known cards and statistics are purged in background
+     * ({@code DeletedDecksPurgeTask}), so deleting large decks does not hold locks while the user waits.
      *
      * @param id the unique identifier of the deck to delete
      * @throws IllegalArgumentException if id is invalid
@@ -194,8 +188,8 @@ public class DeckUseCaseService implements DeckUseCase {
     public void deleteDeck(final long id) {
         LOGGER.debug("Deleting deck with ID {}", id);
 
-        // Get deck info before deletion for logging
-        Optional<Deck> deckOpt = deckRepository.findById(id);
+        // Deleted row is returned by the update itself for audit logging and event publishing
+        Optional<Deck> deckOpt = deckRepository.deleteById(id);
         if (deckOpt.isEmpty()) {
             LOGGER.warn("Attempted to delete non-existent deck {}", id);
             return;
@@ -203,16 +197,10 @@ public class DeckUseCaseService implements DeckUseCase {
 
         Deck deck = deckOpt.get();
 
-        // Delete associated cards first to maintain referential integrity
-        cardRepository.deleteByDeckId(id);
-        LOGGER.debug("Deleted cards for deck {}", id);
-
-        deckRepository.deleteById(id);
-
         // Audit log (writes to both audit.log and application.log)
         AUDIT_LOGGER.warn("Deck deleted: id={}, title='{}', userId={}", id, deck.getTitle(), deck.getUserId());
 
-        // Publish event to invalidate UI caches
-        eventPublisher.publishEvent(new DeckModifiedEvent(this, deck.getUserId(), id, ModificationType.DELETED));
+        // Publish event to invalidate UI caches (delivered after commit)
+        eventPublisher.publish(new DeckModifiedEvent(this, deck.getUserId(), id, ModificationType.DELETED));
     }
 }
@@ -0,0 +1,134 @@
+package org.apolenkov.application.service.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apolenkov.application.domain.event.CoalescingEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction-aware publisher for domain events.
+ *
+ * <p>Dispatch rules:
+ * <ul>
+ *   <li>Inside transaction: events and actions are buffered and delivered after commit, discarded on rollback</li>
+ *   <li>Outside transaction: delivered immediately</li>
+ *   <li>{@link CoalescingEvent}: equal events in one transaction are delivered once</li>
+ * </ul>
+ *
+ * <p>Listeners run on the committing thread, so session-scoped caches keep access to their scope.
+ * Deferring to after commit prevents caches from being re-filled with pre-commit data.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainEventPublisher.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates DomainEventPublisher with required dependencies.
+     *
+     * @param eventPublisherValue Spring event publisher used for actual delivery
+     * @throws IllegalArgumentException if eventPublisherValue is null
+     */
+    public DomainEventPublisher(final ApplicationEventPublisher eventPublisherValue) {
+        if (eventPublisherValue == null) {
+            throw new IllegalArgumentException("ApplicationEventPublisher cannot be null");
+        }
+        this.eventPublisher = eventPublisherValue;
+    }
+
+    /**
+     * Publishes event after current transaction commits (or immediately without transaction).
+     *
+     * @param event event to publish
+     * @throws IllegalArgumentException if event is null
+     */
+    public void publish(final Object event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        Object key = event instanceof CoalescingEvent coalescing ? coalescing.coalescingKey() : new Object();
+        defer(key, () -> eventPublisher.publishEvent(event));
+    }
+
+    /**
+     * Runs action after current transaction commits (or immediately without transaction).
+     * Use for direct cache invalidation that must not race with uncommitted data.
+     *
+     * @param action action to run
+     * @throws IllegalArgumentException if action is null
+     */
+    public void afterCommit(final Runnable action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        defer(new Object(), action);
+    }
+
+    /**
+     * Buffers dispatch under key in transaction-bound queue, or runs it immediately.
+     *
+     * @param key coalescing key (unique object when coalescing is not wanted)
+     * @param dispatch dispatch to run
+     */
+    private void defer(final Object key, final Runnable dispatch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch.run();
+            return;
+        }
+
+        PendingDispatches pending = (PendingDispatches) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDispatches(this);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        if (pending.dispatches.putIfAbsent(key, dispatch) != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Coalesced duplicate event in transaction: key={}", key);
+        }
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Transaction-bound queue of deferred dispatches in registration order.
+     */
+    private static final class PendingDispatches implements TransactionSynchronization {
+        private final Object resourceKey;
+        private final Map<Object, Runnable> dispatches = new LinkedHashMap<>();
+
+        PendingDispatches(final Object resourceKeyValue) {
+            this.resourceKey = resourceKeyValue;
+        }
+
+        @Override
+        public void afterCommit() {
+            List<Runnable> toRun = new ArrayList<>(dispatches.values());
+            dispatches.clear();
+            for (Runnable dispatch : toRun) {
+                try {
+                    dispatch.run();
+                } catch (RuntimeException e) {
+                    // Transaction is already committed: a failing listener must not fail the caller
+                    LOGGER.error("After-commit event dispatch failed", e);
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            dispatches.clear();
+            if (TransactionSynchronizationManager.hasResource(resourceKey)) {
+                TransactionSynchronizationManager.unbindResource(resourceKey);
+            }
+        }
+    }
+}
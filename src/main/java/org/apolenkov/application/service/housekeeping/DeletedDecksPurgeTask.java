@@ -0,0 +1,55 @@
+package org.apolenkov.application.service.housekeeping;
+
+import java.util.Optional;
+import org.apolenkov.application.domain.port.DeckRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges soft-deleted decks one at a time: known cards, statistics and cards in chunks, then the deck row.
+ *
+ * <p>The cursor stays on a deck until it is fully purged, then moves to the next deleted deck. Progress
+ * is the data itself: an interrupted or failed purge resumes where it stopped on the next run.
+ */
+@Component
+public class DeletedDecksPurgeTask implements HousekeepingTask {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeletedDecksPurgeTask.class);
+
+    private final DeckRepository deckRepository;
+
+    /**
+     * Creates task.
+     *
+     * @param deckRepositoryValue deck repository
+     * @throws IllegalArgumentException if deckRepositoryValue is null
+     */
+    public DeletedDecksPurgeTask(final DeckRepository deckRepositoryValue) {
+        if (deckRepositoryValue == null) {
+            throw new IllegalArgumentException("DeckRepository cannot be null");
+        }
+        this.deckRepository = deckRepositoryValue;
+    }
+
+    @Override
+    public String name() {
+        return "deleted-decks";
+    }
+
+    @Override
+    public Chunk purgeChunk(final long cursor, final int limit) {
+        Optional<Long> next = deckRepository.findNextDeletedId(cursor);
+        if (next.isEmpty()) {
+            return new Chunk(0, cursor, true);
+        }
+        long deckId = next.get();
+        int purged = deckRepository.purgeDeletedChunk(deckId, limit);
+        if (purged < limit) {
+            LOGGER.info("Deleted deck purged: id={}", deckId);
+            return new Chunk(purged, deckId, false);
+        }
+        // Deck not finished yet: next chunk continues with the same deck
+        return new Chunk(purged, deckId - 1, false);
+    }
+}
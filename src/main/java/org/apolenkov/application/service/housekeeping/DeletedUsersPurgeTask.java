@@ -0,0 +1,39 @@
+package org.apolenkov.application.service.housekeeping;
+
+import java.util.List;
+import org.apolenkov.application.domain.port.UserRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges soft-deleted users once {@link DeletedDecksPurgeTask} has purged all their decks.
+ * Users with decks still waiting are picked up by a later run.
+ */
+@Component
+public class DeletedUsersPurgeTask implements HousekeepingTask {
+
+    private final UserRepository userRepository;
+
+    /**
+     * Creates task.
+     *
+     * @param userRepositoryValue user repository
+     * @throws IllegalArgumentException if userRepositoryValue is null
+     */
+    public DeletedUsersPurgeTask(final UserRepository userRepositoryValue) {
+        if (userRepositoryValue == null) {
+            throw new IllegalArgumentException("UserRepository cannot be null");
+        }
+        this.userRepository = userRepositoryValue;
+    }
+
+    @Override
+    public String name() {
+        return "deleted-users";
+    }
+
+    @Override
+    public Chunk purgeChunk(final long cursor, final int limit) {
+        List<Long> purged = userRepository.purgeDeletedChunk(cursor, limit);
+        return Chunk.ofDeletedIds(purged, cursor, limit);
+    }
+}
@@ -0,0 +1,46 @@
+package org.apolenkov.application.service.housekeeping;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apolenkov.application.domain.port.PasswordResetTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges password reset tokens that expired longer than retention ago (used tokens expire as well).
+ */
+@Component
+public class ExpiredResetTokensTask implements HousekeepingTask {
+
+    private final PasswordResetTokenRepository tokenRepository;
+    private final Duration retention;
+
+    /**
+     * Creates task.
+     *
+     * @param tokenRepositoryValue password reset token repository
+     * @param retentionValue time expired tokens are kept (for "expired" instead of "invalid" feedback)
+     * @throws IllegalArgumentException if tokenRepositoryValue is null
+     */
+    public ExpiredResetTokensTask(
+            final PasswordResetTokenRepository tokenRepositoryValue,
+            @Value("${app.housekeeping.reset-tokens.retention:P1D}") final Duration retentionValue) {
+        if (tokenRepositoryValue == null) {
+            throw new IllegalArgumentException("PasswordResetTokenRepository cannot be null");
+        }
+        this.tokenRepository = tokenRepositoryValue;
+        this.retention = retentionValue;
+    }
+
+    @Override
+    public String name() {
+        return "password-reset-tokens";
+    }
+
+    @Override
+    public Chunk purgeChunk(final long cursor, final int limit) {
+        List<Long> deleted = tokenRepository.deleteExpiredChunk(cursor, LocalDateTime.now().minus(retention), limit);
+        return Chunk.ofDeletedIds(deleted, cursor, limit);
+    }
+}
@@ -0,0 +1,310 @@
+package org.apolenkov.application.service.housekeeping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apolenkov.application.service.scheduling.ClusterLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs registered {@link HousekeepingTask}s periodically, deleting obsolete rows in small chunks.
+ *
+ * <p>Each task walks its table in identifier order (keyset cursor) and deletes at most
+ * {@code chunk-size} rows per chunk of auto-committed statements, pausing between chunks. Chunks slower than
+ * {@code slow-chunk} and failed chunks double the pause (up to {@code max-pause}), so cleanup yields to
+ * foreground traffic when the database is busy. A run stops after {@code max-run-time}; the rest is
+ * left for the next run, so tables are kept lean continuously instead of in large maintenance deletes.
+ *
+ * <p>Every task holds its own cluster lock ({@link ClusterLockService}) while it runs, so with several
+ * nodes each task runs on one node at a time and adding nodes does not multiply cleanup load.
+ */
+@Component
+@ConditionalOnProperty(name = "app.housekeeping.enabled", havingValue = "true", matchIfMissing = true)
+public class HousekeepingService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HousekeepingService.class);
+
+    private static final String LOCK_PREFIX = "housekeeping:";
+    private static final String OUTCOME_COMPLETED = "completed";
+    private static final String OUTCOME_BUDGET = "budget";
+    private static final String OUTCOME_FAILED = "failed";
+    private static final String OUTCOME_INTERRUPTED = "interrupted";
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // ==================== Fields ====================
+
+    private final List<HousekeepingTask> tasks;
+    private final ClusterLockService lockService;
+    private final MeterRegistry meterRegistry;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates housekeeping service.
+     *
+     * @param tasksValue registered cleanup tasks
+     * @param lockServiceValue cluster-wide locks
+     * @param meterRegistryValue registry for purged rows and run duration metrics
+     * @param chunkSize rows deleted per statement
+     * @param pause pause between chunks
+     * @param maxPause upper bound of pause after slow or failed chunks
+     * @param slowChunk chunks taking longer double the pause
+     * @param maxRunTime time budget of one task per run
+     * @param maxRetries consecutive failed chunks tolerated before run is abandoned
+     */
+    @Autowired
+    @SuppressWarnings("java:S107") // Chunking, backoff and budget are independent settings
+    public HousekeepingService(
+            final List<HousekeepingTask> tasksValue,
+            final ClusterLockService lockServiceValue,
+            final MeterRegistry meterRegistryValue,
+            @Value("${app.housekeeping.chunk-size:500}") final int chunkSize,
+            @Value("${app.housekeeping.pause:PT0.05S}") final Duration pause,
+            @Value("${app.housekeeping.max-pause:PT5S}") final Duration maxPause,
+            @Value("${app.housekeeping.slow-chunk:PT0.5S}") final Duration slowChunk,
+            @Value("${app.housekeeping.max-run-time:PT5M}") final Duration maxRunTime,
+            @Value("${app.housekeeping.max-retries:3}") final int maxRetries) {
+        this(
+                tasksValue,
+                lockServiceValue,
+                meterRegistryValue,
+                new Settings(chunkSize, pause, maxPause, slowChunk, maxRunTime, maxRetries),
+                System::nanoTime,
+                Thread::sleep);
+    }
+
+    /**
+     * Creates housekeeping service with explicit clock and sleeper.
+     *
+     * @param tasksValue registered cleanup tasks
+     * @param lockServiceValue cluster-wide locks
+     * @param meterRegistryValue registry for metrics
+     * @param settingsValue chunking, backoff and budget settings
+     * @param nanoClockValue monotonic clock in nanoseconds
+     * @param sleeperValue pause implementation
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    HousekeepingService(
+            final List<HousekeepingTask> tasksValue,
+            final ClusterLockService lockServiceValue,
+            final MeterRegistry meterRegistryValue,
+            final Settings settingsValue,
+            final LongSupplier nanoClockValue,
+            final Sleeper sleeperValue) {
+        if (lockServiceValue == null) {
+            throw new IllegalArgumentException("ClusterLockService cannot be null");
+        }
+        if (meterRegistryValue == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        if (settingsValue == null || nanoClockValue == null || sleeperValue == null) {
+            throw new IllegalArgumentException("Settings, clock and sleeper cannot be null");
+        }
+        this.tasks = tasksValue != null ? List.copyOf(tasksValue) : List.of();
+        this.lockService = lockServiceValue;
+        this.meterRegistry = meterRegistryValue;
+        this.settings = settingsValue;
+        this.nanoClock = nanoClockValue;
+        this.sleeper = sleeperValue;
+        LOGGER.info("Housekeeping tasks: {}", tasks.stream().map(HousekeepingTask::name).toList());
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Runs every registered task once.
+     * Runs every 15 minutes by default (configurable via app.housekeeping.interval-ms).
+     */
+    @Scheduled(
+            fixedDelayString = "${app.housekeeping.interval-ms:900000}",
+            initialDelayString = "${app.housekeeping.initial-delay-ms:60000}")
+    public void runAll() {
+        for (HousekeepingTask task : tasks) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            runTask(task);
+        }
+    }
+
+    /**
+     * Runs one task if no other node is running it.
+     *
+     * @param task task to run
+     * @return number of purged rows, 0 if task is running elsewhere
+     */
+    public long runTask(final HousekeepingTask task) {
+        Optional<ClusterLockService.LockHandle> lock = lockService.tryLock(LOCK_PREFIX + task.name(), settings.lease());
+        if (lock.isEmpty()) {
+            return 0;
+        }
+        try (ClusterLockService.LockHandle handle = lock.get()) {
+            return purge(task);
+        }
+    }
+
+    // ==================== Private Methods ====================
+
+    private long purge(final HousekeepingTask task) {
+        Counter purgedCounter = Counter.builder("housekeeping.rows.purged")
+                .description("Rows deleted by housekeeping")
+                .tag("task", task.name())
+                .register(meterRegistry);
+        long basePause = settings.pause().toNanos();
+        long started = nanoClock.getAsLong();
+        long deadline = started + settings.maxRunTime().toNanos();
+
+        long cursor = 0;
+        long purged = 0;
+        long pauseNanos = basePause;
+        int failures = 0;
+        String outcome = OUTCOME_COMPLETED;
+        while (true) {
+            long chunkStarted = nanoClock.getAsLong();
+            if (chunkStarted - deadline >= 0) {
+                outcome = OUTCOME_BUDGET;
+                break;
+            }
+
+            HousekeepingTask.Chunk chunk;
+            try {
+                chunk = task.purgeChunk(cursor, settings.chunkSize());
+                failures = 0;
+            } catch (DataAccessException e) {
+                failures++;
+                if (failures > settings.maxRetries()) {
+                    LOGGER.warn(
+                            "Housekeeping task {} failed {} times, giving up until next run",
+                            task.name(),
+                            failures,
+                            e);
+                    outcome = OUTCOME_FAILED;
+                    break;
+                }
+                LOGGER.debug("Housekeeping task {} chunk failed, retrying: {}", task.name(), e.getMessage());
+                pauseNanos = backoff(pauseNanos);
+                if (!pause(pauseNanos)) {
+                    outcome = OUTCOME_INTERRUPTED;
+                    break;
+                }
+                continue;
+            }
+
+            purged += chunk.purged();
+            purgedCounter.increment(chunk.purged());
+            if (chunk.exhausted()) {
+                break;
+            }
+            cursor = chunk.cursor();
+
+            long chunkNanos = nanoClock.getAsLong() - chunkStarted;
+            pauseNanos = chunkNanos > settings.slowChunk().toNanos() ? backoff(pauseNanos) : basePause;
+            if (!pause(pauseNanos)) {
+                outcome = OUTCOME_INTERRUPTED;
+                break;
+            }
+        }
+
+        long elapsed = nanoClock.getAsLong() - started;
+        Timer.builder("housekeeping.run")
+                .description("Duration of housekeeping task runs")
+                .tag("task", task.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (purged > 0 || !OUTCOME_COMPLETED.equals(outcome)) {
+            LOGGER.info(
+                    "Housekeeping task {}: purged={}, outcome={}, duration={} ms",
+                    task.name(),
+                    purged,
+                    outcome,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return purged;
+    }
+
+    private long backoff(final long pauseNanos) {
+        return Math.min(Math.max(pauseNanos, MIN_BACKOFF_NANOS) * 2, settings.maxPause().toNanos());
+    }
+
+    private boolean pause(final long pauseNanos) {
+        if (pauseNanos <= 0) {
+            return true;
+        }
+        try {
+            sleeper.sleep(Duration.ofNanos(pauseNanos));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Chunking, backoff and budget settings.
+     *
+     * @param chunkSize rows deleted per statement
+     * @param pause pause between chunks
+     * @param maxPause upper bound of pause after slow or failed chunks
+     * @param slowChunk chunks taking longer double the pause
+     * @param maxRunTime time budget of one task per run
+     * @param maxRetries consecutive failed chunks tolerated before run is abandoned
+     */
+    record Settings(
+            int chunkSize, Duration pause, Duration maxPause, Duration slowChunk, Duration maxRunTime, int maxRetries) {
+
+        /**
+         * Validates settings.
+         */
+        Settings {
+            if (chunkSize < 1 || maxRetries < 0) {
+                throw new IllegalArgumentException("Chunk size must be positive and retries non-negative");
+            }
+            if (pause == null || maxPause == null || slowChunk == null || maxRunTime == null) {
+                throw new IllegalArgumentException("Housekeeping durations cannot be null");
+            }
+        }
+
+        /**
+         * Lock lease: outlives the run budget plus the longest pause, so a running task never loses its lock,
+         * while a crashed node frees it on its own.
+         *
+         * @return lease duration
+         */
+        Duration lease() {
+            return maxRunTime.multipliedBy(2).plus(maxPause);
+        }
+    }
+
+    /**
+     * Pause between chunks.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+
+        /**
+         * Sleeps for given duration.
+         *
+         * @param duration time to sleep
+         * @throws InterruptedException if interrupted while sleeping
+         */
+        void sleep(Duration duration) throws InterruptedException;
+    }
+}
@@ -0,0 +1,54 @@
+package org.apolenkov.application.service.housekeeping;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cleanup task run by {@link HousekeepingService}.
+ *
+ * <p>A task deletes obsolete rows in small chunks walked in identifier order. Every chunk consists of
+ * short auto-committed statements, so locks and WAL stay small and a run can stop between any two chunks.
+ */
+public interface HousekeepingTask {
+
+    /**
+     * Gets stable task name, used for the cluster lock and metric tags.
+     *
+     * @return task name
+     */
+    String name();
+
+    /**
+     * Deletes next chunk of obsolete rows.
+     *
+     * @param cursor keyset cursor returned by previous chunk, 0 for first chunk
+     * @param limit maximum number of rows to delete
+     * @return chunk result with cursor of next chunk
+     */
+    Chunk purgeChunk(long cursor, int limit);
+
+    /**
+     * Result of one chunk.
+     *
+     * @param purged number of deleted rows
+     * @param cursor cursor to pass to next chunk
+     * @param exhausted true if nothing is left to purge for now
+     */
+    record Chunk(int purged, long cursor, boolean exhausted) {
+
+        /**
+         * Creates result of a chunk deleting rows with identifiers greater than cursor.
+         *
+         * @param deletedIds identifiers of deleted rows
+         * @param cursor cursor the chunk started from
+         * @param limit chunk size; fewer deleted rows mean nothing is left
+         * @return chunk result continuing after the greatest deleted identifier
+         */
+        public static Chunk ofDeletedIds(final List<Long> deletedIds, final long cursor, final int limit) {
+            if (deletedIds.isEmpty()) {
+                return new Chunk(0, cursor, true);
+            }
+            return new Chunk(deletedIds.size(), Collections.max(deletedIds), deletedIds.size() < limit);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.apolenkov.application.service.news;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.apolenkov.application.config.cache.CacheConfiguration;
+import org.apolenkov.application.domain.event.NewsChangedEvent;
+import org.apolenkov.application.model.NewsSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application-wide cache of the newest news summaries.
+ *
+ * <p>Single entry in {@link CacheConfiguration#LATEST_NEWS_CACHE}: every landing page render shares it,
+ * so news lists cost one query per news change instead of one per visitor. The entry is evicted after
+ * {@link NewsChangedEvent} is committed; evictions of the cluster-aware cache reach other nodes.
+ */
+@Component
+public class LatestNewsCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatestNewsCache.class);
+    private static final String KEY = "latest";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Creates latest news cache.
+     *
+     * @param cacheManagerValue application cache manager
+     * @throws IllegalArgumentException if cacheManagerValue is null
+     */
+    public LatestNewsCache(final CacheManager cacheManagerValue) {
+        if (cacheManagerValue == null) {
+            throw new IllegalArgumentException("CacheManager cannot be null");
+        }
+        this.cacheManager = cacheManagerValue;
+    }
+
+    /**
+     * Returns cached newest news, loading them on miss.
+     *
+     * @param loader loads newest news summaries from repository
+     * @return immutable list of newest news summaries
+     */
+    public List<NewsSummary> get(final Supplier<List<NewsSummary>> loader) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.LATEST_NEWS_CACHE);
+        if (cache == null) {
+            return List.copyOf(loader.get());
+        }
+        return cache.get(KEY, () -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Evicts newest news after committed news change.
+     *
+     * @param event news change event
+     */
+    @EventListener
+    public void onNewsChanged(final NewsChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.LATEST_NEWS_CACHE);
+        if (cache != null) {
+            cache.evict(KEY);
+        }
+        LOGGER.debug("Latest news evicted after news change: {}", event);
+    }
+}
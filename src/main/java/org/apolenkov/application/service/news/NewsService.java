@@ -3,12 +3,20 @@ package org.apolenkov.application.service.news;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.apolenkov.application.domain.event.NewsChangedEvent;
+import org.apolenkov.application.domain.event.NewsChangedEvent.ChangeType;
+import org.apolenkov.application.domain.model.NewsCursor;
+import org.apolenkov.application.domain.model.NewsPage;
 import org.apolenkov.application.domain.port.NewsRepository;
 import org.apolenkov.application.domain.usecase.NewsUseCase;
 import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -20,20 +28,37 @@ public class NewsService implements NewsUseCase {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NewsService.class);
     private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("org.apolenkov.application.audit");
+    private static final int DEFAULT_EXCERPT_LENGTH = 300;
+    private static final int DEFAULT_LATEST_SIZE = 10;
 
     // ==================== Fields ====================
 
     private final NewsRepository newsRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final LatestNewsCache latestNewsCache;
+
+    @Value("${app.news.excerpt-length:300}")
+    private int excerptLength = DEFAULT_EXCERPT_LENGTH;
+
+    @Value("${app.news.latest-size:10}")
+    private int latestSize = DEFAULT_LATEST_SIZE;
 
     // ==================== Constructor ====================
 
     /**
-     * Creates NewsService with required repository dependency.
+     * Creates NewsService with required dependencies.
      *
      * @param newsRepositoryValue repository for persisting and retrieving news items
+     * @param eventPublisherValue publisher for news change events (delivered after commit)
+     * @param latestNewsCacheValue application-wide cache of newest news
      */
-    public NewsService(final NewsRepository newsRepositoryValue) {
+    public NewsService(
+            final NewsRepository newsRepositoryValue,
+            final DomainEventPublisher eventPublisherValue,
+            final LatestNewsCache latestNewsCacheValue) {
         this.newsRepository = newsRepositoryValue;
+        this.eventPublisher = eventPublisherValue;
+        this.latestNewsCache = latestNewsCacheValue;
     }
 
     // ==================== Public API ====================
@@ -48,6 +73,54 @@ public class NewsService implements NewsUseCase {
         return newsRepository.findAllOrderByCreatedDesc();
     }
 
+    /**
+     * Gets page of news summaries using keyset pagination.
+     * One extra item is fetched to detect whether a next page exists.
+     *
+     * @param after cursor of previous page, null for the first page
+     * @param searchQuery search in title, content and author (null or blank for none)
+     * @param limit page size
+     * @return page of news summaries with cursor of the next page
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public NewsPage getNewsPage(final NewsCursor after, final String searchQuery, final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        List<NewsSummary> items = newsRepository.findSummaries(after, searchQuery, limit + 1, excerptLength);
+        if (items.size() <= limit) {
+            return new NewsPage(items, null);
+        }
+        List<NewsSummary> page = items.subList(0, limit);
+        return new NewsPage(page, NewsCursor.after(page.getLast()));
+    }
+
+    /**
+     * Gets newest news summaries from application-wide cache (evicted on news changes).
+     * Does not start a transaction: a cache hit must not borrow a pooled connection.
+     *
+     * @return newest news summaries, newest first
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<NewsSummary> getLatestNews() {
+        return latestNewsCache.get(() -> newsRepository.findSummaries(null, null, latestSize, excerptLength));
+    }
+
+    /**
+     * Gets news item with full content (loaded on demand, lists carry excerpts only).
+     *
+     * @param id news identifier
+     * @return news item if found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<News> getNews(final long id) {
+        return newsRepository.findById(id);
+    }
+
     /**
      * Creates new news item with automatic timestamp and validation.
      *
@@ -64,6 +137,7 @@ public class NewsService implements NewsUseCase {
 
         News news = new News(null, title, content, author, LocalDateTime.now());
         newsRepository.save(news);
+        eventPublisher.publish(new NewsChangedEvent(this, null, ChangeType.CREATED));
 
         AUDIT_LOGGER.info("News created: title='{}', author={}, contentLength={}", title, author, content.length());
     }
@@ -98,6 +172,7 @@ public class NewsService implements NewsUseCase {
         existing.setUpdatedAt(LocalDateTime.now());
 
         newsRepository.save(existing);
+        eventPublisher.publish(new NewsChangedEvent(this, id, ChangeType.UPDATED));
 
         AUDIT_LOGGER.info("News updated: id={}, titleChanged='{}' -> '{}', author={}", id, oldTitle, title, author);
     }
@@ -119,6 +194,7 @@ public class NewsService implements NewsUseCase {
 
         News news = newsOpt.get();
         newsRepository.deleteById(id);
+        eventPublisher.publish(new NewsChangedEvent(this, id, ChangeType.DELETED));
 
         AUDIT_LOGGER.warn("News deleted: id={}, title='{}', author={}", id, news.getTitle(), news.getAuthor());
     }
@@ -0,0 +1,18 @@
+package org.apolenkov.application.service.query;
+
+/**
+ * Exception thrown when a required fan-out query branch does not complete before the deadline.
+ */
+public class QueryDeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new deadline exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public QueryDeadlineExceededException(final String message) {
+        super(message);
+    }
+}
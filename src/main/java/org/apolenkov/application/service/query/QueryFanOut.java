@@ -0,0 +1,311 @@
+package org.apolenkov.application.service.query;
+
+import com.vaadin.flow.internal.CurrentInstance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Runs independent repository calls of one screen concurrently on virtual threads.
+ *
+ * <p>A {@link Scope} is opened per screen load with one overall deadline. Each forked branch
+ * runs on its own virtual thread with caller's context (Vaadin session, security context,
+ * request attributes, MDC, current observation), so session caches and tracing work as on the
+ * caller thread. Screen latency approaches the slowest branch instead of the sum of all of them.
+ *
+ * <p>Branches draw from a node-wide budget sized below the connection pool. When the budget is
+ * exhausted a branch runs inline on the caller thread, so fan-out never queues for connections
+ * and never holds more of them than sequential code plus the budget. A branch still running at
+ * the deadline yields its fallback (partial result) or fails with
+ * {@link QueryDeadlineExceededException} if it has none. Late branches are left to finish and
+ * their results are discarded: interrupting a virtual thread in socket I/O closes its connection.
+ *
+ * <p>Java 21 structured concurrency is a preview API, so scopes are built on CompletableFuture.
+ */
+@Service
+public class QueryFanOut {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryFanOut.class);
+    private static final String RESULT_TAG = "result";
+
+    private final ObservationRegistry observationRegistry;
+    private final Semaphore budget;
+    private final Duration deadline;
+
+    private final Counter completedCounter;
+    private final Counter inlineCounter;
+    private final Counter timeoutCounter;
+    private final Counter failedCounter;
+
+    /**
+     * Creates query fan-out executor.
+     *
+     * @param observationRegistryValue registry for propagating current observation to branches
+     * @param meterRegistry registry for branch metrics
+     * @param maxConcurrent node-wide number of branches running off the caller thread
+     * @param deadlineMs overall deadline of a scope in milliseconds
+     * @throws IllegalArgumentException if observationRegistryValue or meterRegistry is null
+     */
+    public QueryFanOut(
+            final ObservationRegistry observationRegistryValue,
+            final MeterRegistry meterRegistry,
+            @Value("${app.jdbc.fan-out.max-concurrent:8}") final int maxConcurrent,
+            @Value("${app.jdbc.fan-out.deadline-ms:2000}") final long deadlineMs) {
+        if (observationRegistryValue == null) {
+            throw new IllegalArgumentException("ObservationRegistry cannot be null");
+        }
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        this.observationRegistry = observationRegistryValue;
+        this.budget = new Semaphore(Math.max(1, maxConcurrent));
+        this.deadline = Duration.ofMillis(Math.max(1, deadlineMs));
+
+        this.completedCounter = resultCounter(meterRegistry, "completed");
+        this.inlineCounter = resultCounter(meterRegistry, "inline");
+        this.timeoutCounter = resultCounter(meterRegistry, "timeout");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * Opens fan-out scope with configured deadline.
+     * Must be called on the thread whose context branches should see.
+     *
+     * @param name scope name (thread names, logs)
+     * @return new scope, close it when results are read
+     */
+    public Scope open(final String name) {
+        return new Scope(name, System.nanoTime() + deadline.toNanos(), CallerContext.capture(observationRegistry));
+    }
+
+    private static Counter resultCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("query.fanout.branches")
+                .description("Fan-out query branches by outcome")
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Fan-out of one screen load. Not thread-safe: fork and read from the opening thread.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final long deadlineNanos;
+        private final CallerContext context;
+        private final List<Branch<?>> branches = new ArrayList<>();
+
+        private Scope(final String nameValue, final long deadlineNanosValue, final CallerContext contextValue) {
+            this.name = nameValue;
+            this.deadlineNanos = deadlineNanosValue;
+            this.context = contextValue;
+        }
+
+        /**
+         * Forks required branch: reading it after the deadline throws.
+         *
+         * @param branchName branch name (thread name, logs)
+         * @param query repository call
+         * @param <T> result type
+         * @return branch handle
+         */
+        public <T> Branch<T> fork(final String branchName, final Supplier<T> query) {
+            return fork(branchName, query, null);
+        }
+
+        /**
+         * Forks branch with partial-result fallback used when it misses the deadline.
+         *
+         * @param branchName branch name (thread name, logs)
+         * @param query repository call
+         * @param fallback value used when branch misses the deadline, null for required branch
+         * @param <T> result type
+         * @return branch handle
+         */
+        public <T> Branch<T> fork(final String branchName, final Supplier<T> query, final T fallback) {
+            CompletableFuture<T> future;
+            if (budget.tryAcquire()) {
+                future = new CompletableFuture<>();
+                CompletableFuture<T> target = future;
+                Thread.ofVirtual().name("query-" + name + "-" + branchName).start(() -> {
+                    try {
+                        target.complete(context.call(query));
+                    } catch (RuntimeException e) {
+                        target.completeExceptionally(e);
+                    } finally {
+                        budget.release();
+                    }
+                });
+            } else {
+                // Budget exhausted: run on caller thread instead of waiting for a slot
+                inlineCounter.increment();
+                try {
+                    future = CompletableFuture.completedFuture(query.get());
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+            }
+            Branch<T> branch = new Branch<>(this, branchName, future, fallback);
+            branches.add(branch);
+            return branch;
+        }
+
+        /**
+         * Discards unread branches; late branches finish in background.
+         */
+        @Override
+        public void close() {
+            for (Branch<?> branch : branches) {
+                branch.future.cancel(false);
+            }
+            branches.clear();
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, deadlineNanos - System.nanoTime());
+        }
+    }
+
+    /**
+     * Result handle of forked branch.
+     *
+     * @param <T> result type
+     */
+    public final class Branch<T> {
+
+        private final Scope scope;
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final T fallback;
+        private boolean recorded;
+
+        private Branch(
+                final Scope scopeValue,
+                final String nameValue,
+                final CompletableFuture<T> futureValue,
+                final T fallbackValue) {
+            this.scope = scopeValue;
+            this.name = nameValue;
+            this.future = futureValue;
+            this.fallback = fallbackValue;
+        }
+
+        /**
+         * Waits for result until scope deadline.
+         *
+         * @return branch result, or fallback if branch missed the deadline
+         * @throws QueryDeadlineExceededException if required branch missed the deadline
+         * @throws RuntimeException failure of the branch query
+         */
+        public T get() {
+            try {
+                T result = future.get(scope.remainingNanos(), TimeUnit.NANOSECONDS);
+                record(completedCounter);
+                return result;
+            } catch (TimeoutException e) {
+                record(timeoutCounter);
+                if (fallback == null) {
+                    throw new QueryDeadlineExceededException(
+                            "Query '" + scope.name + "." + name + "' missed fan-out deadline");
+                }
+                LOGGER.warn("Query '{}.{}' missed fan-out deadline, using partial result", scope.name, name);
+                return fallback;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new QueryDeadlineExceededException("Interrupted waiting for query '" + name + "'");
+            } catch (ExecutionException e) {
+                record(failedCounter);
+                throw unwrap(e.getCause());
+            }
+        }
+
+        private void record(final Counter counter) {
+            if (!recorded) {
+                recorded = true;
+                counter.increment();
+            }
+        }
+
+        private RuntimeException unwrap(final Throwable cause) {
+            if (cause instanceof CompletionException completion && completion.getCause() != null) {
+                return unwrap(completion.getCause());
+            }
+            if (cause instanceof RuntimeException runtime) {
+                return runtime;
+            }
+            return new IllegalStateException("Query '" + name + "' failed", cause);
+        }
+    }
+
+    /**
+     * Context of the thread opening the scope, bound on branch threads.
+     *
+     * @param vaadin Vaadin current instances (UI, session, service)
+     * @param security security context
+     * @param request request attributes, may be null
+     * @param mdc MDC, may be null
+     * @param observation current observation, may be null
+     */
+    private record CallerContext(
+            Map<Class<?>, CurrentInstance> vaadin,
+            SecurityContext security,
+            RequestAttributes request,
+            Map<String, String> mdc,
+            Observation observation) {
+
+        static CallerContext capture(final ObservationRegistry registry) {
+            return new CallerContext(
+                    CurrentInstance.getInstances(),
+                    SecurityContextHolder.getContext(),
+                    RequestContextHolder.getRequestAttributes(),
+                    MDC.getCopyOfContextMap(),
+                    registry.getCurrentObservation());
+        }
+
+        <T> T call(final Supplier<T> query) {
+            CurrentInstance.restoreInstances(vaadin);
+            SecurityContextHolder.setContext(security);
+            if (request != null) {
+                RequestContextHolder.setRequestAttributes(request);
+            }
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            Observation.Scope observationScope = observation != null ? observation.openScope() : null;
+            try {
+                return query.get();
+            } finally {
+                if (observationScope != null) {
+                    observationScope.close();
+                }
+                MDC.clear();
+                RequestContextHolder.resetRequestAttributes();
+                SecurityContextHolder.clearContext();
+                CurrentInstance.clearAll();
+            }
+        }
+    }
+}
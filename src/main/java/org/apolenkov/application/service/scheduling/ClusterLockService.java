@@ -0,0 +1,220 @@
+package org.apolenkov.application.service.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apolenkov.application.domain.port.SchedulerLockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cluster-wide locks for background jobs, so heavy batch work runs on one node at a time.
+ *
+ * <p>Locks are leases in the {@code scheduler_locks} table owned by this node's id. A lease must
+ * outlive the job: when a job holds its lock longer than the lease, another node may start the same
+ * job, which is logged and counted. A crashed node's locks expire with their lease.
+ *
+ * <p>Failing to reach the database is treated as "lock not acquired": the job is skipped this time
+ * rather than run on every node.
+ */
+@Service
+public class ClusterLockService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterLockService.class);
+
+    private static final String RESULT_ACQUIRED = "acquired";
+    private static final String RESULT_BUSY = "busy";
+    private static final String RESULT_ERROR = "error";
+
+    private final SchedulerLockRepository lockRepository;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+
+    /**
+     * Meters per lock name, registered on first use of the name (lock names are a small fixed set).
+     */
+    private final Map<String, LockMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates cluster lock service.
+     *
+     * @param lockRepositoryValue scheduler lock repository
+     * @param meterRegistryValue registry for lock attempt and hold time metrics
+     * @param nodeId configured node id, blank to derive one from host and process
+     * @throws IllegalArgumentException if lockRepositoryValue or meterRegistryValue is null
+     */
+    public ClusterLockService(
+            final SchedulerLockRepository lockRepositoryValue,
+            final MeterRegistry meterRegistryValue,
+            @Value("${app.scheduling.node-id:}") final String nodeId) {
+        if (lockRepositoryValue == null) {
+            throw new IllegalArgumentException("SchedulerLockRepository cannot be null");
+        }
+        if (meterRegistryValue == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        this.lockRepository = lockRepositoryValue;
+        this.meterRegistry = meterRegistryValue;
+        this.owner = nodeId != null && !nodeId.isBlank() ? nodeId.trim() : defaultNodeId();
+        LOGGER.info("Cluster lock owner id: {}", owner);
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Acquires lock if no other node holds it.
+     *
+     * @param name lock name
+     * @param lease time after which lock expires even if not released
+     * @return lock handle to close when done, empty if lock is held elsewhere or database is unavailable
+     */
+    public Optional<LockHandle> tryLock(final String name, final Duration lease) {
+        boolean acquired;
+        try {
+            acquired = lockRepository.tryLock(name, owner, lease);
+        } catch (DataAccessException e) {
+            meters(name).error().increment();
+            LOGGER.warn("Cluster lock {} could not be acquired, skipping run: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+        if (!acquired) {
+            meters(name).busy().increment();
+            LOGGER.debug("Cluster lock {} is held by another node, skipping run", name);
+            return Optional.empty();
+        }
+        meters(name).acquired().increment();
+        return Optional.of(new LockHandle(name, lease, System.nanoTime()));
+    }
+
+    /**
+     * Runs job if lock can be acquired, releasing it afterwards.
+     *
+     * @param name lock name
+     * @param lease time after which lock expires even if not released
+     * @param job job to run
+     * @return true if job ran on this node
+     */
+    public boolean runLocked(final String name, final Duration lease, final Runnable job) {
+        Optional<LockHandle> lock = tryLock(name, lease);
+        if (lock.isEmpty()) {
+            return false;
+        }
+        try (LockHandle handle = lock.get()) {
+            job.run();
+        }
+        return true;
+    }
+
+    /**
+     * Gets id this node uses as lock owner.
+     *
+     * @return owner id
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    // ==================== Private Methods ====================
+
+    private void release(final LockHandle handle) {
+        long heldNanos = System.nanoTime() - handle.acquiredAt;
+        LockMeters lockMeters = meters(handle.name);
+        lockMeters.held().record(heldNanos, TimeUnit.NANOSECONDS);
+        if (heldNanos > handle.lease.toNanos()) {
+            lockMeters.leaseExceeded().increment();
+            LOGGER.warn(
+                    "Job holding cluster lock {} ran {} ms, longer than lease {}; another node may have run it too",
+                    handle.name,
+                    TimeUnit.NANOSECONDS.toMillis(heldNanos),
+                    handle.lease);
+        }
+        try {
+            lockRepository.unlock(handle.name, owner);
+        } catch (DataAccessException e) {
+            // Lease expires on its own
+            LOGGER.warn("Cluster lock {} could not be released: {}", handle.name, e.getMessage());
+        }
+    }
+
+    private LockMeters meters(final String name) {
+        return meters.computeIfAbsent(
+                name,
+                n -> new LockMeters(
+                        attempts(n, RESULT_ACQUIRED),
+                        attempts(n, RESULT_BUSY),
+                        attempts(n, RESULT_ERROR),
+                        Timer.builder("scheduler.lock.held")
+                                .description("Time cluster locks were held by jobs on this node")
+                                .tag("name", n)
+                                .register(meterRegistry),
+                        Counter.builder("scheduler.lock.lease.exceeded")
+                                .description("Jobs that held their cluster lock longer than its lease")
+                                .tag("name", n)
+                                .register(meterRegistry)));
+    }
+
+    private Counter attempts(final String name, final String result) {
+        return Counter.builder("scheduler.lock.attempts")
+                .description("Cluster lock acquisition attempts")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String defaultNodeId() {
+        // pid@host plus random suffix: containers often share pid 1 and may share host names
+        return ManagementFactory.getRuntimeMXBean().getName()
+                + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Meters of one lock name.
+     *
+     * @param acquired successful acquisitions
+     * @param busy attempts while another node held the lock
+     * @param error attempts that failed to reach the database
+     * @param held time the lock was held
+     * @param leaseExceeded jobs that held the lock longer than its lease
+     */
+    private record LockMeters(Counter acquired, Counter busy, Counter error, Timer held, Counter leaseExceeded) {}
+
+    /**
+     * Acquired cluster lock; closing it releases the lock.
+     */
+    public final class LockHandle implements AutoCloseable {
+
+        private final String name;
+        private final Duration lease;
+        private final long acquiredAt;
+        private boolean released;
+
+        private LockHandle(final String nameValue, final Duration leaseValue, final long acquiredAtValue) {
+            this.name = nameValue;
+            this.lease = leaseValue;
+            this.acquiredAt = acquiredAtValue;
+        }
+
+        /**
+         * Releases lock. Subsequent calls do nothing.
+         */
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package org.apolenkov.application.service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Token-bucket throttling of login attempts per client IP, per account and client IP, and per account.
+ *
+ * <p>Checked before the password is verified, so rejected attempts never cost a BCrypt hash. Each key
+ * has a bucket of {@code capacity} attempts refilled at a steady rate. An empty bucket rejects with a
+ * retry-after and stays closed until it elapses. In the IP and account-IP scopes every attempt made before
+ * that doubles the wait (up to a cap), so floods that ignore retry-after lock themselves out while
+ * well-behaved clients are not penalized. The account-wide bucket only caps the attempt rate and never
+ * escalates, so nobody who merely knows an email can extend the lockout of that account for other clients.
+ * Buckets live in a size-bounded Caffeine cache that expires idle keys; an evicted key simply starts with
+ * a full bucket.
+ */
+@Service
+public class LoginRateLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginRateLimiter.class);
+    private static final Logger SECURITY_LOGGER = LoggerFactory.getLogger("org.apolenkov.application.security");
+
+    private static final String SCOPE_IP = "ip";
+    private static final String SCOPE_ACCOUNT = "account";
+    private static final String SCOPE_ACCOUNT_IP = "account-ip";
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    // ==================== Fields ====================
+
+    private final boolean enabled;
+    private final BucketPolicy ipPolicy;
+    private final BucketPolicy accountPolicy;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoClock;
+
+    private final Counter allowedCounter;
+    private final Counter rejectedIpCounter;
+    private final Counter rejectedAccountCounter;
+    private final Counter rejectedAccountIpCounter;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates login rate limiter.
+     *
+     * @param meterRegistry registry for allowed/rejected counters and tracked key gauge
+     * @param enabledValue whether throttling is enabled
+     * @param ipCapacity attempts per client IP available at once
+     * @param ipRefillPerMinute attempts per client IP regained per minute
+     * @param accountCapacity attempts per account (and per account from one IP) available at once
+     * @param accountRefillPerMinute attempts per account (and per account from one IP) regained per minute
+     * @param baseBackoff retry-after of the first rejection
+     * @param maxBackoff upper bound of retry-after
+     * @param maxTrackedKeys maximum number of buckets kept in memory
+     */
+    @Autowired
+    @SuppressWarnings("java:S107") // Two bucket policies plus backoff and memory bounds
+    public LoginRateLimiter(
+            final MeterRegistry meterRegistry,
+            @Value("${app.security.login-throttle.enabled:true}") final boolean enabledValue,
+            @Value("${app.security.login-throttle.ip-capacity:20}") final int ipCapacity,
+            @Value("${app.security.login-throttle.ip-refill-per-minute:10}") final double ipRefillPerMinute,
+            @Value("${app.security.login-throttle.account-capacity:5}") final int accountCapacity,
+            @Value("${app.security.login-throttle.account-refill-per-minute:1}") final double accountRefillPerMinute,
+            @Value("${app.security.login-throttle.base-backoff:PT2S}") final Duration baseBackoff,
+            @Value("${app.security.login-throttle.max-backoff:PT15M}") final Duration maxBackoff,
+            @Value("${app.security.login-throttle.max-tracked-keys:100000}") final long maxTrackedKeys) {
+        this(
+                meterRegistry,
+                enabledValue,
+                new BucketPolicy(ipCapacity, ipRefillPerMinute, baseBackoff, maxBackoff),
+                new BucketPolicy(accountCapacity, accountRefillPerMinute, baseBackoff, maxBackoff),
+                maxTrackedKeys,
+                System::nanoTime);
+    }
+
+    /**
+     * Creates login rate limiter with explicit policies and clock.
+     *
+     * @param meterRegistry registry for metrics
+     * @param enabledValue whether throttling is enabled
+     * @param ipPolicyValue bucket policy per client IP
+     * @param accountPolicyValue bucket policy per account and per account from one client IP
+     * @param maxTrackedKeys maximum number of buckets kept in memory
+     * @param nanoClockValue monotonic clock in nanoseconds
+     * @throws IllegalArgumentException if meterRegistry, a policy or the clock is null
+     */
+    LoginRateLimiter(
+            final MeterRegistry meterRegistry,
+            final boolean enabledValue,
+            final BucketPolicy ipPolicyValue,
+            final BucketPolicy accountPolicyValue,
+            final long maxTrackedKeys,
+            final LongSupplier nanoClockValue) {
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        if (ipPolicyValue == null || accountPolicyValue == null) {
+            throw new IllegalArgumentException("Bucket policies cannot be null");
+        }
+        if (nanoClockValue == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.enabled = enabledValue;
+        this.ipPolicy = ipPolicyValue;
+        this.accountPolicy = accountPolicyValue;
+        this.nanoClock = nanoClockValue;
+
+        // A bucket idle for longer than its full refill plus maximum backoff is indistinguishable from a new one
+        Duration idle = ipPolicyValue.idleExpiry().compareTo(accountPolicyValue.idleExpiry()) > 0
+                ? ipPolicyValue.idleExpiry()
+                : accountPolicyValue.idleExpiry();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(idle)
+                .build();
+
+        this.allowedCounter = Counter.builder("auth.login.throttle")
+                .description("Login attempts checked by the rate limiter")
+                .tag("result", "allowed")
+                .tag("scope", "none")
+                .register(meterRegistry);
+        this.rejectedIpCounter = Counter.builder("auth.login.throttle")
+                .description("Login attempts checked by the rate limiter")
+                .tag("result", "rejected")
+                .tag("scope", SCOPE_IP)
+                .register(meterRegistry);
+        this.rejectedAccountCounter = Counter.builder("auth.login.throttle")
+                .description("Login attempts checked by the rate limiter")
+                .tag("result", "rejected")
+                .tag("scope", SCOPE_ACCOUNT)
+                .register(meterRegistry);
+        this.rejectedAccountIpCounter = Counter.builder("auth.login.throttle")
+                .description("Login attempts checked by the rate limiter")
+                .tag("result", "rejected")
+                .tag("scope", SCOPE_ACCOUNT_IP)
+                .register(meterRegistry);
+        Gauge.builder("auth.login.throttle.tracked", buckets, Cache::estimatedSize)
+                .description("Login rate limiter buckets kept in memory")
+                .register(meterRegistry);
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Takes one login attempt from the client IP bucket, the account bucket of that IP and the account bucket.
+     * Each bucket is only charged when the previous ones allow the attempt.
+     *
+     * @param ipAddress client IP address, may be null if unknown
+     * @param username attempted username, may be null if not submitted
+     * @return throttling decision
+     */
+    public Decision tryAcquire(final String ipAddress, final String username) {
+        if (!enabled) {
+            return Decision.ALLOWED;
+        }
+        long now = nanoClock.getAsLong();
+
+        if (ipAddress != null) {
+            Duration retryAfter = bucket(SCOPE_IP, ipAddress, ipPolicy, true).tryConsume(now);
+            if (retryAfter != null) {
+                rejectedIpCounter.increment();
+                SECURITY_LOGGER.warn("Login throttled: scope=ip, ip={}, retryAfter={}", ipAddress, retryAfter);
+                return new Decision(false, retryAfter);
+            }
+        }
+        String account = normalize(username);
+        if (account != null) {
+            Duration retryAfter = bucket(SCOPE_ACCOUNT_IP, accountIpKey(account, ipAddress), accountPolicy, true)
+                    .tryConsume(now);
+            if (retryAfter != null) {
+                rejectedAccountIpCounter.increment();
+                SECURITY_LOGGER.warn(
+                        "Login throttled: scope=account-ip, username={}, ip={}, retryAfter={}",
+                        account,
+                        ipAddress,
+                        retryAfter);
+                return new Decision(false, retryAfter);
+            }
+            retryAfter = bucket(SCOPE_ACCOUNT, account, accountPolicy, false).tryConsume(now);
+            if (retryAfter != null) {
+                rejectedAccountCounter.increment();
+                SECURITY_LOGGER.warn(
+                        "Login throttled: scope=account, username={}, ip={}, retryAfter={}",
+                        account,
+                        ipAddress,
+                        retryAfter);
+                return new Decision(false, retryAfter);
+            }
+        }
+        allowedCounter.increment();
+        return Decision.ALLOWED;
+    }
+
+    /**
+     * Resets account buckets after successful login, so a legitimate user is not held back by
+     * the attempts that preceded it. The IP bucket is left as is (shared by other accounts).
+     *
+     * @param ipAddress client IP address, may be null if unknown
+     * @param username authenticated username
+     */
+    public void recordSuccess(final String ipAddress, final String username) {
+        String account = normalize(username);
+        if (account != null) {
+            buckets.invalidate(SCOPE_ACCOUNT + ':' + account);
+            buckets.invalidate(SCOPE_ACCOUNT_IP + ':' + accountIpKey(account, ipAddress));
+            LOGGER.debug("Login throttle reset for account: {}", account);
+        }
+    }
+
+    // ==================== Private Methods ====================
+
+    private TokenBucket bucket(
+            final String scope, final String key, final BucketPolicy policy, final boolean escalating) {
+        return buckets.get(scope + ':' + key, k -> new TokenBucket(policy, escalating, nanoClock.getAsLong()));
+    }
+
+    private static String accountIpKey(final String account, final String ipAddress) {
+        return account + '|' + ipAddress;
+    }
+
+    private static String normalize(final String username) {
+        if (username == null) {
+            return null;
+        }
+        String trimmed = username.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Result of a throttling check.
+     *
+     * @param allowed true if the attempt may proceed to authentication
+     * @param retryAfter time to wait before the next attempt, zero if allowed
+     */
+    public record Decision(boolean allowed, Duration retryAfter) {
+
+        /**
+         * Decision allowing the attempt.
+         */
+        public static final Decision ALLOWED = new Decision(true, Duration.ZERO);
+    }
+
+    /**
+     * Token bucket parameters.
+     *
+     * @param capacity attempts available at once
+     * @param refillPerMinute attempts regained per minute
+     * @param baseBackoff retry-after of the first rejection
+     * @param maxBackoff upper bound of retry-after
+     */
+    record BucketPolicy(int capacity, double refillPerMinute, Duration baseBackoff, Duration maxBackoff) {
+
+        /**
+         * Validates policy.
+         */
+        BucketPolicy {
+            if (capacity < 1 || refillPerMinute <= 0) {
+                throw new IllegalArgumentException("Bucket capacity and refill rate must be positive");
+            }
+            if (baseBackoff == null || maxBackoff == null || baseBackoff.isNegative() || maxBackoff.isNegative()) {
+                throw new IllegalArgumentException("Backoff durations must be non-negative");
+            }
+        }
+
+        Duration idleExpiry() {
+            long refillNanos = (long) (capacity * NANOS_PER_MINUTE / refillPerMinute);
+            return Duration.ofNanos(refillNanos).plus(maxBackoff);
+        }
+    }
+
+    /**
+     * Token bucket of one key, optionally with exponential backoff of consecutive rejections.
+     */
+    private static final class TokenBucket {
+
+        private final BucketPolicy policy;
+        private final boolean escalating;
+        private double tokens;
+        private long lastRefill;
+        private long blockedUntil;
+        private int consecutiveRejections;
+
+        TokenBucket(final BucketPolicy policyValue, final boolean escalatingValue, final long now) {
+            this.policy = policyValue;
+            this.escalating = escalatingValue;
+            this.tokens = policyValue.capacity();
+            this.lastRefill = now;
+            this.blockedUntil = now;
+        }
+
+        /**
+         * Takes one token.
+         *
+         * @param now current time in nanoseconds
+         * @return null if allowed, otherwise time to wait
+         */
+        synchronized Duration tryConsume(final long now) {
+            if (now - blockedUntil < 0) {
+                if (!escalating) {
+                    return Duration.ofNanos(blockedUntil - now);
+                }
+                // Attempt ignoring retry-after: double the wait
+                consecutiveRejections++;
+                long wait = Math.max(blockedUntil - now, backoff());
+                blockedUntil = now + wait;
+                return Duration.ofNanos(wait);
+            }
+            double elapsedMinutes = (double) (now - lastRefill) / NANOS_PER_MINUTE;
+            tokens = Math.min(policy.capacity(), tokens + elapsedMinutes * policy.refillPerMinute());
+            lastRefill = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                consecutiveRejections = 0;
+                return null;
+            }
+
+            long nextToken = (long) ((1 - tokens) * NANOS_PER_MINUTE / policy.refillPerMinute());
+            if (escalating) {
+                consecutiveRejections++;
+            }
+            long wait = Math.max(nextToken, escalating ? backoff() : policy.baseBackoff().toNanos());
+            blockedUntil = now + wait;
+            return Duration.ofNanos(wait);
+        }
+
+        private long backoff() {
+            int shift = Math.min(consecutiveRejections - 1, MAX_BACKOFF_DOUBLINGS);
+            return Math.min(policy.baseBackoff().toNanos() << shift, policy.maxBackoff().toNanos());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.apolenkov.application.service.security;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a login attempt is rejected by {@link LoginRateLimiter} before authentication.
+ * Extends {@link IllegalArgumentException} like other login failures of {@code AuthService}.
+ */
+public class LoginThrottledException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Duration retryAfter;
+
+    /**
+     * Constructs a new throttling exception.
+     *
+     * @param retryAfterValue time to wait before the next attempt
+     */
+    public LoginThrottledException(final Duration retryAfterValue) {
+        super("Too many login attempts");
+        this.retryAfter = retryAfterValue;
+    }
+
+    /**
+     * Gets time to wait before the next attempt.
+     *
+     * @return retry-after duration
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,300 @@
+package org.apolenkov.application.service.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt password encoder running on a bounded pool of platform threads, with adaptive cost factor.
+ *
+ * <p>Hashing is CPU-bound and deliberately slow. Run inline on virtual threads, any number of hashes
+ * could run at once and occupy every carrier thread, starving the rest of the application. Here at most
+ * {@code threads} hashes run concurrently (sized to cores). Further requests wait in a bounded queue, and
+ * callers give up after {@code timeout}. Waiting callers are virtual threads and park without holding a
+ * carrier.
+ *
+ * <p>Compute time of every hash is measured. The cost for new hashes is re-estimated so that verification
+ * takes about {@code targetTime}, clamped to {@code [minCost, maxCost]}. Hashes with a lower cost
+ * report {@link #upgradeEncoding(String)}, so Spring Security rehashes them on the next successful login
+ * (see {@code JdbcUserDetailsService#updatePassword}). Stronger hashes are never rehashed down when load
+ * lowers the cost, so cost changes cannot cause rehash churn.
+ */
+public final class PasswordHashingService implements PasswordEncoder, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordHashingService.class);
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final double EWMA_ALPHA = 0.2;
+    private static final double COST_HYSTERESIS = 0.75;
+
+    // ==================== Fields ====================
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final double targetNanos;
+    private final int minCost;
+    private final int maxCost;
+    private final Map<Integer, BCryptPasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    private final Object calibrationLock = new Object();
+    private double nanosPerRound = -1;
+    private volatile int currentCost;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates password hashing service.
+     *
+     * @param meterRegistry registry for hashing latency, queue and cost metrics
+     * @param threads number of hashing threads, 0 for number of available processors
+     * @param queueCapacity maximum number of hashes waiting for a thread
+     * @param timeout maximum time a caller waits for its hash (queue and computation)
+     * @param targetTime desired verification time of one hash
+     * @param initialCost cost factor used until the first measurement
+     * @param minCostValue lowest cost factor ever used
+     * @param maxCostValue highest cost factor ever used
+     * @throws IllegalArgumentException if parameters are out of range
+     */
+    @SuppressWarnings("java:S107") // Pool, queue and cost bounds are independent settings
+    public PasswordHashingService(
+            final MeterRegistry meterRegistry,
+            final int threads,
+            final int queueCapacity,
+            final Duration timeout,
+            final Duration targetTime,
+            final int initialCost,
+            final int minCostValue,
+            final int maxCostValue) {
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        if (minCostValue < 4 || maxCostValue > 31 || minCostValue > maxCostValue) {
+            throw new IllegalArgumentException("BCrypt cost bounds must satisfy 4 <= min <= max <= 31");
+        }
+        if (queueCapacity < 1 || timeout == null || targetTime == null) {
+            throw new IllegalArgumentException("Queue capacity, timeout and target time are required");
+        }
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory());
+        this.timeoutNanos = timeout.toNanos();
+        this.targetNanos = targetTime.toNanos();
+        this.minCost = minCostValue;
+        this.maxCost = maxCostValue;
+        this.currentCost = Math.clamp(initialCost, minCostValue, maxCostValue);
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .description("Time password hashes wait for a hashing thread")
+                .register(meterRegistry);
+        this.queueFullCounter = rejectedCounter(meterRegistry, "queue_full");
+        this.timeoutCounter = rejectedCounter(meterRegistry, "timeout");
+        Gauge.builder("password.hash.cost", this, PasswordHashingService::getCurrentCost)
+                .description("BCrypt cost factor used for new hashes")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+
+        LOGGER.info(
+                "Password hashing: threads={}, queueCapacity={}, timeout={}, targetTime={}, cost={} [{}..{}]",
+                poolSize,
+                queueCapacity,
+                timeout,
+                targetTime,
+                currentCost,
+                minCostValue,
+                maxCostValue);
+    }
+
+    // ==================== PasswordEncoder ====================
+
+    /**
+     * Hashes password with the current cost factor.
+     *
+     * @param rawPassword password to hash
+     * @return BCrypt hash
+     * @throws IllegalStateException if the hashing queue is full or the hash did not complete in time
+     */
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        int cost = currentCost;
+        return run(() -> encoder(cost).encode(rawPassword), cost, encodeTimer);
+    }
+
+    /**
+     * Verifies password against BCrypt hash of any cost.
+     *
+     * @param rawPassword password to verify
+     * @param encodedPassword stored hash
+     * @return true if password matches
+     * @throws IllegalStateException if the hashing queue is full or the hash did not complete in time
+     */
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        if (cost < 0) {
+            // Not a BCrypt hash: rejected by the encoder without hashing
+            return encoder(currentCost).matches(rawPassword, encodedPassword);
+        }
+        return run(() -> encoder(cost).matches(rawPassword, encodedPassword), cost, matchesTimer);
+    }
+
+    /**
+     * Reports hashes weaker than the current cost, so they are rehashed after login.
+     * Upgrade only, like {@link BCryptPasswordEncoder#upgradeEncoding(String)}.
+     *
+     * @param encodedPassword stored hash
+     * @return true if hash should be replaced
+     */
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost >= 0 && cost < currentCost;
+    }
+
+    /**
+     * Gets cost factor used for new hashes.
+     *
+     * @return current BCrypt cost factor
+     */
+    public int getCurrentCost() {
+        return currentCost;
+    }
+
+    /**
+     * Stops hashing threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    // ==================== Private Methods ====================
+
+    private <T> T run(final Callable<T> hash, final int cost, final Timer timer) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                T result = hash.call();
+                long elapsed = System.nanoTime() - started;
+                timer.record(elapsed, TimeUnit.NANOSECONDS);
+                calibrate(cost, elapsed);
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new IllegalStateException("Password hashing is overloaded", e);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new IllegalStateException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Updates estimate of time per BCrypt round and re-derives the cost factor meeting the target.
+     * The cost only changes when the estimate at the current cost is off by more than the hysteresis,
+     * so it does not flap between neighbouring factors.
+     *
+     * @param cost cost factor of measured hash
+     * @param elapsedNanos compute time of measured hash
+     */
+    private void calibrate(final int cost, final long elapsedNanos) {
+        double perRound = (double) elapsedNanos / (1L << cost);
+        synchronized (calibrationLock) {
+            nanosPerRound = nanosPerRound < 0 ? perRound : EWMA_ALPHA * perRound + (1 - EWMA_ALPHA) * nanosPerRound;
+            int previous = currentCost;
+            double deviation = Math.log(targetNanos / (nanosPerRound * (1L << previous))) / Math.log(2);
+            if (Math.abs(deviation) <= COST_HYSTERESIS) {
+                return;
+            }
+            int next = Math.clamp(previous + Math.round(deviation), minCost, maxCost);
+            if (next != previous) {
+                currentCost = next;
+                LOGGER.info(
+                        "BCrypt cost changed {} -> {} (estimated hash time at new cost: {} ms)",
+                        previous,
+                        next,
+                        Math.round(nanosPerRound * (1L << next) / 1_000_000));
+            }
+        }
+    }
+
+    private BCryptPasswordEncoder encoder(final int cost) {
+        return encoders.computeIfAbsent(cost, BCryptPasswordEncoder::new);
+    }
+
+    /**
+     * Extracts cost factor from BCrypt hash.
+     *
+     * @param encodedPassword stored hash
+     * @return cost factor, or -1 if value is not a BCrypt hash
+     */
+    static int costOf(final String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    private static Timer hashTimer(final MeterRegistry meterRegistry, final String operation) {
+        return Timer.builder("password.hash")
+                .description("Compute time of password hashes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(final MeterRegistry meterRegistry, final String reason) {
+        return Counter.builder("password.hash.rejected")
+                .description("Password hashes rejected by the bounded hashing pool")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,240 @@
+package org.apolenkov.application.service.session;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Bounded heap walker estimating retained size of an object graph.
+ *
+ * <p>Walks references reflectively from roots and sums estimated shallow sizes
+ * (64-bit JVM with compressed oops). Objects matched by the boundary predicate are
+ * treated as shared and not counted. Transient fields are skipped: they hold injected
+ * singletons and caches that are not part of the user's state.
+ *
+ * <p>JDK classes cannot be opened reflectively, so collections and maps are walked
+ * through their public API with per-entry overhead estimates, other JDK objects count
+ * as small leaves. The walk stops after {@code maxObjects} objects or {@code maxWalkTime} and
+ * reports truncation.
+ *
+ * <p>Safe to run without the lock guarding the graph: objects changed concurrently are read as
+ * they are at that moment, and a collection failing mid-iteration marks the estimate truncated.
+ */
+final class RetainedSizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int JDK_LEAF = 24;
+    private static final int COLLECTION_BASE = 32;
+    private static final int COLLECTION_PER_ELEMENT = 16;
+    private static final int MAP_BASE = 48;
+    private static final int MAP_PER_ENTRY = 32;
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(final Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    private final int maxObjects;
+    private final long maxWalkNanos;
+    private final Predicate<Object> boundary;
+
+    /**
+     * Creates estimator.
+     *
+     * @param maxObjectsValue maximum number of objects visited per estimate
+     * @param maxWalkTimeValue maximum duration of a single estimate
+     * @param boundaryValue predicate matching shared objects that must not be counted or walked
+     * @throws IllegalArgumentException if maxObjectsValue is not positive, maxWalkTimeValue is null or
+     *     negative, or boundaryValue is null
+     */
+    RetainedSizeEstimator(
+            final int maxObjectsValue, final Duration maxWalkTimeValue, final Predicate<Object> boundaryValue) {
+        if (maxObjectsValue <= 0) {
+            throw new IllegalArgumentException("maxObjects must be positive");
+        }
+        if (maxWalkTimeValue == null || maxWalkTimeValue.isNegative()) {
+            throw new IllegalArgumentException("maxWalkTime must be non-negative");
+        }
+        if (boundaryValue == null) {
+            throw new IllegalArgumentException("Boundary predicate cannot be null");
+        }
+        this.maxObjects = maxObjectsValue;
+        this.maxWalkNanos = maxWalkTimeValue.toNanos();
+        this.boundary = boundaryValue;
+    }
+
+    /**
+     * Estimates retained size of graph reachable from roots.
+     *
+     * @param roots graph roots
+     * @return estimate
+     */
+    Estimate estimate(final Collection<?> roots) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        for (Object root : roots) {
+            push(pending, root);
+        }
+
+        long started = System.nanoTime();
+        long bytes = 0;
+        boolean truncated = false;
+        while (!pending.isEmpty()) {
+            Object current = pending.pop();
+            if (!visited.add(current)) {
+                continue;
+            }
+            if (visited.size() > maxObjects
+                    || (visited.size() % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - started > maxWalkNanos)) {
+                truncated = true;
+                break;
+            }
+            try {
+                bytes += visit(current, pending);
+            } catch (ConcurrentModificationException | IllegalStateException | IndexOutOfBoundsException e) {
+                // Graph changed during walk (no lock held): skip the object
+                truncated = true;
+            }
+        }
+        return new Estimate(bytes, Math.min(visited.size(), maxObjects), truncated);
+    }
+
+    private long visit(final Object current, final Deque<Object> pending) {
+        Class<?> type = current.getClass();
+        if (type.isArray()) {
+            return visitArray(current, type, pending);
+        }
+        if (current instanceof String string) {
+            return align(OBJECT_HEADER + 12L) + align(ARRAY_HEADER + (long) string.length());
+        }
+        if (isJdk(type)) {
+            return visitJdk(current, pending);
+        }
+
+        Layout layout = LAYOUTS.get(type);
+        for (Field field : layout.references()) {
+            try {
+                push(pending, field.get(current));
+            } catch (IllegalAccessException e) {
+                // Field became inaccessible: count shallow size only
+            }
+        }
+        return layout.shallowSize();
+    }
+
+    private long visitArray(final Object array, final Class<?> type, final Deque<Object> pending) {
+        int length = Array.getLength(array);
+        Class<?> component = type.getComponentType();
+        if (component.isPrimitive()) {
+            return align(ARRAY_HEADER + (long) length * primitiveSize(component));
+        }
+        for (Object element : (Object[]) array) {
+            push(pending, element);
+        }
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    private long visitJdk(final Object current, final Deque<Object> pending) {
+        if (current instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                push(pending, element);
+            }
+            return COLLECTION_BASE + (long) collection.size() * COLLECTION_PER_ELEMENT;
+        }
+        if (current instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                push(pending, entry.getKey());
+                push(pending, entry.getValue());
+            }
+            return MAP_BASE + (long) map.size() * MAP_PER_ENTRY;
+        }
+        return JDK_LEAF;
+    }
+
+    private void push(final Deque<Object> pending, final Object value) {
+        if (value == null || value instanceof Class<?> || value instanceof Enum<?> || boundary.test(value)) {
+            return;
+        }
+        pending.push(value);
+    }
+
+    private static boolean isJdk(final Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    private static long align(final long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static int primitiveSize(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Result of estimate.
+     *
+     * @param bytes estimated retained bytes
+     * @param objects number of visited objects
+     * @param truncated true if object or time budget was exhausted or graph changed during walk
+     */
+    record Estimate(long bytes, int objects, boolean truncated) {}
+
+    /**
+     * Cached per-class layout: shallow size and walkable reference fields.
+     *
+     * @param shallowSize estimated shallow size in bytes
+     * @param references accessible non-static, non-transient reference fields
+     */
+    private record Layout(long shallowSize, List<Field> references) {
+
+        static Layout of(final Class<?> type) {
+            long size = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers)) {
+                        continue;
+                    }
+                    Class<?> fieldType = field.getType();
+                    size += fieldType.isPrimitive() ? primitiveSize(fieldType) : REFERENCE;
+                    if (!fieldType.isPrimitive() && !Modifier.isTransient(modifiers) && field.trySetAccessible()) {
+                        references.add(field);
+                    }
+                }
+            }
+            return new Layout(align(size), List.copyOf(references));
+        }
+    }
+}
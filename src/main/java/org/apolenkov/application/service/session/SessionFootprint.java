@@ -0,0 +1,25 @@
+package org.apolenkov.application.service.session;
+
+import java.time.Instant;
+
+/**
+ * Sampled memory footprint of one Vaadin session.
+ *
+ * @param sessionKey short non-reversible session identifier (safe to display)
+ * @param userKey salted hash of authenticated user ID (safe to display), or "anonymous"
+ * @param uis number of UIs (browser tabs) in session
+ * @param components number of components attached to all UIs
+ * @param retainedBytes estimated retained size in bytes
+ * @param objects number of objects visited by estimator
+ * @param truncated true if estimate hit the object budget (real size is larger)
+ * @param sampledAt time of sample
+ */
+public record SessionFootprint(
+        String sessionKey,
+        String userKey,
+        int uis,
+        int components,
+        long retainedBytes,
+        int objects,
+        boolean truncated,
+        Instant sampledAt) {}
@@ -0,0 +1,415 @@
+package org.apolenkov.application.service.session;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.di.Instantiator;
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.i18n.I18NProvider;
+import com.vaadin.flow.router.Router;
+import com.vaadin.flow.server.RouteRegistry;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.WrappedSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import org.apolenkov.application.service.stats.metrics.CacheStatsRecorder;
+import org.apolenkov.application.service.user.CurrentUserSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Periodically estimates memory footprint of Vaadin sessions on this node.
+ *
+ * <p>For a sample of live sessions (bounded per run) the session lock is taken with a short
+ * timeout (busy sessions are skipped) only to collect walk roots and count UIs and components.
+ * The graph reachable from the VaadinSession and its HTTP session attributes is then walked by
+ * {@link RetainedSizeEstimator} without the lock, within an object and time budget, so sampling
+ * never stalls the user's requests. Shared objects (Vaadin service, router, Spring singletons and
+ * infrastructure, cache recorders) are excluded, so the estimate covers per-user state: component
+ * trees, session-scoped caches and beans.
+ *
+ * <p>Users are identified by a salted hash of their ID (salt is random per node and run), so the
+ * admin view can tell sessions of one user apart from others without exposing who they are.
+ *
+ * <p>Exported metrics:
+ * <ul>
+ *   <li>vaadin.session.retained.size - histogram of estimated bytes per session</li>
+ *   <li>vaadin.session.components / vaadin.session.uis - histograms per session</li>
+ *   <li>vaadin.session.active - live sessions</li>
+ *   <li>vaadin.session.footprint.samples{result} and vaadin.session.footprint.duration</li>
+ * </ul>
+ * Latest footprints are kept per session for the admin top-N view.
+ */
+@Service
+public class SessionFootprintService implements VaadinServiceInitListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionFootprintService.class);
+    private static final String ANONYMOUS = "anonymous";
+    private static final String RESULT_TAG = "result";
+    private static final int USER_KEY_BYTES = 6;
+
+    private static final List<String> SHARED_PACKAGES = List.of(
+            "org.springframework.",
+            "io.micrometer.",
+            "com.zaxxer.",
+            "org.slf4j.",
+            "ch.qos.",
+            "org.apache.",
+            "org.atmosphere.",
+            "org.postgresql.",
+            "jakarta.servlet.",
+            "com.fasterxml.");
+
+    private static final List<Class<?>> SHARED_TYPES = List.of(
+            VaadinService.class,
+            VaadinContext.class,
+            Router.class,
+            RouteRegistry.class,
+            Instantiator.class,
+            DeploymentConfiguration.class,
+            I18NProvider.class,
+            CacheStatsRecorder.class,
+            Thread.class,
+            ClassLoader.class);
+
+    private static final ClassValue<Boolean> SHARED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return isSharedType(type);
+        }
+    };
+
+    // ==================== Fields ====================
+
+    private final Set<VaadinSession> sessions = ConcurrentHashMap.newKeySet();
+    private final Map<VaadinSession, SessionFootprint> footprints = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final RetainedSizeEstimator estimator;
+    private final byte[] userKeySalt = new byte[16];
+
+    private final DistributionSummary retainedSizeSummary;
+    private final DistributionSummary componentsSummary;
+    private final DistributionSummary uisSummary;
+    private final Counter sampledCounter;
+    private final Counter busyCounter;
+    private final Counter failedCounter;
+    private final Timer durationTimer;
+
+    private volatile Instant lastSampleAt;
+
+    @Value("${app.monitoring.session-footprint.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.monitoring.session-footprint.max-sessions-per-run:50}")
+    private int maxSessionsPerRun;
+
+    @Value("${app.monitoring.session-footprint.lock-timeout-ms:50}")
+    private long lockTimeoutMs;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates session footprint service.
+     *
+     * @param meterRegistry registry for footprint metrics
+     * @param maxObjects object budget of a single session estimate
+     * @param maxWalkMs time budget of a single session estimate in milliseconds
+     */
+    public SessionFootprintService(
+            final MeterRegistry meterRegistry,
+            @Value("${app.monitoring.session-footprint.max-objects:200000}") final int maxObjects,
+            @Value("${app.monitoring.session-footprint.max-walk-ms:200}") final long maxWalkMs) {
+        this.estimator = new RetainedSizeEstimator(
+                maxObjects, Duration.ofMillis(maxWalkMs), value -> SHARED.get(value.getClass()));
+        new SecureRandom().nextBytes(userKeySalt);
+
+        this.retainedSizeSummary = DistributionSummary.builder("vaadin.session.retained.size")
+                .description("Estimated retained size of Vaadin session")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.componentsSummary = DistributionSummary.builder("vaadin.session.components")
+                .description("Components attached to all UIs of Vaadin session")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.uisSummary = DistributionSummary.builder("vaadin.session.uis")
+                .description("UIs (browser tabs) of Vaadin session")
+                .register(meterRegistry);
+        this.sampledCounter = resultCounter(meterRegistry, "sampled");
+        this.busyCounter = resultCounter(meterRegistry, "busy");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.durationTimer = Timer.builder("vaadin.session.footprint.duration")
+                .description("Time to sample footprints of Vaadin sessions")
+                .register(meterRegistry);
+        Gauge.builder("vaadin.session.active", sessions, Set::size)
+                .description("Live Vaadin sessions on this node")
+                .register(meterRegistry);
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Samples sessions at configured interval.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.monitoring.session-footprint.interval-ms:300000}",
+            initialDelayString = "${app.monitoring.session-footprint.interval-ms:300000}")
+    public void sampleSessions() {
+        if (enabled) {
+            sample();
+        }
+    }
+
+    /**
+     * Starts sampling on a virtual thread (admin view).
+     * Does nothing if sampling is already running.
+     */
+    public void sampleAsync() {
+        if (!running.get()) {
+            Thread.ofVirtual().name("session-footprint").start(this::sample);
+        }
+    }
+
+    /**
+     * Samples up to max-sessions-per-run random live sessions.
+     * Runs are exclusive: concurrent calls return immediately.
+     *
+     * @return footprints sampled in this run
+     */
+    public List<SessionFootprint> sample() {
+        if (!running.compareAndSet(false, true)) {
+            return List.of();
+        }
+        Timer.Sample timer = Timer.start();
+        try {
+            List<VaadinSession> candidates = new ArrayList<>(sessions);
+            Collections.shuffle(candidates);
+            List<SessionFootprint> sampled = new ArrayList<>();
+            for (VaadinSession session : candidates.subList(0, Math.min(candidates.size(), maxSessionsPerRun))) {
+                sampleSession(session).ifPresent(sampled::add);
+            }
+            lastSampleAt = Instant.now();
+            LOGGER.debug("Sampled {} of {} Vaadin sessions", sampled.size(), candidates.size());
+            return sampled;
+        } finally {
+            timer.stop(durationTimer);
+            running.set(false);
+        }
+    }
+
+    /**
+     * Gets latest footprints ordered by retained size.
+     *
+     * @param limit maximum number of sessions
+     * @return largest sessions first
+     */
+    public List<SessionFootprint> getTopSessions(final int limit) {
+        return footprints.values().stream()
+                .sorted(Comparator.comparingLong(SessionFootprint::retainedBytes).reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /**
+     * Gets number of live sessions on this node.
+     *
+     * @return session count
+     */
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets time of last completed sampling run.
+     *
+     * @return time or null if no run completed yet
+     */
+    public Instant getLastSampleAt() {
+        return lastSampleAt;
+    }
+
+    /**
+     * Tracks sessions of Vaadin service.
+     *
+     * @param event service init event
+     */
+    @Override
+    public void serviceInit(final ServiceInitEvent event) {
+        event.getSource().addSessionInitListener(initEvent -> sessions.add(initEvent.getSession()));
+        event.getSource().addSessionDestroyListener(destroyEvent -> {
+            sessions.remove(destroyEvent.getSession());
+            footprints.remove(destroyEvent.getSession());
+        });
+    }
+
+    // ==================== Private Methods ====================
+
+    /**
+     * Samples single session: collects roots and counts under its lock, walks the graph without it.
+     *
+     * @param session the Vaadin session
+     * @return footprint, empty if session was busy or sampling failed
+     */
+    Optional<SessionFootprint> sampleSession(final VaadinSession session) {
+        Lock lock = session.getLockInstance();
+        try {
+            if (lock == null || !lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                busyCounter.increment();
+                return Optional.empty();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        try {
+            Roots roots;
+            try {
+                roots = collectRoots(session);
+            } finally {
+                lock.unlock();
+            }
+            RetainedSizeEstimator.Estimate estimate = estimator.estimate(roots.objects());
+
+            SessionFootprint footprint = new SessionFootprint(
+                    Integer.toHexString(System.identityHashCode(session)),
+                    roots.userKey(),
+                    roots.uis(),
+                    roots.components(),
+                    estimate.bytes(),
+                    estimate.objects(),
+                    estimate.truncated(),
+                    Instant.now());
+            if (sessions.contains(session)) {
+                footprints.put(session, footprint);
+            }
+            retainedSizeSummary.record(footprint.retainedBytes());
+            componentsSummary.record(footprint.components());
+            uisSummary.record(footprint.uis());
+            sampledCounter.increment();
+            return Optional.of(footprint);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            LOGGER.warn("Failed to sample Vaadin session footprint", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Collects walk roots and counts of session (runs under session lock).
+     *
+     * @param session the Vaadin session
+     * @return roots, user key and counts
+     */
+    private Roots collectRoots(final VaadinSession session) {
+        List<Object> objects = new ArrayList<>();
+        objects.add(session);
+        String userKey = ANONYMOUS;
+        WrappedSession httpSession = session.getSession();
+        if (httpSession != null) {
+            for (String name : httpSession.getAttributeNames()) {
+                Object value = httpSession.getAttribute(name);
+                objects.add(value);
+                if (value instanceof CurrentUserSnapshot snapshot) {
+                    userKey = userKey(snapshot.id());
+                }
+            }
+        }
+
+        int components = 0;
+        for (UI ui : session.getUIs()) {
+            components += countComponents(ui);
+        }
+        return new Roots(objects, userKey, session.getUIs().size(), components);
+    }
+
+    /**
+     * Hashes user ID with per-node salt (IDs are sequential, so an unsalted hash is reversible).
+     *
+     * @param userId the user ID
+     * @return short hex key, stable for the lifetime of this node
+     */
+    String userKey(final long userId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(userKeySalt);
+            byte[] hash = digest.digest(ByteBuffer.allocate(Long.BYTES).putLong(userId).array());
+            return HexFormat.of().formatHex(hash, 0, USER_KEY_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static int countComponents(final Component component) {
+        return 1 + component.getChildren().mapToInt(SessionFootprintService::countComponents).sum();
+    }
+
+    private static boolean isSharedType(final Class<?> type) {
+        String name = type.getName();
+        if (Proxy.isProxyClass(type) || name.contains("$$")) {
+            return true;
+        }
+        for (String prefix : SHARED_PACKAGES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (Class<?> shared : SHARED_TYPES) {
+            if (shared.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        // Spring singletons (services, repositories, configuration); scoped beans are session state
+        return AnnotatedElementUtils.hasAnnotation(type, org.springframework.stereotype.Component.class)
+                && !AnnotatedElementUtils.hasAnnotation(type, Scope.class);
+    }
+
+    private static Counter resultCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("vaadin.session.footprint.samples")
+                .description("Vaadin session footprint samples by result")
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Session state collected under the session lock.
+     *
+     * @param objects walk roots
+     * @param userKey hashed user ID, or "anonymous"
+     * @param uis number of UIs
+     * @param components number of attached components
+     */
+    private record Roots(List<Object> objects, String userKey, int uis, int components) {}
+}
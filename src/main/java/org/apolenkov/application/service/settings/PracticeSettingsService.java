@@ -1,41 +1,154 @@
 package org.apolenkov.application.service.settings;
 
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apolenkov.application.config.event.EventDispatchConfiguration;
+import org.apolenkov.application.domain.port.UserSettingsRepository;
+import org.apolenkov.application.domain.usecase.UserUseCase;
 import org.apolenkov.application.model.PracticeDirection;
+import org.apolenkov.application.model.PracticeSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
- * Service for managing default practice settings and preferences.
+ * Service for managing per-user default practice settings.
  *
- * <p>Provides centralized access to default practice configuration values used
- * when starting new card practice sessions. Manages settings such as default
- * number of cards per session, randomization preferences, and practice direction.</p>
+ * <p>Settings are persisted in {@code user_settings} and loaded once per HTTP session into an
+ * immutable {@link PracticeSettings} snapshot, so reads on the practice path never touch the database.
+ * Changes replace the snapshot immediately and are written back asynchronously; writes of one user are
+ * coalesced and applied in order. A failed write keeps the pending entry and is retried with exponential
+ * backoff, so new sessions still see the unsaved settings; only after the last attempt fails the entry is
+ * dropped (the next change is written again). Without an authenticated user (or outside a request) defaults
+ * are returned.
  */
 @Service
 public class PracticeSettingsService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PracticeSettingsService.class);
+    private static final String SESSION_ATTRIBUTE = PracticeSettingsService.class.getName() + ".settings";
+
+    // ==================== Fields ====================
+
+    private final UserSettingsRepository repository;
+    private final UserUseCase userUseCase;
+    private final TaskExecutor executor;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
     /**
-     * Default number of cards to include in practice session.
+     * Latest unsaved settings per user; an entry exists while its write-back is queued or running.
+     */
+    private final Map<Long, PracticeSettings> pendingWrites = new ConcurrentHashMap<>();
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates practice settings service.
      *
-     * <p>Used when no specific count is provided for practice session.
-     * Value is clamped to ensure it remains within valid bounds (minimum 1).</p>
+     * @param repositoryValue repository for settings persistence
+     * @param userUseCaseValue use case resolving current user ID (from session snapshot)
+     * @param executorValue executor for asynchronous write-back
+     * @param maxAttemptsValue attempts per write-back before pending settings are dropped (at least 1)
+     * @param initialBackoffValue pause after first failed attempt, doubled per attempt
+     * @param maxBackoffValue upper bound of pause between attempts
+     * @throws IllegalArgumentException if any parameter is null or attempts are not positive
      */
-    private int defaultCount = 10;
+    public PracticeSettingsService(
+            final UserSettingsRepository repositoryValue,
+            final UserUseCase userUseCaseValue,
+            @Qualifier(EventDispatchConfiguration.EVENT_EXECUTOR) final TaskExecutor executorValue,
+            @Value("${app.settings.write-back.max-attempts:6}") final int maxAttemptsValue,
+            @Value("${app.settings.write-back.initial-backoff:PT0.5S}") final Duration initialBackoffValue,
+            @Value("${app.settings.write-back.max-backoff:PT30S}") final Duration maxBackoffValue) {
+        if (repositoryValue == null) {
+            throw new IllegalArgumentException("UserSettingsRepository cannot be null");
+        }
+        if (userUseCaseValue == null) {
+            throw new IllegalArgumentException("UserUseCase cannot be null");
+        }
+        if (executorValue == null) {
+            throw new IllegalArgumentException("TaskExecutor cannot be null");
+        }
+        if (maxAttemptsValue < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive, got: " + maxAttemptsValue);
+        }
+        if (initialBackoffValue == null || maxBackoffValue == null) {
+            throw new IllegalArgumentException("Write-back backoff cannot be null");
+        }
+        this.repository = repositoryValue;
+        this.userUseCase = userUseCaseValue;
+        this.executor = executorValue;
+        this.maxAttempts = maxAttemptsValue;
+        this.initialBackoff = initialBackoffValue;
+        this.maxBackoff = maxBackoffValue;
+    }
+
+    // ==================== Public API ====================
 
     /**
-     * Default setting for randomizing card order in practice sessions.
+     * Gets practice settings of the current user.
+     * Loaded from the database on first call in the session, afterwards served from the session snapshot.
      *
-     * <p>When true, cards are presented in random order during practice.
-     * When false, cards are presented in their original order.</p>
+     * @return immutable settings snapshot, never null
      */
-    private boolean defaultRandomOrder = true;
+    public PracticeSettings getSettings() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Long userId = currentUserId();
+        if (attributes == null || userId == null) {
+            return PracticeSettings.DEFAULTS;
+        }
+
+        Object cached = attributes.getAttribute(SESSION_ATTRIBUTE, RequestAttributes.SCOPE_SESSION);
+        if (cached instanceof SessionSettings s && s.userId() == userId) {
+            return s.settings();
+        }
+
+        PracticeSettings pending = pendingWrites.get(userId);
+        PracticeSettings loaded = pending != null
+                ? pending
+                : repository.findPracticeSettings(userId).orElse(PracticeSettings.DEFAULTS);
+        attributes.setAttribute(
+                SESSION_ATTRIBUTE, new SessionSettings(userId, loaded), RequestAttributes.SCOPE_SESSION);
+        LOGGER.debug("Practice settings loaded: userId={}, settings={}", userId, loaded);
+        return loaded;
+    }
 
     /**
-     * Default practice direction for card sessions.
+     * Saves practice settings of the current user.
+     * Session snapshot is replaced immediately; database write happens asynchronously.
      *
-     * <p>Determines whether practice sessions start with front side (question)
-     * or back side (answer) of cards by default.</p>
+     * @param settings new settings
+     * @throws IllegalArgumentException if settings is null
+     * @throws IllegalStateException if there is no authenticated user
      */
-    private PracticeDirection defaultDirection = PracticeDirection.FRONT_TO_BACK;
+    public void saveSettings(final PracticeSettings settings) {
+        if (settings == null) {
+            throw new IllegalArgumentException("Practice settings cannot be null");
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            throw new IllegalStateException("Practice settings require an authenticated user");
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(
+                    SESSION_ATTRIBUTE, new SessionSettings(userId, settings), RequestAttributes.SCOPE_SESSION);
+        }
+        if (pendingWrites.put(userId, settings) == null) {
+            executor.execute(() -> writeBack(userId));
+        }
+    }
 
     /**
      * Gets default number of cards for practice sessions.
@@ -43,54 +156,120 @@ public class PracticeSettingsService {
      * @return default card count for practice sessions
      */
     public int getDefaultCount() {
-        return defaultCount;
+        return getSettings().defaultCount();
     }
 
     /**
-     * Sets default number of cards for practice sessions.
+     * Gets default setting for randomizing card order.
      *
-     * <p>Value is automatically clamped to ensure it remains at least 1.
-     * Prevents invalid practice session configurations.</p>
+     * @return true if cards are randomized by default
+     */
+    public boolean isDefaultRandomOrder() {
+        return getSettings().randomOrder();
+    }
+
+    /**
+     * Gets default practice direction for card sessions.
      *
-     * @param defaultCountValue new default card count (minimum 1)
+     * @return default practice direction
      */
-    public void setDefaultCount(final int defaultCountValue) {
-        this.defaultCount = Math.clamp(defaultCountValue, 1, Integer.MAX_VALUE);
+    public PracticeDirection getDefaultDirection() {
+        return getSettings().direction();
     }
 
+    // ==================== Private Methods ====================
+
     /**
-     * Gets default setting for randomizing card order.
+     * Writes latest pending settings of user until no newer settings arrived during the write.
+     * Only one write-back per user runs at a time (a task is submitted when the pending entry appears),
+     * so the last saved settings always win. Failed writes keep the entry and are retried with backoff
+     * (each retry writes the latest settings); the entry is removed only after success or the last attempt,
+     * so that a later change submits a new write-back.
      *
-     * @return true if cards are randomized by default
+     * @param userId user whose settings are written
      */
-    public boolean isDefaultRandomOrder() {
-        return defaultRandomOrder;
+    private void writeBack(final long userId) {
+        int failures = 0;
+        long backoffMs = initialBackoff.toMillis();
+        while (true) {
+            PracticeSettings settings = pendingWrites.get(userId);
+            if (settings == null) {
+                return;
+            }
+            try {
+                repository.savePracticeSettings(userId, settings);
+                failures = 0;
+                backoffMs = initialBackoff.toMillis();
+            } catch (RuntimeException e) {
+                failures++;
+                if (failures < maxAttempts) {
+                    LOGGER.warn(
+                            "Practice settings could not be saved, retrying in {}ms: userId={}, attempt={}",
+                            backoffMs,
+                            userId,
+                            failures,
+                            e);
+                    if (!pause(backoffMs)) {
+                        pendingWrites.remove(userId);
+                        return;
+                    }
+                    backoffMs = Math.min(backoffMs * 2, maxBackoff.toMillis());
+                    continue;
+                }
+                LOGGER.error(
+                        "Practice settings could not be saved, giving up: userId={}, attempts={}",
+                        userId,
+                        failures,
+                        e);
+                failures = 0;
+                backoffMs = initialBackoff.toMillis();
+            }
+            if (pendingWrites.remove(userId, settings)) {
+                return;
+            }
+        }
     }
 
     /**
-     * Sets default setting for randomizing card order.
+     * Pauses write-back before next attempt.
      *
-     * @param defaultRandomOrderValue true to randomize cards by default, false to maintain order
+     * @param millis pause length
+     * @return false if thread was interrupted (shutdown)
      */
-    public void setDefaultRandomOrder(final boolean defaultRandomOrderValue) {
-        this.defaultRandomOrder = defaultRandomOrderValue;
+    private static boolean pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     /**
-     * Gets default practice direction for card sessions.
+     * Resolves current user ID from session snapshot.
      *
-     * @return default practice direction
+     * @return user ID, or null if nobody is authenticated
      */
-    public PracticeDirection getDefaultDirection() {
-        return defaultDirection;
+    private Long currentUserId() {
+        try {
+            return userUseCase.getCurrentUserId();
+        } catch (IllegalStateException e) {
+            return null;
+        }
     }
 
+    // ==================== Inner Classes ====================
+
     /**
-     * Sets default practice direction for card sessions.
+     * Settings snapshot stored in HTTP session, bound to the user it was loaded for.
      *
-     * @param defaultDirectionValue new default practice direction
+     * @param userId owner of settings
+     * @param settings immutable settings
      */
-    public void setDefaultDirection(final PracticeDirection defaultDirectionValue) {
-        this.defaultDirection = defaultDirectionValue;
+    private record SessionSettings(long userId, PracticeSettings settings) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
     }
 }
@@ -3,12 +3,16 @@ package org.apolenkov.application.service.stats;
 import com.vaadin.flow.spring.annotation.VaadinSessionScope;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.apolenkov.application.domain.event.ProgressChangedEvent;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.service.stats.metrics.CacheStatsRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,17 +30,22 @@ import org.springframework.stereotype.Component;
  *   <li>Max size: configurable via app.cache.known-cards.max-size (default: 1000 entries)</li>
  *   <li>Eviction: LRU-style when cache reaches max size</li>
  *   <li>Scope: @VaadinSessionScope - shared across UI instances in same session</li>
+ *   <li>Cross-node: entries invalidated on other nodes are treated as stale (CacheInvalidationRegistry)</li>
  * </ul>
+ *
+ * <p>Hits, misses, evictions and load time are also pushed to node-wide {@link CacheStatsRecorder}.
  */
 @Component
 @VaadinSessionScope
-public class KnownCardsCache {
+public class KnownCardsCache implements CacheStatsRecorder.Source {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KnownCardsCache.class);
 
     private final Map<Long, CachedKnownCards> cache = new ConcurrentHashMap<>();
     private final AtomicLong hitCount = new AtomicLong();
     private final AtomicLong missCount = new AtomicLong();
+    private final CacheInvalidationRegistry invalidationRegistry;
+    private final CacheStatsRecorder recorder;
 
     @Value("${app.cache.known-cards.ttl-ms:300000}")
     private long ttlMs;
@@ -44,6 +53,19 @@ public class KnownCardsCache {
     @Value("${app.cache.known-cards.max-size:1000}")
     private int maxSize;
 
+    /**
+     * Creates cache bound to node-wide invalidation registry and metrics.
+     *
+     * @param invalidationRegistryValue registry of invalidations received from other nodes
+     * @param cacheMetricsValue node-wide cache metrics
+     */
+    public KnownCardsCache(
+            final CacheInvalidationRegistry invalidationRegistryValue, final AppCacheMetrics cacheMetricsValue) {
+        this.invalidationRegistry = invalidationRegistryValue;
+        this.recorder = cacheMetricsValue.recorder(CacheInvalidationRegistry.KNOWN_CARDS);
+        recorder.register(this);
+    }
+
     /**
      * Gets known card IDs for a deck.
      * Uses cached data when available and valid, otherwise loads fresh data.
@@ -60,18 +82,23 @@ public class KnownCardsCache {
 
         CachedKnownCards cached = cache.get(deckId);
 
-        if (cached != null && cached.isValid(ttlMs)) {
+        if (isFresh(deckId, cached)) {
             hitCount.incrementAndGet();
+            recorder.recordHit();
+            cached.accesses.incrementAndGet();
             LOGGER.debug("Cache HIT: Returning {} known cards for deckId={}", cached.cardIds.size(), deckId);
             return cached.cardIds;
         }
 
         missCount.incrementAndGet();
+        recorder.recordMiss();
         LOGGER.debug("Cache MISS: Loading known cards for deckId={}", deckId);
+        CacheStatsRecorder.LoadTimer load = recorder.startLoad();
         Set<Long> cardIds = loader.get();
+        load.stop(1);
 
         // Evict the oldest entry if cache is full
-        if (cache.size() >= maxSize) {
+        if (cache.size() >= recorder.effectiveMaxSize(maxSize)) {
             evictOldest();
         }
 
@@ -101,8 +128,9 @@ public class KnownCardsCache {
 
         for (Long deckId : deckIds) {
             CachedKnownCards cached = cache.get(deckId);
-            if (cached != null && cached.isValid(ttlMs)) {
+            if (isFresh(deckId, cached)) {
                 hitCount.incrementAndGet();
+                cached.accesses.incrementAndGet();
                 result.put(deckId, cached.cardIds);
             } else {
                 missCount.incrementAndGet();
@@ -110,15 +138,19 @@ public class KnownCardsCache {
             }
         }
 
+        recorder.recordBatch(deckIds.size() - missingDeckIds.size(), missingDeckIds.size());
+
         // Load missing decks in batch
         if (!missingDeckIds.isEmpty()) {
             LOGGER.debug("Cache MISS: Loading known cards for {} decks in batch", missingDeckIds.size());
+            CacheStatsRecorder.LoadTimer load = recorder.startLoad();
             Map<Long, Set<Long>> loaded = batchLoader.get();
+            load.stop(loaded.size());
 
             // Cache newly loaded data
             loaded.forEach((deckId, cardIds) -> {
                 // Evict the oldest entry if cache is full
-                if (cache.size() >= maxSize) {
+                if (cache.size() >= recorder.effectiveMaxSize(maxSize)) {
                     evictOldest();
                 }
                 cache.put(deckId, new CachedKnownCards(cardIds));
@@ -151,6 +183,7 @@ public class KnownCardsCache {
      * Clears all cache entries.
      * Use for testing or when global cache invalidation is needed.
      */
+    @Override
     public void clear() {
         cache.clear();
         LOGGER.debug("Cache cleared: all entries removed");
@@ -190,6 +223,56 @@ public class KnownCardsCache {
         return new CacheStats(hitCount.get(), missCount.get(), cache.size());
     }
 
+    /**
+     * Gets number of cached entries in this session.
+     *
+     * @return entry count
+     */
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets number of card IDs held by this session's cache.
+     *
+     * @return total card IDs over all entries
+     */
+    @Override
+    public long weight() {
+        return cache.values().stream().mapToLong(entry -> entry.cardIds.size()).sum();
+    }
+
+    // ==================== Control Plane ====================
+
+    @Override
+    public long ttlMs() {
+        return recorder.effectiveTtlMs(ttlMs);
+    }
+
+    @Override
+    public int maxSize() {
+        return recorder.effectiveMaxSize(maxSize);
+    }
+
+    @Override
+    public Map<Long, Long> accessCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        cache.forEach((key, entry) -> counts.merge(key, entry.accesses.get(), Long::sum));
+        return counts;
+    }
+
+    /**
+     * Removes all entries of a deck (cache control endpoint).
+     *
+     * @param key the deck ID
+     * @return number of removed entries
+     */
+    @Override
+    public int evict(final long key) {
+        return cache.remove(key) != null ? 1 : 0;
+    }
+
     /**
      * Logs cache statistics at DEBUG level.
      * Call periodically or on demand for monitoring.
@@ -208,6 +291,19 @@ public class KnownCardsCache {
         }
     }
 
+    /**
+     * Checks that entry exists, is within TTL and was not invalidated on another node.
+     *
+     * @param deckId the deck ID
+     * @param cached cached entry or null
+     * @return true if cached entry can be served
+     */
+    private boolean isFresh(final Long deckId, final CachedKnownCards cached) {
+        return cached != null
+                && cached.isValid(recorder.effectiveTtlMs(ttlMs))
+                && !invalidationRegistry.isStale(CacheInvalidationRegistry.KNOWN_CARDS, deckId, cached.cachedAt);
+    }
+
     /**
      * Evicts oldest cache entry (LRU-style).
      * Called when cache reaches max size.
@@ -217,6 +313,7 @@ public class KnownCardsCache {
                 .min(Comparator.comparing(e -> e.getValue().cachedAt))
                 .ifPresent(oldest -> {
                     cache.remove(oldest.getKey());
+                    recorder.recordEviction();
                     LOGGER.debug("Cache eviction: removed oldest entry for deckId={}", oldest.getKey());
                 });
     }
@@ -227,6 +324,7 @@ public class KnownCardsCache {
      * Cached known cards with TTL.
      */
     private static final class CachedKnownCards {
+        private final AtomicLong accesses = new AtomicLong();
         private final Set<Long> cardIds;
         private final Instant cachedAt;
 
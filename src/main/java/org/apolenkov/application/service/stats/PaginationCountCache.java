@@ -1,17 +1,24 @@
 package org.apolenkov.application.service.stats;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 import org.apolenkov.application.domain.event.DeckModifiedEvent;
 import org.apolenkov.application.domain.event.ProgressChangedEvent;
 import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
 import org.apolenkov.application.service.stats.event.CacheInvalidationEvent;
-import org.apolenkov.application.service.stats.metrics.CacheMetricsCollector;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.service.stats.metrics.CacheStatsRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,16 +48,20 @@ import org.springframework.web.context.WebApplicationContext;
  *   <li>Event-driven: ProgressChangedEvent (known/unknown status change)</li>
  *   <li>Smart invalidation: FilterOption.ALL is NOT invalidated on progress change (count unchanged)</li>
  *   <li>Debouncing: 300ms cooldown prevents excessive invalidations during rapid clicks (balanced UX/performance)</li>
+ *   <li>Cross-node: entries invalidated on other nodes are treated as stale (CacheInvalidationRegistry)</li>
  *   <li>TTL-based: configurable backup fallback</li>
  * </ul>
+ *
+ * <p>Hits, misses, evictions and load time are pushed to node-wide {@link CacheStatsRecorder}
+ * exported by {@link AppCacheMetrics}.
  */
 @Component
 @Scope(value = WebApplicationContext.SCOPE_SESSION, proxyMode = ScopedProxyMode.TARGET_CLASS)
-public class PaginationCountCache {
+public class PaginationCountCache implements CacheStatsRecorder.Source {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PaginationCountCache.class);
     private static final long INVALIDATION_COOLDOWN_MS = 300; // 300ms debouncing (reduced from 2s for better UX)
-    private static final String CACHE_TYPE = "pagination-count";
+    private static final String CACHE_TYPE = CacheInvalidationRegistry.PAGINATION_COUNT;
 
     private final Map<CountKey, CachedCount> cache = new ConcurrentHashMap<>();
     private final Map<Long, Instant> lastInvalidationTime = new ConcurrentHashMap<>();
@@ -66,18 +77,24 @@ public class PaginationCountCache {
 
     // Dependencies for metrics and events
     private final ApplicationEventPublisher eventPublisher;
-    private final CacheMetricsCollector metricsCollector;
+    private final CacheStatsRecorder recorder;
+    private final CacheInvalidationRegistry invalidationRegistry;
 
     /**
      * Creates PaginationCountCache with required dependencies.
      *
      * @param eventPublisherValue the Spring event publisher for cache invalidation events
-     * @param metricsCollectorValue the metrics collector for cache statistics
+     * @param cacheMetricsValue node-wide cache metrics
+     * @param invalidationRegistryValue registry of invalidations received from other nodes
      */
     public PaginationCountCache(
-            final ApplicationEventPublisher eventPublisherValue, final CacheMetricsCollector metricsCollectorValue) {
+            final ApplicationEventPublisher eventPublisherValue,
+            final AppCacheMetrics cacheMetricsValue,
+            final CacheInvalidationRegistry invalidationRegistryValue) {
         this.eventPublisher = eventPublisherValue;
-        this.metricsCollector = metricsCollectorValue;
+        this.invalidationRegistry = invalidationRegistryValue;
+        this.recorder = cacheMetricsValue.recorder(CACHE_TYPE);
+        recorder.register(this);
     }
 
     /**
@@ -99,10 +116,12 @@ public class PaginationCountCache {
         CountKey key = new CountKey(deckId, normalizeSearch(searchQuery), filterOption);
         CachedCount cached = cache.get(key);
 
-        if (cached != null && cached.isValid(ttlMs)) {
+        if (cached != null
+                && cached.isValid(recorder.effectiveTtlMs(ttlMs))
+                && !invalidationRegistry.isStale(CACHE_TYPE, deckId, cached.cachedAt())) {
             hitCount.incrementAndGet();
-            // Record cache hit metrics
-            metricsCollector.recordCacheHitMiss(CACHE_TYPE, true);
+            recorder.recordHit();
+            cached.accesses().incrementAndGet();
 
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(
@@ -116,16 +135,12 @@ public class PaginationCountCache {
         }
 
         missCount.incrementAndGet();
-        // Record cache miss metrics
-        metricsCollector.recordCacheHitMiss(CACHE_TYPE, false);
+        recorder.recordMiss();
+        CacheStatsRecorder.LoadTimer load = recorder.startLoad();
         long count = loader.getAsLong();
+        load.stop(1);
 
-        // Evict the oldest entry if cache is full
-        if (cache.size() >= maxSize) {
-            evictOldest();
-        }
-
-        cache.put(key, new CachedCount(count, Instant.now()));
+        put(key, count);
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(
@@ -139,6 +154,76 @@ public class PaginationCountCache {
         return count;
     }
 
+    /**
+     * Gets counts without search query for multiple decks, loading missing decks in one batch.
+     * Decks absent from loader result are cached with count 0.
+     *
+     * @param deckIds the deck IDs
+     * @param filterOption the filter option
+     * @param batchLoader function loading counts for missing deck IDs
+     * @return map of deck ID to count, contains every requested deck
+     */
+    public Map<Long, Long> getCounts(
+            final Collection<Long> deckIds,
+            final FilterOption filterOption,
+            final Function<Collection<Long>, Map<Long, Long>> batchLoader) {
+        if (deckIds == null || deckIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long deckId : deckIds) {
+            CachedCount cached = cache.get(new CountKey(deckId, "", filterOption));
+            if (cached != null
+                    && cached.isValid(recorder.effectiveTtlMs(ttlMs))
+                    && !invalidationRegistry.isStale(CACHE_TYPE, deckId, cached.cachedAt())) {
+                hitCount.incrementAndGet();
+                cached.accesses().incrementAndGet();
+                result.put(deckId, cached.count());
+            } else {
+                missCount.incrementAndGet();
+                missing.add(deckId);
+            }
+        }
+        recorder.recordBatch(result.size(), missing.size());
+
+        if (!missing.isEmpty()) {
+            CacheStatsRecorder.LoadTimer load = recorder.startLoad();
+            Map<Long, Long> loaded = batchLoader.apply(missing);
+            load.stop(loaded.size());
+            for (Long deckId : missing) {
+                long count = loaded.getOrDefault(deckId, 0L);
+                put(new CountKey(deckId, "", filterOption), count);
+                result.put(deckId, count);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores count without search query computed elsewhere (e.g. login warmup).
+     *
+     * @param deckId the deck ID
+     * @param filterOption the filter option
+     * @param count exact count for the filter
+     */
+    public void preload(final Long deckId, final FilterOption filterOption, final long count) {
+        if (deckId == null || filterOption == null) {
+            return;
+        }
+        put(new CountKey(deckId, "", filterOption), count);
+    }
+
+    private void put(final CountKey key, final long count) {
+        // Evict the oldest entry if cache is full
+        if (cache.size() >= recorder.effectiveMaxSize(maxSize)) {
+            evictOldest();
+        }
+        cache.put(key, new CachedCount(count, Instant.now(), new AtomicLong()));
+    }
+
     /**
      * Invalidates all cache entries for a specific deck.
      * Called after card create/update/delete or progress changes.
@@ -162,9 +247,6 @@ public class PaginationCountCache {
             CacheInvalidationEvent event = CacheInvalidationEvent.of(CACHE_TYPE, deckId, "deck-modified");
             eventPublisher.publishEvent(event);
 
-            // Record metrics
-            metricsCollector.recordCacheSize(CACHE_TYPE, cache.size());
-
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("COUNT cache invalidated for deckId={}: {} entries removed", deckId, removed);
             }
@@ -302,6 +384,66 @@ public class PaginationCountCache {
         return new CacheStats(hitCount.get(), missCount.get(), cache.size(), skippedInvalidations.get());
     }
 
+    /**
+     * Gets number of cached counts in this session.
+     *
+     * @return entry count
+     */
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets weight of this session's cache; every entry holds a single count.
+     *
+     * @return entry count
+     */
+    @Override
+    public long weight() {
+        return cache.size();
+    }
+
+    // ==================== Control Plane ====================
+
+    @Override
+    public long ttlMs() {
+        return recorder.effectiveTtlMs(ttlMs);
+    }
+
+    @Override
+    public int maxSize() {
+        return recorder.effectiveMaxSize(maxSize);
+    }
+
+    @Override
+    public Map<Long, Long> accessCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        cache.forEach((key, entry) -> counts.merge(key.deckId(), entry.accesses().get(), Long::sum));
+        return counts;
+    }
+
+    /**
+     * Removes all entries of a deck (all filters and searches) (cache control endpoint).
+     *
+     * @param key the deck ID
+     * @return number of removed entries
+     */
+    @Override
+    public int evict(final long key) {
+        int before = cache.size();
+        cache.keySet().removeIf(entryKey -> entryKey.deckId() == key);
+        return Math.max(0, before - cache.size());
+    }
+
+    /**
+     * Clears all cache entries.
+     */
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
     /**
      * Logs cache statistics at DEBUG level.
      * Useful for monitoring cache effectiveness and debouncing impact.
@@ -341,6 +483,7 @@ public class PaginationCountCache {
                 .min(Comparator.comparing(e -> e.getValue().cachedAt()))
                 .ifPresent(oldest -> {
                     cache.remove(oldest.getKey());
+                    recorder.recordEviction();
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debug("COUNT cache eviction: removed oldest entry for key={}", oldest.getKey());
                     }
@@ -370,8 +513,9 @@ public class PaginationCountCache {
      *
      * @param count the cached count
      * @param cachedAt the time when cached
+     * @param accesses number of hits served from this entry
      */
-    record CachedCount(long count, Instant cachedAt) {
+    record CachedCount(long count, Instant cachedAt, AtomicLong accesses) {
         boolean isValid(final long ttlMillis) {
             return Instant.now().isBefore(cachedAt.plusMillis(ttlMillis));
         }
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.apolenkov.application.config.monitoring.jfr.RecordSessionEvent;
 import org.apolenkov.application.domain.dto.SessionStatsDto;
 import org.apolenkov.application.domain.event.ProgressChangedEvent;
 import org.apolenkov.application.domain.event.ProgressChangedEvent.ChangeType;
@@ -12,9 +13,9 @@ import org.apolenkov.application.domain.port.DeckRepository;
 import org.apolenkov.application.domain.port.StatsRepository;
 import org.apolenkov.application.domain.usecase.StatsUseCase;
 import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,7 +34,7 @@ public class StatsService implements StatsUseCase {
     private final StatsRepository statsRepository;
     private final DeckRepository deckRepository;
     private final KnownCardsCache knownCardsCache;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher eventPublisher;
 
     // ==================== Constructor ====================
 
@@ -43,13 +44,13 @@ public class StatsService implements StatsUseCase {
      * @param statsRepositoryValue repository for statistics operations
      * @param deckRepositoryValue repository for deck operations
      * @param knownCardsCacheValue cache for known card IDs (used for read operations)
-     * @param eventPublisherValue publisher for domain events
+     * @param eventPublisherValue transaction-aware publisher for domain events
      */
     public StatsService(
             final StatsRepository statsRepositoryValue,
             final DeckRepository deckRepositoryValue,
             @Lazy final KnownCardsCache knownCardsCacheValue,
-            final ApplicationEventPublisher eventPublisherValue) {
+            final DomainEventPublisher eventPublisherValue) {
         this.statsRepository = statsRepositoryValue;
         this.deckRepository = deckRepositoryValue;
         this.knownCardsCache = knownCardsCacheValue;
@@ -80,11 +81,19 @@ public class StatsService implements StatsUseCase {
             return;
         }
 
+        RecordSessionEvent jfrEvent = new RecordSessionEvent();
+        jfrEvent.begin();
         LocalDate today = LocalDate.now();
         statsRepository.appendSession(sessionData, today);
 
         // Publish event for cache invalidation (event-driven approach)
-        eventPublisher.publishEvent(new ProgressChangedEvent(this, sessionData.deckId()));
+        eventPublisher.publish(new ProgressChangedEvent(this, sessionData.deckId()));
+        jfrEvent.complete(
+                sessionData.deckId(),
+                sessionData.viewed(),
+                sessionData.knownCardIdsDelta() != null
+                        ? sessionData.knownCardIdsDelta().size()
+                        : 0);
 
         LOGGER.info(
                 "Session recorded: deckId={}, viewed={}, correct={}, hard={}, durationMs={}, knownDelta={}",
@@ -197,7 +206,7 @@ public class StatsService implements StatsUseCase {
         statsRepository.setCardKnown(deckId, cardId, known);
 
         // Publish event for cache invalidation (event-driven approach, decouples service from cache)
-        eventPublisher.publishEvent(new ProgressChangedEvent(this, deckId));
+        eventPublisher.publish(new ProgressChangedEvent(this, deckId));
 
         LOGGER.info("Card marked as {} in deck {}: cardId={}", known ? "known" : "unknown", deckId, cardId);
     }
@@ -205,27 +214,23 @@ public class StatsService implements StatsUseCase {
     /**
      * Toggles knowledge status of specific card in deck.
      * More efficient than isCardKnown() + setCardKnown() as it checks and updates in one operation.
-     * Uses isCardKnownDirect() for optimal single-card check (EXISTS query instead of loading all cards).
+     * Reads and flips the status in a single statement (one round trip instead of check + write).
      * Publishes ProgressChangedEvent for cache invalidation (event-driven approach).
      *
      * @param deckId ID of deck containing the card
      * @param cardId ID of card to toggle
+     * @return new knowledge status (true if card is now known)
      */
     @Override
     @Transactional
-    public void toggleCardKnown(final long deckId, final long cardId) {
-        // Use direct check instead of loading all known cards (optimized for single card check)
-        boolean currentlyKnown = statsRepository.isCardKnownDirect(deckId, cardId);
-        boolean newStatus = !currentlyKnown;
-
-        LOGGER.debug("Toggling card {} in deck {}: {} -> {}", cardId, deckId, currentlyKnown, newStatus);
-
-        statsRepository.setCardKnown(deckId, cardId, newStatus);
+    public boolean toggleCardKnown(final long deckId, final long cardId) {
+        boolean newStatus = statsRepository.toggleCardKnown(deckId, cardId);
 
         // Publish event for cache invalidation (event-driven approach, decouples service from cache)
-        eventPublisher.publishEvent(new ProgressChangedEvent(this, deckId));
+        eventPublisher.publish(new ProgressChangedEvent(this, deckId));
 
         LOGGER.info("Card toggled to {} in deck {}: cardId={}", newStatus ? "known" : "unknown", deckId, cardId);
+        return newStatus;
     }
 
     /**
@@ -251,7 +256,7 @@ public class StatsService implements StatsUseCase {
         statsRepository.resetDeckProgress(deckId);
 
         // Publish event for cache invalidation (event-driven approach, decouples service from cache)
-        eventPublisher.publishEvent(new ProgressChangedEvent(this, deckId, ChangeType.DECK_RESET));
+        eventPublisher.publish(new ProgressChangedEvent(this, deckId, ChangeType.DECK_RESET));
 
         // Audit log with deck context
         AUDIT_LOGGER.warn(
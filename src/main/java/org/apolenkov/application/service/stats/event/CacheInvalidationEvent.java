@@ -1,6 +1,7 @@
 package org.apolenkov.application.service.stats.event;
 
 import java.time.Instant;
+import org.apolenkov.application.domain.event.CoalescingEvent;
 
 /**
  * Event published when cache invalidation occurs.
@@ -11,7 +12,8 @@ import java.time.Instant;
  * @param reason the reason for invalidation (save, delete, etc.)
  * @param timestamp when the invalidation occurred
  */
-public record CacheInvalidationEvent(String cacheType, Object key, String reason, Instant timestamp) {
+public record CacheInvalidationEvent(String cacheType, Object key, String reason, Instant timestamp)
+        implements CoalescingEvent {
 
     /**
      * Creates a new CacheInvalidationEvent with current timestamp.
@@ -25,6 +27,16 @@ public record CacheInvalidationEvent(String cacheType, Object key, String reason
         return new CacheInvalidationEvent(cacheType, key, reason, Instant.now());
     }
 
+    /**
+     * Returns coalescing key: timestamp is ignored so repeated invalidations merge.
+     *
+     * @return coalescing key
+     */
+    @Override
+    public Object coalescingKey() {
+        return new Key(cacheType, key, reason);
+    }
+
     /**
      * Gets the cache type for metrics tagging.
      *
@@ -51,4 +63,13 @@ public record CacheInvalidationEvent(String cacheType, Object key, String reason
     public String getKeyAsString() {
         return key != null ? key.toString() : "null";
     }
+
+    /**
+     * Coalescing key for cache invalidation events.
+     *
+     * @param cacheType cache type
+     * @param key cache key
+     * @param reason invalidation reason
+     */
+    private record Key(String cacheType, Object key, String reason) {}
 }
@@ -0,0 +1,155 @@
+package org.apolenkov.application.service.stats.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meter binder for application-managed (session-scoped) caches.
+ * Every cache gets its {@link CacheStatsRecorder} once at startup; meters are registered once
+ * and read the recorders' adders when scraped, so the cache read path never touches the registry.
+ *
+ * <p>Meter names follow Micrometer cache conventions, so these caches appear next to the
+ * Caffeine caches in the same dashboards:
+ * <ul>
+ *   <li>cache.gets{result=hit|miss}</li>
+ *   <li>cache.evictions</li>
+ *   <li>cache.load.duration{result=success} (function timer)</li>
+ *   <li>cache.size - entries over all live sessions</li>
+ *   <li>cache.weight - values held by all entries</li>
+ *   <li>cache.instances - live cache instances (sessions)</li>
+ * </ul>
+ */
+@Component
+public class AppCacheMetrics implements MeterBinder {
+
+    /**
+     * Cache name for deck card pages (DeckPageCache).
+     */
+    public static final String DECK_PAGE = "deck-page";
+
+    /**
+     * Tag keys shared with Caffeine cache meters (same meter names need same tag keys in Prometheus).
+     */
+    public static final String CACHE_TAG = "cache";
+
+    public static final String SCOPE_TAG = "scope";
+
+    private static final String RESULT_TAG = "result";
+    private static final String SCOPE_SESSION = "session";
+
+    // ==================== Fields ====================
+
+    private final Map<String, CacheStatsRecorder> recorders;
+
+    // ==================== Constructor ====================
+
+    /**
+     * Creates recorders for all application caches.
+     */
+    public AppCacheMetrics() {
+        Map<String, CacheStatsRecorder> map = new LinkedHashMap<>();
+        for (String name : new String[] {
+            CacheInvalidationRegistry.PAGINATION_COUNT,
+            CacheInvalidationRegistry.KNOWN_CARDS,
+            CacheInvalidationRegistry.DECKS,
+            DECK_PAGE
+        }) {
+            map.put(name, new CacheStatsRecorder(name));
+        }
+        this.recorders = Collections.unmodifiableMap(map);
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Gets recorder for cache.
+     * Caches resolve their recorder once (in constructor) and keep the reference.
+     *
+     * @param cacheName application cache name
+     * @return recorder for cache
+     * @throws IllegalArgumentException if cache is not known
+     */
+    public CacheStatsRecorder recorder(final String cacheName) {
+        CacheStatsRecorder recorder = recorders.get(cacheName);
+        if (recorder == null) {
+            throw new IllegalArgumentException("Unknown application cache: " + cacheName);
+        }
+        return recorder;
+    }
+
+    /**
+     * Gets all recorders.
+     *
+     * @return recorders in registration order
+     */
+    public Collection<CacheStatsRecorder> recorders() {
+        return recorders.values();
+    }
+
+    // ==================== MeterBinder ====================
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (CacheStatsRecorder recorder : recorders.values()) {
+            Tags tags = Tags.of(Tag.of(CACHE_TAG, recorder.getCacheName()), Tag.of(SCOPE_TAG, SCOPE_SESSION));
+
+            FunctionCounter.builder("cache.gets", recorder, CacheStatsRecorder::hits)
+                    .description("Cache lookups served from cache")
+                    .tags(tags)
+                    .tag(RESULT_TAG, "hit")
+                    .register(registry);
+
+            FunctionCounter.builder("cache.gets", recorder, CacheStatsRecorder::misses)
+                    .description("Cache lookups that required loading")
+                    .tags(tags)
+                    .tag(RESULT_TAG, "miss")
+                    .register(registry);
+
+            FunctionCounter.builder("cache.evictions", recorder, CacheStatsRecorder::evictions)
+                    .description("Entries evicted because cache reached max size")
+                    .tags(tags)
+                    .register(registry);
+
+            FunctionTimer.builder(
+                            "cache.load.duration",
+                            recorder,
+                            CacheStatsRecorder::loads,
+                            CacheStatsRecorder::loadNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent loading cache misses")
+                    .tags(tags)
+                    .tag(RESULT_TAG, "success")
+                    .register(registry);
+
+            Gauge.builder("cache.size", recorder, CacheStatsRecorder::size)
+                    .strongReference(true)
+                    .description("Entries held over all live cache instances")
+                    .tags(tags)
+                    .register(registry);
+
+            Gauge.builder("cache.weight", recorder, CacheStatsRecorder::weight)
+                    .strongReference(true)
+                    .description("Values held by all entries over all live cache instances")
+                    .tags(tags)
+                    .register(registry);
+
+            Gauge.builder("cache.instances", recorder, CacheStatsRecorder::instances)
+                    .strongReference(true)
+                    .description("Live cache instances (one per session)")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+}
@@ -2,15 +2,15 @@ package org.apolenkov.application.service.stats.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
-import java.util.List;
 import java.util.function.Supplier;
+import org.apolenkov.application.config.event.EventDispatchConfiguration;
 import org.apolenkov.application.service.stats.event.CacheInvalidationEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,6 +20,8 @@ import org.springframework.stereotype.Component;
  * - Uses @EventListener for decoupled metrics collection
  * - Provides detailed metrics with tags for filtering
  * - Includes performance timing for cache operations
+ *
+ * <p>Hit/miss/size metrics of application caches are exposed by {@link AppCacheMetrics}.
  */
 @Component
 public class CacheMetricsCollector {
@@ -31,7 +33,6 @@ public class CacheMetricsCollector {
     private static final String APPLICATION_VALUE = "memo";
     private static final String CACHE_TYPE_TAG = "cache_type";
     private static final String REASON_TAG = "reason";
-    private static final String RESULT_TAG = "result";
 
     // ==================== Fields ====================
 
@@ -67,10 +68,11 @@ public class CacheMetricsCollector {
 
     /**
      * Handles cache invalidation events and records metrics.
-     * Uses @EventListener for decoupled metrics collection.
+     * Runs asynchronously on virtual thread, so metrics never add latency to write paths.
      *
      * @param event the cache invalidation event
      */
+    @Async(EventDispatchConfiguration.EVENT_EXECUTOR)
     @EventListener
     public void onCacheInvalidation(final CacheInvalidationEvent event) {
         try {
@@ -136,44 +138,6 @@ public class CacheMetricsCollector {
         }
     }
 
-    /**
-     * Records cache hit/miss metrics.
-     *
-     * @param cacheType the type of cache
-     * @param hit true if cache hit, false if miss
-     */
-    public void recordCacheHitMiss(final String cacheType, final boolean hit) {
-        try {
-            Counter.builder("cache.access.total")
-                    .description("Cache access events")
-                    .tag(CACHE_TYPE_TAG, cacheType)
-                    .tag(RESULT_TAG, hit ? "hit" : "miss")
-                    .tag(APPLICATION_TAG, APPLICATION_VALUE)
-                    .register(meterRegistry)
-                    .increment();
-
-        } catch (Exception e) {
-            LOGGER.error("Failed to record cache hit/miss metrics: type={}, hit={}", cacheType, hit, e);
-        }
-    }
-
-    /**
-     * Records cache size metrics.
-     *
-     * @param cacheType the type of cache
-     * @param size current cache size
-     */
-    public void recordCacheSize(final String cacheType, final int size) {
-        try {
-            List<Tag> tags = List.of(Tag.of(CACHE_TYPE_TAG, cacheType), Tag.of(APPLICATION_TAG, APPLICATION_VALUE));
-
-            meterRegistry.gauge("cache.size", tags, size);
-
-        } catch (Exception e) {
-            LOGGER.error("Failed to record cache size metrics: type={}, size={}", cacheType, size, e);
-        }
-    }
-
     /**
      * Gets current invalidation count for testing.
      *
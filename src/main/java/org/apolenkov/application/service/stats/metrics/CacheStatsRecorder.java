@@ -0,0 +1,357 @@
+package org.apolenkov.application.service.stats.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apolenkov.application.config.monitoring.jfr.CacheLoadEvent;
+
+/**
+ * Node-wide statistics for one application cache.
+ * Hot-path methods only touch LongAdders, so recording an access never allocates
+ * and never reaches the meter registry; meters read the adders at scrape time.
+ *
+ * <p>Session-scoped caches exist once per session, so each instance registers itself
+ * as a {@link Source}. Sources are held weakly and disappear with their session,
+ * size and weight are the sum over all live instances.
+ *
+ * <p>TTL and max size can be overridden at runtime (cache control endpoint); caches read
+ * the effective values on every access, so overrides apply to all sessions, including future ones.
+ */
+public final class CacheStatsRecorder {
+
+    private final String cacheName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final Set<Source> sources = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private volatile long ttlOverrideMs = -1;
+    private volatile int maxSizeOverride = -1;
+
+    /**
+     * Creates recorder for named cache.
+     *
+     * @param cacheNameValue logical cache name used as meter tag
+     * @throws IllegalArgumentException if cacheNameValue is null or blank
+     */
+    public CacheStatsRecorder(final String cacheNameValue) {
+        if (cacheNameValue == null || cacheNameValue.isBlank()) {
+            throw new IllegalArgumentException("Cache name cannot be null or blank");
+        }
+        this.cacheName = cacheNameValue;
+    }
+
+    // ==================== Hot Path ====================
+
+    /**
+     * Records cache hit.
+     */
+    public void recordHit() {
+        hits.increment();
+    }
+
+    /**
+     * Records cache miss.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Records hits and misses of a batch lookup.
+     *
+     * @param hitCount number of keys served from cache
+     * @param missCount number of keys that had to be loaded
+     */
+    public void recordBatch(final long hitCount, final long missCount) {
+        if (hitCount > 0) {
+            hits.add(hitCount);
+        }
+        if (missCount > 0) {
+            misses.add(missCount);
+        }
+    }
+
+    /**
+     * Records size-based eviction of one entry.
+     */
+    public void recordEviction() {
+        evictions.increment();
+    }
+
+    /**
+     * Records completed loader invocation.
+     *
+     * @param nanos loader duration in nanoseconds
+     */
+    public void recordLoad(final long nanos) {
+        loads.increment();
+        loadNanos.add(nanos);
+    }
+
+    /**
+     * Starts timing of loader invocation; also emits JFR cache load event when stopped.
+     *
+     * @return load timer to stop after loader returns
+     */
+    public LoadTimer startLoad() {
+        return new LoadTimer();
+    }
+
+    /**
+     * Gets TTL to apply, honouring runtime override.
+     *
+     * @param configuredTtlMs TTL configured for cache instance
+     * @return effective TTL in milliseconds
+     */
+    public long effectiveTtlMs(final long configuredTtlMs) {
+        long override = ttlOverrideMs;
+        return override > 0 ? override : configuredTtlMs;
+    }
+
+    /**
+     * Gets max size to apply, honouring runtime override.
+     *
+     * @param configuredMaxSize max size configured for cache instance
+     * @return effective max size
+     */
+    public int effectiveMaxSize(final int configuredMaxSize) {
+        int override = maxSizeOverride;
+        return override > 0 ? override : configuredMaxSize;
+    }
+
+    // ==================== Tuning ====================
+
+    /**
+     * Overrides TTL and/or max size for all instances of this cache.
+     * Non-positive value removes override, null keeps current setting.
+     *
+     * @param ttlMs new TTL in milliseconds or null
+     * @param maxSize new max size or null
+     */
+    public void tune(final Long ttlMs, final Integer maxSize) {
+        if (ttlMs != null) {
+            ttlOverrideMs = ttlMs > 0 ? ttlMs : -1;
+        }
+        if (maxSize != null) {
+            maxSizeOverride = maxSize > 0 ? maxSize : -1;
+        }
+    }
+
+    // ==================== Sources ====================
+
+    /**
+     * Registers cache instance whose size and weight contribute to this recorder.
+     * Instance is held weakly, so session caches need no explicit deregistration.
+     *
+     * @param source cache instance
+     */
+    public void register(final Source source) {
+        if (source != null) {
+            sources.add(source);
+        }
+    }
+
+    // ==================== Readers ====================
+
+    /**
+     * Gets logical cache name.
+     *
+     * @return cache name
+     */
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * Gets total hits.
+     *
+     * @return hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets total misses.
+     *
+     * @return miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets total size-based evictions.
+     *
+     * @return eviction count
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets number of loader invocations.
+     *
+     * @return load count
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    /**
+     * Gets total time spent in loaders.
+     *
+     * @return load time in nanoseconds
+     */
+    public long loadNanos() {
+        return loadNanos.sum();
+    }
+
+    /**
+     * Sums entry count over all live cache instances.
+     *
+     * @return total number of entries
+     */
+    public long size() {
+        synchronized (sources) {
+            long total = 0;
+            for (Source source : sources) {
+                total += source.size();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Sums weight over all live cache instances.
+     *
+     * @return total weight
+     */
+    public long weight() {
+        synchronized (sources) {
+            long total = 0;
+            for (Source source : sources) {
+                total += source.weight();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Gets snapshot of live cache instances.
+     *
+     * @return live instances
+     */
+    public List<Source> sources() {
+        synchronized (sources) {
+            return new ArrayList<>(sources);
+        }
+    }
+
+    /**
+     * Gets number of live cache instances (one per session for session-scoped caches).
+     *
+     * @return instance count
+     */
+    public int instances() {
+        return sources.size();
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Cache instance contributing size and weight.
+     * Weight is the number of values held by all entries (card IDs, decks, cards),
+     * which tracks memory much closer than entry count.
+     *
+     * <p>Control operations are keyed by the numeric ID the cache is organized around
+     * (deck ID, or user ID for deck lists).
+     */
+    public interface Source {
+
+        /**
+         * Gets number of entries.
+         *
+         * @return entry count
+         */
+        int size();
+
+        /**
+         * Gets number of values held by all entries.
+         *
+         * @return weight
+         */
+        long weight();
+
+        /**
+         * Gets effective TTL of this instance.
+         *
+         * @return TTL in milliseconds
+         */
+        default long ttlMs() {
+            return -1;
+        }
+
+        /**
+         * Gets effective max size of this instance.
+         *
+         * @return max entries
+         */
+        default int maxSize() {
+            return -1;
+        }
+
+        /**
+         * Gets number of cache hits per key since entries were cached.
+         *
+         * @return hits by key
+         */
+        default Map<Long, Long> accessCounts() {
+            return Map.of();
+        }
+
+        /**
+         * Removes all entries of key.
+         *
+         * @param key deck ID or user ID
+         * @return number of removed entries
+         */
+        default int evict(final long key) {
+            return 0;
+        }
+
+        /**
+         * Removes all entries.
+         */
+        default void clear() {}
+    }
+
+    /**
+     * Running loader invocation of this cache.
+     */
+    public final class LoadTimer {
+
+        private final long startNanos = System.nanoTime();
+        private final CacheLoadEvent event = new CacheLoadEvent();
+
+        private LoadTimer() {
+            event.begin();
+        }
+
+        /**
+         * Records completed load.
+         *
+         * @param entries number of loaded entries
+         */
+        public void stop(final int entries) {
+            recordLoad(System.nanoTime() - startNanos);
+            event.complete(cacheName, entries);
+        }
+    }
+}
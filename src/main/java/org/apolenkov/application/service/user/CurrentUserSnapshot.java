@@ -0,0 +1,38 @@
+package org.apolenkov.application.service.user;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Set;
+import org.apolenkov.application.model.User;
+
+/**
+ * Immutable snapshot of the authenticated user's identity, stored in HTTP session.
+ * Lets identity lookups (user ID, display name) skip repository and cache entirely.
+ *
+ * @param id user ID
+ * @param email login email (matches authentication principal name)
+ * @param name display name
+ * @param roles role names
+ */
+public record CurrentUserSnapshot(long id, String email, String name, Set<String> roles) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates snapshot with defensive copy of roles.
+     */
+    public CurrentUserSnapshot {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    /**
+     * Creates snapshot of domain user.
+     *
+     * @param user persisted user (non-null ID)
+     * @return immutable snapshot
+     */
+    public static CurrentUserSnapshot of(final User user) {
+        return new CurrentUserSnapshot(user.getId(), user.getEmail(), user.getName(), user.getRoles());
+    }
+}
@@ -11,16 +11,18 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 /**
  * JDBC-based implementation of Spring Security's UserDetailsService with role mapping and validation.
+ * Also stores rehashed passwords when the password encoder reports an outdated cost factor.
  */
 @Service
 @Profile({"dev", "prod", "test"})
-public class JdbcUserDetailsService implements UserDetailsService {
+public class JdbcUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JdbcUserDetailsService.class);
     private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("org.apolenkov.application.audit");
@@ -85,6 +87,30 @@ public class JdbcUserDetailsService implements UserDetailsService {
         }
     }
 
+    /**
+     * Stores password rehashed by Spring Security after successful login with an outdated hash
+     * (password encoder changed its cost factor).
+     *
+     * @param user authenticated user details
+     * @param newPassword new password hash
+     * @return user details with the new hash
+     */
+    @Override
+    public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        findUser(user.getUsername()).ifPresent(domainUser -> {
+            // Repository may return the cached instance: save a copy instead of mutating it
+            User rehashed = new User(domainUser.getId(), domainUser.getEmail(), domainUser.getName());
+            rehashed.setCreatedAt(domainUser.getCreatedAt());
+            rehashed.setRoles(domainUser.getRoles());
+            rehashed.setPasswordHash(newPassword);
+            userRepository.save(rehashed);
+            LOGGER.debug("Password rehashed: userId={}", rehashed.getId());
+        });
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
     /**
      * Finds user by email without throwing exceptions.
      *
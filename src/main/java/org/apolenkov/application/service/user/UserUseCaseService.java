@@ -12,6 +12,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Service implementation for user use cases with Spring Security integration
@@ -22,6 +24,8 @@ public class UserUseCaseService implements UserUseCase {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UserUseCaseService.class);
     private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("org.apolenkov.application.audit");
+    private static final String CURRENT_USER_REQUEST_ATTRIBUTE = UserUseCaseService.class.getName() + ".currentUser";
+    private static final String CURRENT_USER_SESSION_ATTRIBUTE = CurrentUserSnapshot.class.getName();
 
     // ==================== Fields ====================
 
@@ -69,8 +73,13 @@ public class UserUseCaseService implements UserUseCase {
 
     /**
      * Gets the currently authenticated user from Spring Security context.
-     * Resolves authentication principal to domain user object.
-     * Uses Caffeine cache at repository level for performance.
+     *
+     * <p>Resolution order, cheapest first:
+     * <ol>
+     *   <li>request memo - repeated calls within one request/UI access return the same instance</li>
+     *   <li>session snapshot - user ID known, lookup goes through the ID-keyed cache</li>
+     *   <li>lookup by principal email (first call in session), which then stores the snapshot</li>
+     * </ol>
      *
      * @return the currently authenticated user
      * @throws IllegalStateException if the user is not authenticated, if the principal
@@ -80,6 +89,51 @@ public class UserUseCaseService implements UserUseCase {
     @Transactional(readOnly = true)
     @SuppressWarnings("java:S2139") // Security audit requires logging before rethrow (OWASP compliance)
     public User getCurrentUser() {
+        String username = getAuthenticatedUsername();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        User memoized = attributes != null
+                ? (User) attributes.getAttribute(CURRENT_USER_REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        if (memoized != null && username.equals(memoized.getEmail())) {
+            return memoized;
+        }
+
+        try {
+            CurrentUserSnapshot snapshot = getSnapshot(attributes, username);
+            Optional<User> byId = snapshot != null
+                    ? userRepository.findById(snapshot.id()).filter(u -> username.equals(u.getEmail()))
+                    : Optional.empty();
+            User user = byId.or(() -> userRepository.findByEmail(username)).orElseThrow(() -> {
+                AUDIT_LOGGER.error("Authenticated principal has no domain user: username={}", username);
+                return new IllegalStateException("Authenticated principal has no domain user: " + username);
+            });
+
+            remember(attributes, user);
+            LOGGER.debug("Current user retrieved: userId={}, email={}", user.getId(), user.getEmail());
+            return user;
+        } catch (Exception e) {
+            // S2139: Intentionally logging before rethrow for security audit trail (OWASP compliance)
+            LOGGER.error("Error retrieving current user: username={}", username, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets ID of the currently authenticated user.
+     * Served from session snapshot without repository or cache access once resolved.
+     *
+     * @return ID of the currently authenticated user
+     * @throws IllegalStateException if the user is not authenticated or has no domain user
+     */
+    @Override
+    public long getCurrentUserId() {
+        String username = getAuthenticatedUsername();
+        CurrentUserSnapshot snapshot = getSnapshot(RequestContextHolder.getRequestAttributes(), username);
+        return snapshot != null ? snapshot.id() : getCurrentUser().getId();
+    }
+
+    private String getAuthenticatedUsername() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
             AUDIT_LOGGER.warn("Unauthenticated access attempt to getCurrentUser()");
@@ -92,20 +146,32 @@ public class UserUseCaseService implements UserUseCase {
             throw new IllegalStateException("Authenticated principal is null");
         }
 
-        String username = getUsername(principal);
+        return getUsername(principal);
+    }
 
-        try {
-            User user = userRepository.findByEmail(username).orElseThrow(() -> {
-                AUDIT_LOGGER.error("Authenticated principal has no domain user: username={}", username);
-                return new IllegalStateException("Authenticated principal has no domain user: " + username);
-            });
+    /**
+     * Returns session snapshot if it belongs to the authenticated principal.
+     */
+    private static CurrentUserSnapshot getSnapshot(final RequestAttributes attributes, final String username) {
+        if (attributes == null) {
+            return null;
+        }
+        Object snapshot = attributes.getAttribute(CURRENT_USER_SESSION_ATTRIBUTE, RequestAttributes.SCOPE_SESSION);
+        return snapshot instanceof CurrentUserSnapshot s && username.equals(s.email()) ? s : null;
+    }
 
-            LOGGER.debug("Current user retrieved: userId={}, email={}", user.getId(), user.getEmail());
-            return user;
-        } catch (Exception e) {
-            // S2139: Intentionally logging before rethrow for security audit trail (OWASP compliance)
-            LOGGER.error("Error retrieving current user: username={}", username, e);
-            throw e;
+    /**
+     * Stores request memo and refreshes session snapshot if identity data changed.
+     */
+    private static void remember(final RequestAttributes attributes, final User user) {
+        if (attributes == null || user.getId() == null) {
+            return;
+        }
+        attributes.setAttribute(CURRENT_USER_REQUEST_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        CurrentUserSnapshot snapshot = CurrentUserSnapshot.of(user);
+        if (!snapshot.equals(
+                attributes.getAttribute(CURRENT_USER_SESSION_ATTRIBUTE, RequestAttributes.SCOPE_SESSION))) {
+            attributes.setAttribute(CURRENT_USER_SESSION_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_SESSION);
         }
     }
 
@@ -137,6 +203,17 @@ public class UserUseCaseService implements UserUseCase {
 
         User saved = userRepository.save(user);
 
+        // Refresh memo and snapshot of current user (display name may have changed)
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(CURRENT_USER_REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            Object snapshot =
+                    attributes.getAttribute(CURRENT_USER_SESSION_ATTRIBUTE, RequestAttributes.SCOPE_SESSION);
+            if (snapshot instanceof CurrentUserSnapshot s && s.id() == saved.getId()) {
+                remember(attributes, saved);
+            }
+        }
+
         AUDIT_LOGGER.info("User updated: userId={}, email={}", saved.getId(), saved.getEmail());
         return saved;
     }
@@ -9,7 +9,7 @@ import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 import org.apolenkov.application.views.admin.constants.AdminConstants;
 import org.apolenkov.application.views.shared.utils.ButtonHelper;
 
@@ -20,7 +20,7 @@ import org.apolenkov.application.views.shared.utils.ButtonHelper;
 public final class AdminNewsDeleteDialog extends Dialog {
 
     // Data
-    private final transient News news;
+    private final transient NewsSummary news;
 
     // Callbacks
     private final transient Runnable onConfirm;
@@ -31,7 +31,7 @@ public final class AdminNewsDeleteDialog extends Dialog {
      * @param newsParam the news to delete
      * @param onConfirmParam callback executed when deletion is confirmed
      */
-    public AdminNewsDeleteDialog(final News newsParam, final Runnable onConfirmParam) {
+    public AdminNewsDeleteDialog(final NewsSummary newsParam, final Runnable onConfirmParam) {
         super();
         this.news = newsParam;
         this.onConfirm = onConfirmParam;
@@ -76,7 +76,7 @@ public final class AdminNewsDeleteDialog extends Dialog {
         messageContainer.setWidthFull();
 
         Span prefixSpan = new Span(getTranslation(AdminConstants.ADMIN_NEWS_CONFIRM_DELETE_PREFIX_KEY) + " ");
-        Span titleSpan = new Span(news.getTitle());
+        Span titleSpan = new Span(news.title());
         titleSpan.addClassName(AdminConstants.ADMIN_DIALOG_CONFIRM_TITLE_CLASS);
         Span suffixSpan = new Span(getTranslation(AdminConstants.ADMIN_NEWS_CONFIRM_DELETE_SUFFIX_KEY));
 
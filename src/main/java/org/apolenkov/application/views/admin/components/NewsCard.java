@@ -10,7 +10,7 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import java.time.format.DateTimeFormatter;
-import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 import org.apolenkov.application.views.admin.components.NewsList.NewsActionCallback;
 import org.apolenkov.application.views.admin.constants.AdminConstants;
 import org.apolenkov.application.views.core.constants.CoreConstants;
@@ -22,19 +22,19 @@ import org.apolenkov.application.views.shared.utils.ButtonHelper;
  */
 public final class NewsCard extends Composite<VerticalLayout> {
 
-    private final transient News news;
+    private final transient NewsSummary news;
     private final transient NewsActionCallback editCallback;
     private final transient NewsActionCallback deleteCallback;
 
     /**
      * Creates a new NewsCard.
      *
-     * @param newsItem the news item to display
+     * @param newsItem the news summary to display
      * @param editCallbackValue callback for edit action
      * @param deleteCallbackValue callback for delete action
      */
     public NewsCard(
-            final News newsItem,
+            final NewsSummary newsItem,
             final NewsActionCallback editCallbackValue,
             final NewsActionCallback deleteCallbackValue) {
         this.news = newsItem;
@@ -51,14 +51,16 @@ public final class NewsCard extends Composite<VerticalLayout> {
         card.addClassName(AdminConstants.NEWS_CARD_CLASS);
 
         // Title
-        H3 title = new H3(news.getTitle());
+        H3 title = new H3(news.title());
         title.addClassName(AdminConstants.NEWS_CARD_TITLE_CLASS);
 
-        // Content preview (first 150 characters)
-        String contentPreview = news.getContent();
+        // Content preview (first 150 characters of the excerpt)
+        String contentPreview = news.excerpt();
         if (contentPreview.length() > AdminConstants.CONTENT_PREVIEW_LENGTH) {
             contentPreview = contentPreview.substring(0, AdminConstants.CONTENT_PREVIEW_LENGTH)
                     + AdminConstants.CONTENT_PREVIEW_SUFFIX;
+        } else if (news.truncated()) {
+            contentPreview = contentPreview + AdminConstants.CONTENT_PREVIEW_SUFFIX;
         }
         Span content = new Span(contentPreview);
         content.addClassName(AdminConstants.NEWS_CARD_CONTENT_CLASS);
@@ -86,12 +88,12 @@ public final class NewsCard extends Composite<VerticalLayout> {
 
         Span author = new Span(getTranslation(AdminConstants.ADMIN_NEWS_AUTHOR_KEY)
                 + CoreConstants.SEPARATOR_COLON_SPACE
-                + news.getAuthor());
+                + news.author());
         author.addClassName(AdminConstants.NEWS_CARD_AUTHOR_CLASS);
         author.addClassName(AdminConstants.TEXT_MUTED_CLASS);
 
         Span createdAt =
-                new Span(news.getCreatedAt().format(DateTimeFormatter.ofPattern(AdminConstants.DATE_TIME_PATTERN)));
+                new Span(news.createdAt().format(DateTimeFormatter.ofPattern(AdminConstants.DATE_TIME_PATTERN)));
         createdAt.addClassName(AdminConstants.NEWS_CARD_DATE_CLASS);
         createdAt.addClassName(AdminConstants.TEXT_MUTED_SMALL_CLASS);
 
@@ -5,7 +5,7 @@ import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import java.util.List;
-import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 import org.apolenkov.application.views.admin.constants.AdminConstants;
 
 /**
@@ -68,11 +68,22 @@ public final class NewsContainer extends Composite<VerticalLayout> {
     }
 
     /**
-     * Refreshes the news list with new data.
+     * Refreshes the news list with first page of data.
      *
-     * @param news the list of news to display
+     * @param news the first page of news to display
+     * @param hasMore true if further pages exist
      */
-    public void refreshNews(final List<News> news) {
-        newsList.refreshNews(news);
+    public void refreshNews(final List<NewsSummary> news, final boolean hasMore) {
+        newsList.refreshNews(news, hasMore);
+    }
+
+    /**
+     * Appends next page of news to the list.
+     *
+     * @param news the next page of news
+     * @param hasMore true if further pages exist
+     */
+    public void appendNews(final List<NewsSummary> news, final boolean hasMore) {
+        newsList.appendNews(news, hasMore);
     }
 }
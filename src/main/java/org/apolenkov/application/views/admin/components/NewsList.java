@@ -1,22 +1,28 @@
 package org.apolenkov.application.views.admin.components;
 
 import com.vaadin.flow.component.Composite;
+import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import java.util.List;
-import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 import org.apolenkov.application.views.admin.constants.AdminConstants;
+import org.apolenkov.application.views.shared.utils.ButtonHelper;
 
 /**
  * Reusable list component for displaying news articles.
- * Handles rendering of news cards and empty state display.
+ * Handles rendering of news cards, empty state display and appending further pages on demand.
  */
 public final class NewsList extends Composite<VerticalLayout> {
 
     // Callbacks for news actions
     private transient NewsActionCallback editCallback;
     private transient NewsActionCallback deleteCallback;
+    private transient Runnable loadMoreCallback;
+
+    // UI Components
+    private Button loadMoreButton;
 
     @Override
     protected VerticalLayout initContent() {
@@ -47,11 +53,21 @@ public final class NewsList extends Composite<VerticalLayout> {
     }
 
     /**
-     * Refreshes the news list with new data.
+     * Sets the callback for loading the next page.
+     *
+     * @param callback the callback to execute when load more is clicked
+     */
+    public void setLoadMoreCallback(final Runnable callback) {
+        this.loadMoreCallback = callback;
+    }
+
+    /**
+     * Refreshes the news list with first page of data.
      *
-     * @param newsList the list of news to display
+     * @param newsList the first page of news to display
+     * @param hasMore true if further pages exist
      */
-    public void refreshNews(final List<News> newsList) {
+    public void refreshNews(final List<NewsSummary> newsList, final boolean hasMore) {
         getContent().removeAll();
 
         if (newsList.isEmpty()) {
@@ -60,6 +76,38 @@ public final class NewsList extends Composite<VerticalLayout> {
         }
 
         displayNewsCards(newsList);
+        updateLoadMore(hasMore);
+    }
+
+    /**
+     * Appends next page of news below already displayed cards.
+     *
+     * @param newsList the next page of news
+     * @param hasMore true if further pages exist
+     */
+    public void appendNews(final List<NewsSummary> newsList, final boolean hasMore) {
+        displayNewsCards(newsList);
+        updateLoadMore(hasMore);
+    }
+
+    /**
+     * Moves load more button below the last card, or removes it on the last page.
+     *
+     * @param hasMore true if further pages exist
+     */
+    private void updateLoadMore(final boolean hasMore) {
+        if (loadMoreButton == null) {
+            loadMoreButton =
+                    ButtonHelper.createTertiaryButton(getTranslation(AdminConstants.ADMIN_NEWS_LOAD_MORE_KEY), e -> {
+                        if (loadMoreCallback != null) {
+                            loadMoreCallback.run();
+                        }
+                    });
+        }
+        getContent().remove(loadMoreButton);
+        if (hasMore) {
+            getContent().add(loadMoreButton);
+        }
     }
 
     /**
@@ -76,7 +124,7 @@ public final class NewsList extends Composite<VerticalLayout> {
      *
      * @param newsList the news to display
      */
-    private void displayNewsCards(final List<News> newsList) {
+    private void displayNewsCards(final List<NewsSummary> newsList) {
         newsList.forEach(news -> {
             NewsCard card = new NewsCard(news, editCallback, deleteCallback);
             getContent().add(card);
@@ -91,8 +139,8 @@ public final class NewsList extends Composite<VerticalLayout> {
         /**
          * Executes action on news item.
          *
-         * @param news the news item
+         * @param news the news summary
          */
-        void execute(News news);
+        void execute(NewsSummary news);
     }
 }
@@ -52,6 +52,7 @@ public final class AdminConstants {
     public static final String ADMIN_CONTENT_SEARCH_PLACEHOLDER_KEY = "admin.content.search.placeholder";
     public static final String ADMIN_CONTENT_SEARCH_NO_RESULTS_KEY = "admin.content.search.noResults";
     public static final String ADMIN_NEWS_ADD_KEY = "admin.news.add";
+    public static final String ADMIN_NEWS_LOAD_MORE_KEY = "admin.news.loadMore";
     public static final String ADMIN_NEWS_TITLE_KEY = "admin.news.title";
     public static final String ADMIN_NEWS_CONTENT_KEY = "admin.news.content";
     public static final String ADMIN_NEWS_AUTHOR_KEY = "admin.news.author";
@@ -65,6 +66,21 @@ public final class AdminConstants {
     public static final String ADMIN_NEWS_CONFIRM_DELETE_PREFIX_KEY = "admin.news.confirm.delete.prefix";
     public static final String ADMIN_NEWS_CONFIRM_DELETE_SUFFIX_KEY = "admin.news.confirm.delete.suffix";
 
+    // Session footprint keys
+    public static final String ADMIN_SESSIONS_PAGE_TITLE_KEY = "admin.sessions.page.title";
+    public static final String ADMIN_SESSIONS_SUMMARY_KEY = "admin.sessions.summary";
+    public static final String ADMIN_SESSIONS_NOT_SAMPLED_KEY = "admin.sessions.notSampled";
+    public static final String ADMIN_SESSIONS_SAMPLE_KEY = "admin.sessions.sample";
+    public static final String ADMIN_SESSIONS_SAMPLE_STARTED_KEY = "admin.sessions.sampleStarted";
+    public static final String ADMIN_SESSIONS_REFRESH_KEY = "admin.sessions.refresh";
+    public static final String ADMIN_SESSIONS_USER_KEY = "admin.sessions.user";
+    public static final String ADMIN_SESSIONS_UIS_KEY = "admin.sessions.uis";
+    public static final String ADMIN_SESSIONS_COMPONENTS_KEY = "admin.sessions.components";
+    public static final String ADMIN_SESSIONS_SIZE_KEY = "admin.sessions.size";
+    public static final String ADMIN_SESSIONS_OBJECTS_KEY = "admin.sessions.objects";
+    public static final String ADMIN_SESSIONS_SAMPLED_AT_KEY = "admin.sessions.sampledAt";
+    public static final int ADMIN_SESSIONS_TOP_N = 50;
+
     // Validation keys
     public static final String ADMIN_NEWS_VALIDATION_TITLE_REQUIRED_KEY = "admin.news.validation.titleRequired";
     public static final String ADMIN_NEWS_VALIDATION_CONTENT_REQUIRED_KEY = "admin.news.validation.contentRequired";
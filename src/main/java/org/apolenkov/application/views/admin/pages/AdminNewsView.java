@@ -10,12 +10,13 @@ import com.vaadin.flow.router.RouteAlias;
 import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.security.RolesAllowed;
-import java.util.List;
-import java.util.Locale;
 import org.apolenkov.application.config.constants.RouteConstants;
 import org.apolenkov.application.config.security.SecurityConstants;
 import org.apolenkov.application.config.ui.UIConfig;
+import org.apolenkov.application.domain.model.NewsCursor;
+import org.apolenkov.application.domain.model.NewsPage;
 import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 import org.apolenkov.application.service.news.NewsService;
 import org.apolenkov.application.views.admin.components.AdminNewsDeleteDialog;
 import org.apolenkov.application.views.admin.components.AdminNewsDialog;
@@ -27,8 +28,8 @@ import org.apolenkov.application.views.shared.utils.NotificationHelper;
 
 /**
  * Administrative interface for managing news articles.
- * This view provides functionality for listing all news articles,
- * searching through them, and creating/editing/deleting news.
+ * This view provides functionality for listing news articles page by page (keyset pagination over
+ * summaries, full content is loaded only for editing), searching through them, and creating/editing/deleting news.
  */
 @Route(value = RouteConstants.ADMIN_NEWS_ROUTE, layout = PublicLayout.class)
 @RouteAlias(value = RouteConstants.ADMIN_CONTENT_ROUTE, layout = PublicLayout.class)
@@ -42,6 +43,10 @@ public class AdminNewsView extends BaseView implements AfterNavigationObserver {
     // UI Components
     private NewsContainer newsContainer;
 
+    // State
+    private String currentQuery = "";
+    private NewsCursor nextCursor;
+
     // Event Registrations
     private Registration searchListenerRegistration;
     private Registration addClickListenerRegistration;
@@ -87,8 +92,9 @@ public class AdminNewsView extends BaseView implements AfterNavigationObserver {
         newsContainer = new NewsContainer(uiConfig.search().debounceMs());
 
         // Set up callbacks for news actions
-        newsContainer.getNewsList().setEditCallback(this::showNewsDialog);
+        newsContainer.getNewsList().setEditCallback(this::editNews);
         newsContainer.getNewsList().setDeleteCallback(this::deleteNews);
+        newsContainer.getNewsList().setLoadMoreCallback(this::loadMoreNews);
 
         content.add(newsContainer);
     }
@@ -111,6 +117,16 @@ public class AdminNewsView extends BaseView implements AfterNavigationObserver {
         refreshNews("");
     }
 
+    /**
+     * Loads full content of news article and opens it for editing.
+     * Refreshes the list if the article was deleted meanwhile.
+     *
+     * @param summary the news summary selected in the list
+     */
+    private void editNews(final NewsSummary summary) {
+        newsService.getNews(summary.id()).ifPresentOrElse(this::showNewsDialog, () -> refreshNews(currentQuery));
+    }
+
     /**
      * Shows dialog for creating or editing news articles.
      *
@@ -166,10 +182,10 @@ public class AdminNewsView extends BaseView implements AfterNavigationObserver {
      *
      * @param news the news article to delete
      */
-    private void deleteNews(final News news) {
+    private void deleteNews(final NewsSummary news) {
         AdminNewsDeleteDialog dialog = new AdminNewsDeleteDialog(news, () -> {
             try {
-                newsService.deleteNews(news.getId());
+                newsService.deleteNews(news.id());
                 refreshNews("");
                 NotificationHelper.showSuccess(getTranslation(AdminConstants.ADMIN_NEWS_DELETED_KEY));
             } catch (Exception ex) {
@@ -182,45 +198,28 @@ public class AdminNewsView extends BaseView implements AfterNavigationObserver {
 
     /**
      * Refreshes the news list display based on the search query.
-     * This method updates the news list by filtering news based on the
-     * provided search query. It handles empty results gracefully by displaying
-     * an appropriate message when no news match the search criteria.
+     * Loads the first page of matching news (search runs in the database); further pages are
+     * appended on demand. Empty results are displayed with an appropriate message.
      *
      * @param query the search query to filter news by title, content, or author
      */
     private void refreshNews(final String query) {
-        final List<News> allNews = newsService.getAllNews();
-        final List<News> filteredNews = filterNews(allNews, query);
-        newsContainer.refreshNews(filteredNews);
+        currentQuery = query != null ? query : "";
+        NewsPage page = newsService.getNewsPage(null, currentQuery, uiConfig.pagination().pageSize());
+        nextCursor = page.nextCursor();
+        newsContainer.refreshNews(page.items(), page.hasMore());
     }
 
     /**
-     * Filters news based on search query.
-     *
-     * @param allNews all available news
-     * @param query search query
-     * @return filtered news list
+     * Appends the next page of news for the current search query.
      */
-    private List<News> filterNews(final List<News> allNews, final String query) {
-        if (query == null || query.isEmpty()) {
-            return allNews;
+    private void loadMoreNews() {
+        if (nextCursor == null) {
+            return;
         }
-
-        String lowerQuery = query.toLowerCase(Locale.ROOT);
-        return allNews.stream().filter(news -> matchesQuery(news, lowerQuery)).toList();
-    }
-
-    /**
-     * Checks if news matches search query.
-     *
-     * @param news the news to check
-     * @param lowerQuery lowercase search query
-     * @return true if matches
-     */
-    private boolean matchesQuery(final News news, final String lowerQuery) {
-        return news.getTitle().toLowerCase(Locale.ROOT).contains(lowerQuery)
-                || news.getContent().toLowerCase(Locale.ROOT).contains(lowerQuery)
-                || news.getAuthor().toLowerCase(Locale.ROOT).contains(lowerQuery);
+        NewsPage page = newsService.getNewsPage(nextCursor, currentQuery, uiConfig.pagination().pageSize());
+        nextCursor = page.nextCursor();
+        newsContainer.appendNews(page.items(), page.hasMore());
     }
 
     /**
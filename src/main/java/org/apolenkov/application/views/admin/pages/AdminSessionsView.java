@@ -0,0 +1,171 @@
+package org.apolenkov.application.views.admin.pages;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.AfterNavigationEvent;
+import com.vaadin.flow.router.AfterNavigationObserver;
+import com.vaadin.flow.router.Route;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.security.RolesAllowed;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import org.apolenkov.application.config.constants.RouteConstants;
+import org.apolenkov.application.config.security.SecurityConstants;
+import org.apolenkov.application.service.session.SessionFootprint;
+import org.apolenkov.application.service.session.SessionFootprintService;
+import org.apolenkov.application.views.admin.constants.AdminConstants;
+import org.apolenkov.application.views.core.layout.PublicLayout;
+import org.apolenkov.application.views.shared.base.BaseView;
+import org.apolenkov.application.views.shared.utils.NotificationHelper;
+
+/**
+ * Administrative view of the largest Vaadin sessions on this node.
+ * Shows latest sampled footprints (estimated retained size, tabs, components)
+ * to support capacity planning and spotting session bloat.
+ */
+@Route(value = RouteConstants.ADMIN_SESSIONS_ROUTE, layout = PublicLayout.class)
+@RolesAllowed(SecurityConstants.ROLE_ADMIN)
+public class AdminSessionsView extends BaseView implements AfterNavigationObserver {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern(AdminConstants.DATE_TIME_PATTERN).withZone(ZoneId.systemDefault());
+    private static final long BYTES_PER_KB = 1024;
+
+    // Dependencies
+    private final transient SessionFootprintService footprintService;
+
+    // UI Components
+    private Span summary;
+    private Grid<SessionFootprint> grid;
+
+    /**
+     * Creates session footprint view.
+     *
+     * @param footprintServiceParam the session footprint service
+     * @throws IllegalArgumentException if footprintServiceParam is null
+     */
+    public AdminSessionsView(final SessionFootprintService footprintServiceParam) {
+        if (footprintServiceParam == null) {
+            throw new IllegalArgumentException("SessionFootprintService cannot be null");
+        }
+        this.footprintService = footprintServiceParam;
+    }
+
+    /**
+     * Initializes the view components after dependency injection is complete.
+     */
+    @PostConstruct
+    @SuppressWarnings("unused")
+    private void init() {
+        setPadding(false);
+        setSpacing(false);
+        addClassName(AdminConstants.ADMIN_CONTENT_VIEW_CLASS);
+
+        VerticalLayout content = new VerticalLayout();
+        content.setSizeFull();
+        content.setPadding(true);
+        content.setSpacing(true);
+        content.setAlignItems(FlexComponent.Alignment.CENTER);
+        content.addClassName(AdminConstants.ADMIN_CONTENT_VIEW_CONTENT_CLASS);
+        add(content);
+
+        VerticalLayout section = new VerticalLayout();
+        section.setWidthFull();
+        section.addClassName(AdminConstants.CONTAINER_MD_CLASS);
+        section.addClassName(AdminConstants.ADMIN_CONTENT_SECTION_CLASS);
+        section.addClassName(AdminConstants.SURFACE_PANEL_CLASS);
+
+        H2 title = new H2(getTranslation(AdminConstants.ADMIN_SESSIONS_PAGE_TITLE_KEY));
+        title.addClassName(AdminConstants.ADMIN_CONTENT_VIEW_TITLE_CLASS);
+
+        summary = new Span();
+        summary.addClassName(AdminConstants.TEXT_MUTED_CLASS);
+
+        Button sampleButton = new Button(getTranslation(AdminConstants.ADMIN_SESSIONS_SAMPLE_KEY), e -> {
+            footprintService.sampleAsync();
+            NotificationHelper.showSuccess(getTranslation(AdminConstants.ADMIN_SESSIONS_SAMPLE_STARTED_KEY));
+        });
+        sampleButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        Button refreshButton = new Button(getTranslation(AdminConstants.ADMIN_SESSIONS_REFRESH_KEY), e -> refresh());
+
+        HorizontalLayout toolbar = new HorizontalLayout(sampleButton, refreshButton);
+        toolbar.addClassName(AdminConstants.ADMIN_CONTENT_TOOLBAR_CLASS);
+
+        grid = createGrid();
+        section.add(title, summary, toolbar, grid);
+        content.add(section);
+    }
+
+    /**
+     * Loads latest footprints after navigation.
+     *
+     * @param event the after navigation event
+     */
+    @Override
+    public void afterNavigation(final AfterNavigationEvent event) {
+        refresh();
+    }
+
+    /**
+     * Returns localized page title.
+     *
+     * @return the localized page title
+     */
+    @Override
+    public String getPageTitle() {
+        return getTranslation(AdminConstants.ADMIN_SESSIONS_PAGE_TITLE_KEY);
+    }
+
+    private Grid<SessionFootprint> createGrid() {
+        Grid<SessionFootprint> footprintGrid = new Grid<>();
+        footprintGrid.setWidthFull();
+        footprintGrid.setAllRowsVisible(true);
+        footprintGrid
+                .addColumn(SessionFootprint::userKey)
+                .setHeader(getTranslation(AdminConstants.ADMIN_SESSIONS_USER_KEY))
+                .setFlexGrow(2);
+        footprintGrid.addColumn(SessionFootprint::uis).setHeader(getTranslation(AdminConstants.ADMIN_SESSIONS_UIS_KEY));
+        footprintGrid
+                .addColumn(SessionFootprint::components)
+                .setHeader(getTranslation(AdminConstants.ADMIN_SESSIONS_COMPONENTS_KEY));
+        footprintGrid
+                .addColumn(AdminSessionsView::formatSize)
+                .setHeader(getTranslation(AdminConstants.ADMIN_SESSIONS_SIZE_KEY));
+        footprintGrid
+                .addColumn(SessionFootprint::objects)
+                .setHeader(getTranslation(AdminConstants.ADMIN_SESSIONS_OBJECTS_KEY));
+        footprintGrid
+                .addColumn(footprint -> DATE_TIME_FORMATTER.format(footprint.sampledAt()))
+                .setHeader(getTranslation(AdminConstants.ADMIN_SESSIONS_SAMPLED_AT_KEY));
+        return footprintGrid;
+    }
+
+    private void refresh() {
+        Instant lastSample = footprintService.getLastSampleAt();
+        summary.setText(getTranslation(
+                AdminConstants.ADMIN_SESSIONS_SUMMARY_KEY,
+                footprintService.getActiveSessionCount(),
+                lastSample == null
+                        ? getTranslation(AdminConstants.ADMIN_SESSIONS_NOT_SAMPLED_KEY)
+                        : DATE_TIME_FORMATTER.format(lastSample)));
+        grid.setItems(footprintService.getTopSessions(AdminConstants.ADMIN_SESSIONS_TOP_N));
+    }
+
+    /**
+     * Formats estimated size; truncated estimates are lower bounds.
+     *
+     * @param footprint session footprint
+     * @return size in kilobytes
+     */
+    private static String formatSize(final SessionFootprint footprint) {
+        String size = Long.toString(footprint.retainedBytes() / BYTES_PER_KB);
+        return footprint.truncated() ? ">" + size : size;
+    }
+}
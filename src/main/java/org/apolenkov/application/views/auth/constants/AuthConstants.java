@@ -45,6 +45,7 @@ public final class AuthConstants {
     public static final String AUTH_LOGIN_PASSWORD_KEY = "auth.login.password";
     public static final String AUTH_LOGIN_ERROR_MESSAGE_KEY = "auth.login.errorMessage";
     public static final String AUTH_LOGIN_FORGOT_PASSWORD_KEY = "auth.login.forgotPassword";
+    public static final String AUTH_LOGIN_THROTTLED_KEY = "auth.login.throttled";
 
     public static final String AUTH_REGISTER_KEY = "auth.register";
     public static final String AUTH_REGISTER_TITLE_KEY = "auth.register.title";
@@ -13,6 +13,7 @@ import com.vaadin.flow.server.auth.AnonymousAllowed;
 import jakarta.annotation.PostConstruct;
 import org.apolenkov.application.config.constants.RouteConstants;
 import org.apolenkov.application.service.auth.AuthService;
+import org.apolenkov.application.service.security.LoginThrottledException;
 import org.apolenkov.application.views.auth.constants.AuthConstants;
 import org.apolenkov.application.views.core.layout.PublicLayout;
 import org.apolenkov.application.views.shared.base.BaseView;
@@ -97,6 +98,9 @@ public class LoginView extends BaseView implements BeforeEnterObserver {
             try {
                 authService.authenticateAndPersist(emailValue, passwordValue);
                 NavigationHelper.navigateToHome();
+            } catch (LoginThrottledException ex) {
+                long seconds = Math.max(1L, ex.getRetryAfter().toSeconds());
+                NotificationHelper.showError(getTranslation(AuthConstants.AUTH_LOGIN_THROTTLED_KEY, seconds));
             } catch (IllegalArgumentException ex) {
                 NotificationHelper.showError(ex.getMessage());
             } catch (Exception ex) {
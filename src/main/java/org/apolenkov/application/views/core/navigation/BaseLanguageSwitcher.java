@@ -137,7 +137,7 @@ public abstract class BaseLanguageSwitcher extends HorizontalLayout {
             return;
         }
         try {
-            long userId = userUseCase.getCurrentUser().getId();
+            long userId = userUseCase.getCurrentUserId();
             userSettingsService.setPreferredLocale(userId, locale);
         } catch (Exception ex) {
             // Intentionally ignoring exceptions when user service is unavailable
@@ -4,10 +4,14 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.domain.usecase.CardUseCase;
 import org.apolenkov.application.domain.usecase.DeckUseCase;
 import org.apolenkov.application.domain.usecase.UserUseCase;
 import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.cache.LoginWarmupService;
+import org.apolenkov.application.service.query.QueryFanOut;
+import org.apolenkov.application.service.stats.PaginationCountCache;
 import org.apolenkov.application.service.stats.StatsService;
 import org.apolenkov.application.views.deck.cache.UserDecksCache;
 import org.springframework.context.annotation.Lazy;
@@ -24,6 +28,9 @@ public class DeckListPresenter {
     private final StatsService statsService;
     private final UserUseCase userUseCase;
     private final UserDecksCache decksCache;
+    private final PaginationCountCache countCache;
+    private final LoginWarmupService loginWarmupService;
+    private final QueryFanOut queryFanOut;
 
     /**
      * Creates a new DeckListPresenter with the specified dependencies.
@@ -33,6 +40,9 @@ public class DeckListPresenter {
      * @param statsServiceParam the service for statistics operations (non-null)
      * @param userUseCaseParam the use case for user operations (non-null)
      * @param decksCacheParam UI-scoped cache for decks (non-null, lazy-loaded)
+     * @param countCacheParam session-scoped cache for card counts (non-null)
+     * @param loginWarmupParam login warmup to join while it is still running (non-null)
+     * @param queryFanOutParam executor running independent queries concurrently (non-null)
      * @throws IllegalArgumentException if any parameter is null
      */
     public DeckListPresenter(
@@ -40,7 +50,10 @@ public class DeckListPresenter {
             final CardUseCase cardUseCaseParam,
             final StatsService statsServiceParam,
             final UserUseCase userUseCaseParam,
-            @Lazy final UserDecksCache decksCacheParam) {
+            @Lazy final UserDecksCache decksCacheParam,
+            final PaginationCountCache countCacheParam,
+            final LoginWarmupService loginWarmupParam,
+            final QueryFanOut queryFanOutParam) {
         if (deckUseCaseParam == null) {
             throw new IllegalArgumentException("DeckUseCase cannot be null");
         }
@@ -56,22 +69,36 @@ public class DeckListPresenter {
         if (decksCacheParam == null) {
             throw new IllegalArgumentException("UserDecksCache cannot be null");
         }
+        if (countCacheParam == null) {
+            throw new IllegalArgumentException("PaginationCountCache cannot be null");
+        }
+        if (loginWarmupParam == null) {
+            throw new IllegalArgumentException("LoginWarmupService cannot be null");
+        }
+        if (queryFanOutParam == null) {
+            throw new IllegalArgumentException("QueryFanOut cannot be null");
+        }
         this.deckUseCase = deckUseCaseParam;
         this.cardUseCase = cardUseCaseParam;
         this.statsService = statsServiceParam;
         this.userUseCase = userUseCaseParam;
         this.decksCache = decksCacheParam;
+        this.countCache = countCacheParam;
+        this.loginWarmupService = loginWarmupParam;
+        this.queryFanOut = queryFanOutParam;
     }
 
     /**
      * Lists decks for the current user based on an optional search query.
      * Uses UI-scoped cache for all decks, database fulltext search for filtered results.
+     * Must be called off the session lock (see {@code AsyncLoader}): the first list after login
+     * may wait for the in-flight login warmup.
      *
      * @param query the search query to filter decks, maybe null or empty
      * @return a list of deck view models for the current user, never null (maybe empty)
      */
     public List<DeckCardViewModel> listDecksForCurrentUser(final String query) {
-        long userId = userUseCase.getCurrentUser().getId();
+        long userId = userUseCase.getCurrentUserId();
 
         // Normalize search query: trim whitespace, handle null
         String normalized = query != null ? query.trim() : "";
@@ -79,6 +106,8 @@ public class DeckListPresenter {
         // Load decks: use cache for all decks, database search for filtered results
         List<Deck> decks;
         if (normalized.isEmpty()) {
+            // First list after login: join in-flight warmup instead of repeating its queries
+            loginWarmupService.awaitCurrentSession();
             // No search query: load from cache (UI-scoped)
             decks = decksCache.getDecks(userId, () -> deckUseCase.getDecksByUserId(userId));
         } else {
@@ -92,16 +121,45 @@ public class DeckListPresenter {
                 .sorted(Comparator.comparing(Deck::getTitle, Comparator.nullsLast(String::compareToIgnoreCase)))
                 .toList();
 
-        // Step 1: Batch load card counts for all decks in single query
+        // Card counts and known card IDs are independent: load them concurrently.
+        // Missing one at the deadline degrades to zero progress instead of failing the list.
         List<Long> deckIds = decks.stream().map(Deck::getId).toList();
-        Map<Long, Long> deckSizes = cardUseCase.countByDeckIds(deckIds);
+        try (QueryFanOut.Scope scope = queryFanOut.open("deck-list")) {
+            // Card counts for all decks (session-cached, missing decks loaded in single query)
+            QueryFanOut.Branch<Map<Long, Long>> deckSizes = scope.fork(
+                    "counts",
+                    () -> countCache.getCounts(deckIds, FilterOption.ALL, cardUseCase::countByDeckIds),
+                    Map.of());
+            // Batch load known card IDs for all decks in single query
+            QueryFanOut.Branch<Map<Long, Set<Long>>> knownCardsByDeck =
+                    scope.fork("known", () -> statsService.getKnownCardIdsBatch(deckIds), Map.of());
 
-        // Step 2: Batch load known card IDs for all decks in single query
-        Map<Long, Set<Long>> knownCardsByDeck = statsService.getKnownCardIdsBatch(deckIds);
+            Map<Long, Long> sizes = deckSizes.get();
+            Map<Long, Set<Long>> known = knownCardsByDeck.get();
+            preloadFilteredCounts(deckIds, sizes, known);
+            return decks.stream().map(deck -> toViewModel(deck, sizes, known)).toList();
+        }
+    }
 
-        return decks.stream()
-                .map(deck -> toViewModel(deck, deckSizes, knownCardsByDeck))
-                .toList();
+    /**
+     * Stores filtered counts of listed decks, so opening any of them needs no COUNT query.
+     * Counts follow exactly from deck sizes and known card IDs; decks missing either
+     * (branch fell back at the deadline) are skipped.
+     *
+     * @param deckIds listed deck IDs
+     * @param deckSizes deck sizes
+     * @param knownCardsByDeck known card IDs by deck
+     */
+    private void preloadFilteredCounts(
+            final List<Long> deckIds, final Map<Long, Long> deckSizes, final Map<Long, Set<Long>> knownCardsByDeck) {
+        for (Long deckId : deckIds) {
+            Long size = deckSizes.get(deckId);
+            Set<Long> knownCards = knownCardsByDeck.get(deckId);
+            if (size != null && knownCards != null) {
+                countCache.preload(deckId, FilterOption.KNOWN_ONLY, knownCards.size());
+                countCache.preload(deckId, FilterOption.UNKNOWN_ONLY, Math.max(0, size - knownCards.size()));
+            }
+        }
     }
 
     /**
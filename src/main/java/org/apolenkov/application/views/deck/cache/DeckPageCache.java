@@ -0,0 +1,293 @@
+package org.apolenkov.application.views.deck.cache;
+
+import com.vaadin.flow.spring.annotation.VaadinSessionScope;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apolenkov.application.domain.event.DeckModifiedEvent;
+import org.apolenkov.application.domain.event.ProgressChangedEvent;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.event.CacheInvalidationEvent;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.service.stats.metrics.CacheStatsRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Session-scoped cache for deck card pages without search query.
+ * Filled by login warmup (first page of most recently practiced deck) and by regular page loads.
+ *
+ * <p>Configuration:
+ * <ul>
+ *   <li>TTL: configurable via app.cache.deck-page.ttl-ms (default: 60 seconds)</li>
+ *   <li>Max size: configurable via app.cache.deck-page.max-size (default: 100 pages)</li>
+ *   <li>Eviction: LRU-style when cache reaches max size</li>
+ *   <li>Scope: @VaadinSessionScope - shared across UI instances in same session</li>
+ * </ul>
+ *
+ * <p>Invalidation: all pages of a deck are dropped on deck changes, progress changes
+ * (filter membership) and card writes, locally or on other nodes (CacheInvalidationRegistry).
+ * Hits, misses, evictions and load time are also pushed to node-wide {@link CacheStatsRecorder}.
+ */
+@Component
+@VaadinSessionScope
+public class DeckPageCache implements CacheStatsRecorder.Source {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckPageCache.class);
+
+    private final Map<PageKey, CachedPage> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final CacheInvalidationRegistry invalidationRegistry;
+    private final CacheStatsRecorder recorder;
+
+    @Value("${app.cache.deck-page.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.cache.deck-page.max-size:100}")
+    private int maxSize;
+
+    /**
+     * Creates cache bound to node-wide invalidation registry and metrics.
+     *
+     * @param invalidationRegistryValue registry of invalidations received from other nodes
+     * @param cacheMetricsValue node-wide cache metrics
+     */
+    public DeckPageCache(
+            final CacheInvalidationRegistry invalidationRegistryValue, final AppCacheMetrics cacheMetricsValue) {
+        this.invalidationRegistry = invalidationRegistryValue;
+        this.recorder = cacheMetricsValue.recorder(AppCacheMetrics.DECK_PAGE);
+        recorder.register(this);
+    }
+
+    /**
+     * Gets page of cards for deck and filter.
+     *
+     * @param deckId the deck ID
+     * @param filterOption the filter option
+     * @param pageNumber zero-based page number
+     * @param pageSize page size
+     * @param loader supplier to load page when cache miss occurs
+     * @return cards of the page, never null
+     */
+    public List<Card> getPage(
+            final Long deckId,
+            final FilterOption filterOption,
+            final int pageNumber,
+            final int pageSize,
+            final Supplier<List<Card>> loader) {
+        if (deckId == null || filterOption == null) {
+            return loader.get();
+        }
+
+        PageKey key = new PageKey(deckId, filterOption, pageNumber, pageSize);
+        CachedPage cached = cache.get(key);
+
+        if (cached != null
+                && cached.isValid(recorder.effectiveTtlMs(ttlMs))
+                && !isRemotelyInvalidated(deckId, cached.cachedAt)) {
+            hitCount.incrementAndGet();
+            recorder.recordHit();
+            cached.accesses.incrementAndGet();
+            LOGGER.debug("Cache HIT: Returning page {} of deckId={}, filter={}", pageNumber, deckId, filterOption);
+            return cached.cards;
+        }
+
+        missCount.incrementAndGet();
+        recorder.recordMiss();
+        CacheStatsRecorder.LoadTimer load = recorder.startLoad();
+        List<Card> cards = loader.get();
+        load.stop(1);
+
+        // Evict the oldest entry if cache is full
+        if (cache.size() >= recorder.effectiveMaxSize(maxSize)) {
+            evictOldest();
+        }
+
+        cache.put(key, new CachedPage(cards));
+        LOGGER.debug("Cache updated: page {} of deckId={} cached ({} cards)", pageNumber, deckId, cards.size());
+
+        return cards;
+    }
+
+    /**
+     * Invalidates all cached pages of a deck.
+     *
+     * @param deckId the deck ID
+     */
+    public void invalidate(final Long deckId) {
+        if (deckId != null) {
+            cache.keySet().removeIf(key -> deckId.equals(key.deckId()));
+            LOGGER.debug("Cache invalidated for deckId={}", deckId);
+        }
+    }
+
+    /**
+     * Returns cache statistics for monitoring and testing.
+     *
+     * @return cache statistics including hit/miss counts and current size
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.get(), missCount.get(), cache.size());
+    }
+
+    /**
+     * Gets number of cached entries in this session.
+     *
+     * @return entry count
+     */
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets number of cards held by this session's cache.
+     *
+     * @return total cards over all entries
+     */
+    @Override
+    public long weight() {
+        return cache.values().stream().mapToLong(entry -> entry.cards.size()).sum();
+    }
+
+    // ==================== Control Plane ====================
+
+    @Override
+    public long ttlMs() {
+        return recorder.effectiveTtlMs(ttlMs);
+    }
+
+    @Override
+    public int maxSize() {
+        return recorder.effectiveMaxSize(maxSize);
+    }
+
+    @Override
+    public Map<Long, Long> accessCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        cache.forEach((key, entry) -> counts.merge(key.deckId(), entry.accesses.get(), Long::sum));
+        return counts;
+    }
+
+    /**
+     * Removes all entries of a deck (all filters and pages) (cache control endpoint).
+     *
+     * @param key the deck ID
+     * @return number of removed entries
+     */
+    @Override
+    public int evict(final long key) {
+        int before = cache.size();
+        cache.keySet().removeIf(entryKey -> entryKey.deckId() == key);
+        return Math.max(0, before - cache.size());
+    }
+
+    /**
+     * Clears all cache entries.
+     */
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Handles deck modification events.
+     *
+     * @param event the deck modified event
+     */
+    @EventListener
+    public void onDeckModified(final DeckModifiedEvent event) {
+        invalidate(event.getDeckId());
+    }
+
+    /**
+     * Handles progress changes: known/unknown filter membership of cards changed.
+     *
+     * @param event progress changed event
+     */
+    @EventListener
+    public void onProgressChanged(final ProgressChangedEvent event) {
+        invalidate(event.getDeckId());
+    }
+
+    /**
+     * Handles card writes, published as pagination count invalidations.
+     *
+     * @param event cache invalidation event
+     */
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        if (CacheInvalidationRegistry.PAGINATION_COUNT.equals(event.getCacheType())
+                && event.key() instanceof Long deckId) {
+            invalidate(deckId);
+        }
+    }
+
+    private boolean isRemotelyInvalidated(final Long deckId, final Instant cachedAt) {
+        return invalidationRegistry.isStale(CacheInvalidationRegistry.PAGINATION_COUNT, deckId, cachedAt)
+                || invalidationRegistry.isStale(CacheInvalidationRegistry.KNOWN_CARDS, deckId, cachedAt);
+    }
+
+    /**
+     * Evicts oldest cache entry (LRU-style).
+     * Called when cache reaches max size.
+     */
+    private void evictOldest() {
+        cache.entrySet().stream()
+                .min(Comparator.comparing(e -> e.getValue().cachedAt))
+                .ifPresent(oldest -> {
+                    cache.remove(oldest.getKey());
+                    recorder.recordEviction();
+                });
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Cache key.
+     *
+     * @param deckId the deck ID
+     * @param filterOption the filter option
+     * @param pageNumber zero-based page number
+     * @param pageSize page size
+     */
+    private record PageKey(Long deckId, FilterOption filterOption, int pageNumber, int pageSize) {}
+
+    /**
+     * Cached page with TTL.
+     */
+    private static final class CachedPage {
+        private final AtomicLong accesses = new AtomicLong();
+        private final List<Card> cards;
+        private final Instant cachedAt;
+
+        CachedPage(final List<Card> cardsList) {
+            this.cards = List.copyOf(cardsList); // Immutable copy
+            this.cachedAt = Instant.now();
+        }
+
+        boolean isValid(final long ttlMs) {
+            return Instant.now().isBefore(cachedAt.plusMillis(ttlMs));
+        }
+    }
+
+    /**
+     * Cache statistics record for monitoring and testing.
+     *
+     * @param hits number of cache hits
+     * @param misses number of cache misses
+     * @param size current cache size
+     */
+    public record CacheStats(long hits, long misses, int size) {}
+}
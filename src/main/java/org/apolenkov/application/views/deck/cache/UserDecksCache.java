@@ -3,6 +3,7 @@ package org.apolenkov.application.views.deck.cache;
 import com.vaadin.flow.spring.annotation.VaadinSessionScope;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,6 +11,9 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.apolenkov.application.domain.event.DeckModifiedEvent;
 import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.service.stats.metrics.CacheStatsRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,17 +31,22 @@ import org.springframework.stereotype.Component;
  *   <li>Max size: configurable via app.cache.decks.max-size (default: 1000 entries)</li>
  *   <li>Eviction: LRU-style when cache reaches max size</li>
  *   <li>Scope: @VaadinSessionScope - shared across UI instances in same session</li>
+ *   <li>Cross-node: entries invalidated on other nodes are treated as stale (CacheInvalidationRegistry)</li>
  * </ul>
+ *
+ * <p>Hits, misses, evictions and load time are also pushed to node-wide {@link CacheStatsRecorder}.
  */
 @Component
 @VaadinSessionScope
-public class UserDecksCache {
+public class UserDecksCache implements CacheStatsRecorder.Source {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UserDecksCache.class);
 
     private final Map<Long, CachedDecks> cache = new ConcurrentHashMap<>();
     private final AtomicLong hitCount = new AtomicLong();
     private final AtomicLong missCount = new AtomicLong();
+    private final CacheInvalidationRegistry invalidationRegistry;
+    private final CacheStatsRecorder recorder;
 
     @Value("${app.cache.decks.ttl-ms:60000}")
     private long ttlMs;
@@ -45,6 +54,19 @@ public class UserDecksCache {
     @Value("${app.cache.decks.max-size:1000}")
     private int maxSize;
 
+    /**
+     * Creates cache bound to node-wide invalidation registry and metrics.
+     *
+     * @param invalidationRegistryValue registry of invalidations received from other nodes
+     * @param cacheMetricsValue node-wide cache metrics
+     */
+    public UserDecksCache(
+            final CacheInvalidationRegistry invalidationRegistryValue, final AppCacheMetrics cacheMetricsValue) {
+        this.invalidationRegistry = invalidationRegistryValue;
+        this.recorder = cacheMetricsValue.recorder(CacheInvalidationRegistry.DECKS);
+        recorder.register(this);
+    }
+
     /**
      * Gets decks for a user.
      * Uses cached data when available and valid, otherwise loads fresh data.
@@ -61,18 +83,25 @@ public class UserDecksCache {
 
         CachedDecks cached = cache.get(userId);
 
-        if (cached != null && cached.isValid(ttlMs)) {
+        if (cached != null
+                && cached.isValid(recorder.effectiveTtlMs(ttlMs))
+                && !invalidationRegistry.isStale(CacheInvalidationRegistry.DECKS, userId, cached.cachedAt)) {
             hitCount.incrementAndGet();
+            recorder.recordHit();
+            cached.accesses.incrementAndGet();
             LOGGER.debug("Cache HIT: Returning {} decks for userId={}", cached.decks.size(), userId);
             return cached.decks;
         }
 
         missCount.incrementAndGet();
+        recorder.recordMiss();
         LOGGER.debug("Cache MISS: Loading decks for userId={}", userId);
+        CacheStatsRecorder.LoadTimer load = recorder.startLoad();
         List<Deck> decks = loader.get();
+        load.stop(1);
 
         // Evict the oldest entry if cache is full
-        if (cache.size() >= maxSize) {
+        if (cache.size() >= recorder.effectiveMaxSize(maxSize)) {
             evictOldest();
         }
 
@@ -104,6 +133,64 @@ public class UserDecksCache {
         return new CacheStats(hitCount.get(), missCount.get(), cache.size());
     }
 
+    /**
+     * Gets number of cached entries in this session.
+     *
+     * @return entry count
+     */
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets number of decks held by this session's cache.
+     *
+     * @return total decks over all entries
+     */
+    @Override
+    public long weight() {
+        return cache.values().stream().mapToLong(entry -> entry.decks.size()).sum();
+    }
+
+    // ==================== Control Plane ====================
+
+    @Override
+    public long ttlMs() {
+        return recorder.effectiveTtlMs(ttlMs);
+    }
+
+    @Override
+    public int maxSize() {
+        return recorder.effectiveMaxSize(maxSize);
+    }
+
+    @Override
+    public Map<Long, Long> accessCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        cache.forEach((key, entry) -> counts.merge(key, entry.accesses.get(), Long::sum));
+        return counts;
+    }
+
+    /**
+     * Removes all entries of a user (cache control endpoint).
+     *
+     * @param key the user ID
+     * @return number of removed entries
+     */
+    @Override
+    public int evict(final long key) {
+        return cache.remove(key) != null ? 1 : 0;
+    }
+
+    /**
+     * Clears all cache entries.
+     */
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
     /**
      * Logs cache statistics at DEBUG level.
      * Call periodically or on demand for monitoring.
@@ -131,6 +218,7 @@ public class UserDecksCache {
                 .min(Comparator.comparing(e -> e.getValue().cachedAt))
                 .ifPresent(oldest -> {
                     cache.remove(oldest.getKey());
+                    recorder.recordEviction();
                     LOGGER.debug("Cache eviction: removed oldest entry for userId={}", oldest.getKey());
                 });
     }
@@ -157,6 +245,7 @@ public class UserDecksCache {
      * Cached decks with TTL.
      */
     private static final class CachedDecks {
+        private final AtomicLong accesses = new AtomicLong();
         private final List<Deck> decks;
         private final Instant cachedAt;
 
@@ -8,7 +8,9 @@ import com.vaadin.flow.shared.Registration;
 import java.util.function.Consumer;
 import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.query.QueryFanOut;
 import org.apolenkov.application.service.stats.StatsService;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
 import org.apolenkov.application.views.deck.components.grid.DeckCardList;
 import org.apolenkov.application.views.deck.components.grid.DeckSearchControls;
 import org.apolenkov.application.views.deck.constants.DeckConstants;
@@ -40,17 +42,22 @@ public final class DeckCardContainer extends Composite<VerticalLayout> {
      *
      * @param statsServiceParam service for statistics tracking
      * @param cardUseCaseParam use case for card operations
+     * @param deckPageCacheParam session cache for card pages
+     * @param queryFanOutParam executor running independent page queries concurrently
      * @param searchDebounceMs debouncing timeout for search field
-     * @param pageSize number of items per page in card list
+     * @param pageSize number of cards fetched per chunk while scrolling the card list
      */
     public DeckCardContainer(
             final StatsService statsServiceParam,
             final org.apolenkov.application.domain.usecase.CardUseCase cardUseCaseParam,
+            final DeckPageCache deckPageCacheParam,
+            final QueryFanOut queryFanOutParam,
             final int searchDebounceMs,
             final int pageSize) {
         this.statsService = statsServiceParam;
         this.searchControls = new DeckSearchControls(searchDebounceMs);
-        this.cardList = new DeckCardList(statsService, cardUseCaseParam, pageSize);
+        this.cardList =
+                new DeckCardList(statsService, cardUseCaseParam, deckPageCacheParam, queryFanOutParam, pageSize);
         this.currentFilterOption = FilterOption.UNKNOWN_ONLY; // Default: hide known
     }
 
@@ -106,17 +113,17 @@ public final class DeckCardContainer extends Composite<VerticalLayout> {
     /**
      * Handles the toggle known action for a card.
      * Uses toggleCardKnown() to avoid redundant isCardKnown() check.
+     * Only the toggled card is patched; the page is re-fetched only if the card leaves the filter.
      *
      * @param card the card to toggle
      */
     private void handleToggleKnown(final Card card) {
         if (currentDeckId != null) {
             // This saves one SQL query by checking and updating in single transaction
-            statsService.toggleCardKnown(currentDeckId, card.getId());
+            boolean known = statsService.toggleCardKnown(currentDeckId, card.getId());
 
-            // Single refresh - cache auto-invalidated via ProgressChangedEvent
-            // refreshStatusForCards() uses debouncing to prevent multiple redundant refreshes
-            cardList.refreshStatusForCards();
+            // Page cache is invalidated via ProgressChangedEvent, rendered page is patched locally
+            cardList.applyKnownChange(card, known);
         }
     }
 
@@ -183,6 +190,24 @@ public final class DeckCardContainer extends Composite<VerticalLayout> {
         cardList.refreshStatusForCards();
     }
 
+    /**
+     * Updates single edited card without reloading the page.
+     *
+     * @param card the saved card
+     */
+    public void updateCard(final Card card) {
+        cardList.applyCardUpdate(card);
+    }
+
+    /**
+     * Removes single deleted card without reloading the page when possible.
+     *
+     * @param cardId ID of deleted card
+     */
+    public void removeCard(final long cardId) {
+        cardList.applyCardRemoval(cardId);
+    }
+
     /**
      * Refreshes the data and resets to first page.
      * Call after adding or removing cards to ensure proper pagination.
@@ -161,7 +161,7 @@ public class CreateDeckDialog extends Dialog {
 
         try {
             Deck deck = new Deck();
-            deck.setUserId(userUseCase.getCurrentUser().getId());
+            deck.setUserId(userUseCase.getCurrentUserId());
             deck.setTitle(title);
             deck.setDescription(description);
 
@@ -0,0 +1,198 @@
+package org.apolenkov.application.views.deck.components.grid;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.domain.usecase.CardUseCase;
+import org.apolenkov.application.model.Card;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Chunks of cards of the shown deck list.
+ *
+ * <p>Loaded chunks are kept and read under the session lock: {@link #slice(int, int, long)} serves rows
+ * requested by the list only from them and tells which chunks to load next. Chunks are loaded off the
+ * session lock by {@link #load(long, CardFilter, int, int)} and added with {@link #putAll(Map)}, so the
+ * data provider of the list never queries the database.
+ */
+final class CardChunks {
+
+    private final CardUseCase cardUseCase;
+    private final DeckPageCache deckPageCache;
+    private final int chunkSize;
+    private final Map<Integer, List<Card>> loaded = new HashMap<>();
+
+    /**
+     * Creates chunk store.
+     *
+     * @param cardUseCaseValue use case for card queries
+     * @param deckPageCacheValue session cache for chunks without search query
+     * @param chunkSizeValue number of cards per chunk
+     * @throws IllegalArgumentException if a dependency is null or chunk size is not positive
+     */
+    CardChunks(final CardUseCase cardUseCaseValue, final DeckPageCache deckPageCacheValue, final int chunkSizeValue) {
+        if (cardUseCaseValue == null || deckPageCacheValue == null) {
+            throw new IllegalArgumentException("CardUseCase and DeckPageCache cannot be null");
+        }
+        if (chunkSizeValue < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.cardUseCase = cardUseCaseValue;
+        this.deckPageCache = deckPageCacheValue;
+        this.chunkSize = chunkSizeValue;
+    }
+
+    // ==================== Loaded Chunks (session lock) ====================
+
+    /**
+     * Drops loaded chunks and keeps the first chunk of a new list load.
+     *
+     * @param firstChunk first chunk of the list
+     */
+    void reset(final List<Card> firstChunk) {
+        loaded.clear();
+        loaded.put(0, new ArrayList<>(firstChunk));
+    }
+
+    /**
+     * Drops loaded chunks (rows have shifted).
+     */
+    void clear() {
+        loaded.clear();
+    }
+
+    /**
+     * Adds chunks loaded off the session lock.
+     *
+     * @param chunks cards by chunk number
+     */
+    void putAll(final Map<Integer, List<Card>> chunks) {
+        chunks.forEach((chunk, cards) -> loaded.put(chunk, new ArrayList<>(cards)));
+    }
+
+    /**
+     * Replaces loaded copy of an edited card.
+     *
+     * @param card the saved card
+     */
+    void replace(final Card card) {
+        for (List<Card> cards : loaded.values()) {
+            cards.replaceAll(existing -> existing.getId().equals(card.getId()) ? card : existing);
+        }
+    }
+
+    /**
+     * Serves requested rows from loaded chunks.
+     * Rows are served up to the first chunk not loaded yet; the slice then names the chunks to load
+     * before the range can be served in full. A fully served slice names the following chunk, if any,
+     * to prefetch ahead of scrolling.
+     *
+     * @param offset first requested row
+     * @param limit number of requested rows
+     * @param totalItems number of items in the list
+     * @return served rows and chunks to load
+     */
+    Slice slice(final int offset, final int limit, final long totalItems) {
+        List<Card> rows = new ArrayList<>();
+        int end = (int) Math.min((long) offset + limit, totalItems);
+        int chunk = offset / chunkSize;
+        for (; chunk * chunkSize < end; chunk++) {
+            List<Card> cards = loaded.get(chunk);
+            if (cards == null) {
+                return new Slice(rows, false, chunk, (end - 1) / chunkSize);
+            }
+            int chunkStart = chunk * chunkSize;
+            int from = Math.max(0, offset - chunkStart);
+            int to = Math.min(cards.size(), end - chunkStart);
+            if (from < to) {
+                rows.addAll(cards.subList(from, to));
+            }
+            if (cards.size() < chunkSize) {
+                // Last chunk of the list
+                return new Slice(rows, true, -1, -1);
+            }
+        }
+        boolean prefetch = (long) chunk * chunkSize < totalItems && !loaded.containsKey(chunk);
+        return prefetch ? new Slice(rows, true, chunk, chunk) : new Slice(rows, true, -1, -1);
+    }
+
+    // ==================== Loading (off session lock) ====================
+
+    /**
+     * Loads range of chunks. Stops after the last chunk of the list.
+     *
+     * @param deckId the deck ID
+     * @param filter the card filter
+     * @param fromChunk first chunk to load
+     * @param toChunk last chunk to load
+     * @return cards by chunk number
+     */
+    Map<Integer, List<Card>> load(final long deckId, final CardFilter filter, final int fromChunk, final int toChunk) {
+        Map<Integer, List<Card>> chunks = new LinkedHashMap<>();
+        for (int chunk = fromChunk; chunk <= toChunk; chunk++) {
+            List<Card> cards = loadChunk(deckId, filter, chunk);
+            chunks.put(chunk, cards);
+            if (cards.size() < chunkSize) {
+                break;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Loads chunk of cards with filter applied.
+     * Handles combinations of search query and known/unknown status filtering.
+     *
+     * @param deckId the deck ID
+     * @param filter the card filter
+     * @param chunk zero-based chunk number
+     * @return list of cards matching filter
+     */
+    List<Card> loadChunk(final long deckId, final CardFilter filter, final int chunk) {
+        String searchQuery = searchQueryOf(filter);
+        FilterOption filterOption = filter != null ? filter.filterOption() : FilterOption.ALL;
+        PageRequest pageRequest = PageRequest.of(chunk, chunkSize);
+        if (searchQuery == null) {
+            // Chunks without search are session-cached (first chunk may be pre-filled by login warmup)
+            return deckPageCache.getPage(
+                    deckId,
+                    filterOption,
+                    chunk,
+                    chunkSize,
+                    () -> cardUseCase.getCardsWithFilter(deckId, null, filterOption, pageRequest));
+        }
+
+        // ✅ Use dynamic SQL query builder - ONE method handles ALL combinations!
+        return cardUseCase.getCardsWithFilter(deckId, searchQuery, filterOption, pageRequest);
+    }
+
+    /**
+     * Gets effective search query of filter.
+     *
+     * @param filter the card filter (can be null)
+     * @return search query, or null if filter has no non-blank query
+     */
+    static String searchQueryOf(final CardFilter filter) {
+        return filter != null
+                        && filter.searchQuery() != null
+                        && !filter.searchQuery().trim().isEmpty()
+                ? filter.searchQuery()
+                : null;
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Rows served from loaded chunks.
+     *
+     * @param rows served rows
+     * @param complete true if all requested rows are served
+     * @param loadFrom first chunk to load, -1 if none
+     * @param loadTo last chunk to load, -1 if none
+     */
+    record Slice(List<Card> rows, boolean complete, int loadFrom, int loadTo) {}
+}
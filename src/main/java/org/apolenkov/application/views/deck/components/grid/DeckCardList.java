@@ -1,57 +1,71 @@
 package org.apolenkov.application.views.deck.components.grid;
 
 import com.vaadin.flow.component.AttachEvent;
-import com.vaadin.flow.component.Component;
-import com.vaadin.flow.component.DetachEvent;
-import com.vaadin.flow.component.button.Button;
-import com.vaadin.flow.component.button.ButtonVariant;
-import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
-import com.vaadin.flow.component.icon.VaadinIcon;
-import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.shared.Registration;
+import com.vaadin.flow.component.virtuallist.VirtualList;
+import com.vaadin.flow.component.virtuallist.VirtualListLazyDataView;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import elemental.json.JsonArray;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.apolenkov.application.config.monitoring.jfr.JfrUiAccess;
 import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.domain.usecase.CardUseCase;
 import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.query.QueryFanOut;
 import org.apolenkov.application.service.stats.StatsService;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
 import org.apolenkov.application.views.deck.constants.DeckConstants;
-import org.springframework.data.domain.PageRequest;
+import org.apolenkov.application.views.shared.base.AsyncLoader;
+import org.springframework.web.util.HtmlUtils;
 
 /**
- * Component for displaying cards with explicit pagination controls.
- * Uses page-based loading to efficiently handle large collections (500+ cards).
- * Each card is rendered as a card with front text, example, status, and actions.
+ * Virtualized card list with infinite scroll.
+ *
+ * <p>Cards are rendered client-side by a {@link VirtualList} with a {@link LitRenderer} template:
+ * the server keeps no component per card, only the rows in the viewport are sent to the browser
+ * and all row actions go through one delegated handler. Rows are fetched lazily in chunks of
+ * the configured page size as the user scrolls; chunks without search query are served from
+ * {@link DeckPageCache}.
+ *
+ * <p>Item count, first chunk and known card IDs are loaded off the session lock (see
+ * {@link AsyncLoader}) whenever the deck, filter or data changes. Rows are served only from
+ * loaded chunks ({@link CardChunks}); following chunks are prefetched off the lock while the user
+ * scrolls, and rows of a chunk not loaded yet are pushed once it arrives. The database is never
+ * queried under the lock.
  */
 public final class DeckCardList extends VerticalLayout {
 
+    private static final String ACTION_EDIT = "edit";
+    private static final String ACTION_TOGGLE = "toggle";
+    private static final String ACTION_DELETE = "delete";
+
     // Dependencies
     private final transient StatsService statsService;
     private final transient CardUseCase cardUseCase;
-
-    // Configuration
-    private final int pageSize;
+    private final transient QueryFanOut queryFanOut;
+    private final transient CardChunks chunks;
 
     // Refresh debouncing to prevent triple refresh
     private final AtomicBoolean refreshPending = new AtomicBoolean(false);
-    private transient Registration refreshTimer;
+
+    // List state and chunk loads run off the session lock
+    private final transient AsyncLoader loader = new AsyncLoader(this);
+    private final transient AsyncLoader chunkLoader = new AsyncLoader(this);
 
     // UI Components
-    private Div cardsContainer;
-    private Span topPaginationInfo;
-    private Span bottomPaginationInfo;
-    private Button topPrevButton;
-    private Button topNextButton;
-    private Span topPageInfo;
-    private Button bottomPrevButton;
-    private Button bottomNextButton;
-    private Span bottomPageInfo;
-
-    // Callbacks (stored for rendering)
+    private Span listInfo;
+    private VirtualList<Card> virtualList;
+    private transient VirtualListLazyDataView<Card> dataView;
+
+    // Callbacks (invoked by delegated row action handler)
     private transient Consumer<Card> editCardCallback;
     private transient Consumer<Card> deleteCardCallback;
     private transient Consumer<Card> toggleKnownCallback;
@@ -59,9 +73,11 @@ public final class DeckCardList extends VerticalLayout {
     // State
     private transient Long currentDeckId;
     private transient CardFilter currentFilter;
-    private int currentPage = 0;
-    private int totalPages = 0;
     private long totalItems = 0;
+    private long totalCardsInDeck = -1;
+    private final transient Set<Long> knownCardIds = new HashSet<>();
+    private int listVersion;
+    private boolean rowsPending;
 
     // Lifecycle
     private boolean hasBeenInitialized = false;
@@ -71,13 +87,20 @@ public final class DeckCardList extends VerticalLayout {
      *
      * @param statsServiceParam service for statistics tracking
      * @param cardUseCaseParam use case for card operations
-     * @param pageSizeParam number of items per page
+     * @param deckPageCacheParam session cache for chunks without search query
+     * @param queryFanOutParam executor running independent list queries concurrently
+     * @param chunkSizeParam number of cards fetched per chunk while scrolling
      */
     public DeckCardList(
-            final StatsService statsServiceParam, final CardUseCase cardUseCaseParam, final int pageSizeParam) {
+            final StatsService statsServiceParam,
+            final CardUseCase cardUseCaseParam,
+            final DeckPageCache deckPageCacheParam,
+            final QueryFanOut queryFanOutParam,
+            final int chunkSizeParam) {
         this.statsService = statsServiceParam;
         this.cardUseCase = cardUseCaseParam;
-        this.pageSize = pageSizeParam;
+        this.queryFanOut = queryFanOutParam;
+        this.chunks = new CardChunks(cardUseCaseParam, deckPageCacheParam, chunkSizeParam);
         this.currentFilter = new CardFilter(null, FilterOption.UNKNOWN_ONLY);
 
         setWidthFull();
@@ -88,7 +111,7 @@ public final class DeckCardList extends VerticalLayout {
 
     /**
      * Initializes the component when attached to the UI.
-     * Creates card container with explicit pagination controls.
+     * Creates virtual list with card template.
      *
      * @param attachEvent the attachment event
      */
@@ -101,384 +124,406 @@ public final class DeckCardList extends VerticalLayout {
 
             // Load data if deck ID was set before initialization
             if (currentDeckId != null) {
-                loadCurrentPage();
+                reload();
             }
         }
     }
 
     /**
-     * Initializes the layout with pagination controls and cards container.
+     * Initializes the layout with info line and virtual list.
      */
     private void initializeLayout() {
-        // Top pagination info
-        topPaginationInfo = new Span();
-        topPaginationInfo.addClassName("deck-pagination-info");
-
-        // Top pagination controls
-        HorizontalLayout topPagination = new HorizontalLayout();
-        topPagination.setWidthFull();
-        topPagination.setJustifyContentMode(JustifyContentMode.CENTER);
-        topPagination.setAlignItems(Alignment.CENTER);
-        topPagination.setSpacing(true);
-        topPagination.setPadding(true);
-        topPagination.addClassName("deck-pagination-top");
-
-        topPrevButton = new Button(getTranslation("deck.pagination.previous"), VaadinIcon.ANGLE_LEFT.create());
-        topPrevButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
-        topPrevButton.addClickListener(e -> goToPreviousPage());
-
-        topPageInfo = new Span();
-        topPageInfo.addClassName("pagination-page-info");
-        topPageInfo.getStyle().set("margin", "0 var(--lumo-space-m)");
-
-        topNextButton = new Button(getTranslation("deck.pagination.next"), VaadinIcon.ANGLE_RIGHT.create());
-        topNextButton.setIconAfterText(true);
-        topNextButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
-        topNextButton.addClickListener(e -> goToNextPage());
-
-        topPagination.add(topPrevButton, topPageInfo, topNextButton);
-
-        // Cards container
-        cardsContainer = new Div();
-        cardsContainer.addClassName("deck-card-list");
-        cardsContainer.setWidthFull();
-
-        // Bottom pagination controls
-        HorizontalLayout bottomPagination = new HorizontalLayout();
-        bottomPagination.setWidthFull();
-        bottomPagination.setJustifyContentMode(JustifyContentMode.CENTER);
-        bottomPagination.setAlignItems(Alignment.CENTER);
-        bottomPagination.setSpacing(true);
-        bottomPagination.setPadding(true);
-        bottomPagination.addClassName("deck-pagination-bottom");
-
-        bottomPrevButton = new Button(getTranslation("deck.pagination.previous"), VaadinIcon.ANGLE_LEFT.create());
-        bottomPrevButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
-        bottomPrevButton.addClickListener(e -> goToPreviousPage());
-
-        bottomPageInfo = new Span();
-        bottomPageInfo.addClassName("pagination-page-info");
-        bottomPageInfo.getStyle().set("margin", "0 var(--lumo-space-m)");
-
-        bottomNextButton = new Button(getTranslation("deck.pagination.next"), VaadinIcon.ANGLE_RIGHT.create());
-        bottomNextButton.setIconAfterText(true);
-        bottomNextButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
-        bottomNextButton.addClickListener(e -> goToNextPage());
-
-        bottomPagination.add(bottomPrevButton, bottomPageInfo, bottomNextButton);
-
-        // Bottom pagination info
-        bottomPaginationInfo = new Span();
-        bottomPaginationInfo.addClassName("deck-pagination-info");
-
-        // Add all components
-        add(topPaginationInfo, topPagination, cardsContainer, bottomPagination, bottomPaginationInfo);
+        // Empty state message
+        listInfo = new Span();
+        listInfo.addClassName("deck-pagination-info");
+        listInfo.setVisible(false);
+
+        virtualList = new VirtualList<>();
+        virtualList.setWidthFull();
+        virtualList.addClassName("deck-card-list__items");
+        virtualList.setRenderer(createCardRenderer());
+        virtualList.setVisible(false);
+
+        add(listInfo, virtualList);
 
         // Data will be loaded in onAttach() if deckId is set
         // OR when setCurrentDeckId() is called
     }
 
     /**
-     * Navigates to the previous page.
+     * Creates card row renderer.
+     * Known status is looked up in the deck's known card IDs loaded once per list load.
+     *
+     * @return the card renderer
      */
-    private void goToPreviousPage() {
-        if (currentPage > 0) {
-            currentPage--;
-            loadCurrentPage();
-        }
+    private LitRenderer<Card> createCardRenderer() {
+        return LitRenderer.<Card>of(cardTemplate())
+                .withProperty("front", Card::getFrontText)
+                .withProperty("example", card -> card.getExample() != null ? card.getExample() : "")
+                .withProperty("known", card -> knownCardIds.contains(card.getId()))
+                .withFunction("action", this::handleAction);
     }
 
     /**
-     * Navigates to the next page.
+     * Builds card row template.
+     * Button titles are localized once per list instead of being sent with each row.
+     *
+     * @return the Lit template
      */
-    private void goToNextPage() {
-        if (currentPage < totalPages - 1) {
-            currentPage++;
-            loadCurrentPage();
+    private String cardTemplate() {
+        return "<div class=\"card-card ${item.known ? 'card-card--known' : 'card-card--unknown'}\""
+                + " @dblclick=\"${() => action('" + ACTION_EDIT + "')}\">"
+                + "<div class=\"card-card__content\">"
+                + "<div class=\"card-card__header\">"
+                + "<span class=\"card-front\">${item.front}</span>"
+                + "<div class=\"card-desktop-actions\">"
+                + actionButton(ACTION_EDIT, "'tertiary icon'", "vaadin:edit", DeckConstants.CARD_MENU_EDIT)
+                + actionButton(
+                        ACTION_TOGGLE,
+                        "item.known ? 'tertiary icon success' : 'tertiary icon'",
+                        "vaadin:check",
+                        DeckConstants.CARD_MENU_TOGGLE)
+                + actionButton(ACTION_DELETE, "'tertiary error icon'", "vaadin:trash", DeckConstants.CARD_MENU_DELETE)
+                + "</div>"
+                + "</div>"
+                + "<span class=\"card-example\" ?hidden=\"${!item.example}\">${item.example}</span>"
+                + "</div>"
+                + "</div>";
+    }
+
+    /**
+     * Builds template of one row action button.
+     *
+     * @param action action name passed to the delegated handler
+     * @param themeExpression template expression of button theme
+     * @param icon icon name
+     * @param titleKey translation key of button title
+     * @return the button template
+     */
+    private String actionButton(
+            final String action, final String themeExpression, final String icon, final String titleKey) {
+        return "<vaadin-button theme=\"${" + themeExpression + "}\""
+                + " " + DeckConstants.TITLE_PROPERTY + "=\"" + templateText(getTranslation(titleKey)) + "\""
+                + " @click=\"${() => action('" + action + "')}\">"
+                + "<vaadin-icon icon=\"" + icon + "\"></vaadin-icon>"
+                + "</vaadin-button>";
+    }
+
+    /**
+     * Escapes static text embedded in template (HTML and template literal syntax).
+     *
+     * @param text the text
+     * @return escaped text
+     */
+    private static String templateText(final String text) {
+        return HtmlUtils.htmlEscape(text).replace("\\", "&#92;").replace("`", "&#96;").replace("$", "&#36;");
+    }
+
+    /**
+     * Handles row action sent from the browser (single delegated handler for all rows).
+     *
+     * @param card the card of the row
+     * @param args action arguments, first is the action name
+     */
+    private void handleAction(final Card card, final JsonArray args) {
+        String action = args.length() > 0 ? args.getString(0) : "";
+        Consumer<Card> callback =
+                switch (action) {
+                    case ACTION_EDIT -> editCardCallback;
+                    case ACTION_TOGGLE -> toggleKnownCallback;
+                    case ACTION_DELETE -> deleteCardCallback;
+                    default -> null;
+                };
+        if (callback != null) {
+            callback.accept(card);
         }
     }
 
     /**
-     * Sets the current deck ID and loads first page.
+     * Sets the current deck ID and loads list from the start.
      *
      * @param deckId the deck ID
      */
     public void setCurrentDeckId(final Long deckId) {
         this.currentDeckId = deckId;
-        this.currentPage = 0;
-        // Load data if container is already initialized
-        if (cardsContainer != null) {
-            loadCurrentPage();
+        // Load data if list is already initialized
+        if (virtualList != null) {
+            virtualList.scrollToStart();
+            reload();
         }
-        // If cardsContainer is null, onAttach will call loadCurrentPage later
+        // If list is null, onAttach will call reload later
     }
 
     /**
-     * Loads the current page of cards from the database.
-     * If current page is empty but items exist, automatically navigates to the last valid page.
+     * Loads item count, first chunk and known card IDs off the session lock and shows the list.
+     * A newer load (filter change, refresh) supersedes one still in flight.
      */
-    private void loadCurrentPage() {
-        if (currentDeckId == null || cardsContainer == null) {
+    private void reload() {
+        if (currentDeckId == null || virtualList == null) {
             return;
         }
 
-        // Calculate total items and pages based on current filter
-        calculatePagination();
-
-        // Load cards for current page
-        PageRequest pageRequest = PageRequest.of(currentPage, pageSize);
-        List<Card> cards = loadCardsForPage(pageRequest);
-
-        // If current page is empty but we have items (page became empty after deletion),
-        // fall back to last valid page
-        // Note: This should rarely happen since updateFilter() resets to page 0
-        if (cards.isEmpty() && totalItems > 0 && currentPage > 0) {
-            currentPage = Math.max(0, totalPages - 1);
-            calculatePagination();
-            pageRequest = PageRequest.of(currentPage, pageSize);
-            cards = loadCardsForPage(pageRequest);
-        }
-
-        // Load known card IDs once for all cards (prevents N+50 cache hits)
-        Set<Long> knownCardIds = currentDeckId != null ? statsService.getKnownCardIds(currentDeckId) : Set.of();
-
-        // Clear existing cards and render mnew ones
-        cardsContainer.removeAll();
-        cards.forEach(card -> {
-            Div cardDiv = createCardComponent(card, knownCardIds);
-            cardsContainer.add(cardDiv);
-        });
-
-        // Update pagination info
-        updatePaginationInfo();
+        discardChunkLoads();
+        long deckId = currentDeckId;
+        CardFilter filter = currentFilter;
+        loader.load("DeckCardList.list", () -> fetchListData(deckId, filter), this::applyListData);
     }
 
     /**
-     * Calculates total items and pages based on current filter.
-     * Handles combinations of search query and known/unknown status.
+     * Fetches list data (runs without session lock).
+     * Count, first chunk and known card IDs are loaded concurrently. All three are required:
+     * without known card IDs rows would show known cards as unknown and a toggle would flip
+     * them the wrong way, so the load fails instead of degrading.
+     *
+     * @param deckId the deck ID
+     * @param filter the card filter
+     * @return list data to apply
      */
-    private void calculatePagination() {
-        boolean hasSearch = currentFilter != null
-                && currentFilter.searchQuery() != null
-                && !currentFilter.searchQuery().trim().isEmpty();
-
-        FilterOption filterOption = currentFilter != null ? currentFilter.filterOption() : FilterOption.ALL;
-
-        // ✅ Use dynamic SQL query builder - ONE method handles ALL combinations!
-        String searchQuery = hasSearch ? currentFilter.searchQuery() : null;
-        totalItems = cardUseCase.countCardsWithFilter(currentDeckId, searchQuery, filterOption);
-
-        totalPages = (int) Math.ceil((double) totalItems / pageSize);
-
-        // Ensure current page is valid
-        if (currentPage >= totalPages && totalPages > 0) {
-            currentPage = totalPages - 1;
-        }
-        if (currentPage < 0) {
-            currentPage = 0;
+    private ListData fetchListData(final long deckId, final CardFilter filter) {
+        String searchQuery = CardChunks.searchQueryOf(filter);
+        FilterOption filterOption = filter != null ? filter.filterOption() : FilterOption.ALL;
+
+        try (QueryFanOut.Scope scope = queryFanOut.open("deck-list")) {
+            // Total items, first chunk and known card IDs (once for all cards) are independent
+            QueryFanOut.Branch<Long> count =
+                    scope.fork("count", () -> cardUseCase.countCardsWithFilter(deckId, searchQuery, filterOption));
+            QueryFanOut.Branch<List<Card>> first =
+                    scope.fork("first-chunk", () -> chunks.loadChunk(deckId, filter, 0));
+            QueryFanOut.Branch<Set<Long>> known =
+                    scope.fork("known", () -> statsService.getKnownCardIds(deckId));
+
+            long items = count.get();
+            List<Card> cards = first.get();
+
+            // Deck size is only needed to explain an empty filter result
+            long deckSize = items == 0 && searchQuery == null ? cardUseCase.countByDeckId(deckId) : -1;
+            return new ListData(items, cards, known.get(), deckSize);
         }
     }
 
     /**
-     * Loads cards for the specified page with current filter applied.
-     * Handles combinations of search query and known/unknown status filtering.
+     * Applies fetched list data (runs under session lock).
+     * The virtual list then requests visible rows from {@link #fetchCards(Query)}.
      *
-     * @param pageRequest the page request
-     * @return list of cards matching current filter
+     * @param data fetched list data
      */
-    private List<Card> loadCardsForPage(final PageRequest pageRequest) {
-        boolean hasSearch = currentFilter != null
-                && currentFilter.searchQuery() != null
-                && !currentFilter.searchQuery().trim().isEmpty();
-
-        FilterOption filterOption = currentFilter != null ? currentFilter.filterOption() : FilterOption.ALL;
-
-        // ✅ Use dynamic SQL query builder - ONE method handles ALL combinations!
-        String searchQuery = hasSearch ? currentFilter.searchQuery() : null;
-        return cardUseCase.getCardsWithFilter(currentDeckId, searchQuery, filterOption, pageRequest);
+    private void applyListData(final ListData data) {
+        totalItems = data.totalItems();
+        totalCardsInDeck = data.totalCardsInDeck();
+        knownCardIds.clear();
+        knownCardIds.addAll(data.knownCardIds());
+        chunks.reset(data.firstChunk());
+
+        if (dataView == null) {
+            dataView = virtualList.setItems(this::fetchCards, query -> (int) Math.min(Integer.MAX_VALUE, totalItems));
+            dataView.setIdentifierProvider(Card::getId);
+        } else {
+            dataView.refreshAll();
+        }
+        updateListInfo();
     }
 
     /**
-     * Gets contextual empty message based on current filter and search state.
-     * Provides helpful guidance to users about why no items are shown.
+     * Fetches rows requested by the virtual list (runs under session lock, never queries the database).
+     * Rows are served from loaded chunks. If the range reaches a chunk not loaded yet, the rows before
+     * it are returned and the missing chunks are loaded off the lock; the list is then refreshed to
+     * request the range again. A fully served range prefetches the following chunk.
      *
-     * @return localized message explaining the empty state
+     * @param query the query with offset and limit of requested rows
+     * @return cards of requested range
      */
-    private String getContextualEmptyMessage() {
-        // Check if there's an active search query
-        boolean hasSearch = currentFilter != null
-                && currentFilter.searchQuery() != null
-                && !currentFilter.searchQuery().trim().isEmpty();
-
-        // If searching, show generic "no results" message
-        if (hasSearch) {
-            return getTranslation("deck.pagination.no-items");
+    private Stream<Card> fetchCards(final Query<Card, Void> query) {
+        if (currentDeckId == null || query.getLimit() <= 0) {
+            return Stream.empty();
         }
-
-        // Check if deck is completely empty (no cards at all)
-        long totalCardsInDeck = cardUseCase.countByDeckId(currentDeckId);
-        if (totalCardsInDeck == 0) {
-            return getTranslation("deck.pagination.no-items.all");
+        CardChunks.Slice slice = chunks.slice(query.getOffset(), query.getLimit(), totalItems);
+        if (slice.loadFrom() >= 0) {
+            loadChunks(slice);
         }
-
-        // Deck has cards, but filter hides them all
-        FilterOption filterOption = currentFilter != null ? currentFilter.filterOption() : FilterOption.ALL;
-        return switch (filterOption) {
-            case ALL -> getTranslation("deck.pagination.no-items"); // Should not happen if deck has cards
-            case KNOWN_ONLY -> getTranslation("deck.pagination.no-items.known");
-            case UNKNOWN_ONLY -> getTranslation("deck.pagination.no-items.unknown");
-        };
+        return slice.rows().stream();
     }
 
     /**
-     * Updates pagination info displays.
-     * Critical logic for avoiding duplicate messages:
-     * - No items: Show message ONLY at top (prevents duplicate visible text)
-     * - One page: Hide all messages (items visible, no explanation needed)
-     * - Multiple pages: Show pagination at top AND bottom (for navigation convenience)
+     * Loads chunks named by slice off the session lock.
+     * Prefetch never supersedes a load of rows the list is waiting for.
+     *
+     * @param slice slice naming chunks to load
      */
-    private void updatePaginationInfo() {
-        // Case 1: No items after filtering
-        if (totalItems == 0) {
-            String noItemsText = getContextualEmptyMessage();
-
-            // ✅ Show message ONLY at top (prevents duplicate visible text)
-            topPaginationInfo.setText(noItemsText);
-            topPaginationInfo.setVisible(true);
-
-            // ✅ Hide bottom message (no need to show same message twice)
-            bottomPaginationInfo.setText("");
-            bottomPaginationInfo.setVisible(false);
-
-            // Hide pagination controls when no items
-            hidePaginationControls();
+    private void loadChunks(final CardChunks.Slice slice) {
+        if (slice.complete() && (rowsPending || chunkLoader.isLoading())) {
             return;
         }
+        if (!slice.complete()) {
+            rowsPending = true;
+        }
+        long deckId = currentDeckId;
+        CardFilter filter = currentFilter;
+        int version = listVersion;
+        chunkLoader.load(
+                "DeckCardList.chunks",
+                () -> chunks.load(deckId, filter, slice.loadFrom(), slice.loadTo()),
+                loaded -> applyChunks(version, loaded));
+    }
 
-        // Case 2: Items exist but all fit on one page (no pagination needed)
-        if (totalPages <= 1) {
-            // Clear pagination info text - items are visible, no explanation needed
-            topPaginationInfo.setText("");
-            bottomPaginationInfo.setText("");
-            topPaginationInfo.setVisible(false);
-            bottomPaginationInfo.setVisible(false);
-
-            // Hide pagination controls
-            hidePaginationControls();
+    /**
+     * Adds loaded chunks (runs under session lock) and pushes rows the list is waiting for.
+     *
+     * @param version list version the chunks were loaded for
+     * @param loaded cards by chunk number
+     */
+    private void applyChunks(final int version, final Map<Integer, List<Card>> loaded) {
+        if (version != listVersion) {
             return;
         }
+        chunks.putAll(loaded);
+        if (rowsPending) {
+            rowsPending = false;
+            dataView.refreshAll();
+        }
+    }
 
-        // Case 3: Multiple pages - show pagination controls and info
-        showPaginationControls();
-
-        // Show pagination info at top AND bottom for navigation convenience
-        topPaginationInfo.setVisible(true);
-        bottomPaginationInfo.setVisible(true);
-
-        int startItem = currentPage * pageSize + 1;
-        int endItem = Math.min((currentPage + 1) * pageSize, (int) totalItems);
-
-        // Use mobile-friendly text for all screens (CSS will handle responsive display)
-        String paginationText = getTranslation(
-                "deck.pagination.info.mobile",
-                startItem,
-                endItem,
-                totalItems,
-                currentPage + 1,
-                Math.max(1, totalPages));
-
-        topPaginationInfo.setText(paginationText);
-        bottomPaginationInfo.setText(paginationText);
-
-        // Add data attribute for mobile CSS to show only page numbers
-        String pageInfoText = (currentPage + 1) + " / " + Math.max(1, totalPages);
-        topPaginationInfo.getElement().setAttribute("data-page-info", pageInfoText);
-        bottomPaginationInfo.getElement().setAttribute("data-page-info", pageInfoText);
+    /**
+     * Discards loaded and in-flight chunks after rows changed or shifted.
+     */
+    private void discardChunkLoads() {
+        listVersion++;
+        rowsPending = false;
+        chunkLoader.cancel();
     }
 
+    // ==================== Incremental Updates ====================
+
     /**
-     * Updates pagination button states.
+     * Applies known status change of one card without reloading the list.
+     * With ALL filter only the card row is re-rendered; under KNOWN_ONLY/UNKNOWN_ONLY
+     * the card leaves the filter, count is adjusted locally and visible rows are re-fetched.
      *
-     * @param canGoPrevious whether previous button should be enabled
-     * @param canGoNext whether next button should be enabled
+     * @param card the toggled card
+     * @param known new known status
      */
-    private void updatePaginationButtons(final boolean canGoPrevious, final boolean canGoNext) {
-        if (topPrevButton != null) {
-            topPrevButton.setEnabled(canGoPrevious);
+    public void applyKnownChange(final Card card, final boolean known) {
+        if (!canPatch()) {
+            reload();
+            return;
         }
-        if (topNextButton != null) {
-            topNextButton.setEnabled(canGoNext);
+        if (known) {
+            knownCardIds.add(card.getId());
+        } else {
+            knownCardIds.remove(card.getId());
         }
-        if (bottomPrevButton != null) {
-            bottomPrevButton.setEnabled(canGoPrevious);
+
+        FilterOption filterOption = currentFilter != null ? currentFilter.filterOption() : FilterOption.ALL;
+        if (filterOption == FilterOption.ALL) {
+            dataView.refreshItem(card);
+        } else {
+            removeFromList();
         }
-        if (bottomNextButton != null) {
-            bottomNextButton.setEnabled(canGoNext);
+    }
+
+    /**
+     * Applies edit of one card without reloading the list.
+     * With active search the list is reloaded, as edited text may change search membership.
+     *
+     * @param card the saved card
+     */
+    public void applyCardUpdate(final Card card) {
+        if (!canPatch() || CardChunks.searchQueryOf(currentFilter) != null) {
+            reload();
+            return;
         }
+        chunks.replace(card);
+        dataView.refreshItem(card);
     }
 
     /**
-     * Updates page info labels in pagination controls.
+     * Applies deletion of one card without reloading the list.
      *
-     * @param text the page info text
+     * @param cardId ID of deleted card
      */
-    private void updatePageInfoLabels(final String text) {
-        if (topPageInfo != null) {
-            topPageInfo.setText(text);
+    public void applyCardRemoval(final long cardId) {
+        if (!canPatch()) {
+            reload();
+            return;
         }
-        if (bottomPageInfo != null) {
-            bottomPageInfo.setText(text);
+        knownCardIds.remove(cardId);
+        if (totalCardsInDeck > 0) {
+            totalCardsInDeck--;
         }
+        removeFromList();
     }
 
     /**
-     * Hides pagination controls when no items are available.
+     * Checks if shown list can be patched locally.
+     * While a list load is in flight its data may predate the write, so it is reloaded instead.
+     *
+     * @return true if list is shown and no load is in flight
      */
-    private void hidePaginationControls() {
-        // Hide top pagination
-        if (getComponentCount() > 1) {
-            Component topPagination = getComponentAt(1);
-            if (topPagination != null) {
-                topPagination.setVisible(false);
-            }
-        }
+    private boolean canPatch() {
+        return dataView != null && currentDeckId != null && !loader.isLoading();
+    }
 
-        // Hide bottom pagination
-        if (getComponentCount() > 3) {
-            Component bottomPagination = getComponentAt(3);
-            if (bottomPagination != null) {
-                bottomPagination.setVisible(false);
+    /**
+     * Adjusts count after a card left the list and re-fetches visible rows.
+     * Rows after the removed card shift, so loaded chunks are dropped and loaded again off the lock.
+     */
+    private void removeFromList() {
+        totalItems = Math.max(0, totalItems - 1);
+        discardChunkLoads();
+        chunks.clear();
+        if (totalItems == 0 && totalCardsInDeck < 0) {
+            // Empty-state message needs deck size: with ALL filter and no search it equals item count
+            FilterOption filterOption = currentFilter != null ? currentFilter.filterOption() : FilterOption.ALL;
+            if (filterOption == FilterOption.ALL && CardChunks.searchQueryOf(currentFilter) == null) {
+                totalCardsInDeck = 0;
+            } else {
+                reload();
+                return;
             }
         }
+        dataView.refreshAll();
+        updateListInfo();
     }
 
+    // ==================== Info ====================
+
     /**
-     * Shows pagination controls when items are available.
+     * Gets contextual empty message based on current filter and search state.
+     * Provides helpful guidance to users about why no items are shown.
+     *
+     * @return localized message explaining the empty state
      */
-    private void showPaginationControls() {
-        // Show top pagination
-        if (getComponentCount() > 1) {
-            Component topPagination = getComponentAt(1);
-            if (topPagination != null) {
-                topPagination.setVisible(true);
-            }
+    private String getContextualEmptyMessage() {
+        // If searching, show generic "no results" message
+        if (CardChunks.searchQueryOf(currentFilter) != null) {
+            return getTranslation("deck.pagination.no-items");
         }
 
-        // Show bottom pagination
-        if (getComponentCount() > 3) {
-            Component bottomPagination = getComponentAt(3);
-            if (bottomPagination != null) {
-                bottomPagination.setVisible(true);
-            }
+        // Check if deck is completely empty (no cards at all)
+        if (totalCardsInDeck == 0) {
+            return getTranslation("deck.pagination.no-items.all");
         }
 
-        // Update button states and page info
-        updatePaginationButtons(currentPage > 0, currentPage < totalPages - 1);
+        // Deck has cards, but filter hides them all
+        FilterOption filterOption = currentFilter != null ? currentFilter.filterOption() : FilterOption.ALL;
+        return switch (filterOption) {
+            case ALL -> getTranslation("deck.pagination.no-items"); // Should not happen if deck has cards
+            case KNOWN_ONLY -> getTranslation("deck.pagination.no-items.known");
+            case UNKNOWN_ONLY -> getTranslation("deck.pagination.no-items.unknown");
+        };
+    }
 
-        String pageInfoText = (currentPage + 1) + " / " + Math.max(1, totalPages);
-        updatePageInfoLabels(pageInfoText);
+    /**
+     * Shows empty state message instead of the list when no items match the filter.
+     */
+    private void updateListInfo() {
+        boolean empty = totalItems == 0;
+        listInfo.setText(empty ? getContextualEmptyMessage() : "");
+        listInfo.setVisible(empty);
+        virtualList.setVisible(!empty);
     }
 
+    // ==================== Callbacks ====================
+
     /**
      * Sets the edit card callback.
      *
@@ -507,184 +552,30 @@ public final class DeckCardList extends VerticalLayout {
     }
 
     /**
-     * Updates the filter and reloads from first page.
-     * Resets to page 0 to avoid edge cases where current page becomes invalid after filtering.
+     * Updates the filter and reloads list from the start.
      *
      * @param searchQuery search query (can be null or empty)
      * @param filterOption filter option for known/unknown status
      */
     public void updateFilter(final String searchQuery, final FilterOption filterOption) {
         this.currentFilter = new CardFilter(searchQuery, filterOption);
-        // Reset to first page to avoid retry loop when filter reduces total items
-        this.currentPage = 0;
-        loadCurrentPage();
-    }
-
-    /**
-     * Creates a card component for a single card.
-     * Called for each visible item in the current page.
-     *
-     * @param card the card to create a card for
-     * @param knownCardIds set of known card IDs (pre-loaded to avoid N cache hits)
-     * @return the card component
-     */
-    private Div createCardComponent(final Card card, final Set<Long> knownCardIds) {
-        Div cardDiv = new Div();
-        cardDiv.addClassName("card-card");
-
-        // Check known status from pre-loaded set (prevents N+50 cache hits per render)
-        boolean isKnown = knownCardIds.contains(card.getId());
-
-        // Note: Filter logic is handled in DataProvider to avoid breaking VirtualList scroll
-        // Hiding items in the renderer breaks VirtualList's virtual scrolling
-
-        // Add known/unknown class for styling (green/blue left border)
-        if (isKnown) {
-            cardDiv.addClassName("card-card--known");
-        } else {
-            cardDiv.addClassName("card-card--unknown");
-        }
-
-        cardDiv.getStyle().set("width", "100%");
-        cardDiv.getStyle().set("max-width", "100%");
-        cardDiv.getStyle().set("cursor", "pointer"); // Indicate double-clickable
-
-        // Add double-click listener to open edit dialog
-        cardDiv.getElement().addEventListener("dblclick", e -> {
-            if (editCardCallback != null) {
-                editCardCallback.accept(card);
-            }
-        });
-
-        // Card content (clickable area)
-        VerticalLayout cardContent = new VerticalLayout();
-        cardContent.setPadding(true);
-        cardContent.setSpacing(true);
-        cardContent.setWidthFull();
-
-        // Header row: Front text + Known indicator + Actions
-        HorizontalLayout headerRow = new HorizontalLayout();
-        headerRow.setWidthFull();
-        headerRow.setAlignItems(com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment.CENTER);
-        headerRow.setJustifyContentMode(
-                com.vaadin.flow.component.orderedlayout.FlexComponent.JustifyContentMode.BETWEEN);
-
-        // Front text (grows to fill space)
-        Span frontText = new Span(card.getFrontText());
-        frontText.addClassName("card-front");
-        frontText.getStyle().set("flex-grow", "1");
-
-        // Right section: Known indicator + Actions
-        HorizontalLayout rightSection = new HorizontalLayout();
-        rightSection.setSpacing(true);
-        rightSection.setAlignItems(com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment.CENTER);
-
-        // Known indicator (checkmark if card is known) - hidden via CSS, replaced with border
-        if (isKnown) {
-            Span knownIndicator = new Span("✓");
-            knownIndicator.addClassName("card-known-indicator");
-            rightSection.add(knownIndicator);
-        }
-
-        // Desktop: action buttons (visible only on desktop via CSS)
-        HorizontalLayout desktopActions = createDesktopActionButtons(card, isKnown);
-        desktopActions.addClassName("desktop-only");
-
-        // Mobile: same action buttons (visible only on mobile via CSS)
-        HorizontalLayout mobileActions = createDesktopActionButtons(card, isKnown);
-        mobileActions.addClassName("mobile-only");
-
-        rightSection.add(desktopActions, mobileActions);
-        headerRow.add(frontText, rightSection);
-
-        // Example row (if exists)
-        if (card.getExample() != null && !card.getExample().trim().isEmpty()) {
-            Span exampleText = new Span(card.getExample());
-            exampleText.addClassName("card-example");
-            cardContent.add(headerRow, exampleText);
-        } else {
-            cardContent.add(headerRow);
+        if (virtualList != null) {
+            virtualList.scrollToStart();
         }
-
-        cardDiv.add(cardContent);
-        return cardDiv;
+        reload();
     }
 
-    /**
-     * Creates desktop action buttons (icon buttons without text).
-     *
-     * @param card the card to create actions for
-     * @param isKnown whether the card is known (affects button styling)
-     * @return the actions buttons layout
-     */
-    private HorizontalLayout createDesktopActionButtons(final Card card, final boolean isKnown) {
-        HorizontalLayout buttonsLayout = new HorizontalLayout();
-        buttonsLayout.setSpacing(false);
-        buttonsLayout.setPadding(false);
-        buttonsLayout.addClassName("card-desktop-actions");
-
-        // Edit button
-        com.vaadin.flow.component.button.Button editButton = new com.vaadin.flow.component.button.Button();
-        editButton.setIcon(com.vaadin.flow.component.icon.VaadinIcon.EDIT.create());
-        editButton.addThemeVariants(
-                com.vaadin.flow.component.button.ButtonVariant.LUMO_TERTIARY,
-                com.vaadin.flow.component.button.ButtonVariant.LUMO_ICON);
-        editButton.getElement().setProperty(DeckConstants.TITLE_PROPERTY, getTranslation(DeckConstants.CARD_MENU_EDIT));
-        editButton.addClickListener(e -> {
-            if (editCardCallback != null) {
-                editCardCallback.accept(card);
-            }
-        });
-
-        // Toggle known button
-        com.vaadin.flow.component.button.Button toggleButton = new com.vaadin.flow.component.button.Button();
-        toggleButton.setIcon(com.vaadin.flow.component.icon.VaadinIcon.CHECK.create());
-        toggleButton.addThemeVariants(
-                com.vaadin.flow.component.button.ButtonVariant.LUMO_TERTIARY,
-                com.vaadin.flow.component.button.ButtonVariant.LUMO_ICON);
-
-        // Green color for known cards, default for unknown
-        if (isKnown) {
-            toggleButton.addThemeVariants(com.vaadin.flow.component.button.ButtonVariant.LUMO_SUCCESS);
-        }
-
-        toggleButton
-                .getElement()
-                .setProperty(DeckConstants.TITLE_PROPERTY, getTranslation(DeckConstants.CARD_MENU_TOGGLE));
-        toggleButton.addClickListener(e -> {
-            if (toggleKnownCallback != null) {
-                toggleKnownCallback.accept(card);
-            }
-        });
-
-        // Delete button
-        com.vaadin.flow.component.button.Button deleteButton = new com.vaadin.flow.component.button.Button();
-        deleteButton.setIcon(com.vaadin.flow.component.icon.VaadinIcon.TRASH.create());
-        deleteButton.addThemeVariants(
-                com.vaadin.flow.component.button.ButtonVariant.LUMO_TERTIARY,
-                com.vaadin.flow.component.button.ButtonVariant.LUMO_ERROR,
-                com.vaadin.flow.component.button.ButtonVariant.LUMO_ICON);
-        deleteButton
-                .getElement()
-                .setProperty(DeckConstants.TITLE_PROPERTY, getTranslation(DeckConstants.CARD_MENU_DELETE));
-        deleteButton.addClickListener(e -> {
-            if (deleteCardCallback != null) {
-                deleteCardCallback.accept(card);
-            }
-        });
-
-        buttonsLayout.add(editButton, toggleButton, deleteButton);
-        return buttonsLayout;
-    }
+    // ==================== Refresh ====================
 
     /**
-     * Refreshes the current page to reload all visible items.
-     * Call this after status changes (known/unknown toggle).
-     * Preserves current page position.
+     * Reloads the list keeping scroll position.
+     * Call this after bulk status changes (progress reset).
      *
      * <p>Uses UI.access() for immediate server push updates to ensure user sees changes instantly.
      * AtomicBoolean flag prevents multiple redundant refreshes during rapid interactions.
-     * This pattern ensures thread-safe UI updates and immediate feedback in Practice Mode.
+     *
+     * <p>List data itself is fetched off the session lock (see {@link AsyncLoader}); a refresh
+     * requested while a load is in flight supersedes it.
      *
      * <p>Pattern: AtomicBoolean flag + UI.access() for server push
      * Reference: Vaadin Flow Server Push documentation
@@ -693,23 +584,18 @@ public final class DeckCardList extends VerticalLayout {
      */
     public void refreshStatusForCards() {
         // Skip if not initialized yet
-        if (cardsContainer == null) {
+        if (virtualList == null) {
             return;
         }
 
         if (refreshPending.compareAndSet(false, true)) {
-            // Cancel previous timer if exists
-            if (refreshTimer != null) {
-                refreshTimer.remove();
-            }
-
             // Use UI.access() for immediate push updates (thread-safe)
             // This ensures UI updates happen immediately, not on next client request
             getElement()
                     .getNode()
-                    .runWhenAttached(ui -> ui.access(() -> {
+                    .runWhenAttached(ui -> JfrUiAccess.access(ui, "DeckCardList.refresh", () -> {
                         if (refreshPending.compareAndSet(true, false)) {
-                            loadCurrentPage();
+                            reload();
                             // No need for ui.push() - @Push annotation enables automatic push mode
                         }
                     }));
@@ -717,43 +603,38 @@ public final class DeckCardList extends VerticalLayout {
     }
 
     /**
-     * Refreshes the data and resets to first page.
-     * Call this after adding or removing cards to ensure proper pagination.
-     * Resets to page 0 to show newly added cards.
+     * Reloads the list and scrolls to the start.
+     * Call this after adding cards to show newly added cards.
      * Uses UI.access() for immediate server push updates.
      */
     public void refreshDataAndResetPage() {
         // Skip if not initialized yet
-        if (cardsContainer == null) {
+        if (virtualList == null) {
             return;
         }
 
         if (refreshPending.compareAndSet(false, true)) {
-            // Cancel previous timer if exists
-            if (refreshTimer != null) {
-                refreshTimer.remove();
-            }
-
             // Use UI.access() for immediate push updates (thread-safe)
             getElement()
                     .getNode()
-                    .runWhenAttached(ui -> ui.access(() -> {
+                    .runWhenAttached(ui -> JfrUiAccess.access(ui, "DeckCardList.refreshAndReset", () -> {
                         if (refreshPending.compareAndSet(true, false)) {
-                            // Reset to first page to show newly added cards
-                            currentPage = 0;
-                            loadCurrentPage();
+                            // Scroll to start to show newly added cards
+                            virtualList.scrollToStart();
+                            reload();
                         }
                     }));
         }
     }
 
-    @Override
-    protected void onDetach(final DetachEvent detachEvent) {
-        super.onDetach(detachEvent);
-        // Cancel pending timer to prevent memory leak
-        if (refreshTimer != null) {
-            refreshTimer.remove();
-            refreshTimer = null;
-        }
-    }
+    /**
+     * List data fetched off the session lock.
+     *
+     * @param totalItems items matching filter
+     * @param firstChunk first chunk of cards
+     * @param knownCardIds known card IDs of deck
+     * @param totalCardsInDeck deck size if filter result is empty without search, -1 otherwise
+     */
+    private record ListData(
+            long totalItems, List<Card> firstChunk, Set<Long> knownCardIds, long totalCardsInDeck) {}
 }
@@ -11,6 +11,7 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.progressbar.ProgressBar;
+import java.util.function.Consumer;
 import org.apolenkov.application.views.deck.business.DeckCardViewModel;
 import org.apolenkov.application.views.deck.constants.DeckConstants;
 import org.apolenkov.application.views.shared.utils.ButtonHelper;
@@ -23,7 +24,40 @@ import org.apolenkov.application.views.shared.utils.NavigationHelper;
  */
 public final class DeckCard extends Composite<Div> {
 
+    private static final String OPEN_INTENT_EVENT = "deck-open-intent";
+    private static final String INTENT_LOST_EVENT = "deck-intent-lost";
+    private static final int HOVER_INTENT_DELAY_MS = 150;
+
+    /**
+     * Turns hover and focus into intent events in the browser. Intent is reported only after the pointer
+     * or focus rests on the card for the delay, and loss only for reported intent, so sweeping the pointer
+     * across the list sends nothing to the server. Touch reports intent at once.
+     */
+    private static final String INTENT_SCRIPT = """
+            const el = this;
+            if (el.__deckIntent) { return; }
+            el.__deckIntent = true;
+            let timer = null;
+            let reported = false;
+            const report = () => {
+                timer = null;
+                if (!reported) { reported = true; el.dispatchEvent(new CustomEvent('deck-open-intent')); }
+            };
+            const start = () => { if (!timer && !reported) { timer = setTimeout(report, $0); } };
+            const stop = () => {
+                if (timer) { clearTimeout(timer); timer = null; }
+                if (reported) { reported = false; el.dispatchEvent(new CustomEvent('deck-intent-lost')); }
+            };
+            el.addEventListener('mouseenter', start);
+            el.addEventListener('focusin', start);
+            el.addEventListener('touchstart', report, { passive: true });
+            el.addEventListener('mouseleave', stop);
+            el.addEventListener('focusout', stop);
+            """;
+
     private final transient DeckCardViewModel viewModel;
+    private final transient Consumer<Long> openIntentCallback;
+    private final transient Consumer<Long> intentLostCallback;
 
     /**
      * Creates a new DeckCard with the specified view model.
@@ -31,7 +65,23 @@ public final class DeckCard extends Composite<Div> {
      * @param model the view model containing deck data to display
      */
     public DeckCard(final DeckCardViewModel model) {
+        this(model, null, null);
+    }
+
+    /**
+     * Creates a new DeckCard reporting intent to open the deck.
+     *
+     * @param model the view model containing deck data to display
+     * @param openIntentCallbackParam called with deck ID on hover, focus or touch (can be null)
+     * @param intentLostCallbackParam called with deck ID when pointer or focus leaves (can be null)
+     */
+    public DeckCard(
+            final DeckCardViewModel model,
+            final Consumer<Long> openIntentCallbackParam,
+            final Consumer<Long> intentLostCallbackParam) {
         this.viewModel = model;
+        this.openIntentCallback = openIntentCallbackParam;
+        this.intentLostCallback = intentLostCallbackParam;
     }
 
     @Override
@@ -41,9 +91,30 @@ public final class DeckCard extends Composite<Div> {
         card.setWidthFull();
         card.add(buildContent());
         card.addClickListener(e -> navigateToDeck());
+        addIntentListeners(card);
         return card;
     }
 
+    /**
+     * Reports intent to open the deck (used for prefetching its contents).
+     * Raw hover and focus events are filtered in the browser, so only a settled intent costs a round trip.
+     *
+     * @param card the card root element
+     */
+    private void addIntentListeners(final Div card) {
+        if (viewModel.id() == null || (openIntentCallback == null && intentLostCallback == null)) {
+            return;
+        }
+        if (openIntentCallback != null) {
+            card.getElement().addEventListener(OPEN_INTENT_EVENT, e -> openIntentCallback.accept(viewModel.id()));
+        }
+        if (intentLostCallback != null) {
+            card.getElement().addEventListener(INTENT_LOST_EVENT, e -> intentLostCallback.accept(viewModel.id()));
+        }
+        // Client-side element is recreated on every attach
+        card.addAttachListener(e -> card.getElement().executeJs(INTENT_SCRIPT, HOVER_INTENT_DELAY_MS));
+    }
+
     /**
      * Builds the complete card content and layout.
      * Creates and configures all visual elements including title, description,
@@ -5,6 +5,7 @@ import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apolenkov.application.views.deck.business.DeckCardViewModel;
 import org.apolenkov.application.views.deck.constants.DeckConstants;
 
@@ -58,6 +59,16 @@ public final class DeckContainer extends Composite<VerticalLayout> {
         return toolbar;
     }
 
+    /**
+     * Sets callbacks reporting intent to open a deck and its loss.
+     *
+     * @param openIntent callback with deck ID when intent starts
+     * @param intentLost callback with deck ID when intent is lost
+     */
+    public void setOpenIntentCallbacks(final Consumer<Long> openIntent, final Consumer<Long> intentLost) {
+        deckList.setOpenIntentCallbacks(openIntent, intentLost);
+    }
+
     /**
      * Refreshes the deck list with new data.
      *
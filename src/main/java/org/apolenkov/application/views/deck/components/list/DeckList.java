@@ -5,6 +5,7 @@ import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apolenkov.application.views.deck.business.DeckCardViewModel;
 import org.apolenkov.application.views.deck.constants.DeckConstants;
 
@@ -15,6 +16,10 @@ import org.apolenkov.application.views.deck.constants.DeckConstants;
  */
 public final class DeckList extends Composite<VerticalLayout> {
 
+    // Callbacks
+    private transient Consumer<Long> openIntentCallback;
+    private transient Consumer<Long> intentLostCallback;
+
     @Override
     protected VerticalLayout initContent() {
         VerticalLayout deckList = new VerticalLayout();
@@ -26,6 +31,18 @@ public final class DeckList extends Composite<VerticalLayout> {
         return deckList;
     }
 
+    /**
+     * Sets callbacks reporting intent to open a deck (hover, focus, touch) and its loss.
+     * Applies to decks rendered by following refreshes.
+     *
+     * @param openIntent callback with deck ID when intent starts
+     * @param intentLost callback with deck ID when intent is lost
+     */
+    public void setOpenIntentCallbacks(final Consumer<Long> openIntent, final Consumer<Long> intentLost) {
+        this.openIntentCallback = openIntent;
+        this.intentLostCallback = intentLost;
+    }
+
     /**
      * Refreshes the deck list with new data.
      * Clears existing content and displays either deck cards or empty state message.
@@ -60,6 +77,8 @@ public final class DeckList extends Composite<VerticalLayout> {
      * @param decks the list of deck view models to display
      */
     private void addDeckCards(final List<DeckCardViewModel> decks) {
-        decks.stream().map(DeckCard::new).forEach(card -> getContent().add(card));
+        decks.stream()
+                .map(deck -> new DeckCard(deck, openIntentCallback, intentLostCallback))
+                .forEach(card -> getContent().add(card));
     }
 }
@@ -261,7 +261,7 @@ public class DeckCreateView extends Composite<VerticalLayout> implements HasDyna
 
         try {
             Deck deck = new Deck();
-            deck.setUserId(userUseCase.getCurrentUser().getId());
+            deck.setUserId(userUseCase.getCurrentUserId());
             deck.setTitle(title);
             deck.setDescription(description);
 
@@ -19,13 +19,18 @@ import java.util.Optional;
 import org.apolenkov.application.config.constants.RouteConstants;
 import org.apolenkov.application.config.security.SecurityConstants;
 import org.apolenkov.application.config.ui.UIConfig;
+import org.apolenkov.application.domain.model.FilterOption;
 import org.apolenkov.application.domain.usecase.CardUseCase;
 import org.apolenkov.application.domain.usecase.DeckUseCase;
 import org.apolenkov.application.model.Card;
 import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.cache.DeckPrefetchService;
+import org.apolenkov.application.service.query.QueryFanOut;
 import org.apolenkov.application.service.stats.StatsService;
+import org.apolenkov.application.views.core.error.EntityNotFoundError;
 import org.apolenkov.application.views.core.exception.EntityNotFoundException;
 import org.apolenkov.application.views.core.layout.PublicLayout;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
 import org.apolenkov.application.views.deck.components.DeckDetailHeader;
 import org.apolenkov.application.views.deck.components.detail.DeckCardContainer;
 import org.apolenkov.application.views.deck.components.dialogs.DeckCardDeleteDialog;
@@ -33,6 +38,8 @@ import org.apolenkov.application.views.deck.components.dialogs.DeckCardDialog;
 import org.apolenkov.application.views.deck.components.dialogs.DeckDeleteDialog;
 import org.apolenkov.application.views.deck.components.dialogs.DeckEditDialog;
 import org.apolenkov.application.views.deck.constants.DeckConstants;
+import org.apolenkov.application.views.shared.base.AsyncLoader;
+import org.apolenkov.application.views.shared.components.Skeleton;
 import org.apolenkov.application.views.shared.utils.NavigationHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +50,8 @@ public class DeckView extends Composite<VerticalLayout>
         implements HasUrlParameter<String>, HasDynamicTitle, AfterNavigationObserver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DeckView.class);
+    private static final int SKELETON_LINES = 4;
+    private static final long UNKNOWN_COUNT = -1L;
 
     // ==================== Fields ====================
 
@@ -51,9 +60,14 @@ public class DeckView extends Composite<VerticalLayout>
     private final transient CardUseCase cardUseCase;
     private final transient StatsService statsService;
     private final transient UIConfig uiConfig;
+    private final transient DeckPageCache deckPageCache;
+    private final transient QueryFanOut queryFanOut;
+    private final transient DeckPrefetchService deckPrefetchService;
+    private final transient AsyncLoader loader = new AsyncLoader(this);
 
     // State
     private transient Deck currentDeck;
+    private long cardCount = UNKNOWN_COUNT;
 
     // UI Components
     private DeckDetailHeader detailHeader;
@@ -76,16 +90,25 @@ public class DeckView extends Composite<VerticalLayout>
      * @param cardUseCaseParam use case for card operations
      * @param statsServiceParam service for statistics tracking
      * @param uiConfigParam UI configuration settings
+     * @param deckPageCacheParam session cache for card pages (pre-filled by login warmup)
+     * @param queryFanOutParam executor running independent queries concurrently
+     * @param deckPrefetchServiceParam prefetch started from the deck list, joined on open
      */
     public DeckView(
             final DeckUseCase deckUseCaseParam,
             final CardUseCase cardUseCaseParam,
             final StatsService statsServiceParam,
-            final UIConfig uiConfigParam) {
+            final UIConfig uiConfigParam,
+            final DeckPageCache deckPageCacheParam,
+            final QueryFanOut queryFanOutParam,
+            final DeckPrefetchService deckPrefetchServiceParam) {
         this.deckUseCase = deckUseCaseParam;
         this.cardUseCase = cardUseCaseParam;
         this.statsService = statsServiceParam;
         this.uiConfig = uiConfigParam;
+        this.deckPageCache = deckPageCacheParam;
+        this.queryFanOut = queryFanOutParam;
+        this.deckPrefetchService = deckPrefetchServiceParam;
     }
 
     // ==================== Lifecycle Methods ====================
@@ -127,8 +150,8 @@ public class DeckView extends Composite<VerticalLayout>
 
     /**
      * Called after navigation to this view is complete.
-     * Sets up event listeners and updates deck information.
-     * This method is called ONCE per navigation - no flag needed.
+     * Sets up event listeners if deck content is already rendered
+     * (otherwise async deck load sets them up when applied).
      *
      * @param event the after navigation event
      */
@@ -136,8 +159,6 @@ public class DeckView extends Composite<VerticalLayout>
     public void afterNavigation(final AfterNavigationEvent event) {
         // Setup event listeners for deck actions
         setupActionListeners();
-        // Update deck info after navigation is complete
-        updateDeckInfo();
     }
 
     /**
@@ -241,7 +262,11 @@ public class DeckView extends Composite<VerticalLayout>
                 if (currentDeck != null) {
                     // Cache invalidation handled automatically via DeckModifiedEvent
                     // published by DeckUseCaseService after save/delete operations
-                    new DeckEditDialog(deckUseCase, currentDeck, updated -> updateDeckInfo()).open();
+                    new DeckEditDialog(deckUseCase, currentDeck, updated -> {
+                                currentDeck = updated;
+                                updateDeckInfo(cardCount);
+                            })
+                            .open();
                 }
             });
         }
@@ -314,7 +339,7 @@ public class DeckView extends Composite<VerticalLayout>
         H2 loadingTitle = new H2(getTranslation(DeckConstants.DECK_LOADING_STATE));
         loadingTitle.addClassName(DeckConstants.DECK_VIEW_TITLE_CLASS);
 
-        loadingSection.add(loadingTitle);
+        loadingSection.add(loadingTitle, new Skeleton(SKELETON_LINES));
         loadingContainer.add(loadingSection);
         contentContainer.add(loadingContainer);
     }
@@ -348,6 +373,8 @@ public class DeckView extends Composite<VerticalLayout>
         cardContainer = new DeckCardContainer(
                 statsService,
                 cardUseCase,
+                deckPageCache,
+                queryFanOut,
                 uiConfig.search().debounceMs(),
                 uiConfig.pagination().pageSize());
 
@@ -363,35 +390,87 @@ public class DeckView extends Composite<VerticalLayout>
     // ==================== Data Loading ====================
 
     /**
-     * Loads a deck by ID and initializes the view.
+     * Loads a deck by ID off the session lock and initializes the view.
+     * Loading state stays visible until data is applied. Deck that does not exist
+     * (or is not accessible) is rendered as not-found content, as navigation is already complete.
      *
      * @param deckId the ID of the deck to load
-     * @throws EntityNotFoundException if deck is not found
      */
     private void loadDeck(final long deckId) {
-        Optional<Deck> deckOpt = deckUseCase.getDeckById(deckId);
-        if (deckOpt.isPresent()) {
-            currentDeck = deckOpt.get();
-            LOGGER.info("Deck loaded successfully: {}", currentDeck.getTitle());
-        } else {
-            LOGGER.warn("Deck not found with ID: {}", deckId);
-            throw new EntityNotFoundException(
-                    String.valueOf(deckId), RouteConstants.DECKS_ROUTE, getTranslation(DeckConstants.DECK_NOT_FOUND));
-        }
+        loader.load(
+                "DeckView.deck",
+                () -> {
+                    // Opened from the deck list: wait for its prefetch instead of repeating its queries
+                    deckPrefetchService.join(deckId);
+                    // Deck and its card count are independent: load them concurrently
+                    try (QueryFanOut.Scope scope = queryFanOut.open("deck")) {
+                        QueryFanOut.Branch<Optional<Deck>> deck =
+                                scope.fork("deck", () -> deckUseCase.getDeckById(deckId));
+                        QueryFanOut.Branch<Long> count =
+                                scope.fork("count", () -> countCards(deckId), UNKNOWN_COUNT);
+                        return deck.get().map(found -> new DeckData(found, count.get()));
+                    }
+                },
+                deckData -> {
+                    if (deckData.isEmpty()) {
+                        LOGGER.warn("Deck not found with ID: {}", deckId);
+                        showNotFound(deckId);
+                        return;
+                    }
+                    currentDeck = deckData.get().deck();
+                    LOGGER.info("Deck loaded successfully: {}", currentDeck.getTitle());
+
+                    createDeckContent();
+                    updateDeckInfo(deckData.get().cardCount());
+                    setupActionListeners();
+
+                    // Initialize data provider with current deck ID
+                    cardContainer.setCurrentDeckId(currentDeck.getId());
+                });
+    }
 
-        createDeckContent();
-        updateDeckInfo();
+    /**
+     * Replaces loading state with not-found content.
+     *
+     * @param deckId the ID of the missing deck
+     */
+    private void showNotFound(final long deckId) {
+        getContent().getChildren().findFirst().ifPresent(component -> {
+            VerticalLayout contentContainer = (VerticalLayout) component;
+            contentContainer.removeAll();
+            contentContainer.add(new EntityNotFoundError(
+                    String.valueOf(deckId), RouteConstants.DECKS_ROUTE, getTranslation(DeckConstants.DECK_NOT_FOUND)));
+        });
+    }
 
-        // Initialize data provider with current deck ID
-        if (currentDeck != null && cardContainer != null) {
-            cardContainer.setCurrentDeckId(currentDeck.getId());
+    /**
+     * Reloads card count off the session lock and updates deck information.
+     */
+    private void refreshDeckInfo() {
+        if (currentDeck == null) {
+            return;
         }
+        long deckId = currentDeck.getId();
+        loader.load("DeckView.deckInfo", () -> countCards(deckId), this::updateDeckInfo);
+    }
+
+    /**
+     * Counts cards in deck through session count cache (filled by deck list and prefetch).
+     *
+     * @param deckId the deck ID
+     * @return number of cards in deck
+     */
+    private long countCards(final long deckId) {
+        return cardUseCase.countCardsWithFilter(deckId, null, FilterOption.ALL);
     }
 
     /**
      * Updates the display of deck information (title, stats, description).
+     *
+     * @param count number of cards in deck, negative if unknown (count query missed deadline)
      */
-    private void updateDeckInfo() {
+    private void updateDeckInfo(final long count) {
+        cardCount = count;
         if (currentDeck != null && detailHeader != null) {
             detailHeader.setDeckTitle(currentDeck.getTitle());
             // Format: (description) + card count
@@ -399,15 +478,34 @@ public class DeckView extends Composite<VerticalLayout>
                     .filter(desc -> !desc.trim().isEmpty())
                     .orElse("");
 
-            long count = cardUseCase.countByDeckId(currentDeck.getId());
-            String statsText = description.isEmpty()
-                    ? getTranslation(DeckConstants.DECK_COUNT, count)
-                    : String.format("(%s) %s", description, getTranslation(DeckConstants.DECK_COUNT_SHORT, count));
+            String statsText;
+            if (count < 0) {
+                statsText = description.isEmpty() ? "" : String.format("(%s)", description);
+            } else if (description.isEmpty()) {
+                statsText = getTranslation(DeckConstants.DECK_COUNT, count);
+            } else {
+                statsText =
+                        String.format("(%s) %s", description, getTranslation(DeckConstants.DECK_COUNT_SHORT, count));
+            }
 
             detailHeader.setDeckStats(statsText);
         }
     }
 
+    /**
+     * Adjusts displayed card count locally after add/delete.
+     * Reloads count if it is unknown (initial count query missed deadline).
+     *
+     * @param delta change of card count
+     */
+    private void adjustCardCount(final long delta) {
+        if (cardCount < 0) {
+            refreshDeckInfo();
+        } else {
+            updateDeckInfo(Math.max(0, cardCount + delta));
+        }
+    }
+
     // ==================== Dialog Handlers ====================
 
     /**
@@ -417,17 +515,16 @@ public class DeckView extends Composite<VerticalLayout>
      */
     private void openCardDialog(final Card card) {
         DeckCardDialog dialog = new DeckCardDialog(cardUseCase, currentDeck, savedCard -> {
-            // Refresh grid data to reflect changes
-            if (cardContainer != null) {
-                if (card == null) {
-                    // New card added - reset to first page to show it
+            if (card == null) {
+                // New card added - reset to first page to show it
+                if (cardContainer != null) {
                     cardContainer.refreshDataAndResetPage();
-                } else {
-                    // Existing card updated - preserve current page
-                    cardContainer.refreshData();
                 }
+                adjustCardCount(1);
+            } else if (cardContainer != null) {
+                // Existing card updated - patch only its component, count is unchanged
+                cardContainer.updateCard(savedCard);
             }
-            updateDeckInfo();
         });
 
         if (card == null) {
@@ -444,12 +541,12 @@ public class DeckView extends Composite<VerticalLayout>
      */
     private void deleteCard(final Card card) {
         DeckCardDeleteDialog dialog = new DeckCardDeleteDialog(cardUseCase, card, deletedCardId -> {
-            // Refresh grid data to reflect deletion, STAY on current page
+            // Remove only deleted card, STAY on current page
             // (User convenience: don't reset to page 1 after deleting)
             if (cardContainer != null) {
-                cardContainer.refreshData();
+                cardContainer.removeCard(deletedCardId);
             }
-            updateDeckInfo();
+            adjustCardCount(-1);
             LOGGER.info("Card {} deleted successfully", deletedCardId);
         });
 
@@ -503,4 +600,14 @@ public class DeckView extends Composite<VerticalLayout>
 
         dialog.open();
     }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Deck data fetched off the session lock.
+     *
+     * @param deck the deck
+     * @param cardCount number of cards in deck
+     */
+    private record DeckData(Deck deck, long cardCount) {}
 }
@@ -8,18 +8,18 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.security.RolesAllowed;
-import java.util.List;
 import org.apolenkov.application.config.constants.RouteConstants;
 import org.apolenkov.application.config.security.SecurityConstants;
 import org.apolenkov.application.config.ui.UIConfig;
 import org.apolenkov.application.domain.usecase.DeckUseCase;
 import org.apolenkov.application.domain.usecase.UserUseCase;
+import org.apolenkov.application.service.cache.DeckPrefetchService;
 import org.apolenkov.application.views.core.layout.PublicLayout;
-import org.apolenkov.application.views.deck.business.DeckCardViewModel;
 import org.apolenkov.application.views.deck.business.DeckListPresenter;
 import org.apolenkov.application.views.deck.components.dialogs.CreateDeckDialog;
 import org.apolenkov.application.views.deck.components.list.DeckContainer;
 import org.apolenkov.application.views.deck.constants.DeckConstants;
+import org.apolenkov.application.views.shared.base.AsyncLoader;
 import org.apolenkov.application.views.shared.base.BaseView;
 
 /**
@@ -37,6 +37,10 @@ public final class DecksView extends BaseView implements AfterNavigationObserver
     private final transient DeckUseCase deckUseCase;
     private final transient UserUseCase userUseCase;
     private final transient UIConfig uiConfig;
+    private final transient DeckPrefetchService deckPrefetchService;
+
+    // Deck list loads run off the session lock
+    private final transient AsyncLoader loader = new AsyncLoader(this);
 
     // UI Components
     private DeckContainer deckContainer;
@@ -52,16 +56,19 @@ public final class DecksView extends BaseView implements AfterNavigationObserver
      * @param deckUseCaseValue use case for deck management operations
      * @param userUseCaseValue service for user operations and authentication
      * @param uiConfigParam UI configuration settings
+     * @param deckPrefetchServiceParam prefetch of deck contents on intent to open a deck
      */
     public DecksView(
             final DeckListPresenter deckListPresenterValue,
             final DeckUseCase deckUseCaseValue,
             final UserUseCase userUseCaseValue,
-            final UIConfig uiConfigParam) {
+            final UIConfig uiConfigParam,
+            final DeckPrefetchService deckPrefetchServiceParam) {
         this.deckListPresenter = deckListPresenterValue;
         this.deckUseCase = deckUseCaseValue;
         this.userUseCase = userUseCaseValue;
         this.uiConfig = uiConfigParam;
+        this.deckPrefetchService = deckPrefetchServiceParam;
     }
 
     /**
@@ -86,6 +93,7 @@ public final class DecksView extends BaseView implements AfterNavigationObserver
 
         // Create and add deck container
         deckContainer = new DeckContainer(uiConfig.search().debounceMs());
+        deckContainer.setOpenIntentCallbacks(deckPrefetchService::prefetch, deckPrefetchService::cancel);
         content.add(deckContainer);
     }
 
@@ -113,11 +121,16 @@ public final class DecksView extends BaseView implements AfterNavigationObserver
      * provided search query. It handles empty results gracefully by displaying
      * an appropriate message when no decks match the search criteria.
      *
+     * <p>Decks are loaded off the session lock (the first list after login may wait for the
+     * login warmup) and shown via UI.access(); a newer search supersedes a load in flight.
+     *
      * @param query the search query to filter decks by title or description
      */
     private void refreshDecks(final String query) {
-        final List<DeckCardViewModel> decks = deckListPresenter.listDecksForCurrentUser(query);
-        deckContainer.refreshDecks(decks);
+        loader.load(
+                "DecksView.decks",
+                () -> deckListPresenter.listDecksForCurrentUser(query),
+                deckContainer::refreshDecks);
     }
 
     /**
@@ -1,16 +1,20 @@
 package org.apolenkov.application.views.landing.components;
 
 import com.vaadin.flow.component.Composite;
+import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.html.Paragraph;
 import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
 import org.apolenkov.application.service.news.NewsService;
 import org.apolenkov.application.views.landing.constants.LandingConstants;
+import org.apolenkov.application.views.shared.utils.ButtonHelper;
 
 /**
  * News section component for the landing page.
- * Displays news title and list of news cards.
+ * Displays news title and list of news cards with excerpts of the newest news (application-wide cache);
+ * full content of a truncated item is loaded on demand.
  */
 public final class NewsSection extends Composite<Div> {
 
@@ -50,15 +54,15 @@ public final class NewsSection extends Composite<Div> {
     }
 
     /**
-     * Creates a news list container with all news cards.
+     * Creates a news list container with cards of the newest news.
      *
-     * @return Div containing all news cards
+     * @return Div containing news cards
      */
     private Div createNewsList() {
         Div newsList = new Div();
         newsList.addClassName(LandingConstants.LANDING_NEWS_LIST_CLASS);
 
-        for (News item : newsService.getAllNews()) {
+        for (NewsSummary item : newsService.getLatestNews()) {
             Div card = createNewsCard(item);
             newsList.add(card);
         }
@@ -69,10 +73,10 @@ public final class NewsSection extends Composite<Div> {
     /**
      * Creates a single news card component.
      *
-     * @param item the news item to display in the card
+     * @param item the news summary to display in the card
      * @return Div representing the news card
      */
-    private Div createNewsCard(final News item) {
+    private Div createNewsCard(final NewsSummary item) {
         Div card = new Div();
         card.addClassName(LandingConstants.SURFACE_CARD_CLASS);
         card.addClassName(LandingConstants.LANDING_NEWS_CARD_CLASS);
@@ -81,34 +85,56 @@ public final class NewsSection extends Composite<Div> {
         Paragraph cardContent = createCardContent(item);
         Div accent = createCardAccent();
 
-        card.add(cardTitle, cardContent, accent);
+        card.add(cardTitle, cardContent);
+        if (item.truncated()) {
+            card.add(createReadMoreButton(item, cardContent));
+        }
+        card.add(accent);
         return card;
     }
 
     /**
      * Creates the card title.
      *
-     * @param item the news item
+     * @param item the news summary
      * @return H3 element with the card title
      */
-    private H3 createCardTitle(final News item) {
-        H3 cardTitle = new H3(item.getTitle());
+    private H3 createCardTitle(final NewsSummary item) {
+        H3 cardTitle = new H3(item.title());
         cardTitle.addClassName(LandingConstants.LANDING_NEWS_CARD_TITLE_CLASS);
         return cardTitle;
     }
 
     /**
-     * Creates the card content paragraph.
+     * Creates the card content paragraph with news excerpt.
      *
-     * @param item the news item
+     * @param item the news summary
      * @return Paragraph element with the card content
      */
-    private Paragraph createCardContent(final News item) {
-        Paragraph cardContent = new Paragraph(item.getContent());
+    private Paragraph createCardContent(final NewsSummary item) {
+        String text = item.truncated() ? item.excerpt() + LandingConstants.EXCERPT_SUFFIX : item.excerpt();
+        Paragraph cardContent = new Paragraph(text);
         cardContent.addClassName(LandingConstants.LANDING_NEWS_CARD_CONTENT_CLASS);
         return cardContent;
     }
 
+    /**
+     * Creates button that replaces the excerpt with full news content.
+     *
+     * @param item the news summary
+     * @param cardContent paragraph showing the excerpt
+     * @return read more button
+     */
+    private Button createReadMoreButton(final NewsSummary item, final Paragraph cardContent) {
+        Button readMore =
+                ButtonHelper.createTertiaryButton(getTranslation(LandingConstants.LANDING_NEWS_READ_MORE_KEY), e -> {
+                    newsService.getNews(item.id()).map(News::getContent).ifPresent(cardContent::setText);
+                    e.getSource().setVisible(false);
+                });
+        readMore.addClassName(LandingConstants.LANDING_NEWS_READ_MORE_CLASS);
+        return readMore;
+    }
+
     /**
      * Creates the card accent element.
      *
@@ -15,6 +15,7 @@ public final class LandingConstants {
     public static final String LANDING_SUBTITLE_KEY = "landing.subtitle";
     public static final String LANDING_HERO_ALT_KEY = "landing.heroAlt";
     public static final String LANDING_NEWS_KEY = "landing.news";
+    public static final String LANDING_NEWS_READ_MORE_KEY = "landing.news.readMore";
     public static final String LANDING_GO_TO_DECKS_KEY = "landing.goToDecks";
     public static final String AUTH_LOGIN_KEY = "auth.login";
     public static final String AUTH_REGISTER_KEY = "auth.register";
@@ -34,4 +35,8 @@ public final class LandingConstants {
     public static final String LANDING_NEWS_CARD_TITLE_CLASS = "landing-news__card-title";
     public static final String LANDING_NEWS_CARD_CONTENT_CLASS = "landing-news__card-content";
     public static final String LANDING_NEWS_CARD_ACCENT_CLASS = "landing-news__card-accent";
+    public static final String LANDING_NEWS_READ_MORE_CLASS = "landing-news__read-more";
+
+    // Text
+    public static final String EXCERPT_SUFFIX = "\u2026";
 }
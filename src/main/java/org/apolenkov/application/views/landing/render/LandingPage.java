@@ -0,0 +1,9 @@
+package org.apolenkov.application.views.landing.render;
+
+/**
+ * Pre-rendered public landing page.
+ *
+ * @param html complete HTML document
+ * @param etag strong entity tag of the document (quoted)
+ */
+public record LandingPage(String html, String etag) {}
@@ -0,0 +1,276 @@
+package org.apolenkov.application.views.landing.render;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import org.apolenkov.application.config.cache.CacheConfiguration;
+import org.apolenkov.application.config.constants.RouteConstants;
+import org.apolenkov.application.config.vaadin.AppI18NProvider;
+import org.apolenkov.application.config.vaadin.VaadinApplicationShell;
+import org.apolenkov.application.domain.event.NewsChangedEvent;
+import org.apolenkov.application.domain.usecase.NewsUseCase;
+import org.apolenkov.application.model.NewsSummary;
+import org.apolenkov.application.views.landing.constants.LandingConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Renders the public landing page (hero and news) as a static HTML document.
+ *
+ * <p>Anonymous visitors get this document instead of the Vaadin {@code LandingView}, so they do not
+ * create HTTP/Vaadin sessions or UIs. Documents are rendered once per locale and kept in the
+ * application cache {@link CacheConfiguration#LANDING_PAGE_CACHE}; news changes evict them on all
+ * nodes (evictions of the cluster-aware cache are broadcast). Markup reuses CSS class names of
+ * {@code HeroSection} and {@code NewsSection}.
+ */
+@Component
+public class LandingPageRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LandingPageRenderer.class);
+    private static final String STYLESHEET_PATH = "/landing/landing.css";
+    private static final String ENCODING = "UTF-8";
+    private static final int ETAG_BYTES = 16;
+    private static final String ELLIPSIS = "\u2026";
+
+    private final NewsUseCase newsUseCase;
+    private final AppI18NProvider i18nProvider;
+    private final CacheManager cacheManager;
+
+    @Value("${app.landing.static.max-news:20}")
+    private int maxNews;
+
+    /**
+     * Creates landing page renderer.
+     *
+     * @param newsUseCaseValue source of news items
+     * @param i18nProviderValue provider for translations and supported locales
+     * @param cacheManagerValue application cache manager holding rendered pages
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public LandingPageRenderer(
+            final NewsUseCase newsUseCaseValue,
+            final AppI18NProvider i18nProviderValue,
+            final CacheManager cacheManagerValue) {
+        if (newsUseCaseValue == null) {
+            throw new IllegalArgumentException("NewsUseCase cannot be null");
+        }
+        if (i18nProviderValue == null) {
+            throw new IllegalArgumentException("AppI18NProvider cannot be null");
+        }
+        if (cacheManagerValue == null) {
+            throw new IllegalArgumentException("CacheManager cannot be null");
+        }
+        this.newsUseCase = newsUseCaseValue;
+        this.i18nProvider = i18nProviderValue;
+        this.cacheManager = cacheManagerValue;
+    }
+
+    // ==================== Public API ====================
+
+    /**
+     * Returns landing page for locale, rendering it on first request after start or news change.
+     *
+     * @param locale requested locale, unsupported or null locales fall back to English
+     * @return rendered landing page
+     */
+    public LandingPage getPage(final Locale locale) {
+        Locale used = resolveLocale(locale);
+        Cache cache = cacheManager.getCache(CacheConfiguration.LANDING_PAGE_CACHE);
+        if (cache == null) {
+            return render(used);
+        }
+        return cache.get(used.getLanguage(), () -> render(used));
+    }
+
+    /**
+     * Evicts rendered pages of all locales after news changed.
+     * The clear is broadcast, so other nodes drop their rendered pages as well.
+     *
+     * @param event committed news change event
+     */
+    @EventListener
+    public void onNewsChanged(final NewsChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.LANDING_PAGE_CACHE);
+        if (cache == null) {
+            return;
+        }
+        cache.clear();
+        LOGGER.debug("Landing pages evicted after news change: {}", event);
+    }
+
+    // ==================== Rendering ====================
+
+    /**
+     * Maps requested locale to a supported one by language.
+     *
+     * @param locale requested locale
+     * @return supported locale, English if not supported
+     */
+    private Locale resolveLocale(final Locale locale) {
+        if (locale != null) {
+            for (Locale provided : i18nProvider.getProvidedLocales()) {
+                if (provided.getLanguage().equals(locale.getLanguage())) {
+                    return provided;
+                }
+            }
+        }
+        return Locale.ENGLISH;
+    }
+
+    /**
+     * Renders complete landing document.
+     *
+     * @param locale supported locale
+     * @return rendered page with entity tag
+     */
+    private LandingPage render(final Locale locale) {
+        List<NewsSummary> news = newsUseCase.getNewsPage(null, null, maxNews).items();
+        StringBuilder html = new StringBuilder(4096);
+        html.append("<!DOCTYPE html><html lang=\"")
+                .append(locale.getLanguage())
+                .append("\"><head><meta charset=\"UTF-8\">")
+                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">")
+                .append("<title>")
+                .append(text(locale, LandingConstants.APP_TITLE_KEY))
+                .append("</title><link rel=\"icon\" type=\"image/svg+xml\" href=\"")
+                .append(VaadinApplicationShell.ResourcePaths.FAVICON_SVG)
+                .append("\"><link rel=\"stylesheet\" href=\"")
+                .append(STYLESHEET_PATH)
+                .append("\"></head><body><main class=\"landing-view\">");
+        appendHero(html, locale);
+        appendNews(html, locale, news);
+        html.append("</main></body></html>");
+
+        String document = html.toString();
+        LOGGER.info("Landing page rendered: locale={}, news={}, bytes={}", locale, news.size(), document.length());
+        return new LandingPage(document, etag(document));
+    }
+
+    /**
+     * Appends hero section: title, subtitle and login/register links.
+     *
+     * @param html document builder
+     * @param locale supported locale
+     */
+    private void appendHero(final StringBuilder html, final Locale locale) {
+        String login = RouteConstants.ROOT_PATH + RouteConstants.LOGIN_ROUTE;
+        String register = RouteConstants.ROOT_PATH + RouteConstants.REGISTER_ROUTE;
+        html.append("<section class=\"")
+                .append(LandingConstants.SURFACE_PANEL_CLASS)
+                .append(' ')
+                .append(LandingConstants.LANDING_HERO_SECTION_CLASS)
+                .append("\"><div class=\"")
+                .append(LandingConstants.LANDING_HERO_ICON_CLASS)
+                .append("\"><a href=\"")
+                .append(login)
+                .append("\"><img class=\"")
+                .append(LandingConstants.LANDING_HERO_IMAGE_CLASS)
+                .append("\" src=\"")
+                .append(VaadinApplicationShell.ResourcePaths.PIXEL_ICON)
+                .append("\" alt=\"")
+                .append(text(locale, LandingConstants.LANDING_HERO_ALT_KEY))
+                .append("\"></a></div><h1 class=\"")
+                .append(LandingConstants.LANDING_HERO_TITLE_CLASS)
+                .append("\">")
+                .append(text(locale, LandingConstants.APP_TITLE_KEY))
+                .append("</h1><p class=\"")
+                .append(LandingConstants.LANDING_HERO_SUBTITLE_CLASS)
+                .append("\">")
+                .append(text(locale, LandingConstants.LANDING_SUBTITLE_KEY))
+                .append("</p><div class=\"landing-hero__actions\"><a class=\"landing-button landing-button--primary\"")
+                .append(" href=\"")
+                .append(login)
+                .append("\">")
+                .append(text(locale, LandingConstants.AUTH_LOGIN_KEY))
+                .append("</a><a class=\"landing-button\" href=\"")
+                .append(register)
+                .append("\">")
+                .append(text(locale, LandingConstants.AUTH_REGISTER_KEY))
+                .append("</a></div></section>");
+    }
+
+    /**
+     * Appends news section with excerpts of the newest news items.
+     *
+     * @param html document builder
+     * @param locale supported locale
+     * @param news news summaries, newest first
+     */
+    private void appendNews(final StringBuilder html, final Locale locale, final List<NewsSummary> news) {
+        html.append("<section class=\"")
+                .append(LandingConstants.SURFACE_PANEL_CLASS)
+                .append(' ')
+                .append(LandingConstants.LANDING_NEWS_SECTION_CLASS)
+                .append("\"><h3 class=\"")
+                .append(LandingConstants.LANDING_NEWS_TITLE_CLASS)
+                .append("\">")
+                .append(text(locale, LandingConstants.LANDING_NEWS_KEY))
+                .append("</h3><div class=\"")
+                .append(LandingConstants.LANDING_NEWS_LIST_CLASS)
+                .append("\">");
+        for (NewsSummary item : news) {
+            html.append("<article class=\"")
+                    .append(LandingConstants.SURFACE_CARD_CLASS)
+                    .append(' ')
+                    .append(LandingConstants.LANDING_NEWS_CARD_CLASS)
+                    .append("\"><h3 class=\"")
+                    .append(LandingConstants.LANDING_NEWS_CARD_TITLE_CLASS)
+                    .append("\">")
+                    .append(escape(item.title()))
+                    .append("</h3><p class=\"")
+                    .append(LandingConstants.LANDING_NEWS_CARD_CONTENT_CLASS)
+                    .append("\">")
+                    .append(escape(item.excerpt()))
+                    .append(item.truncated() ? ELLIPSIS : "")
+                    .append("</p><div class=\"")
+                    .append(LandingConstants.LANDING_NEWS_CARD_ACCENT_CLASS)
+                    .append("\"></div></article>");
+        }
+        html.append("</div></section>");
+    }
+
+    /**
+     * Returns escaped translation.
+     *
+     * @param locale supported locale
+     * @param key translation key
+     * @return HTML-escaped translation
+     */
+    private String text(final Locale locale, final String key) {
+        return escape(i18nProvider.getTranslation(key, locale));
+    }
+
+    /**
+     * Escapes markup characters; non-ASCII text is kept as is (document is UTF-8).
+     *
+     * @param value text to escape, may be null
+     * @return escaped text, empty for null
+     */
+    private static String escape(final String value) {
+        return value == null ? "" : HtmlUtils.htmlEscape(value, ENCODING);
+    }
+
+    /**
+     * Computes strong entity tag from document content.
+     *
+     * @param document rendered document
+     * @return quoted entity tag
+     */
+    private static String etag(final String document) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(document.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
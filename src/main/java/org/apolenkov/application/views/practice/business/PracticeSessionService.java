@@ -4,9 +4,12 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apolenkov.application.domain.dto.SessionStatsDto;
 import org.apolenkov.application.domain.usecase.CardUseCase;
 import org.apolenkov.application.domain.usecase.DeckUseCase;
@@ -79,19 +82,66 @@ public final class PracticeSessionService {
     }
 
     /**
-     * Gets cards that are not yet marked as known in a deck.
+     * Gets at most {@code limit} cards that are not yet marked as known in a deck.
+     * Deck is streamed and only picked cards are held in memory: sequential pick keeps the first
+     * unknown cards in deck order, random pick keeps a uniform reservoir sample of all unknown cards.
      *
      * @param deckId the ID of the deck to check (must be positive)
-     * @return a list of cards not yet known by the user, never null (maybe empty)
+     * @param limit the maximum number of cards to return
+     * @param random whether to sample cards randomly instead of taking them in deck order
+     * @return a list of at most limit cards not yet known by the user, never null (maybe empty)
      * @throws IllegalArgumentException if deckId is not positive
      */
-    public List<Card> getNotKnownCards(final long deckId) {
+    public List<Card> getNotKnownCards(final long deckId, final int limit, final boolean random) {
         if (deckId <= 0) {
             throw new IllegalArgumentException("Deck ID must be positive, got: " + deckId);
         }
-        List<Card> all = cardUseCase.getCardsByDeckId(deckId);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
         Set<Long> known = statsService.getKnownCardIds(deckId);
-        return all.stream().filter(fc -> !known.contains(fc.getId())).toList();
+        List<Card> picked = new ArrayList<>();
+        AtomicLong seen = new AtomicLong();
+        cardUseCase.forEachCardInDeck(deckId, card -> {
+            if (known.contains(card.getId())) {
+                return;
+            }
+            long index = seen.getAndIncrement();
+            if (picked.size() < limit) {
+                picked.add(card);
+            } else if (random) {
+                // Reservoir sampling: replace a picked card with probability limit / (index + 1)
+                long slot = ThreadLocalRandom.current().nextLong(index + 1);
+                if (slot < limit) {
+                    picked.set((int) slot, card);
+                }
+            }
+        });
+        return picked;
+    }
+
+    /**
+     * Checks whether a deck still has cards that are not marked as known.
+     * Picks a single card, so nothing else of the deck is kept in memory.
+     *
+     * @param deckId the ID of the deck to check (must be positive)
+     * @return true if at least one card is not known yet
+     * @throws IllegalArgumentException if deckId is not positive
+     */
+    public boolean hasNotKnownCards(final long deckId) {
+        return !getNotKnownCards(deckId, 1, false).isEmpty();
+    }
+
+    /**
+     * Gets not-known cards for a default practice session.
+     * Picks no more than the configured default count, using the configured card order.
+     *
+     * @param deckId the ID of the deck to practice (must be positive)
+     * @return a list of cards for the default session, never null (maybe empty)
+     * @throws IllegalArgumentException if deckId is not positive
+     */
+    public List<Card> getDefaultSessionCards(final long deckId) {
+        return getNotKnownCards(deckId, practiceSettingsService.getDefaultCount(), isRandom());
     }
 
     /**
@@ -106,7 +156,7 @@ public final class PracticeSessionService {
             throw new IllegalArgumentException("Deck ID must be positive, got: " + deckId);
         }
         int configured = practiceSettingsService.getDefaultCount();
-        int notKnown = getNotKnownCards(deckId).size();
+        int notKnown = getNotKnownCards(deckId, configured, false).size();
         return Math.clamp(notKnown, 1, configured);
     }
 
@@ -157,22 +207,14 @@ public final class PracticeSessionService {
      * @return a list of cards prepared for the practice session
      */
     public List<Card> prepareSession(final long deckId, final int count, final boolean random) {
-        // Filter to only unknown cards for focused practice
-        List<Card> filtered = new ArrayList<>(getNotKnownCards(deckId));
-        if (filtered.isEmpty()) {
-            return filtered;
-        }
+        // Pick only requested number of unknown cards while streaming the deck
+        List<Card> picked = getNotKnownCards(deckId, count, random);
 
         // Randomize card order if requested for varied practice experience
         if (random) {
-            Collections.shuffle(filtered);
+            Collections.shuffle(picked);
         }
-
-        // Limit session size to requested count or available cards
-        if (count < filtered.size()) {
-            return new ArrayList<>(filtered.subList(0, count));
-        }
-        return filtered;
+        return picked;
     }
 
     /**
@@ -289,10 +331,16 @@ public final class PracticeSessionService {
             return List.of();
         }
 
-        List<Card> notKnownCards = getNotKnownCards(deckId);
-        return notKnownCards.stream()
-                .filter(fc -> failedCardIds.contains(fc.getId()))
-                .toList();
+        // Stream deck and keep only failed cards that are still not known
+        Set<Long> failed = new HashSet<>(failedCardIds);
+        Set<Long> known = statsService.getKnownCardIds(deckId);
+        List<Card> failedCards = new ArrayList<>();
+        cardUseCase.forEachCardInDeck(deckId, card -> {
+            if (failed.contains(card.getId()) && !known.contains(card.getId())) {
+                failedCards.add(card);
+            }
+        });
+        return failedCards;
     }
 
     /**
@@ -7,6 +7,7 @@ import com.vaadin.flow.i18n.LocaleChangeEvent;
 import com.vaadin.flow.i18n.LocaleChangeObserver;
 import com.vaadin.flow.spring.annotation.UIScope;
 import org.apolenkov.application.model.PracticeDirection;
+import org.apolenkov.application.model.PracticeSettings;
 import org.apolenkov.application.service.settings.PracticeSettingsService;
 import org.apolenkov.application.views.practice.constants.PracticeConstants;
 import org.springframework.stereotype.Component;
@@ -88,12 +89,12 @@ public class PracticeSettingsComponents implements LocaleChangeObserver {
         String randomText = getTranslation(PracticeConstants.SETTINGS_MODE_RANDOM_KEY);
         String frontToBackText = getTranslation(PracticeConstants.SETTINGS_DIRECTION_F2B_KEY);
 
-        practiceSettingsService.setDefaultCount(countSelect.getValue());
-        practiceSettingsService.setDefaultRandomOrder(modeGroup.getValue().equals(randomText));
-        practiceSettingsService.setDefaultDirection(
+        practiceSettingsService.saveSettings(new PracticeSettings(
+                countSelect.getValue(),
+                modeGroup.getValue().equals(randomText),
                 dirGroup.getValue().equals(frontToBackText)
                         ? PracticeDirection.FRONT_TO_BACK
-                        : PracticeDirection.BACK_TO_FRONT);
+                        : PracticeDirection.BACK_TO_FRONT));
     }
 
     /**
@@ -14,13 +14,15 @@ import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.security.RolesAllowed;
 import java.util.List;
-import java.util.Optional;
 import org.apolenkov.application.config.constants.RouteConstants;
+import org.apolenkov.application.config.monitoring.jfr.JfrUiAccess;
+import org.apolenkov.application.config.monitoring.jfr.PracticeAnswerEvent;
 import org.apolenkov.application.config.security.SecurityConstants;
 import org.apolenkov.application.domain.event.ProgressChangedEvent;
 import org.apolenkov.application.model.Card;
 import org.apolenkov.application.model.Deck;
 import org.apolenkov.application.model.PracticeDirection;
+import org.apolenkov.application.views.core.error.EntityNotFoundError;
 import org.apolenkov.application.views.core.exception.EntityNotFoundException;
 import org.apolenkov.application.views.core.layout.PublicLayout;
 import org.apolenkov.application.views.practice.business.PracticeSession;
@@ -32,6 +34,8 @@ import org.apolenkov.application.views.practice.components.PracticeCongratulatio
 import org.apolenkov.application.views.practice.components.PracticeDisplay;
 import org.apolenkov.application.views.practice.components.PracticeUIStateManager;
 import org.apolenkov.application.views.practice.constants.PracticeConstants;
+import org.apolenkov.application.views.shared.base.AsyncLoader;
+import org.apolenkov.application.views.shared.components.Skeleton;
 import org.apolenkov.application.views.shared.utils.NavigationHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +52,7 @@ import org.springframework.context.ApplicationListener;
 public class PracticeView extends Composite<VerticalLayout> implements HasUrlParameter<String>, HasDynamicTitle {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PracticeView.class);
+    private static final int SKELETON_LINES = 3;
 
     // ==================== Fields ====================
 
@@ -56,6 +61,7 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
     private final transient PracticeSessionManager sessionManager;
     private final transient PracticeUIStateManager uiStateManager;
     private final transient ApplicationContext applicationContext;
+    private final transient AsyncLoader loader = new AsyncLoader(this);
 
     // Data
     private transient Deck currentDeck;
@@ -67,6 +73,7 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
     private PracticeCard practiceCard;
     private PracticeActions practiceActions;
     private PracticeCongratulations practiceCongratulations;
+    private Skeleton loadingSkeleton;
 
     // Event Registration
     private transient Registration progressEventRegistration;
@@ -126,7 +133,7 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
 
         // Initialize components
         initializeComponents();
-        pageSection.add(practiceDisplay, practiceCard, practiceActions, practiceCongratulations);
+        pageSection.add(loadingSkeleton, practiceDisplay, practiceCard, practiceActions, practiceCongratulations);
         setupActionHandlers();
 
         contentContainer.add(pageSection);
@@ -141,6 +148,7 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
         practiceCard = new PracticeCard();
         practiceActions = new PracticeActions();
         practiceCongratulations = new PracticeCongratulations("", () -> {});
+        loadingSkeleton = new Skeleton(SKELETON_LINES);
 
         // Initially hide congratulations component
         practiceCongratulations.setVisible(false);
@@ -188,13 +196,6 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
             LOGGER.debug("Initializing practice session for deck ID: {}", deckId);
 
             loadDeck(deckId);
-            if (currentDeck != null) {
-                LOGGER.debug(
-                        "Starting practice session for deck '{}' (ID: {})",
-                        currentDeck.getTitle(),
-                        currentDeck.getId());
-                startDefaultPractice();
-            }
         } catch (NumberFormatException e) {
             LOGGER.error("Invalid deck ID format: {}", parameter, e);
             throw new EntityNotFoundException(
@@ -243,13 +244,13 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
     /**
      * Starts default practice session.
      * Optimized to avoid redundant database queries by reusing fetched cards.
+     *
+     * @param notKnownCards default-session cards of current deck (fetched off the session lock)
      */
-    private void startDefaultPractice() {
+    private void startDefaultPractice(final List<Card> notKnownCards) {
         // Reset UI state first to ensure clean state
         resetUIState();
 
-        // Fetch not-known cards once
-        List<Card> notKnownCards = sessionService.getNotKnownCards(currentDeck.getId());
         if (notKnownCards.isEmpty()) {
             showAllKnownDialogAndRedirect();
             return;
@@ -283,23 +284,38 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
     }
 
     /**
-     * Loads the deck by ID.
+     * Loads the deck and cards of its default session off the session lock, then starts default practice.
+     * Deck that does not exist (or is not accessible) is rendered as not-found content,
+     * as navigation is already complete when data arrives.
      *
      * @param deckId the deck ID to load
      */
     private void loadDeck(final long deckId) {
-        Optional<Deck> deckOpt = sessionService.loadDeck(deckId);
-        if (deckOpt.isPresent()) {
-            currentDeck = deckOpt.get();
-            practiceDisplay.setDeckTitle(getTranslation(PracticeConstants.PRACTICE_TITLE_KEY, currentDeck.getTitle()));
-            LOGGER.debug("Deck loaded successfully: {} (ID: {})", currentDeck.getTitle(), currentDeck.getId());
-        } else {
-            LOGGER.warn("Deck not found for ID: {}", deckId);
-            throw new EntityNotFoundException(
-                    String.valueOf(deckId),
-                    RouteConstants.DECKS_ROUTE,
-                    getTranslation(PracticeConstants.DECK_NOT_FOUND_KEY));
-        }
+        loader.load(
+                "PracticeView.start",
+                () -> sessionService
+                        .loadDeck(deckId)
+                        .map(deck -> new PracticeData(deck, sessionService.getDefaultSessionCards(deckId))),
+                practiceData -> {
+                    loadingSkeleton.setVisible(false);
+                    if (practiceData.isEmpty()) {
+                        LOGGER.warn("Deck not found for ID: {}", deckId);
+                        getContent().removeAll();
+                        getContent().add(new EntityNotFoundError(
+                                String.valueOf(deckId),
+                                RouteConstants.DECKS_ROUTE,
+                                getTranslation(PracticeConstants.DECK_NOT_FOUND_KEY)));
+                        return;
+                    }
+                    currentDeck = practiceData.get().deck();
+                    practiceDisplay.setDeckTitle(
+                            getTranslation(PracticeConstants.PRACTICE_TITLE_KEY, currentDeck.getTitle()));
+                    LOGGER.debug(
+                            "Starting practice session for deck '{}' (ID: {})",
+                            currentDeck.getTitle(),
+                            currentDeck.getId());
+                    startDefaultPractice(practiceData.get().notKnownCards());
+                });
     }
 
     /**
@@ -343,10 +359,17 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
             return;
         }
 
+        PracticeAnswerEvent jfrEvent = new PracticeAnswerEvent();
+        jfrEvent.begin();
+        Card answered = sessionManager.currentCard(session);
+        long cardId = answered != null ? answered.getId() : 0L;
+        boolean known = PracticeConstants.KNOW_LABEL.equals(label);
+
         session = processCardLabel(label);
         updateProgress();
         practiceActions.hideActionButtons();
         nextCard();
+        jfrEvent.complete(currentDeck.getId(), cardId, known);
 
         if (sessionManager.isComplete(session)) {
             handlePracticeComplete();
@@ -460,7 +483,7 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
             // Only react if event is for current deck (getDeckId() returns primitive long)
             if (currentDeck != null && event.getDeckId() == currentDeck.getId()) {
                 // Use UI.access() for thread-safe UI updates with server push
-                ui.access(this::checkIfAllKnownAndShowCongratulations);
+                JfrUiAccess.access(ui, "PracticeView.progress", this::checkIfAllKnownAndShowCongratulations);
             }
         };
 
@@ -503,9 +526,7 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
         }
 
         // Check if all cards are now known
-        List<Card> notKnownCards = sessionService.getNotKnownCards(currentDeck.getId());
-
-        if (notKnownCards.isEmpty() && session != null) {
+        if (!sessionService.hasNotKnownCards(currentDeck.getId()) && session != null) {
             LOGGER.debug(
                     "All cards now known for deck '{}', showing congratulations (reactive update)",
                     currentDeck.getTitle());
@@ -532,4 +553,14 @@ public class PracticeView extends Composite<VerticalLayout> implements HasUrlPar
     public String getPageTitle() {
         return getTranslation(PracticeConstants.PRACTICE_TITLE_KEY);
     }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Practice data fetched off the session lock.
+     *
+     * @param deck the deck to practice
+     * @param notKnownCards cards of deck not yet known by user
+     */
+    private record PracticeData(Deck deck, List<Card> notKnownCards) {}
 }
@@ -0,0 +1,211 @@
+package org.apolenkov.application.views.shared.base;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.WrappedSession;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apolenkov.application.config.monitoring.jfr.JfrUiAccess;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Loads view data off the Vaadin session lock.
+ *
+ * <p>Fetch runs on a virtual thread without holding the session lock, so other requests of the
+ * same session (push, navigation, other tabs) are not blocked by JDBC calls. Result is applied
+ * to components via {@code UI.access()}. The fetch thread sees the same context as request
+ * threads: current UI and Vaadin session (session-scoped beans), security context, HTTP session
+ * backed request attributes and MDC.
+ *
+ * <p>One loader per owner component. Starting a load supersedes the previous one; loads are
+ * cancelled when the owner is detached. Cancelled loads are never applied. Fetch threads are not
+ * interrupted: interrupting a virtual thread blocked in socket I/O closes the JDBC connection.
+ */
+public final class AsyncLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLoader.class);
+
+    private final Component owner;
+    private final Object monitor = new Object();
+    private Load current;
+
+    /**
+     * Creates loader for component.
+     *
+     * @param ownerValue component whose detach cancels loads
+     * @throws IllegalArgumentException if ownerValue is null
+     */
+    public AsyncLoader(final Component ownerValue) {
+        if (ownerValue == null) {
+            throw new IllegalArgumentException("Owner component cannot be null");
+        }
+        this.owner = ownerValue;
+        ownerValue.addDetachListener(e -> cancel());
+    }
+
+    /**
+     * Starts load; errors are rethrown under the session lock and reach the session error handler.
+     * Must be called under the session lock (UI thread).
+     *
+     * @param name load name (thread name, UI access event label)
+     * @param fetch data fetch, runs without session lock
+     * @param apply applies fetched data to components, runs under session lock
+     * @param <T> fetched data type
+     */
+    public <T> void load(final String name, final Supplier<T> fetch, final Consumer<T> apply) {
+        load(name, fetch, apply, AsyncLoader::rethrow);
+    }
+
+    /**
+     * Starts load. Must be called under the session lock (UI thread).
+     *
+     * @param name load name (thread name, UI access event label)
+     * @param fetch data fetch, runs without session lock
+     * @param apply applies fetched data to components, runs under session lock
+     * @param onError handles fetch failure, runs under session lock
+     * @param <T> fetched data type
+     * @throws IllegalStateException if there is no current UI
+     */
+    public <T> void load(
+            final String name,
+            final Supplier<T> fetch,
+            final Consumer<T> apply,
+            final Consumer<RuntimeException> onError) {
+        UI ui = owner.getUI().orElseGet(UI::getCurrent);
+        if (ui == null) {
+            throw new IllegalStateException("Async load '" + name + "' requires current UI");
+        }
+
+        Load load = new Load();
+        synchronized (monitor) {
+            if (current != null) {
+                current.cancelled = true;
+            }
+            current = load;
+        }
+
+        Context context = Context.capture(ui);
+        Thread.ofVirtual().name("view-load-" + name).start(() -> {
+            if (load.cancelled) {
+                return;
+            }
+            T result;
+            try {
+                context.bind();
+                result = fetch.get();
+            } catch (RuntimeException e) {
+                deliver(ui, name, load, () -> onError.accept(e));
+                return;
+            } finally {
+                Context.clear();
+            }
+            deliver(ui, name, load, () -> apply.accept(result));
+        });
+    }
+
+    /**
+     * Cancels in-flight load, if any. Its result will not be applied.
+     */
+    public void cancel() {
+        synchronized (monitor) {
+            if (current != null) {
+                current.cancelled = true;
+                current = null;
+            }
+        }
+    }
+
+    /**
+     * Checks if a load is in flight.
+     *
+     * @return true if the latest load has not been applied or cancelled yet
+     */
+    public boolean isLoading() {
+        synchronized (monitor) {
+            return current != null;
+        }
+    }
+
+    private void deliver(final UI ui, final String name, final Load load, final Runnable action) {
+        if (load.cancelled) {
+            LOGGER.debug("Async load '{}' cancelled before apply", name);
+            return;
+        }
+        try {
+            JfrUiAccess.access(ui, name, () -> {
+                synchronized (monitor) {
+                    if (load.cancelled) {
+                        return;
+                    }
+                    current = null;
+                }
+                action.run();
+            });
+        } catch (UIDetachedException e) {
+            LOGGER.debug("Async load '{}' not applied: UI detached", name);
+        }
+    }
+
+    private static void rethrow(final RuntimeException e) {
+        throw e;
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Handle of one load.
+     */
+    private static final class Load {
+        private volatile boolean cancelled;
+    }
+
+    /**
+     * Context of the UI thread carried to the fetch thread.
+     *
+     * @param ui current UI (restores UI, Vaadin session and service)
+     * @param securityContext security context of the user
+     * @param requestAttributes session-backed request attributes, null without HTTP session
+     * @param mdc MDC of the request, null if empty
+     */
+    private record Context(
+            UI ui, SecurityContext securityContext, RequestAttributes requestAttributes, Map<String, String> mdc) {
+
+        static Context capture(final UI ui) {
+            VaadinSession session = ui.getSession();
+            WrappedSession httpSession = session != null ? session.getSession() : null;
+            return new Context(
+                    ui,
+                    SecurityContextHolder.getContext(),
+                    httpSession != null ? new SessionRequestAttributes(httpSession) : null,
+                    MDC.getCopyOfContextMap());
+        }
+
+        void bind() {
+            CurrentInstance.setCurrent(ui);
+            SecurityContextHolder.setContext(securityContext);
+            if (requestAttributes != null) {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+            }
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+        }
+
+        static void clear() {
+            MDC.clear();
+            RequestContextHolder.resetRequestAttributes();
+            SecurityContextHolder.clearContext();
+            CurrentInstance.clearAll();
+        }
+    }
+}
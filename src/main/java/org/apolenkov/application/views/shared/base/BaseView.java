@@ -3,6 +3,8 @@ package org.apolenkov.application.views.shared.base;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.HasDynamicTitle;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Base view class providing common functionality for all views.
@@ -10,6 +12,8 @@ import com.vaadin.flow.router.HasDynamicTitle;
  */
 public abstract class BaseView extends VerticalLayout implements HasDynamicTitle {
 
+    private transient AsyncLoader asyncLoader;
+
     /**
      * Creates a centered vertical layout with consistent styling.
      * This is a commonly used pattern across authentication views.
@@ -25,4 +29,21 @@ public abstract class BaseView extends VerticalLayout implements HasDynamicTitle
         layout.setPadding(true);
         return layout;
     }
+
+    /**
+     * Fetches data on a virtual thread outside the session lock and applies it via UI.access().
+     * A new load supersedes the previous one; loads are cancelled when the view is detached.
+     *
+     * @param name load name (thread name, UI access event label)
+     * @param fetch data fetch, runs without session lock
+     * @param apply applies fetched data to components, runs under session lock
+     * @param <T> fetched data type
+     * @see AsyncLoader
+     */
+    protected <T> void loadAsync(final String name, final Supplier<T> fetch, final Consumer<T> apply) {
+        if (asyncLoader == null) {
+            asyncLoader = new AsyncLoader(this);
+        }
+        asyncLoader.load(name, fetch, apply);
+    }
 }
@@ -0,0 +1,106 @@
+package org.apolenkov.application.views.shared.base;
+
+import com.vaadin.flow.server.WrappedHttpSession;
+import com.vaadin.flow.server.WrappedSession;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.context.request.DestructionCallbackBindingListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Request attributes for work running outside an HTTP request (background view loads).
+ *
+ * <p>Session scope is backed by the user's HTTP session, so session-scoped beans and session
+ * attributes resolve to the same instances as on request threads. Request scope is a private
+ * map living as long as the background task.
+ */
+final class SessionRequestAttributes implements RequestAttributes {
+
+    private final WrappedSession session;
+    private final Map<String, Object> requestAttributes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates attributes bound to session.
+     *
+     * @param sessionValue the wrapped HTTP session of the Vaadin session
+     * @throws IllegalArgumentException if sessionValue is null
+     */
+    SessionRequestAttributes(final WrappedSession sessionValue) {
+        if (sessionValue == null) {
+            throw new IllegalArgumentException("Session cannot be null");
+        }
+        this.session = sessionValue;
+    }
+
+    @Override
+    public Object getAttribute(final String name, final int scope) {
+        return scope == SCOPE_REQUEST ? requestAttributes.get(name) : session.getAttribute(name);
+    }
+
+    @Override
+    public void setAttribute(final String name, final Object value, final int scope) {
+        if (scope == SCOPE_REQUEST) {
+            requestAttributes.put(name, value);
+        } else {
+            session.setAttribute(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(final String name, final int scope) {
+        if (scope == SCOPE_REQUEST) {
+            requestAttributes.remove(name);
+        } else {
+            session.removeAttribute(name);
+            session.removeAttribute(ServletRequestAttributes.DESTRUCTION_CALLBACK_NAME_PREFIX + name);
+        }
+    }
+
+    @Override
+    public String[] getAttributeNames(final int scope) {
+        return scope == SCOPE_REQUEST
+                ? requestAttributes.keySet().toArray(String[]::new)
+                : session.getAttributeNames().toArray(String[]::new);
+    }
+
+    /**
+     * Registers destruction callback. Session callbacks run when the HTTP session ends
+     * (same mechanism as {@link ServletRequestAttributes}); request callbacks are not supported
+     * because background tasks have no request end.
+     *
+     * @param name attribute name
+     * @param callback destruction callback
+     * @param scope attribute scope
+     */
+    @Override
+    public void registerDestructionCallback(final String name, final Runnable callback, final int scope) {
+        if (scope == SCOPE_SESSION) {
+            session.setAttribute(
+                    ServletRequestAttributes.DESTRUCTION_CALLBACK_NAME_PREFIX + name,
+                    new DestructionCallbackBindingListener(callback));
+        }
+    }
+
+    @Override
+    public Object resolveReference(final String key) {
+        if (REFERENCE_SESSION.equals(key) && session instanceof WrappedHttpSession httpSession) {
+            return httpSession.getHttpSession();
+        }
+        return null;
+    }
+
+    @Override
+    public String getSessionId() {
+        return session.getId();
+    }
+
+    @Override
+    public Object getSessionMutex() {
+        if (session instanceof WrappedHttpSession httpSession) {
+            return WebUtils.getSessionMutex(httpSession.getHttpSession());
+        }
+        return session;
+    }
+}
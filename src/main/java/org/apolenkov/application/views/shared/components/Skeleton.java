@@ -0,0 +1,33 @@
+package org.apolenkov.application.views.shared.components;
+
+import com.vaadin.flow.component.html.Div;
+
+/**
+ * Placeholder shown while view data is loading asynchronously.
+ * Renders shimmering lines sized like the content they stand in for.
+ */
+public final class Skeleton extends Div {
+
+    private static final String SKELETON_CLASS = "skeleton";
+    private static final String LINE_CLASS = "skeleton__line";
+    private static final String TITLE_LINE_CLASS = "skeleton__line--title";
+
+    /**
+     * Creates skeleton with a title line and text lines.
+     *
+     * @param lines number of text lines below title
+     */
+    public Skeleton(final int lines) {
+        addClassName(SKELETON_CLASS);
+        getElement().setAttribute("aria-busy", "true");
+
+        Div title = new Div();
+        title.addClassNames(LINE_CLASS, TITLE_LINE_CLASS);
+        add(title);
+        for (int i = 0; i < lines; i++) {
+            Div line = new Div();
+            line.addClassName(LINE_CLASS);
+            add(line);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apolenkov.application.service.stats.StatsService;
 import org.apolenkov.application.views.core.layout.PublicLayout;
 import org.apolenkov.application.views.deck.cache.UserDecksCache;
 import org.apolenkov.application.views.shared.base.BaseView;
+import org.apolenkov.application.views.shared.components.Skeleton;
 import org.apolenkov.application.views.stats.components.CardVariant;
 import org.apolenkov.application.views.stats.components.DeckStatCardCompact;
 import org.apolenkov.application.views.stats.components.StatCard;
@@ -45,6 +46,7 @@ public class StatsView extends BaseView implements AfterNavigationObserver {
     // CSS class constants
     private static final String STATS_SECTION_CLASS = "stats-section";
     private static final String STATS_SECTION_TITLE_CLASS = "stats-section__title";
+    private static final int SKELETON_LINES = 6;
 
     // ==================== Fields ====================
 
@@ -128,7 +130,7 @@ public class StatsView extends BaseView implements AfterNavigationObserver {
     }
 
     /**
-     * Loads statistics data and populates the view with Material Design layout.
+     * Shows skeleton and loads statistics off the session lock, then populates the view.
      */
     private void loadAndDisplayStats() {
         // Add main title
@@ -136,28 +138,38 @@ public class StatsView extends BaseView implements AfterNavigationObserver {
         mainTitle.addClassName(StatsConstants.STATS_VIEW_TITLE_CLASS);
         pageSection.add(mainTitle);
 
-        // Load data and initialize builders
-        loadStatsData();
-        initializeBuilders();
+        Skeleton skeleton = new Skeleton(SKELETON_LINES);
+        pageSection.add(skeleton);
 
-        // Add sections with semantic variants
-        pageSection.add(createTodayStatsSection());
-        pageSection.add(createOverallStatsSection());
-        pageSection.add(createDeckStatsSection());
+        loadAsync("StatsView.stats", this::loadStatsData, data -> {
+            decks = data.decks();
+            aggregates = data.aggregates();
+            initializeBuilders();
 
-        LOGGER.debug("Loaded {} decks with statistics", decks.size());
+            // Replace skeleton with sections with semantic variants
+            pageSection.remove(skeleton);
+            pageSection.add(createTodayStatsSection());
+            pageSection.add(createOverallStatsSection());
+            pageSection.add(createDeckStatsSection());
+
+            LOGGER.debug("Loaded {} decks with statistics", decks.size());
+        });
     }
 
     /**
-     * Loads statistics data from services.
-     * Uses UI-scoped cache to avoid repeated database queries.
+     * Loads statistics data from services (runs without session lock).
+     * Uses session-scoped cache to avoid repeated database queries.
+     * Aggregates depend on deck IDs, so both queries run one after the other.
+     *
+     * @return decks of current user and their aggregates
      */
-    private void loadStatsData() {
-        long userId = userUseCase.getCurrentUser().getId();
-        decks = decksCache.getDecks(userId, () -> deckUseCase.getDecksByUserId(userId));
+    private StatsData loadStatsData() {
+        long userId = userUseCase.getCurrentUserId();
+        List<Deck> userDecks = decksCache.getDecks(userId, () -> deckUseCase.getDecksByUserId(userId));
 
-        List<Long> deckIds = decks.stream().map(Deck::getId).toList();
-        aggregates = statsService.getDeckAggregates(deckIds);
+        List<Long> deckIds = userDecks.stream().map(Deck::getId).toList();
+        Map<Long, StatsRepository.DeckAggregate> deckAggregates = statsService.getDeckAggregates(deckIds);
+        return new StatsData(userDecks, deckAggregates);
     }
 
     /**
@@ -288,4 +300,12 @@ public class StatsView extends BaseView implements AfterNavigationObserver {
     public String getPageTitle() {
         return getTranslation(StatsConstants.STATS_TITLE_KEY);
     }
+
+    /**
+     * Statistics fetched off the session lock.
+     *
+     * @param decks decks of current user
+     * @param aggregates statistics per deck ID
+     */
+    private record StatsData(List<Deck> decks, Map<Long, StatsRepository.DeckAggregate> aggregates) {}
 }
@@ -0,0 +1,10 @@
+-- Keyset pagination index for news feed
+-- News lists page with (created_at, id) < (cursor) ORDER BY created_at DESC, id DESC LIMIT n.
+-- The composite index serves both the order and the cursor condition, including ties on created_at.
+
+CREATE INDEX IF NOT EXISTS idx_news_created_at_id ON news(created_at DESC, id DESC);
+
+-- Superseded by idx_news_created_at_id (same leading column and direction)
+DROP INDEX IF EXISTS idx_news_created_at;
+
+ANALYZE news;
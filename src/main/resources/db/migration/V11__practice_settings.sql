@@ -0,0 +1,16 @@
+-- Per-user practice settings
+-- Defaults of new practice sessions (card count, random order, direction) are stored next to the
+-- preferred locale, one row per user. Existing rows get the previous application-wide defaults.
+
+ALTER TABLE user_settings
+    ADD COLUMN IF NOT EXISTS practice_count INTEGER NOT NULL DEFAULT 10,
+    ADD COLUMN IF NOT EXISTS practice_random_order BOOLEAN NOT NULL DEFAULT TRUE,
+    ADD COLUMN IF NOT EXISTS practice_direction VARCHAR(20) NOT NULL DEFAULT 'FRONT_TO_BACK';
+
+ALTER TABLE user_settings
+ADD CONSTRAINT chk_user_settings_practice_count_positive
+CHECK (practice_count >= 1);
+
+ALTER TABLE user_settings
+ADD CONSTRAINT chk_user_settings_practice_direction
+CHECK (practice_direction IN ('FRONT_TO_BACK', 'BACK_TO_FRONT'));
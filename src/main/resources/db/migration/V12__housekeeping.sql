@@ -0,0 +1,10 @@
+-- Housekeeping: cluster-wide scheduler locks
+-- One row per scheduled job. A node owns the job while locked_until is in the future; the lease is taken
+-- with a single conditional upsert evaluated against the database clock, so node clock skew does not matter.
+
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    name VARCHAR(64) PRIMARY KEY,
+    locked_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,16 @@
+-- Soft delete of decks and users
+-- Deleting marks the row and hides it at once; cards, known cards, stats and finally the row itself are purged
+-- in small chunks by background housekeeping, so deleting large decks or accounts holds no long locks.
+-- Nullable columns without default are added without rewriting the tables.
+
+ALTER TABLE decks ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- Purge queues: partial indexes contain only rows waiting for purge and stay tiny
+CREATE INDEX IF NOT EXISTS idx_decks_deleted ON decks (id) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_users_deleted ON users (id) WHERE deleted_at IS NOT NULL;
+
+-- Email stays unique among live users only, so an address is free for re-registration right after deletion
+-- while the deleted row waits for purge
+CREATE UNIQUE INDEX IF NOT EXISTS idx_users_email_active ON users (email) WHERE deleted_at IS NULL;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
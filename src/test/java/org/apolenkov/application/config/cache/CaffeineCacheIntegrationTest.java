@@ -13,10 +13,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Integration tests for Caffeine cache functionality.
- * Verifies cache eviction behavior for user repository operations.
+ * Verifies targeted, after-commit cache eviction and copy-on-read behavior for user repository operations.
  */
 @DisplayName("Caffeine Cache Integration Tests")
 class CaffeineCacheIntegrationTest extends BaseIntegrationTest {
@@ -27,19 +29,26 @@ class CaffeineCacheIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Cache usersByEmailCache;
+    private Cache usersCache;
 
     @BeforeEach
     void setUp() {
         usersByEmailCache = cacheManager.getCache(CacheConfiguration.USER_BY_EMAIL_CACHE);
         assertThat(usersByEmailCache).isNotNull();
+        usersCache = cacheManager.getCache(CacheConfiguration.USER_CACHE);
+        assertThat(usersCache).isNotNull();
 
         // Clear cache before each test
         usersByEmailCache.clear();
+        usersCache.clear();
     }
 
     @Test
-    @DisplayName("Should evict entire cache on user save")
+    @DisplayName("Should evict user entry on user save")
     void shouldEvictCacheOnSave() {
         // Given: user in database with unique email
         String email = "evict." + System.nanoTime() + "@test.com";
@@ -51,17 +60,17 @@ class CaffeineCacheIntegrationTest extends BaseIntegrationTest {
         // Verify cache contains user
         assertThat(usersByEmailCache.get(email)).isNotNull();
 
-        // When: update user (triggers @CacheEvict(allEntries=true))
+        // When: update user
         user.setName("New Name");
         userRepository.save(user);
 
-        // Then: entire cache is cleared
+        // Then: user entry is evicted
         assertThat(usersByEmailCache.get(email)).isNull();
     }
 
     @Test
-    @DisplayName("Should evict all entries when any user is saved")
-    void shouldEvictAllEntriesWhenAnyUserIsSaved() {
+    @DisplayName("Should evict only saved user's entries")
+    void shouldEvictOnlySavedUserEntries() {
         // Given: 2 users with unique emails
         long timestamp = System.nanoTime();
         String email1 = "user1." + timestamp + "@test.com";
@@ -78,18 +87,18 @@ class CaffeineCacheIntegrationTest extends BaseIntegrationTest {
         assertThat(usersByEmailCache.get(email1)).isNotNull();
         assertThat(usersByEmailCache.get(email2)).isNotNull();
 
-        // When: save ANY user (triggers allEntries eviction)
+        // When: save one user
         user1.setName("Updated Name");
         userRepository.save(user1);
 
-        // Then: ALL users evicted from cache
+        // Then: only saved user is evicted, other users stay cached
         assertThat(usersByEmailCache.get(email1)).isNull();
-        assertThat(usersByEmailCache.get(email2)).isNull();
+        assertThat(usersByEmailCache.get(email2)).isNotNull();
     }
 
     @Test
-    @DisplayName("Should evict all entries when user is deleted")
-    void shouldEvictAllEntriesWhenUserDeleted() {
+    @DisplayName("Should evict only deleted user's entries")
+    void shouldEvictOnlyDeletedUserEntries() {
         // Given: 2 users with unique emails
         long timestamp = System.nanoTime();
         String email1 = "delete1." + timestamp + "@test.com";
@@ -106,12 +115,55 @@ class CaffeineCacheIntegrationTest extends BaseIntegrationTest {
         assertThat(usersByEmailCache.get(email1)).isNotNull();
         assertThat(usersByEmailCache.get(email2)).isNotNull();
 
-        // When: delete one user (triggers allEntries eviction)
+        // When: delete one user
         userRepository.deleteById(user1.getId());
 
-        // Then: ALL users evicted from cache
+        // Then: only deleted user is evicted, other users stay cached
         assertThat(usersByEmailCache.get(email1)).isNull();
-        assertThat(usersByEmailCache.get(email2)).isNull();
+        assertThat(usersByEmailCache.get(email2)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict user entries only after commit")
+    void shouldEvictUserEntriesAfterCommit() {
+        // Given: user cached by ID
+        User user = createAndSaveTestUser("commit." + System.nanoTime() + "@test.com", "Commit User");
+        userRepository.findById(user.getId());
+        assertThat(usersCache.get(user.getId())).isNotNull();
+
+        // When: user is updated inside transaction
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            user.setName("Committed Name");
+            userRepository.save(user);
+
+            // Then: entry survives until commit
+            assertThat(usersCache.get(user.getId())).isNotNull();
+        });
+
+        // Then: entry is evicted after commit and next lookup sees committed row
+        assertThat(usersCache.get(user.getId())).isNull();
+        assertThat(userRepository.findById(user.getId()))
+                .get()
+                .extracting(User::getName)
+                .isEqualTo("Committed Name");
+    }
+
+    @Test
+    @DisplayName("Should hand out independent copies of cached user")
+    void shouldReturnCopiesOfCachedUser() {
+        // Given: user cached by ID
+        User user = createAndSaveTestUser("copy." + System.nanoTime() + "@test.com", "Copy User");
+        User first = userRepository.findById(user.getId()).orElseThrow();
+
+        // When: caller mutates returned model
+        first.setName("Mutated Name");
+        first.addRole(SecurityConstants.ROLE_ADMIN);
+
+        // Then: cached snapshot is unaffected
+        User second = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("Copy User");
+        assertThat(second.getRoles()).doesNotContain(SecurityConstants.ROLE_ADMIN);
     }
 
     @Test
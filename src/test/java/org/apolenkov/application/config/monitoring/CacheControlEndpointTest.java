@@ -0,0 +1,179 @@
+package org.apolenkov.application.config.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.KnownCardsCache;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for CacheControlEndpoint.
+ */
+@DisplayName("CacheControlEndpoint Unit Tests")
+class CacheControlEndpointTest {
+
+    private KnownCardsCache knownCardsCache;
+    private DeckPageCache deckPageCache;
+    private CaffeineCacheManager cacheManager;
+    private CacheControlEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        AppCacheMetrics cacheMetrics = new AppCacheMetrics();
+        CacheInvalidationRegistry registry = new CacheInvalidationRegistry();
+
+        knownCardsCache = new KnownCardsCache(registry, cacheMetrics);
+        ReflectionTestUtils.setField(knownCardsCache, "ttlMs", 300000L);
+        ReflectionTestUtils.setField(knownCardsCache, "maxSize", 1000);
+
+        deckPageCache = new DeckPageCache(registry, cacheMetrics);
+        ReflectionTestUtils.setField(deckPageCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(deckPageCache, "maxSize", 100);
+
+        cacheManager = new CaffeineCacheManager("users");
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.MINUTES)
+                .maximumSize(1000)
+                .recordStats());
+
+        endpoint = new CacheControlEndpoint(cacheMetrics, cacheManager);
+    }
+
+    @Test
+    @DisplayName("Should list session and Caffeine caches with statistics")
+    void shouldListAllCaches() {
+        // Given
+        knownCardsCache.getKnownCards(1L, () -> Set.of(1L, 2L, 3L));
+        knownCardsCache.getKnownCards(1L, () -> Set.of(1L, 2L, 3L));
+        cacheManager.getCache("users").put(7L, "user");
+
+        // When
+        Map<String, CacheControlEndpoint.CacheDescriptor> caches = endpoint.caches();
+
+        // Then
+        assertThat(caches).containsKeys("known-cards", "pagination-count", "decks", "deck-page", "users");
+        CacheControlEndpoint.CacheDescriptor knownCards = caches.get("known-cards");
+        assertThat(knownCards.scope()).isEqualTo("session");
+        assertThat(knownCards.size()).isEqualTo(1);
+        assertThat(knownCards.weight()).isEqualTo(3);
+        assertThat(knownCards.hitRate()).isEqualTo(0.5);
+        assertThat(knownCards.ttlMs()).isEqualTo(300000L);
+        assertThat(knownCards.topKeys()).containsExactly(new CacheControlEndpoint.KeyAccess("1", 1L));
+
+        CacheControlEndpoint.CacheDescriptor users = caches.get("users");
+        assertThat(users.scope()).isEqualTo("node");
+        assertThat(users.size()).isEqualTo(1);
+        assertThat(users.maxSize()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Should return null for unknown cache")
+    void shouldReturnNullForUnknownCache() {
+        assertThat(endpoint.cache("missing", null)).isNull();
+        assertThat(endpoint.evict(SecurityContext.NONE, "missing", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict key from session caches")
+    void shouldEvictKeyFromSessionCaches() {
+        // Given
+        knownCardsCache.getKnownCards(1L, () -> Set.of(1L));
+        knownCardsCache.getKnownCards(2L, () -> Set.of(2L));
+
+        // When
+        CacheControlEndpoint.EvictionResult result = endpoint.evict(SecurityContext.NONE, "known-cards", "1");
+
+        // Then
+        assertThat(result.removed()).isEqualTo(1);
+        assertThat(knownCardsCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject non-numeric key for session cache")
+    void shouldRejectNonNumericKeyForSessionCache() {
+        assertThatThrownBy(() -> endpoint.evict(SecurityContext.NONE, "known-cards", "abc"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should evict deck from all deck-keyed caches")
+    void shouldEvictDeckFromAllDeckKeyedCaches() {
+        // Given
+        knownCardsCache.getKnownCards(5L, () -> Set.of(1L));
+        deckPageCache.getPage(5L, FilterOption.ALL, 0, 20, List::of);
+        deckPageCache.getPage(5L, FilterOption.ALL, 1, 20, List::of);
+        deckPageCache.getPage(6L, FilterOption.ALL, 0, 20, List::of);
+
+        // When
+        List<CacheControlEndpoint.EvictionResult> results = endpoint.evictDeck(SecurityContext.NONE, 5L);
+
+        // Then
+        assertThat(results)
+                .extracting(CacheControlEndpoint.EvictionResult::cache)
+                .doesNotContain("decks");
+        assertThat(knownCardsCache.size()).isZero();
+        assertThat(deckPageCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict key and clear Caffeine cache")
+    void shouldEvictKeyAndClearCaffeineCache() {
+        // Given
+        Cache users = cacheManager.getCache("users");
+        users.put(1L, "a");
+        users.put(2L, "b");
+
+        // When
+        CacheControlEndpoint.EvictionResult single = endpoint.evict(SecurityContext.NONE, "users", "1");
+
+        // Then
+        assertThat(single.removed()).isEqualTo(1);
+        assertThat(users.get(1L)).isNull();
+        assertThat(users.get(2L)).isNotNull();
+
+        // When
+        endpoint.evict(SecurityContext.NONE, "users", null);
+
+        // Then
+        assertThat(users.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should tune TTL and max size of session and Caffeine caches")
+    void shouldTuneCaches() {
+        // When
+        CacheControlEndpoint.CacheDescriptor knownCards =
+                endpoint.tune(SecurityContext.NONE, "known-cards", 1000L, 10);
+        CacheControlEndpoint.CacheDescriptor users = endpoint.tune(SecurityContext.NONE, "users", 60000L, 50);
+
+        // Then
+        assertThat(knownCards.ttlMs()).isEqualTo(1000L);
+        assertThat(knownCards.maxSize()).isEqualTo(10);
+        assertThat(knownCardsCache.ttlMs()).isEqualTo(1000L);
+        assertThat(users.ttlMs()).isEqualTo(60000L);
+        assertThat(users.maxSize()).isEqualTo(50);
+
+        // When: non-positive value restores configured default
+        endpoint.tune(SecurityContext.NONE, "known-cards", 0L, null);
+
+        // Then
+        assertThat(knownCardsCache.ttlMs()).isEqualTo(300000L);
+        assertThat(knownCardsCache.maxSize()).isEqualTo(10);
+    }
+}
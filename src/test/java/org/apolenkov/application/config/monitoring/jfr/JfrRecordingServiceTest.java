@@ -0,0 +1,102 @@
+package org.apolenkov.application.config.monitoring.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for JfrRecordingService and custom JFR events.
+ */
+@DisplayName("JfrRecordingService Unit Tests")
+class JfrRecordingServiceTest {
+
+    private JfrRecordingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JfrRecordingService();
+        ReflectionTestUtils.setField(service, "continuousEnabled", false);
+        ReflectionTestUtils.setField(service, "maxRecordings", 1);
+        ReflectionTestUtils.setField(service, "maxDurationSeconds", 60L);
+        ReflectionTestUtils.setField(service, "defaultDurationSeconds", 30L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.closeAll();
+    }
+
+    @Test
+    @DisplayName("Should record custom events and dump them to file")
+    void shouldRecordCustomEventsAndDump() throws Exception {
+        JfrRecordingService.RecordingInfo info = service.start(JfrPreset.PROFILE, null);
+
+        CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
+        event.complete("known-cards", 3);
+        service.stop(info.id());
+
+        Path file = service.dump(info.id()).orElseThrow();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("memocards.CacheLoad"))
+                    .toList();
+            assertThat(events).hasSize(1);
+            assertThat(events.getFirst().getString("cache")).isEqualTo("known-cards");
+            assertThat(events.getFirst().getInt("entries")).isEqualTo(3);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertThat(info.durationSeconds()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("Should skip fast custom events in continuous preset")
+    void shouldSkipFastEventsBelowThreshold() throws Exception {
+        JfrRecordingService.RecordingInfo info = service.start(JfrPreset.CONTINUOUS, null);
+
+        CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
+        event.complete("known-cards", 3);
+        service.stop(info.id());
+
+        Path file = service.dump(info.id()).orElseThrow();
+        try {
+            assertThat(RecordingFile.readAllEvents(file))
+                    .noneMatch(recorded -> recorded.getEventType().getName().equals("memocards.CacheLoad"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should cap duration and limit number of recordings")
+    void shouldCapDurationAndLimitRecordings() {
+        JfrRecordingService.RecordingInfo info = service.start(JfrPreset.CONTINUOUS, 3600L);
+
+        assertThat(info.durationSeconds()).isEqualTo(60L);
+        assertThatThrownBy(() -> service.start(JfrPreset.LOCKS, null)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(service.close(info.id())).isTrue();
+        assertThat(service.list()).isEmpty();
+        assertThat(service.stop(info.id())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should parse preset names case-insensitively")
+    void shouldParsePresetNames() {
+        assertThat(JfrPreset.fromName(" Profile ")).isEqualTo(JfrPreset.PROFILE);
+        assertThatThrownBy(() -> JfrPreset.fromName("unknown")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(JfrPreset.LOCKS.settings()).containsEntry("jdk.ThreadPark#threshold", "1 ms");
+    }
+}
@@ -0,0 +1,105 @@
+package org.apolenkov.application.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.apolenkov.application.service.security.LoginRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for LoginThrottleFilter.
+ * Tests throttling of form-login submissions and pass-through of all other requests.
+ */
+@DisplayName("LoginThrottleFilter Unit Tests")
+class LoginThrottleFilterTest {
+
+    private static final String IP = "203.0.113.7";
+    private static final String USERNAME = "user@example.com";
+
+    private LoginRateLimiter rateLimiter;
+    private LoginThrottleFilter filter;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(LoginRateLimiter.class);
+        filter = new LoginThrottleFilter(rateLimiter);
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    @DisplayName("Should reject throttled login submission with 429 and Retry-After")
+    void shouldRejectThrottledLoginSubmission() throws Exception {
+        when(rateLimiter.tryAcquire(IP, USERNAME))
+                .thenReturn(new LoginRateLimiter.Decision(false, Duration.ofMillis(2500)));
+
+        filter.doFilter(loginSubmission(), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("3");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should pass allowed login submission to the chain")
+    void shouldPassAllowedLoginSubmission() throws Exception {
+        when(rateLimiter.tryAcquire(IP, USERNAME)).thenReturn(LoginRateLimiter.Decision.ALLOWED);
+
+        filter.doFilter(loginSubmission(), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should pass through login page requests without consulting limiter")
+    void shouldPassThroughLoginPage() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login");
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("Should pass through submissions to other paths without consulting limiter")
+    void shouldPassThroughOtherPaths() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/decks");
+        request.setParameter("username", USERNAME);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("Should pass through Vaadin requests posted to login route with query string")
+    void shouldPassThroughLoginRouteWithQueryString() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setQueryString("v-r=uidl");
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(rateLimiter);
+    }
+
+    private static MockHttpServletRequest loginSubmission() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setRemoteAddr(IP);
+        request.setParameter("username", USERNAME);
+        return request;
+    }
+}
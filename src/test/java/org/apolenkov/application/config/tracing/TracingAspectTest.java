@@ -0,0 +1,96 @@
+package org.apolenkov.application.config.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.apolenkov.application.infrastructure.repository.jdbc.sql.DeckSqlQueries;
+import org.apolenkov.application.infrastructure.repository.jdbc.sql.SqlQueryNames;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TracingAspect and SQL query name resolution.
+ */
+@DisplayName("TracingAspect Unit Tests")
+class TracingAspectTest {
+
+    private final List<Observation.Context> stopped = new ArrayList<>();
+    private TracingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(final Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(final Observation.Context context) {
+                return true;
+            }
+        });
+        aspect = new TracingAspect(registry);
+    }
+
+    @Test
+    @DisplayName("Should observe use case call with class and method")
+    void shouldObserveUseCaseCall() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("getDeckById");
+        when(joinPoint.proceed()).thenReturn("deck");
+
+        Object result = aspect.observeUseCase(joinPoint);
+
+        assertThat(result).isEqualTo("deck");
+        assertThat(stopped).hasSize(1);
+        Observation.Context context = stopped.getFirst();
+        assertThat(context.getName()).isEqualTo(TracingObservations.USE_CASE);
+        assertThat(context.getContextualName()).isEqualTo("TracingAspectTest.getDeckById");
+        assertThat(context.getLowCardinalityKeyValues())
+                .contains(KeyValue.of(TracingObservations.METHOD_KEY, "getDeckById"));
+    }
+
+    @Test
+    @DisplayName("Should record error and rethrow")
+    void shouldRecordErrorAndRethrow() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("findById");
+        IllegalStateException failure = new IllegalStateException("db down");
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        assertThatThrownBy(() -> aspect.observeRepository(joinPoint)).isSameAs(failure);
+
+        assertThat(stopped).hasSize(1);
+        assertThat(stopped.getFirst().getName()).isEqualTo(TracingObservations.REPOSITORY);
+        assertThat(stopped.getFirst().getError()).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("Should resolve SQL constant names")
+    void shouldResolveSqlConstantNames() {
+        assertThat(SqlQueryNames.nameOf(DeckSqlQueries.SELECT_DECK_BY_ID))
+                .isEqualTo("DeckSqlQueries.SELECT_DECK_BY_ID");
+        assertThat(SqlQueryNames.nameOf("SELECT 1")).isNull();
+        assertThat(SqlQueryNames.nameOf(null)).isNull();
+    }
+
+    private static ProceedingJoinPoint joinPoint(final String methodName) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(TracingAspectTest.class);
+        when(signature.getName()).thenReturn(methodName);
+        return joinPoint;
+    }
+}
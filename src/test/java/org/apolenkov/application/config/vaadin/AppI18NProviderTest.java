@@ -0,0 +1,84 @@
+package org.apolenkov.application.config.vaadin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AppI18NProvider Tests")
+class AppI18NProviderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AppI18NProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new AppI18NProvider(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should translate key from locale table")
+    void shouldTranslateKey() {
+        assertThat(provider.getTranslation("landing.news", Locale.ENGLISH)).isEqualTo("News and updates");
+        assertThat(provider.getTranslation("landing.news", null)).isEqualTo("News and updates");
+    }
+
+    @Test
+    @DisplayName("Should format parameters with compiled pattern repeatedly")
+    void shouldFormatParameters() {
+        assertThat(provider.getTranslation("home.progress.details", Locale.ENGLISH, 3, 10))
+                .isEqualTo("3 learned of 10");
+        assertThat(provider.getTranslation("home.progress.details", Locale.ENGLISH, 5, 7))
+                .isEqualTo("5 learned of 7");
+    }
+
+    @Test
+    @DisplayName("Should resolve regional locale by language")
+    void shouldResolveRegionalLocaleByLanguage() {
+        assertThat(provider.getTranslation("landing.news", Locale.US))
+                .isEqualTo(provider.getTranslation("landing.news", Locale.ENGLISH));
+    }
+
+    @Test
+    @DisplayName("Should return key and count missing translation")
+    void shouldReturnKeyAndCountMissing() {
+        assertThat(provider.getTranslation("no.such.key", Locale.ENGLISH)).isEqualTo("no.such.key");
+        assertThat(provider.getTranslation("no.such.key", Locale.ENGLISH)).isEqualTo("no.such.key");
+
+        assertThat(meterRegistry
+                        .get("i18n.missing.keys")
+                        .tag("locale", "en")
+                        .counter()
+                        .count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should return key for unsupported locale without falling back")
+    void shouldReturnKeyForUnsupportedLocale() {
+        assertThat(provider.getTranslation("landing.news", Locale.JAPANESE)).isEqualTo("landing.news");
+        assertThat(meterRegistry
+                        .get("i18n.missing.keys")
+                        .tag("locale", "none")
+                        .counter()
+                        .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should return empty string for null key")
+    void shouldReturnEmptyForNullKey() {
+        assertThat(provider.getTranslation(null, Locale.ENGLISH)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject null meter registry")
+    void shouldRejectNullMeterRegistry() {
+        assertThatThrownBy(() -> new AppI18NProvider(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
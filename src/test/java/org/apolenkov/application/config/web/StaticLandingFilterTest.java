@@ -0,0 +1,122 @@
+package org.apolenkov.application.config.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import java.util.Locale;
+import org.apolenkov.application.config.constants.LocaleConstants;
+import org.apolenkov.application.views.landing.render.LandingPage;
+import org.apolenkov.application.views.landing.render.LandingPageRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for StaticLandingFilter.
+ * Tests session-free serving, conditional requests and pass-through of session and Vaadin requests.
+ */
+@DisplayName("StaticLandingFilter Unit Tests")
+class StaticLandingFilterTest {
+
+    private static final LandingPage PAGE = new LandingPage("<html>landing</html>", "\"abc\"");
+
+    private LandingPageRenderer renderer;
+    private StaticLandingFilter filter;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        renderer = mock(LandingPageRenderer.class);
+        when(renderer.getPage(any())).thenReturn(PAGE);
+        filter = new StaticLandingFilter(renderer, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "maxAgeSeconds", 60L);
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    @DisplayName("Should serve cached page without creating session")
+    void shouldServePageWithoutCreatingSession() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(PAGE.html());
+        assertThat(response.getHeader("ETag")).isEqualTo(PAGE.etag());
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("public, max-age=60");
+        assertThat(request.getSession(false)).isNull();
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should answer matching If-None-Match with 304")
+    void shouldAnswerNotModifiedForMatchingEtag() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", PAGE.etag());
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should render page in locale from preference cookie")
+    void shouldUseLocaleFromCookie() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setCookies(new Cookie(LocaleConstants.COOKIE_LOCALE_KEY, "ru"));
+
+        filter.doFilter(request, response, chain);
+
+        verify(renderer).getPage(Locale.forLanguageTag("ru"));
+    }
+
+    @Test
+    @DisplayName("Should pass through visitors with session")
+    void shouldPassThroughRequestsWithSession() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setSession(new MockHttpSession());
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(renderer);
+    }
+
+    @Test
+    @DisplayName("Should pass through Vaadin requests to root path")
+    void shouldPassThroughVaadinRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        request.setQueryString("v-r=uidl&v-uiId=0");
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(renderer);
+    }
+
+    @Test
+    @DisplayName("Should pass through other paths")
+    void shouldPassThroughOtherPaths() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login");
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(renderer);
+    }
+}
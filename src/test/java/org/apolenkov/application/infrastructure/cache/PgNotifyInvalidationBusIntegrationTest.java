@@ -0,0 +1,174 @@
+package org.apolenkov.application.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import org.apolenkov.application.config.TestContainersConfig;
+import org.apolenkov.application.config.cache.ClusterAwareCacheManager;
+import org.apolenkov.application.service.cache.CacheInvalidationBroadcaster;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.event.DomainEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+
+/**
+ * Integration tests for PgNotifyInvalidationBus.
+ * Tests two nodes (each with own pool, cache manager and bus) sharing real PostgreSQL database
+ * via TestContainers: an eviction on one node is delivered by NOTIFY and applied on the other.
+ * Node pools set application name, which listener pools inherit, so listening sessions of each test are found
+ * in pg_stat_activity.
+ */
+@DisplayName("PgNotifyInvalidationBus Integration Tests")
+class PgNotifyInvalidationBusIntegrationTest {
+
+    private static final String CACHE_NAME = "users";
+    private static final String LISTEN_QUERY = "LISTEN memocards_cache_invalidation";
+    private static final int POLL_TIMEOUT_MS = 30_000;
+    private static final long WAIT_TIMEOUT_MS = 10_000;
+    private static final long WAIT_STEP_MS = 50;
+
+    private static TestContainersConfig.CustomPostgreSQLContainer container;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void init() {
+        container = TestContainersConfig.CustomPostgreSQLContainer.getInstance();
+        container.start();
+    }
+
+    @BeforeEach
+    void setUp() {
+        String runId = UUID.randomUUID().toString();
+        nodeA = new Node("node-a-" + runId);
+        nodeB = new Node("node-b-" + runId);
+        nodeA.bus.start();
+        nodeB.bus.start();
+        waitUntil(() -> countListeners(nodeA.name, nodeB.name) == 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("Should evict key on other node after one NOTIFY")
+    void shouldEvictKeyOnOtherNode() {
+        Cache cacheA = nodeA.cacheManager.getCache(CACHE_NAME);
+        Cache cacheB = nodeB.cacheManager.getCache(CACHE_NAME);
+        cacheA.put(42L, "stale on A");
+        cacheB.put(42L, "stale on B");
+        cacheB.put(7L, "untouched");
+
+        cacheA.evict(42L);
+
+        waitUntil(() -> cacheB.get(42L) == null);
+        assertThat(cacheA.get(42L)).isNull();
+        assertThat(cacheB.get(7L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should clear whole cache on other node")
+    void shouldClearCacheOnOtherNode() {
+        Cache cacheB = nodeB.cacheManager.getCache(CACHE_NAME);
+        cacheB.put(1L, "first");
+        cacheB.put(2L, "second");
+
+        nodeA.cacheManager.getCache(CACHE_NAME).clear();
+
+        waitUntil(() -> cacheB.get(1L) == null && cacheB.get(2L) == null);
+    }
+
+    // ==================== Helpers ====================
+
+    private static long countListeners(final String... applicationNames) {
+        try (Connection connection = DriverManager.getConnection(
+                        container.getJdbcUrl(), container.getUsername(), container.getPassword());
+                PreparedStatement ps = connection.prepareStatement(
+                        "SELECT count(*) FROM pg_stat_activity WHERE query = ? AND application_name = ANY (?)")) {
+            ps.setString(1, LISTEN_QUERY);
+            ps.setArray(2, connection.createArrayOf("text", applicationNames));
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within timeout").isLessThan(deadline);
+            try {
+                Thread.sleep(WAIT_STEP_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Application node: own connection pool, cluster-aware cache manager and invalidation bus.
+     */
+    private static final class Node {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final CacheManager cacheManager;
+        private final PgNotifyInvalidationBus bus;
+
+        Node(final String nameValue) {
+            name = nameValue;
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(container.getJdbcUrl());
+            config.setUsername(container.getUsername());
+            config.setPassword(container.getPassword());
+            config.setPoolName(name);
+            config.addDataSourceProperty("ApplicationName", name);
+            config.setMaximumPoolSize(2);
+            dataSource = new HikariDataSource(config);
+
+            StaticListableBeanFactory beans = new StaticListableBeanFactory();
+            cacheManager = new ClusterAwareCacheManager(
+                    new ConcurrentMapCacheManager(CACHE_NAME),
+                    beans.getBeanProvider(CacheInvalidationBroadcaster.class));
+            bus = new PgNotifyInvalidationBus(
+                    dataSource,
+                    new CacheInvalidationRegistry(),
+                    beans.getBeanProvider(CacheManager.class),
+                    new DomainEventPublisher(event -> {}),
+                    new SyncTaskExecutor(),
+                    new SimpleMeterRegistry(),
+                    POLL_TIMEOUT_MS);
+            beans.addBean("cacheManager", cacheManager);
+            beans.addBean("bus", bus);
+        }
+
+        void close() {
+            bus.stop();
+            dataSource.close();
+        }
+    }
+}
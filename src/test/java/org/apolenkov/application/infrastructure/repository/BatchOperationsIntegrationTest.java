@@ -195,6 +195,48 @@ class BatchOperationsIntegrationTest extends BaseIntegrationTest {
         }
     }
 
+    @Test
+    @DisplayName("Should toggle known card in single statement")
+    void shouldToggleKnownCard() {
+        // Given: card of deck1 and card of another deck
+        Deck deck1 = createAndSaveDeck("Toggle deck");
+        Deck deck2 = createAndSaveDeck("Other deck");
+        long cardId = createCards(deck1.getId(), 1).getFirst();
+        long foreignCardId = createCards(deck2.getId(), 1).getFirst();
+
+        // When/Then: toggles return new status
+        assertThat(statsRepository.toggleCardKnown(deck1.getId(), cardId)).isTrue();
+        assertThat(statsRepository.getKnownCardIds(deck1.getId())).containsExactly(cardId);
+        assertThat(statsRepository.toggleCardKnown(deck1.getId(), cardId)).isFalse();
+        assertThat(statsRepository.getKnownCardIds(deck1.getId())).isEmpty();
+
+        // Then: card of another deck is never marked
+        assertThat(statsRepository.toggleCardKnown(deck1.getId(), foreignCardId)).isFalse();
+        assertThat(statsRepository.getKnownCardIds(deck1.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return deleted card and deck from delete statements")
+    void shouldReturnDeletedRows() {
+        // Given
+        Deck deck = createAndSaveDeck("Deleted deck");
+        long cardId = createCards(deck.getId(), 1).getFirst();
+
+        // When/Then: card delete returns deleted row once
+        assertThat(cardRepository.deleteById(cardId)).hasValueSatisfying(card -> {
+            assertThat(card.getDeckId()).isEqualTo(deck.getId());
+            assertThat(card.getFrontText()).isEqualTo("Front 0");
+        });
+        assertThat(cardRepository.deleteById(cardId)).isEmpty();
+
+        // When/Then: deck delete returns deleted row once
+        assertThat(deckRepository.deleteById(deck.getId())).hasValueSatisfying(deleted -> {
+            assertThat(deleted.getUserId()).isEqualTo(testUser.getId());
+            assertThat(deleted.getTitle()).isEqualTo("Deleted deck");
+        });
+        assertThat(deckRepository.deleteById(deck.getId())).isEmpty();
+    }
+
     /**
      * Helper: Creates and saves a deck.
      *
@@ -0,0 +1,117 @@
+package org.apolenkov.application.infrastructure.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.apolenkov.application.BaseIntegrationTest;
+import org.apolenkov.application.domain.port.CardRepository;
+import org.apolenkov.application.domain.port.DeckRepository;
+import org.apolenkov.application.domain.port.UserRepository;
+import org.apolenkov.application.model.Card;
+import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for cursor-based card streaming.
+ * Tests CardRepository.forEachByDeckId with real PostgreSQL database via TestContainers,
+ * using small fetch size so deck is read in several round trips.
+ */
+@DisplayName("Card Streaming Integration Tests")
+@TestPropertySource(properties = "app.jdbc.stream-fetch-size=" + CardStreamingIntegrationTest.FETCH_SIZE)
+class CardStreamingIntegrationTest extends BaseIntegrationTest {
+
+    static final int FETCH_SIZE = 10;
+    private static final int CARD_COUNT = 55;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private DeckRepository deckRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Deck testDeck;
+    private Deck otherDeck;
+
+    @BeforeEach
+    void setUp() {
+        User testUser = new User();
+        testUser.setEmail("stream-test-" + UUID.randomUUID() + "@example.com");
+        testUser.setPasswordHash("password");
+        testUser.setName("Stream Test User");
+        testUser = userRepository.save(testUser);
+
+        testDeck = deckRepository.save(new Deck(null, testUser.getId(), "Stream Deck", "Streamed deck"));
+        otherDeck = deckRepository.save(new Deck(null, testUser.getId(), "Other Deck", "Not streamed"));
+    }
+
+    @Test
+    @DisplayName("Should stream every card of deck across several fetches")
+    void shouldStreamAllCardsOfDeck() {
+        List<Long> expectedIds = createCards(testDeck.getId(), CARD_COUNT);
+        createCards(otherDeck.getId(), 3);
+
+        List<Card> streamed = streamInReadOnlyTransaction(testDeck.getId());
+
+        assertThat(streamed).hasSize(CARD_COUNT).allMatch(card -> card.getDeckId() == testDeck.getId());
+        assertThat(streamed).extracting(Card::getId).containsExactlyInAnyOrderElementsOf(expectedIds);
+        assertThat(streamed).allMatch(card -> card.getFrontText().startsWith("Front "));
+    }
+
+    @Test
+    @DisplayName("Should stream cards newest first")
+    void shouldStreamNewestFirst() {
+        createCards(testDeck.getId(), CARD_COUNT);
+
+        List<Card> streamed = streamInReadOnlyTransaction(testDeck.getId());
+
+        assertThat(streamed).isSortedAccordingTo(Comparator.comparing(Card::getCreatedAt).reversed());
+    }
+
+    @Test
+    @DisplayName("Should not invoke callback for empty deck")
+    void shouldNotInvokeCallbackForEmptyDeck() {
+        List<Card> streamed = streamInReadOnlyTransaction(testDeck.getId());
+
+        assertThat(streamed).isEmpty();
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Streams deck inside read-only transaction, as PostgreSQL only honours fetch size with autocommit off.
+     */
+    private List<Card> streamInReadOnlyTransaction(final long deckId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<Card> streamed = new ArrayList<>();
+        readOnly.executeWithoutResult(status -> cardRepository.forEachByDeckId(deckId, streamed::add));
+        return streamed;
+    }
+
+    private List<Long> createCards(final long deckId, final int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Card card = new Card(null, deckId, "Front " + i, "Back " + i, "Example " + i);
+            // ID is set directly on card object by save()
+            cardRepository.save(card);
+            ids.add(card.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,95 @@
+package org.apolenkov.application.infrastructure.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.apolenkov.application.BaseIntegrationTest;
+import org.apolenkov.application.domain.port.SchedulerLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for SchedulerLockJdbcAdapter.
+ * Tests conditional TRY_LOCK upsert and release against real PostgreSQL database via TestContainers.
+ */
+@DisplayName("SchedulerLockJdbcAdapter Integration Tests")
+class SchedulerLockJdbcAdapterIntegrationTest extends BaseIntegrationTest {
+
+    private static final String NODE_A = "node-a";
+    private static final String NODE_B = "node-b";
+    private static final Duration LONG_LEASE = Duration.ofMinutes(5);
+    private static final Duration SHORT_LEASE = Duration.ofMillis(100);
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String lockName;
+
+    @BeforeEach
+    void setUp() {
+        // Unique lock per test, rows of other tests never interfere
+        lockName = "it-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should acquire free lock and record owner")
+    void shouldAcquireFreeLock() {
+        assertThat(lockRepository.tryLock(lockName, NODE_A, LONG_LEASE)).isTrue();
+
+        assertThat(lockOwner()).isEqualTo(NODE_A);
+    }
+
+    @Test
+    @DisplayName("Should refuse lock held by competing owner")
+    void shouldRefuseLockHeldByCompetingOwner() {
+        lockRepository.tryLock(lockName, NODE_A, LONG_LEASE);
+
+        assertThat(lockRepository.tryLock(lockName, NODE_B, LONG_LEASE)).isFalse();
+        assertThat(lockOwner()).isEqualTo(NODE_A);
+    }
+
+    @Test
+    @DisplayName("Should take over lock after lease expired")
+    void shouldTakeOverExpiredLease() throws InterruptedException {
+        lockRepository.tryLock(lockName, NODE_A, SHORT_LEASE);
+
+        Thread.sleep(SHORT_LEASE.multipliedBy(3).toMillis());
+
+        assertThat(lockRepository.tryLock(lockName, NODE_B, LONG_LEASE)).isTrue();
+        assertThat(lockOwner()).isEqualTo(NODE_B);
+    }
+
+    @Test
+    @DisplayName("Should make lock available after release by owner")
+    void shouldReleaseLockByOwner() {
+        lockRepository.tryLock(lockName, NODE_A, LONG_LEASE);
+
+        lockRepository.unlock(lockName, NODE_A);
+
+        assertThat(lockRepository.tryLock(lockName, NODE_B, LONG_LEASE)).isTrue();
+        assertThat(lockOwner()).isEqualTo(NODE_B);
+    }
+
+    @Test
+    @DisplayName("Should ignore release by non-owner")
+    void shouldIgnoreReleaseByNonOwner() {
+        lockRepository.tryLock(lockName, NODE_A, LONG_LEASE);
+
+        lockRepository.unlock(lockName, NODE_B);
+
+        assertThat(lockRepository.tryLock(lockName, NODE_B, LONG_LEASE)).isFalse();
+        assertThat(lockOwner()).isEqualTo(NODE_A);
+    }
+
+    private String lockOwner() {
+        return jdbcTemplate.queryForObject(
+                "SELECT locked_by FROM scheduler_locks WHERE name = ?", String.class, lockName);
+    }
+}
@@ -0,0 +1,131 @@
+package org.apolenkov.application.infrastructure.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.apolenkov.application.BaseIntegrationTest;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.domain.port.CardRepository;
+import org.apolenkov.application.domain.port.DeckRepository;
+import org.apolenkov.application.domain.port.StatsRepository;
+import org.apolenkov.application.domain.port.UserRepository;
+import org.apolenkov.application.model.Card;
+import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for soft delete of users and decks.
+ * Tests hiding, re-registration with the same email and background purge against real PostgreSQL database
+ * via TestContainers.
+ */
+@DisplayName("Soft Delete Integration Tests")
+class SoftDeleteIntegrationTest extends BaseIntegrationTest {
+
+    private static final int PURGE_LIMIT = 1000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DeckRepository deckRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String email;
+    private User user;
+    private Deck deck;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        email = "soft-delete-" + UUID.randomUUID() + "@example.com";
+        user = userRepository.save(newUser(email));
+        deck = deckRepository.save(new Deck(null, user.getId(), "Doomed Deck", "Deleted by test"));
+        card = new Card(null, deck.getId(), "Front", "Back", "Example");
+        cardRepository.save(card);
+        statsRepository.setCardKnown(deck.getId(), card.getId(), true);
+    }
+
+    @Test
+    @DisplayName("Should hide soft-deleted user and keep row until purge")
+    void shouldHideDeletedUser() {
+        userRepository.deleteById(user.getId());
+
+        assertThat(userRepository.findByEmail(email)).isEmpty();
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(deckRepository.findById(deck.getId())).isEmpty();
+        assertThat(countRows("users", user.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should allow re-registration with email of soft-deleted user")
+    void shouldAllowReRegistrationAfterDelete() {
+        userRepository.deleteById(user.getId());
+
+        User reRegistered = userRepository.save(newUser(email));
+
+        assertThat(reRegistered.getId()).isNotEqualTo(user.getId());
+        assertThat(userRepository.findByEmail(email))
+                .get()
+                .extracting(User::getId)
+                .isEqualTo(reRegistered.getId());
+    }
+
+    @Test
+    @DisplayName("Should hide cards and known cards of soft-deleted deck")
+    void shouldHideContentOfDeletedDeck() {
+        deckRepository.deleteById(deck.getId());
+
+        assertThat(cardRepository.countByDeckId(deck.getId())).isZero();
+        assertThat(cardRepository.countByDeckIds(List.of(deck.getId()))).isEmpty();
+        assertThat(cardRepository.countCardsWithFilter(deck.getId(), null, FilterOption.ALL))
+                .isZero();
+        assertThat(statsRepository.getKnownCardIds(deck.getId())).isEmpty();
+        assertThat(statsRepository.getKnownCardIdsBatch(List.of(deck.getId())))
+                .doesNotContainKey(deck.getId());
+        assertThat(countRows("cards", card.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should purge deleted deck content and then deleted user")
+    void shouldPurgeDeletedUser() {
+        userRepository.deleteById(user.getId());
+
+        // User with unpurged decks is not purged yet
+        assertThat(userRepository.purgeDeletedChunk(user.getId() - 1, 1)).doesNotContain(user.getId());
+
+        while (countRows("decks", deck.getId()) > 0) {
+            deckRepository.purgeDeletedChunk(deck.getId(), PURGE_LIMIT);
+        }
+        List<Long> purged = userRepository.purgeDeletedChunk(user.getId() - 1, 1);
+
+        assertThat(purged).containsExactly(user.getId());
+        assertThat(countRows("cards", card.getId())).isZero();
+        assertThat(countRows("users", user.getId())).isZero();
+    }
+
+    private static User newUser(final String emailValue) {
+        User newUser = new User();
+        newUser.setEmail(emailValue);
+        newUser.setPasswordHash("password");
+        newUser.setName("Soft Delete Test User");
+        return newUser;
+    }
+
+    private Integer countRows(final String table, final long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+}
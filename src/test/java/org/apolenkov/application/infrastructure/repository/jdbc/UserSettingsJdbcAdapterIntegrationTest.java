@@ -0,0 +1,111 @@
+package org.apolenkov.application.infrastructure.repository.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.apolenkov.application.BaseIntegrationTest;
+import org.apolenkov.application.domain.port.UserRepository;
+import org.apolenkov.application.domain.port.UserSettingsRepository;
+import org.apolenkov.application.model.PracticeDirection;
+import org.apolenkov.application.model.PracticeSettings;
+import org.apolenkov.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for practice settings columns of UserSettingsJdbcAdapter.
+ * Tests upserts against real PostgreSQL database via TestContainers.
+ */
+@DisplayName("UserSettingsJdbcAdapter Integration Tests")
+class UserSettingsJdbcAdapterIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private UserSettingsRepository userSettingsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("settings-test-" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("password");
+        user.setName("Settings Test User");
+        userId = userRepository.save(user).getId();
+    }
+
+    @Test
+    @DisplayName("Should return empty settings for user without settings row")
+    void shouldReturnEmptyWithoutRow() {
+        assertThat(userSettingsRepository.findPracticeSettings(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should insert and read back practice settings")
+    void shouldInsertPracticeSettings() {
+        PracticeSettings settings = new PracticeSettings(25, false, PracticeDirection.BACK_TO_FRONT);
+
+        userSettingsRepository.savePracticeSettings(userId, settings);
+
+        assertThat(userSettingsRepository.findPracticeSettings(userId)).contains(settings);
+    }
+
+    @Test
+    @DisplayName("Should update practice settings in place")
+    void shouldUpdatePracticeSettings() {
+        userSettingsRepository.savePracticeSettings(
+                userId, new PracticeSettings(5, true, PracticeDirection.FRONT_TO_BACK));
+        PracticeSettings updated = new PracticeSettings(40, false, PracticeDirection.BACK_TO_FRONT);
+
+        userSettingsRepository.savePracticeSettings(userId, updated);
+
+        assertThat(userSettingsRepository.findPracticeSettings(userId)).contains(updated);
+        assertThat(countSettingsRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep preferred locale when practice settings are saved")
+    void shouldKeepLocaleOnPracticeSettingsSave() {
+        userSettingsRepository.savePreferredLocaleCode(userId, "ru");
+
+        userSettingsRepository.savePracticeSettings(
+                userId, new PracticeSettings(15, true, PracticeDirection.BACK_TO_FRONT));
+
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT preferred_locale_code FROM user_settings WHERE user_id = ?", String.class, userId))
+                .isEqualTo("ru");
+    }
+
+    @Test
+    @DisplayName("Should apply column defaults to row created by locale save")
+    void shouldDefaultPracticeColumnsForLocaleRow() {
+        userSettingsRepository.savePreferredLocaleCode(userId, "en");
+
+        assertThat(userSettingsRepository.findPracticeSettings(userId)).contains(PracticeSettings.DEFAULTS);
+    }
+
+    @Test
+    @DisplayName("Should keep practice settings when locale is saved")
+    void shouldKeepPracticeSettingsOnLocaleSave() {
+        PracticeSettings settings = new PracticeSettings(30, false, PracticeDirection.BACK_TO_FRONT);
+        userSettingsRepository.savePracticeSettings(userId, settings);
+
+        userSettingsRepository.savePreferredLocaleCode(userId, "ru");
+
+        assertThat(userSettingsRepository.findPracticeSettings(userId)).contains(settings);
+        assertThat(countSettingsRows()).isEqualTo(1);
+    }
+
+    private Integer countSettingsRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_settings WHERE user_id = ?", Integer.class, userId);
+    }
+}
@@ -0,0 +1,113 @@
+package org.apolenkov.application.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("CacheInvalidationRegistry Tests")
+class CacheInvalidationRegistryTest {
+
+    private CacheInvalidationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CacheInvalidationRegistry();
+    }
+
+    @Test
+    @DisplayName("Entry cached before remote invalidation is stale")
+    void shouldMarkEntryStaleAfterRemoteInvalidation() {
+        Instant cachedAt = Instant.now().minusSeconds(1);
+
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.DECKS, "42");
+
+        assertThat(registry.isStale(CacheInvalidationRegistry.DECKS, 42L, cachedAt))
+                .isTrue();
+        assertThat(registry.isStale(CacheInvalidationRegistry.DECKS, 7L, cachedAt))
+                .isFalse();
+        assertThat(registry.isStale(CacheInvalidationRegistry.KNOWN_CARDS, 42L, cachedAt))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Entry cached after remote invalidation is fresh")
+    void shouldKeepEntryCachedAfterInvalidation() {
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.DECKS, "42");
+
+        Instant cachedAt = Instant.now().plusSeconds(1);
+
+        assertThat(registry.isStale(CacheInvalidationRegistry.DECKS, 42L, cachedAt))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Resync marks all previously cached entries stale")
+    void shouldMarkEverythingStaleOnResync() {
+        Instant cachedAt = Instant.now().minusSeconds(1);
+
+        registry.resync();
+
+        assertThat(registry.isStale(CacheInvalidationRegistry.PAGINATION_COUNT, 1L, cachedAt))
+                .isTrue();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Whole-cache invalidation clears only the named session cache")
+    void shouldClearOnlyNamedCache() {
+        Instant cachedAt = Instant.now().minusSeconds(1);
+
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.KNOWN_CARDS, null);
+
+        assertThat(registry.isStale(CacheInvalidationRegistry.KNOWN_CARDS, 1L, cachedAt))
+                .isTrue();
+        assertThat(registry.isStale(CacheInvalidationRegistry.DECKS, 1L, cachedAt))
+                .isFalse();
+        assertThat(registry.isStale(CacheInvalidationRegistry.KNOWN_CARDS, 1L, Instant.now().plusSeconds(1)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Application cache names are not recorded")
+    void shouldIgnoreApplicationCaches() {
+        Instant cachedAt = Instant.now().minusSeconds(1);
+
+        registry.recordRemoteInvalidation("users", null);
+        registry.recordRemoteInvalidation("users", "42");
+
+        assertThat(registry.size()).isZero();
+        assertThat(CacheInvalidationRegistry.isSessionCache("users")).isFalse();
+        assertThat(registry.isStale(CacheInvalidationRegistry.DECKS, 42L, cachedAt))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Overflow degrades to resync instead of growing")
+    void shouldResyncWhenRegistryOverflows() {
+        ReflectionTestUtils.setField(registry, "maxEntries", 2);
+        Instant cachedAt = Instant.now().minusSeconds(1);
+
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.DECKS, "1");
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.DECKS, "2");
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.DECKS, "3");
+
+        assertThat(registry.size()).isZero();
+        assertThat(registry.isStale(CacheInvalidationRegistry.DECKS, 99L, cachedAt))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Prune removes records older than retention")
+    void shouldPruneExpiredRecords() {
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.DECKS, "1");
+        ReflectionTestUtils.setField(registry, "retentionMs", -1_000L);
+
+        registry.pruneExpired();
+
+        assertThat(registry.size()).isZero();
+    }
+}
@@ -0,0 +1,182 @@
+package org.apolenkov.application.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.VaadinSession;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apolenkov.application.config.ui.UIConfig;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.domain.port.StatsRepository;
+import org.apolenkov.application.domain.usecase.CardUseCase;
+import org.apolenkov.application.service.stats.KnownCardsCache;
+import org.apolenkov.application.service.stats.PaginationCountCache;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for DeckPrefetchService.
+ * Tests cache filling, joining, cancellation, throttling and hit/waste accounting.
+ */
+@DisplayName("DeckPrefetchService Unit Tests")
+class DeckPrefetchServiceTest {
+
+    private static final long DECK_ID = 1L;
+    private static final long OTHER_DECK_ID = 2L;
+    private static final int PAGE_SIZE = 50;
+    private static final long WAIT_MS = 2000;
+
+    private MeterRegistry meterRegistry;
+    private KnownCardsCache knownCardsCache;
+    private PaginationCountCache countCache;
+    private DeckPageCache pageCache;
+    private DeckPrefetchService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        knownCardsCache = mock(KnownCardsCache.class);
+        countCache = mock(PaginationCountCache.class);
+        pageCache = mock(DeckPageCache.class);
+        when(knownCardsCache.getKnownCards(any(), any())).thenReturn(Set.of(10L));
+        when(countCache.getCounts(any(), eq(FilterOption.ALL), any())).thenReturn(Map.of(DECK_ID, 3L));
+        when(pageCache.getPage(any(), any(), anyInt(), anyInt(), any())).thenReturn(List.of());
+
+        ObjectProvider<KnownCardsCache> knownProvider = mock(ObjectProvider.class);
+        ObjectProvider<PaginationCountCache> countProvider = mock(ObjectProvider.class);
+        ObjectProvider<DeckPageCache> pageProvider = mock(ObjectProvider.class);
+        when(knownProvider.getObject()).thenReturn(knownCardsCache);
+        when(countProvider.getObject()).thenReturn(countCache);
+        when(pageProvider.getObject()).thenReturn(pageCache);
+
+        service = new DeckPrefetchService(
+                mock(CardUseCase.class),
+                mock(StatsRepository.class),
+                knownProvider,
+                countProvider,
+                pageProvider,
+                new UIConfig(new UIConfig.Search(300), new UIConfig.Pagination(PAGE_SIZE)),
+                meterRegistry,
+                2);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "intentDelayMs", 0L);
+        ReflectionTestUtils.setField(service, "minIntervalMs", 0L);
+        ReflectionTestUtils.setField(service, "ttlMs", 30000L);
+        ReflectionTestUtils.setField(service, "awaitTimeoutMs", WAIT_MS);
+
+        CurrentInstance.set(VaadinSession.class, mock(VaadinSession.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    private double prefetches(final String result) {
+        return meterRegistry.get("cache.prefetch").tag("result", result).counter().count();
+    }
+
+    private double usage(final String result) {
+        return meterRegistry
+                .get("cache.prefetch.usage")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Should fill session caches and count hit when deck is opened")
+    void shouldFillCachesAndCountHitOnJoin() {
+        service.prefetch(DECK_ID);
+
+        verify(pageCache, timeout(WAIT_MS))
+                .getPage(eq(DECK_ID), eq(FilterOption.UNKNOWN_ONLY), eq(0), eq(PAGE_SIZE), any());
+        service.join(DECK_ID);
+
+        verify(countCache).preload(DECK_ID, FilterOption.KNOWN_ONLY, 1L);
+        verify(countCache).preload(DECK_ID, FilterOption.UNKNOWN_ONLY, 2L);
+        assertThat(prefetches("started")).isEqualTo(1.0);
+        assertThat(usage("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not prefetch warm deck again")
+    void shouldNotPrefetchWarmDeckAgain() {
+        service.prefetch(DECK_ID);
+        verify(pageCache, timeout(WAIT_MS)).getPage(any(), any(), anyInt(), anyInt(), any());
+
+        service.prefetch(DECK_ID);
+
+        verify(pageCache, after(200).times(1)).getPage(any(), any(), anyInt(), anyInt(), any());
+        assertThat(prefetches("started")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should cancel pending prefetch when intent is lost")
+    void shouldCancelPendingPrefetchWhenIntentIsLost() {
+        ReflectionTestUtils.setField(service, "intentDelayMs", 200L);
+
+        service.prefetch(DECK_ID);
+        service.cancel(DECK_ID);
+
+        verify(knownCardsCache, after(500).never()).getKnownCards(any(), any());
+        assertThat(prefetches("cancelled")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should throttle prefetches started within minimum interval")
+    void shouldThrottlePrefetchesWithinMinInterval() {
+        ReflectionTestUtils.setField(service, "minIntervalMs", 60000L);
+
+        service.prefetch(DECK_ID);
+        service.prefetch(OTHER_DECK_ID);
+
+        assertThat(prefetches("throttled")).isEqualTo(1.0);
+        verify(pageCache, timeout(WAIT_MS).times(1)).getPage(any(), any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should count prefetch expired unused as waste")
+    void shouldCountExpiredPrefetchAsWaste() throws InterruptedException {
+        ReflectionTestUtils.setField(service, "ttlMs", 0L);
+        service.prefetch(DECK_ID);
+        verify(pageCache, timeout(WAIT_MS)).getPage(any(), any(), anyInt(), anyInt(), any());
+        Thread.sleep(50);
+
+        service.join(DECK_ID);
+
+        assertThat(usage("waste")).isEqualTo(1.0);
+        assertThat(usage("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should do nothing without Vaadin session")
+    void shouldDoNothingWithoutSession() {
+        CurrentInstance.clearAll();
+
+        service.prefetch(DECK_ID);
+        service.join(DECK_ID);
+
+        verify(knownCardsCache, after(200).never()).getKnownCards(anyLong(), any());
+        assertThat(prefetches("started")).isZero();
+    }
+}
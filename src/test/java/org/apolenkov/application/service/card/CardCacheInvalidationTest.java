@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.Optional;
 import org.apolenkov.application.domain.port.CardRepository;
 import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.apolenkov.application.service.stats.PaginationCountCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,7 +43,11 @@ class CardCacheInvalidationTest {
 
     @BeforeEach
     void setUp() {
-        service = new CardUseCaseService(cardRepository, validator, paginationCountCache, eventPublisher);
+        service = new CardUseCaseService(
+                cardRepository,
+                validator,
+                paginationCountCache,
+                new DomainEventPublisher(eventPublisher));
     }
 
     @Test
@@ -96,7 +101,7 @@ class CardCacheInvalidationTest {
         card.setFrontText("To be deleted");
         card.setBackText("Will be removed");
 
-        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(cardRepository.deleteById(cardId)).thenReturn(Optional.of(card));
 
         // When
         service.deleteCard(cardId);
@@ -111,7 +116,7 @@ class CardCacheInvalidationTest {
     void shouldNotInvalidateCacheWhenCardNotFound() {
         // Given
         long cardId = 99L;
-        when(cardRepository.findById(cardId)).thenReturn(Optional.empty());
+        when(cardRepository.deleteById(cardId)).thenReturn(Optional.empty());
 
         // When
         service.deleteCard(cardId);
@@ -2,14 +2,17 @@ package org.apolenkov.application.service.deck;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.validation.Validator;
 import java.util.List;
 import java.util.Optional;
-import org.apolenkov.application.domain.port.CardRepository;
 import org.apolenkov.application.domain.port.DeckRepository;
 import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,9 +28,6 @@ class DeckUseCaseServiceTest {
     @Mock
     private DeckRepository deckRepository;
 
-    @Mock
-    private CardRepository cardRepository;
-
     @Mock
     private Validator validator;
 
@@ -38,7 +38,10 @@ class DeckUseCaseServiceTest {
 
     @BeforeEach
     void setUp() {
-        deckUseCaseService = new DeckUseCaseService(deckRepository, cardRepository, validator, eventPublisher);
+        deckUseCaseService = new DeckUseCaseService(
+                deckRepository,
+                validator,
+                new DomainEventPublisher(eventPublisher));
     }
 
     @Test
@@ -91,12 +94,28 @@ class DeckUseCaseServiceTest {
     void shouldDeleteDeck() {
         // Given
         long deckId = 1L;
+        when(deckRepository.deleteById(deckId)).thenReturn(Optional.of(new Deck(deckId, 1L, "Deck", "Description")));
+
+        // When
+        deckUseCaseService.deleteDeck(deckId);
+
+        // Then - deck is soft-deleted in one statement, content is left to background purge
+        verify(deckRepository).deleteById(deckId);
+        verify(deckRepository, never()).findById(deckId);
+    }
+
+    @Test
+    @DisplayName("Should ignore deletion of missing deck")
+    void shouldIgnoreMissingDeckDeletion() {
+        // Given
+        long deckId = 1L;
+        when(deckRepository.deleteById(deckId)).thenReturn(Optional.empty());
 
         // When
         deckUseCaseService.deleteDeck(deckId);
 
-        // Then - no exception should be thrown
-        assertThat(deckId).isEqualTo(1L); // Just to verify test runs
+        // Then - no audit event for missing deck
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
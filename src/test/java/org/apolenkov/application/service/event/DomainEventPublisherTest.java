@@ -0,0 +1,92 @@
+package org.apolenkov.application.service.event;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.apolenkov.application.domain.event.ProgressChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DomainEventPublisher Tests")
+class DomainEventPublisherTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DomainEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new DomainEventPublisher(eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish immediately without transaction")
+    void shouldPublishImmediatelyWithoutTransaction() {
+        ProgressChangedEvent event = new ProgressChangedEvent(this, 1L);
+
+        publisher.publish(event);
+
+        verify(eventPublisher).publishEvent(event);
+    }
+
+    @Test
+    @DisplayName("Should defer events until commit and coalesce duplicates")
+    void shouldDeferAndCoalesceUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish(new ProgressChangedEvent(this, 1L));
+        publisher.publish(new ProgressChangedEvent(this, 1L));
+        publisher.publish(new ProgressChangedEvent(this, 2L));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+            sync.afterCommit();
+            sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        });
+
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should discard events on rollback")
+    void shouldDiscardEventsOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish(new ProgressChangedEvent(this, 1L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    @DisplayName("Should reject null event")
+    void shouldRejectNullEvent() {
+        assertThatThrownBy(() -> publisher.publish(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Event cannot be null");
+    }
+}
@@ -0,0 +1,65 @@
+package org.apolenkov.application.service.housekeeping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apolenkov.application.domain.port.DeckRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeletedDecksPurgeTask Tests")
+class DeletedDecksPurgeTaskTest {
+
+    @Mock
+    private DeckRepository deckRepository;
+
+    private DeletedDecksPurgeTask task;
+
+    @BeforeEach
+    void setUp() {
+        task = new DeletedDecksPurgeTask(deckRepository);
+    }
+
+    @Test
+    @DisplayName("Should stay on deck until its content is purged")
+    void shouldStayOnUnfinishedDeck() {
+        when(deckRepository.findNextDeletedId(0L)).thenReturn(Optional.of(7L));
+        when(deckRepository.purgeDeletedChunk(7L, 100)).thenReturn(100);
+
+        HousekeepingTask.Chunk chunk = task.purgeChunk(0L, 100);
+
+        assertThat(chunk.purged()).isEqualTo(100);
+        assertThat(chunk.cursor()).isEqualTo(6L);
+        assertThat(chunk.exhausted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should move past deck once it is purged")
+    void shouldMovePastFinishedDeck() {
+        when(deckRepository.findNextDeletedId(6L)).thenReturn(Optional.of(7L));
+        when(deckRepository.purgeDeletedChunk(7L, 100)).thenReturn(41);
+
+        HousekeepingTask.Chunk chunk = task.purgeChunk(6L, 100);
+
+        assertThat(chunk.purged()).isEqualTo(41);
+        assertThat(chunk.cursor()).isEqualTo(7L);
+        assertThat(chunk.exhausted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report exhaustion when no deleted deck is left")
+    void shouldBeExhaustedWithoutDeletedDecks() {
+        when(deckRepository.findNextDeletedId(7L)).thenReturn(Optional.empty());
+
+        HousekeepingTask.Chunk chunk = task.purgeChunk(7L, 100);
+
+        assertThat(chunk.purged()).isZero();
+        assertThat(chunk.exhausted()).isTrue();
+    }
+}
@@ -0,0 +1,187 @@
+package org.apolenkov.application.service.housekeeping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.apolenkov.application.domain.port.SchedulerLockRepository;
+import org.apolenkov.application.service.scheduling.ClusterLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HousekeepingService Tests")
+class HousekeepingServiceTest {
+
+    @Mock
+    private SchedulerLockRepository lockRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Duration> pauses = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should purge in keyset chunks with pause between them")
+    void shouldPurgeInKeysetChunks() {
+        when(lockRepository.tryLock(eq("housekeeping:test"), anyString(), any())).thenReturn(true);
+        FakeTask task = new FakeTask(LongStream.rangeClosed(1, 25));
+        HousekeepingService service = service(task, Duration.ofMinutes(5));
+
+        long purged = service.runTask(task);
+
+        assertThat(purged).isEqualTo(25);
+        assertThat(task.rows).isEmpty();
+        assertThat(task.cursors).containsExactly(0L, 10L, 20L);
+        assertThat(pauses).containsExactly(Duration.ofMillis(50), Duration.ofMillis(50));
+        assertThat(meterRegistry
+                        .get("housekeeping.rows.purged")
+                        .tag("task", "test")
+                        .counter()
+                        .count())
+                .isEqualTo(25.0);
+        assertThat(meterRegistry
+                        .get("housekeeping.run")
+                        .tag("outcome", "completed")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        verify(lockRepository).unlock("housekeeping:test", "node-1");
+    }
+
+    @Test
+    @DisplayName("Should skip task locked by another node")
+    void shouldSkipLockedTask() {
+        when(lockRepository.tryLock(anyString(), anyString(), any())).thenReturn(false);
+        FakeTask task = new FakeTask(LongStream.rangeClosed(1, 5));
+
+        long purged = service(task, Duration.ofMinutes(5)).runTask(task);
+
+        assertThat(purged).isZero();
+        assertThat(task.rows).hasSize(5);
+        verify(lockRepository, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should double pause after slow chunks")
+    void shouldBackOffAfterSlowChunks() {
+        when(lockRepository.tryLock(anyString(), anyString(), any())).thenReturn(true);
+        FakeTask task = new FakeTask(LongStream.rangeClosed(1, 25));
+        task.chunkTime = Duration.ofSeconds(1);
+
+        service(task, Duration.ofMinutes(5)).runTask(task);
+
+        assertThat(pauses).containsExactly(Duration.ofMillis(100), Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Should stop when run time budget is used up")
+    void shouldStopAtBudget() {
+        when(lockRepository.tryLock(anyString(), anyString(), any())).thenReturn(true);
+        FakeTask task = new FakeTask(LongStream.rangeClosed(1, 100));
+        task.chunkTime = Duration.ofSeconds(1);
+
+        long purged = service(task, Duration.ofMillis(1500)).runTask(task);
+
+        assertThat(purged).isEqualTo(20);
+        assertThat(meterRegistry
+                        .get("housekeeping.run")
+                        .tag("outcome", "budget")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry failed chunks and give up after max retries")
+    void shouldGiveUpAfterRetries() {
+        when(lockRepository.tryLock(anyString(), anyString(), any())).thenReturn(true);
+        HousekeepingTask failing = new HousekeepingTask() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public Chunk purgeChunk(final long cursor, final int limit) {
+                throw new QueryTimeoutException("canceling statement due to statement timeout");
+            }
+        };
+
+        long purged = service(failing, Duration.ofMinutes(5)).runTask(failing);
+
+        assertThat(purged).isZero();
+        assertThat(pauses).hasSize(2);
+        assertThat(meterRegistry
+                        .get("housekeeping.run")
+                        .tag("outcome", "failed")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        verify(lockRepository).unlock(eq("housekeeping:failing"), anyString());
+    }
+
+    private HousekeepingService service(final HousekeepingTask task, final Duration maxRunTime) {
+        HousekeepingService.Settings settings = new HousekeepingService.Settings(
+                10, Duration.ofMillis(50), Duration.ofSeconds(5), Duration.ofMillis(500), maxRunTime, 2);
+        ClusterLockService lockService = new ClusterLockService(lockRepository, meterRegistry, "node-1");
+        return new HousekeepingService(List.of(task), lockService, meterRegistry, settings, clock::get, d -> {
+            pauses.add(d);
+            clock.addAndGet(d.toNanos());
+        });
+    }
+
+    /**
+     * Task deleting from an in-memory table, advancing the fake clock per chunk.
+     */
+    private final class FakeTask implements HousekeepingTask {
+
+        private final TreeSet<Long> rows = new TreeSet<>();
+        private final List<Long> cursors = new ArrayList<>();
+        private Duration chunkTime = Duration.ZERO;
+
+        FakeTask(final LongStream ids) {
+            ids.forEach(rows::add);
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public Chunk purgeChunk(final long cursor, final int limit) {
+            cursors.add(cursor);
+            clock.addAndGet(chunkTime.toNanos());
+            List<Long> deleted = new ArrayList<>();
+            for (Long id : rows.tailSet(cursor, false)) {
+                if (deleted.size() == limit) {
+                    break;
+                }
+                deleted.add(id);
+            }
+            deleted.forEach(rows::remove);
+            return Chunk.ofDeletedIds(deleted, cursor, limit);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.apolenkov.application.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apolenkov.application.config.cache.CacheConfiguration;
+import org.apolenkov.application.domain.event.NewsChangedEvent;
+import org.apolenkov.application.model.NewsSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Unit tests for LatestNewsCache.
+ * Tests shared caching of newest news and eviction on news changes.
+ */
+@DisplayName("LatestNewsCache Unit Tests")
+class LatestNewsCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<List<NewsSummary>> loader = () -> {
+        loads.incrementAndGet();
+        return List.of(new NewsSummary(1L, "Title", "Excerpt", false, "Author", LocalDateTime.now()));
+    };
+
+    private LatestNewsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LatestNewsCache(new CaffeineCacheManager(CacheConfiguration.LATEST_NEWS_CACHE));
+    }
+
+    @Test
+    @DisplayName("Should load newest news once for all callers")
+    void shouldLoadOnceForAllCallers() {
+        List<NewsSummary> first = cache.get(loader);
+        List<NewsSummary> second = cache.get(loader);
+
+        assertThat(second).isSameAs(first).hasSize(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reload newest news after news changed")
+    void shouldReloadAfterNewsChanged() {
+        cache.get(loader);
+
+        cache.onNewsChanged(new NewsChangedEvent(this, null, NewsChangedEvent.ChangeType.CREATED));
+        cache.get(loader);
+
+        assertThat(loads).hasValue(2);
+    }
+}
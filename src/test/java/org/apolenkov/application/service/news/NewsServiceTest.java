@@ -2,6 +2,10 @@ package org.apolenkov.application.service.news;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,8 +14,13 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import org.apolenkov.application.domain.event.NewsChangedEvent;
+import org.apolenkov.application.domain.model.NewsCursor;
+import org.apolenkov.application.domain.model.NewsPage;
 import org.apolenkov.application.domain.port.NewsRepository;
 import org.apolenkov.application.model.News;
+import org.apolenkov.application.model.NewsSummary;
+import org.apolenkov.application.service.event.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,11 +40,17 @@ class NewsServiceTest {
     @Mock
     private NewsRepository newsRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private LatestNewsCache latestNewsCache;
+
     private NewsService newsService;
 
     @BeforeEach
     void setUp() {
-        newsService = new NewsService(newsRepository);
+        newsService = new NewsService(newsRepository, eventPublisher, latestNewsCache);
     }
 
     @Test
@@ -71,6 +86,48 @@ class NewsServiceTest {
         verify(newsRepository).findAllOrderByCreatedDesc();
     }
 
+    @Test
+    @DisplayName("Should return next cursor when more news follow the page")
+    void shouldReturnNextCursorWhenMoreNewsFollow() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        NewsSummary first = new NewsSummary(3L, "Title 3", "Excerpt", false, "Author", now);
+        NewsSummary second = new NewsSummary(2L, "Title 2", "Excerpt", false, "Author", now.minusHours(1));
+        NewsSummary third = new NewsSummary(1L, "Title 1", "Excerpt", false, "Author", now.minusHours(2));
+        when(newsRepository.findSummaries(isNull(), isNull(), eq(3), anyInt()))
+                .thenReturn(List.of(first, second, third));
+
+        // When
+        NewsPage page = newsService.getNewsPage(null, null, 2);
+
+        // Then
+        assertThat(page.items()).containsExactly(first, second);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new NewsCursor(second.createdAt(), 2L));
+    }
+
+    @Test
+    @DisplayName("Should return last page without cursor")
+    void shouldReturnLastPageWithoutCursor() {
+        // Given
+        NewsCursor cursor = new NewsCursor(LocalDateTime.now(), 5L);
+        NewsSummary item = new NewsSummary(4L, "Title", "Excerpt", true, "Author", LocalDateTime.now());
+        when(newsRepository.findSummaries(eq(cursor), eq("query"), eq(3), anyInt())).thenReturn(List.of(item));
+
+        // When
+        NewsPage page = newsService.getNewsPage(cursor, "query", 2);
+
+        // Then
+        assertThat(page.items()).containsExactly(item);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive page size")
+    void shouldRejectNonPositivePageSize() {
+        assertThatThrownBy(() -> newsService.getNewsPage(null, null, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("Should create news with valid data")
     void shouldCreateNewsWithValidData() {
@@ -180,6 +237,10 @@ class NewsServiceTest {
 
         // Then
         verify(newsRepository).deleteById(newsId);
+        ArgumentCaptor<NewsChangedEvent> eventCaptor = ArgumentCaptor.forClass(NewsChangedEvent.class);
+        verify(eventPublisher).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getNewsId()).isEqualTo(newsId);
+        assertThat(eventCaptor.getValue().getChangeType()).isEqualTo(NewsChangedEvent.ChangeType.DELETED);
     }
 
     @Test
@@ -194,5 +255,6 @@ class NewsServiceTest {
 
         // Verify deleteById was never called
         verify(newsRepository, never()).deleteById(newsId);
+        verify(eventPublisher, never()).publish(any());
     }
 }
@@ -0,0 +1,154 @@
+package org.apolenkov.application.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Unit tests for QueryFanOut.
+ * Tests concurrent branches, deadline fallbacks, failures and budget overflow.
+ */
+@DisplayName("QueryFanOut Unit Tests")
+class QueryFanOutTest {
+
+    private static final long DEADLINE_MS = 200;
+
+    private MeterRegistry meterRegistry;
+    private QueryFanOut fanOut;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fanOut = new QueryFanOut(ObservationRegistry.create(), meterRegistry, 4, DEADLINE_MS);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        SecurityContextHolder.clearContext();
+    }
+
+    private <T> T blocked(final T value) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private double branches(final String result) {
+        return meterRegistry.get("query.fanout.branches").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should run branches concurrently")
+    void shouldRunBranchesConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (QueryFanOut.Scope scope = fanOut.open("test")) {
+            QueryFanOut.Branch<Boolean> first = scope.fork("first", () -> {
+                bothStarted.countDown();
+                return await(bothStarted);
+            });
+            QueryFanOut.Branch<Boolean> second = scope.fork("second", () -> {
+                bothStarted.countDown();
+                return await(bothStarted);
+            });
+
+            // Each branch only finishes if the other one runs at the same time
+            assertThat(first.get()).isTrue();
+            assertThat(second.get()).isTrue();
+        }
+        assertThat(branches("completed")).isEqualTo(2);
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+        try {
+            return latch.await(DEADLINE_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("Should return fallback when optional branch misses deadline")
+    void shouldReturnFallbackOnDeadline() {
+        try (QueryFanOut.Scope scope = fanOut.open("test")) {
+            QueryFanOut.Branch<List<String>> slow = scope.fork("slow", () -> blocked(List.of("late")), List.of());
+            QueryFanOut.Branch<String> fast = scope.fork("fast", () -> "ok");
+
+            assertThat(fast.get()).isEqualTo("ok");
+            assertThat(slow.get()).isEmpty();
+        }
+        assertThat(branches("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail when required branch misses deadline")
+    void shouldFailRequiredBranchOnDeadline() {
+        try (QueryFanOut.Scope scope = fanOut.open("test")) {
+            QueryFanOut.Branch<String> slow = scope.fork("slow", () -> blocked("late"));
+
+            assertThatThrownBy(slow::get).isInstanceOf(QueryDeadlineExceededException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should propagate branch failure")
+    void shouldPropagateFailure() {
+        try (QueryFanOut.Scope scope = fanOut.open("test")) {
+            QueryFanOut.Branch<String> failing = scope.fork("failing", () -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThatThrownBy(failing::get).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        }
+        assertThat(branches("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run branch inline when budget is exhausted")
+    void shouldRunInlineWhenBudgetExhausted() {
+        QueryFanOut single = new QueryFanOut(ObservationRegistry.create(), meterRegistry, 1, DEADLINE_MS);
+
+        try (QueryFanOut.Scope scope = single.open("test")) {
+            scope.fork("slow", () -> blocked("late"), "fallback");
+            QueryFanOut.Branch<String> inline =
+                    scope.fork("inline", () -> Thread.currentThread().getName());
+
+            assertThat(inline.get()).isEqualTo(Thread.currentThread().getName());
+        }
+        assertThat(branches("inline")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should propagate security context to branches")
+    void shouldPropagateSecurityContext() {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("user@example.com", null, List.of()));
+
+        try (QueryFanOut.Scope scope = fanOut.open("test")) {
+            QueryFanOut.Branch<String> user = scope.fork(
+                    "user",
+                    () -> SecurityContextHolder.getContext().getAuthentication().getName());
+
+            assertThat(user.get()).isEqualTo("user@example.com");
+        }
+    }
+}
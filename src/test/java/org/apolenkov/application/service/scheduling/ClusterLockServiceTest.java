@@ -0,0 +1,126 @@
+package org.apolenkov.application.service.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apolenkov.application.domain.port.SchedulerLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterLockService Tests")
+class ClusterLockServiceTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Mock
+    private SchedulerLockRepository lockRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClusterLockService lockService;
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockService = new ClusterLockService(lockRepository, meterRegistry, "node-1");
+    }
+
+    @Test
+    @DisplayName("Should run job and release lock when acquired")
+    void shouldRunWhenAcquired() {
+        when(lockRepository.tryLock("rollup", "node-1", LEASE)).thenReturn(true);
+
+        boolean ran = lockService.runLocked("rollup", LEASE, runs::incrementAndGet);
+
+        assertThat(ran).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+        verify(lockRepository).unlock("rollup", "node-1");
+        assertThat(attempts("acquired")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("scheduler.lock.held").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should accumulate repeated runs on same meters")
+    void shouldReuseMetersAcrossRuns() {
+        when(lockRepository.tryLock("rollup", "node-1", LEASE)).thenReturn(true, false, true);
+
+        lockService.runLocked("rollup", LEASE, runs::incrementAndGet);
+        lockService.runLocked("rollup", LEASE, runs::incrementAndGet);
+        lockService.runLocked("rollup", LEASE, runs::incrementAndGet);
+
+        assertThat(attempts("acquired")).isEqualTo(2.0);
+        assertThat(attempts("busy")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("scheduler.lock.held").timers()).hasSize(1);
+        assertThat(meterRegistry.get("scheduler.lock.held").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip job when lock is held by another node")
+    void shouldSkipWhenBusy() {
+        when(lockRepository.tryLock("rollup", "node-1", LEASE)).thenReturn(false);
+
+        boolean ran = lockService.runLocked("rollup", LEASE, runs::incrementAndGet);
+
+        assertThat(ran).isFalse();
+        assertThat(runs.get()).isZero();
+        verify(lockRepository, never()).unlock(anyString(), anyString());
+        assertThat(attempts("busy")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should skip job when database is unavailable")
+    void shouldSkipOnDatabaseError() {
+        when(lockRepository.tryLock("rollup", "node-1", LEASE))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        boolean ran = lockService.runLocked("rollup", LEASE, runs::incrementAndGet);
+
+        assertThat(ran).isFalse();
+        assertThat(runs.get()).isZero();
+        assertThat(attempts("error")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should release lock when job fails")
+    void shouldReleaseWhenJobFails() {
+        when(lockRepository.tryLock("rollup", "node-1", LEASE)).thenReturn(true);
+
+        assertThatThrownBy(() -> lockService.runLocked("rollup", LEASE, () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(lockRepository).unlock("rollup", "node-1");
+    }
+
+    @Test
+    @DisplayName("Should derive owner id when node id is not configured")
+    void shouldDeriveOwnerId() {
+        ClusterLockService derived = new ClusterLockService(lockRepository, meterRegistry, " ");
+
+        assertThat(derived.getOwner()).contains("@").contains("/");
+        assertThat(lockService.getOwner()).isEqualTo("node-1");
+    }
+
+    private double attempts(final String result) {
+        return meterRegistry
+                .get("scheduler.lock.attempts")
+                .tag("name", "rollup")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
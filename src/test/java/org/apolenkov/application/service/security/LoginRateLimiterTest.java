@@ -0,0 +1,204 @@
+package org.apolenkov.application.service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LoginRateLimiter Tests")
+class LoginRateLimiterTest {
+
+    private static final String IP = "203.0.113.7";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new LoginRateLimiter(
+                meterRegistry,
+                true,
+                new LoginRateLimiter.BucketPolicy(10, 10, Duration.ofSeconds(2), Duration.ofMinutes(15)),
+                new LoginRateLimiter.BucketPolicy(3, 1, Duration.ofSeconds(2), Duration.ofMinutes(15)),
+                1000,
+                clock::get);
+    }
+
+    @Test
+    @DisplayName("Should allow attempts up to account capacity and reject the next one")
+    void shouldRejectAfterAccountCapacity() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(IP, "user@example.com").allowed()).isTrue();
+        }
+
+        LoginRateLimiter.Decision decision = limiter.tryAcquire(IP, "USER@example.com ");
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfter()).isPositive();
+        assertThat(rejected("account-ip")).isEqualTo(1.0);
+        assertThat(allowed()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should not let attempts from other IPs extend account lockout")
+    void shouldNotEscalateAccountLockoutAcrossIps() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("198.51.100." + i, "user@example.com").allowed()).isTrue();
+        }
+
+        for (int i = 3; i < 20; i++) {
+            LoginRateLimiter.Decision decision = limiter.tryAcquire("198.51.100." + i, "user@example.com");
+            assertThat(decision.allowed()).isFalse();
+            assertThat(decision.retryAfter()).isLessThanOrEqualTo(Duration.ofMinutes(1));
+        }
+        advance(Duration.ofMinutes(1));
+
+        assertThat(limiter.tryAcquire(IP, "user@example.com").allowed()).isTrue();
+        assertThat(rejected("account")).isEqualTo(17.0);
+    }
+
+    @Test
+    @DisplayName("Should escalate backoff for repeated attempts on one account from one IP")
+    void shouldEscalateAccountBackoffPerIp() {
+        LoginRateLimiter backoffLimiter = new LoginRateLimiter(
+                meterRegistry,
+                true,
+                new LoginRateLimiter.BucketPolicy(100, 100, Duration.ofSeconds(2), Duration.ofSeconds(10)),
+                new LoginRateLimiter.BucketPolicy(1, 60, Duration.ofSeconds(2), Duration.ofSeconds(10)),
+                1000,
+                clock::get);
+        assertThat(backoffLimiter.tryAcquire(IP, "user@example.com").allowed()).isTrue();
+
+        assertThat(backoffLimiter.tryAcquire(IP, "user@example.com").retryAfter())
+                .isEqualTo(Duration.ofSeconds(2));
+        assertThat(backoffLimiter.tryAcquire(IP, "user@example.com").retryAfter())
+                .isEqualTo(Duration.ofSeconds(4));
+        assertThat(backoffLimiter.tryAcquire(IP, "user@example.com").retryAfter())
+                .isEqualTo(Duration.ofSeconds(8));
+
+        // Another client only waits for the account-wide cap
+        assertThat(backoffLimiter.tryAcquire("198.51.100.1", "user@example.com").retryAfter())
+                .isEqualTo(Duration.ofSeconds(2));
+        assertThat(backoffLimiter.tryAcquire("198.51.100.2", "user@example.com").retryAfter())
+                .isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should reject by client IP across accounts")
+    void shouldRejectByIpAcrossAccounts() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(IP, "user" + i + "@example.com").allowed()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(IP, "other@example.com").allowed()).isFalse();
+        assertThat(limiter.tryAcquire("198.51.100.1", "other@example.com").allowed()).isTrue();
+        assertThat(rejected("ip")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should double retry-after for attempts made before it elapsed")
+    void shouldBackOffExponentially() {
+        LoginRateLimiter backoffLimiter = new LoginRateLimiter(
+                meterRegistry,
+                true,
+                new LoginRateLimiter.BucketPolicy(1, 60, Duration.ofSeconds(2), Duration.ofSeconds(10)),
+                new LoginRateLimiter.BucketPolicy(100, 100, Duration.ofSeconds(2), Duration.ofSeconds(10)),
+                1000,
+                clock::get);
+        assertThat(backoffLimiter.tryAcquire(IP, null).allowed()).isTrue();
+
+        assertThat(backoffLimiter.tryAcquire(IP, null).retryAfter()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(backoffLimiter.tryAcquire(IP, null).retryAfter()).isEqualTo(Duration.ofSeconds(4));
+        assertThat(backoffLimiter.tryAcquire(IP, null).retryAfter()).isEqualTo(Duration.ofSeconds(8));
+        assertThat(backoffLimiter.tryAcquire(IP, null).retryAfter()).isEqualTo(Duration.ofSeconds(10));
+
+        advance(Duration.ofSeconds(10));
+
+        assertThat(backoffLimiter.tryAcquire(IP, null).allowed()).isTrue();
+        assertThat(backoffLimiter.tryAcquire(IP, null).retryAfter()).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should wait for the next token when refill is slower than backoff")
+    void shouldWaitForNextToken() {
+        LoginRateLimiter slowLimiter = new LoginRateLimiter(
+                meterRegistry,
+                true,
+                new LoginRateLimiter.BucketPolicy(1, 0.5, Duration.ofSeconds(2), Duration.ofSeconds(5)),
+                new LoginRateLimiter.BucketPolicy(100, 100, Duration.ofSeconds(2), Duration.ofSeconds(5)),
+                1000,
+                clock::get);
+        slowLimiter.tryAcquire(IP, null);
+
+        assertThat(slowLimiter.tryAcquire(IP, null).retryAfter()).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("Should refill tokens over time")
+    void shouldRefillOverTime() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(IP, "user@example.com");
+        }
+        LoginRateLimiter.Decision rejected = limiter.tryAcquire(IP, "user@example.com");
+
+        advance(rejected.retryAfter());
+
+        assertThat(limiter.tryAcquire(IP, "user@example.com").allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reset account bucket after successful login")
+    void shouldResetAccountAfterSuccess() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(IP, "user@example.com");
+        }
+
+        limiter.recordSuccess(IP, "user@example.com");
+
+        assertThat(limiter.tryAcquire(IP, "user@example.com").allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should allow everything when disabled")
+    void shouldAllowWhenDisabled() {
+        LoginRateLimiter disabled = new LoginRateLimiter(
+                meterRegistry,
+                false,
+                new LoginRateLimiter.BucketPolicy(1, 1, Duration.ofSeconds(2), Duration.ofSeconds(5)),
+                new LoginRateLimiter.BucketPolicy(1, 1, Duration.ofSeconds(2), Duration.ofSeconds(5)),
+                1000,
+                clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(disabled.tryAcquire(IP, "user@example.com").allowed()).isTrue();
+        }
+    }
+
+    private void advance(final Duration duration) {
+        clock.addAndGet(duration.toNanos() + TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private double allowed() {
+        return meterRegistry
+                .get("auth.login.throttle")
+                .tag("result", "allowed")
+                .counter()
+                .count();
+    }
+
+    private double rejected(final String scope) {
+        return meterRegistry
+                .get("auth.login.throttle")
+                .tag("result", "rejected")
+                .tag("scope", scope)
+                .counter()
+                .count();
+    }
+}
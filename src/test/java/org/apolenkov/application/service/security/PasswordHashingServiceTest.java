@@ -0,0 +1,112 @@
+package org.apolenkov.application.service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("PasswordHashingService Tests")
+class PasswordHashingServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode and verify password on hashing pool")
+    void shouldEncodeAndVerify() {
+        service = create(Duration.ofSeconds(1), 4, 4, 31);
+
+        String hash = service.encode("secret");
+
+        assertThat(hash).startsWith("$2a$");
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry
+                        .get("password.hash")
+                        .tag("operation", "matches")
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should verify hashes of other cost factors")
+    void shouldVerifyHashesOfOtherCost() {
+        service = create(Duration.ofMillis(1), 5, 4, 6);
+        String hash = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertThat(service.matches("secret", hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not hash values that are not BCrypt hashes")
+    void shouldRejectNonBcryptValues() {
+        service = create(Duration.ofMillis(1), 4, 4, 6);
+
+        assertThat(service.matches("secret", "plain")).isFalse();
+        assertThat(service.matches("secret", null)).isFalse();
+        assertThat(service.upgradeEncoding("plain")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should raise cost when hashing is faster than target")
+    void shouldRaiseCostForSlowTarget() {
+        service = create(Duration.ofHours(1), 4, 4, 6);
+
+        service.encode("secret");
+
+        assertThat(service.getCurrentCost()).isEqualTo(6);
+        assertThat(service.upgradeEncoding("$2a$04$abcdefghijklmnopqrstuv")).isTrue();
+        assertThat(service.upgradeEncoding("$2a$06$abcdefghijklmnopqrstuv")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should lower cost when hashing is slower than target")
+    void shouldLowerCostForFastTarget() {
+        service = create(Duration.ofNanos(1), 6, 4, 6);
+
+        service.encode("secret");
+
+        assertThat(service.getCurrentCost()).isEqualTo(4);
+        // Stronger hashes are kept when cost drops
+        assertThat(service.upgradeEncoding("$2a$06$abcdefghijklmnopqrstuv")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse cost factor of BCrypt hash")
+    void shouldParseCost() {
+        assertThat(PasswordHashingService.costOf("$2a$10$abc")).isEqualTo(10);
+        assertThat(PasswordHashingService.costOf("$2y$12$abc")).isEqualTo(12);
+        assertThat(PasswordHashingService.costOf("{noop}secret")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid cost bounds")
+    void shouldRejectInvalidCostBounds() {
+        assertThatThrownBy(() -> create(Duration.ofMillis(1), 4, 8, 6)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PasswordHashingService create(
+            final Duration target, final int initialCost, final int minCost, final int maxCost) {
+        return new PasswordHashingService(
+                meterRegistry, 1, 4, Duration.ofSeconds(30), target, initialCost, minCost, maxCost);
+    }
+}
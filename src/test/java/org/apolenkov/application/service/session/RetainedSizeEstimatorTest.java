@@ -0,0 +1,123 @@
+package org.apolenkov.application.service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RetainedSizeEstimator.
+ */
+@DisplayName("RetainedSizeEstimator Unit Tests")
+class RetainedSizeEstimatorTest {
+
+    private static final Duration WALK_TIME = Duration.ofSeconds(10);
+
+    @Test
+    @DisplayName("Should count primitive arrays by length")
+    void shouldCountPrimitiveArraysByLength() {
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator(1000, WALK_TIME, value -> false);
+
+        RetainedSizeEstimator.Estimate small = estimator.estimate(List.of(new Holder(new long[10], null)));
+        RetainedSizeEstimator.Estimate large = estimator.estimate(List.of(new Holder(new long[1000], null)));
+
+        assertThat(large.bytes() - small.bytes()).isEqualTo(990L * 8);
+        assertThat(small.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count shared references once")
+    void shouldCountSharedReferencesOnce() {
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator(1000, WALK_TIME, value -> false);
+        long[] payload = new long[100];
+
+        RetainedSizeEstimator.Estimate single = estimator.estimate(List.of(new Holder(payload, null)));
+        RetainedSizeEstimator.Estimate twice =
+                estimator.estimate(List.of(new Holder(payload, new Holder(payload, null))));
+
+        assertThat(twice.objects()).isEqualTo(single.objects() + 1);
+        assertThat(twice.bytes()).isLessThan(single.bytes() * 2);
+    }
+
+    @Test
+    @DisplayName("Should walk collections and maps through public API")
+    void shouldWalkCollectionsAndMaps() {
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator(1000, WALK_TIME, value -> false);
+        List<Object> list = new ArrayList<>();
+        list.add(new Holder(new long[100], null));
+
+        RetainedSizeEstimator.Estimate withList = estimator.estimate(List.of(new Holder(null, list)));
+        RetainedSizeEstimator.Estimate withMap = estimator.estimate(List.of(new Holder(null, Map.of("k", list))));
+
+        assertThat(withList.bytes()).isGreaterThan(800);
+        assertThat(withMap.bytes()).isGreaterThan(withList.bytes());
+    }
+
+    @Test
+    @DisplayName("Should not count objects matched by boundary")
+    void shouldNotCountBoundaryObjects() {
+        Holder shared = new Holder(new long[1000], null);
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator(1000, WALK_TIME, value -> value == shared);
+
+        RetainedSizeEstimator.Estimate estimate = estimator.estimate(List.of(new Holder(null, shared)));
+
+        assertThat(estimate.objects()).isEqualTo(1);
+        assertThat(estimate.bytes()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("Should stop at object budget and report truncation")
+    void shouldStopAtObjectBudget() {
+        Holder chain = null;
+        for (int i = 0; i < 100; i++) {
+            chain = new Holder(null, chain);
+        }
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator(10, WALK_TIME, value -> false);
+
+        RetainedSizeEstimator.Estimate estimate = estimator.estimate(List.of(chain));
+
+        assertThat(estimate.truncated()).isTrue();
+        assertThat(estimate.objects()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should stop at time budget and report truncation")
+    void shouldStopAtTimeBudget() {
+        Holder chain = null;
+        for (int i = 0; i < 1000; i++) {
+            chain = new Holder(null, chain);
+        }
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator(10_000, Duration.ZERO, value -> false);
+
+        RetainedSizeEstimator.Estimate estimate = estimator.estimate(List.of(chain));
+
+        assertThat(estimate.truncated()).isTrue();
+        assertThat(estimate.objects()).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new RetainedSizeEstimator(0, WALK_TIME, value -> false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetainedSizeEstimator(10, WALK_TIME, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetainedSizeEstimator(10, Duration.ofMillis(-1), value -> false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class Holder {
+        private final long[] payload;
+        private final Object next;
+
+        Holder(final long[] payloadValue, final Object nextValue) {
+            this.payload = payloadValue;
+            this.next = nextValue;
+        }
+    }
+}
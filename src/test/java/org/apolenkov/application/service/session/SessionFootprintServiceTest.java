@@ -0,0 +1,105 @@
+package org.apolenkov.application.service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.WrappedSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apolenkov.application.service.user.CurrentUserSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for SessionFootprintService.
+ * Tests lock handling of a single session sample and anonymization of users.
+ */
+@DisplayName("SessionFootprintService Unit Tests")
+class SessionFootprintServiceTest {
+
+    private static final CurrentUserSnapshot USER =
+            new CurrentUserSnapshot(42L, "user@example.com", "User", Set.of("ROLE_USER"));
+
+    private SimpleMeterRegistry meterRegistry;
+    private SessionFootprintService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new SessionFootprintService(meterRegistry, 10_000, 1_000);
+        ReflectionTestUtils.setField(service, "lockTimeoutMs", 10L);
+    }
+
+    @Test
+    @DisplayName("Should identify user by hashed ID instead of email")
+    void shouldHashUserId() {
+        VaadinSession session = session(new ReentrantLock());
+
+        Optional<SessionFootprint> footprint = service.sampleSession(session);
+
+        assertThat(footprint).isPresent();
+        assertThat(footprint.get().userKey()).isEqualTo(service.userKey(USER.id())).isNotEqualTo(USER.email());
+        assertThat(footprint.get().objects()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should give stable keys to same user and distinct keys to different users")
+    void shouldKeepUserKeysStable() {
+        assertThat(service.userKey(42L)).isEqualTo(service.userKey(42L)).isNotEqualTo(service.userKey(43L));
+    }
+
+    @Test
+    @DisplayName("Should release session lock after sampling")
+    void shouldReleaseLock() {
+        ReentrantLock lock = new ReentrantLock();
+
+        service.sampleSession(session(lock));
+
+        assertThat(lock.isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should skip busy session without walking it")
+    void shouldSkipBusySession() throws InterruptedException {
+        Lock lock = mock(Lock.class);
+        when(lock.tryLock(anyLong(), any(TimeUnit.class))).thenReturn(false);
+        VaadinSession session = mock(VaadinSession.class);
+        when(session.getLockInstance()).thenReturn(lock);
+
+        Optional<SessionFootprint> footprint = service.sampleSession(session);
+
+        assertThat(footprint).isEmpty();
+        assertThat(meterRegistry
+                        .get("vaadin.session.footprint.samples")
+                        .tag("result", "busy")
+                        .counter()
+                        .count())
+                .isEqualTo(1.0);
+        verify(session).getLockInstance();
+        verifyNoMoreInteractions(session);
+    }
+
+    private static VaadinSession session(final Lock lock) {
+        WrappedSession httpSession = mock(WrappedSession.class);
+        when(httpSession.getAttributeNames()).thenReturn(Set.of("currentUser"));
+        when(httpSession.getAttribute("currentUser")).thenReturn(USER);
+        VaadinSession session = mock(VaadinSession.class);
+        when(session.getLockInstance()).thenReturn(lock);
+        when(session.getSession()).thenReturn(httpSession);
+        when(session.getUIs()).thenReturn(List.of());
+        return session;
+    }
+}
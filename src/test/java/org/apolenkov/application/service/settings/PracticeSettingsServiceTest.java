@@ -1,121 +1,253 @@
 package org.apolenkov.application.service.settings;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apolenkov.application.domain.port.UserSettingsRepository;
+import org.apolenkov.application.domain.usecase.UserUseCase;
 import org.apolenkov.application.model.PracticeDirection;
+import org.apolenkov.application.model.PracticeSettings;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Unit tests for PracticeSettingsService.
- * Tests default practice settings management.
+ * Tests per-user settings snapshot and asynchronous write-back.
  */
+@ExtendWith(MockitoExtension.class)
 @DisplayName("PracticeSettingsService Tests")
 class PracticeSettingsServiceTest {
 
+    private static final long USER_ID = 7L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private UserSettingsRepository repository;
+
+    @Mock
+    private UserUseCase userUseCase;
+
+    private final List<Runnable> queuedWrites = new ArrayList<>();
     private PracticeSettingsService settingsService;
 
     @BeforeEach
     void setUp() {
-        settingsService = new PracticeSettingsService();
+        settingsService = new PracticeSettingsService(
+                repository, userUseCase, queuedWrites::add, MAX_ATTEMPTS, Duration.ZERO, Duration.ZERO);
     }
 
-    // ==================== Default Count Tests ====================
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    // ==================== Defaults Tests ====================
 
     @Test
-    @DisplayName("Should return default count")
-    void shouldReturnDefaultCount() {
-        // When
-        int result = settingsService.getDefaultCount();
+    @DisplayName("Should return defaults outside a request")
+    void shouldReturnDefaultsOutsideRequest() {
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
 
-        // Then
-        assertThat(result).isEqualTo(10);
+        assertThat(settingsService.getDefaultCount()).isEqualTo(10);
+        assertThat(settingsService.isDefaultRandomOrder()).isTrue();
+        assertThat(settingsService.getDefaultDirection()).isEqualTo(PracticeDirection.FRONT_TO_BACK);
+        verify(repository, never()).findPracticeSettings(anyLong());
     }
 
     @Test
-    @DisplayName("Should update default count")
-    void shouldUpdateDefaultCount() {
-        // When
-        settingsService.setDefaultCount(20);
+    @DisplayName("Should return defaults for unauthenticated user")
+    void shouldReturnDefaultsForUnauthenticatedUser() {
+        bindRequest(new MockHttpSession());
+        when(userUseCase.getCurrentUserId()).thenThrow(new IllegalStateException("Unauthenticated"));
 
-        // Then
-        assertThat(settingsService.getDefaultCount()).isEqualTo(20);
+        assertThat(settingsService.getSettings()).isEqualTo(PracticeSettings.DEFAULTS);
     }
 
     @Test
-    @DisplayName("Should clamp negative count to 1")
-    void shouldClampNegativeCountToOne() {
-        // When
-        settingsService.setDefaultCount(-5);
+    @DisplayName("Should return defaults when user has no stored settings")
+    void shouldReturnDefaultsWhenNothingStored() {
+        bindRequest(new MockHttpSession());
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
+        when(repository.findPracticeSettings(USER_ID)).thenReturn(Optional.empty());
 
-        // Then
-        assertThat(settingsService.getDefaultCount()).isEqualTo(1);
+        assertThat(settingsService.getSettings()).isEqualTo(PracticeSettings.DEFAULTS);
     }
 
+    // ==================== Snapshot Tests ====================
+
     @Test
-    @DisplayName("Should clamp zero count to 1")
-    void shouldClampZeroCountToOne() {
-        // When
-        settingsService.setDefaultCount(0);
+    @DisplayName("Should load settings once per session")
+    void shouldLoadSettingsOncePerSession() {
+        MockHttpSession session = new MockHttpSession();
+        bindRequest(session);
+        PracticeSettings stored = new PracticeSettings(20, false, PracticeDirection.BACK_TO_FRONT);
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
+        when(repository.findPracticeSettings(USER_ID)).thenReturn(Optional.of(stored));
 
-        // Then
-        assertThat(settingsService.getDefaultCount()).isEqualTo(1);
-    }
+        assertThat(settingsService.getDefaultCount()).isEqualTo(20);
+        bindRequest(session);
+        assertThat(settingsService.isDefaultRandomOrder()).isFalse();
+        assertThat(settingsService.getDefaultDirection()).isEqualTo(PracticeDirection.BACK_TO_FRONT);
 
-    // ==================== Random Order Tests ====================
+        verify(repository, times(1)).findPracticeSettings(USER_ID);
+    }
 
     @Test
-    @DisplayName("Should return default random order as true")
-    void shouldReturnDefaultRandomOrderAsTrue() {
-        // When
-        boolean result = settingsService.isDefaultRandomOrder();
+    @DisplayName("Should reload settings when session belongs to another user")
+    void shouldReloadSettingsForAnotherUser() {
+        bindRequest(new MockHttpSession());
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID, 8L);
+        when(repository.findPracticeSettings(anyLong())).thenReturn(Optional.empty());
 
-        // Then
-        assertThat(result).isTrue();
+        settingsService.getSettings();
+        settingsService.getSettings();
+
+        verify(repository).findPracticeSettings(USER_ID);
+        verify(repository).findPracticeSettings(8L);
     }
 
+    // ==================== Save Tests ====================
+
     @Test
-    @DisplayName("Should update default random order")
-    void shouldUpdateDefaultRandomOrder() {
-        // When
-        settingsService.setDefaultRandomOrder(false);
+    @DisplayName("Should update snapshot immediately and write back asynchronously")
+    void shouldUpdateSnapshotAndWriteBack() {
+        bindRequest(new MockHttpSession());
+        PracticeSettings settings = new PracticeSettings(25, false, PracticeDirection.BACK_TO_FRONT);
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
 
-        // Then
-        assertThat(settingsService.isDefaultRandomOrder()).isFalse();
+        settingsService.saveSettings(settings);
+
+        assertThat(settingsService.getSettings()).isEqualTo(settings);
+        verify(repository, never()).savePracticeSettings(anyLong(), any());
+        verify(repository, never()).findPracticeSettings(anyLong());
+
+        queuedWrites.forEach(Runnable::run);
+        verify(repository).savePracticeSettings(USER_ID, settings);
     }
 
-    // ==================== Practice Direction Tests ====================
+    @Test
+    @DisplayName("Should coalesce queued writes of one user to the latest settings")
+    void shouldCoalesceQueuedWrites() {
+        bindRequest(new MockHttpSession());
+        PracticeSettings first = new PracticeSettings(5, true, PracticeDirection.FRONT_TO_BACK);
+        PracticeSettings latest = new PracticeSettings(30, false, PracticeDirection.FRONT_TO_BACK);
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
+
+        settingsService.saveSettings(first);
+        settingsService.saveSettings(latest);
+
+        assertThat(queuedWrites).hasSize(1);
+        queuedWrites.forEach(Runnable::run);
+        verify(repository).savePracticeSettings(USER_ID, latest);
+        verify(repository, never()).savePracticeSettings(USER_ID, first);
+    }
 
     @Test
-    @DisplayName("Should return default direction as FRONT_TO_BACK")
-    void shouldReturnDefaultDirectionAsFrontToBack() {
-        // When
-        PracticeDirection result = settingsService.getDefaultDirection();
+    @DisplayName("Should keep pending settings and retry failed write")
+    void shouldRetryFailedWrite() {
+        bindRequest(new MockHttpSession());
+        PracticeSettings settings = new PracticeSettings(15, false, PracticeDirection.FRONT_TO_BACK);
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
+        doThrow(new IllegalStateException("Database unavailable"))
+                .doNothing()
+                .when(repository)
+                .savePracticeSettings(USER_ID, settings);
+
+        settingsService.saveSettings(settings);
+        queuedWrites.forEach(Runnable::run);
+
+        verify(repository, times(2)).savePracticeSettings(USER_ID, settings);
+        // Saved: next change submits a new write-back
+        settingsService.saveSettings(PracticeSettings.DEFAULTS);
+        assertThat(queuedWrites).hasSize(2);
+    }
 
-        // Then
-        assertThat(result).isEqualTo(PracticeDirection.FRONT_TO_BACK);
+    @Test
+    @DisplayName("Should serve pending settings to new session while write is failing")
+    void shouldServePendingSettingsWhileWriteFails() {
+        bindRequest(new MockHttpSession());
+        PracticeSettings settings = new PracticeSettings(20, true, PracticeDirection.BACK_TO_FRONT);
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
+        settingsService.saveSettings(settings);
+
+        bindRequest(new MockHttpSession());
+
+        assertThat(settingsService.getSettings()).isEqualTo(settings);
+        verify(repository, never()).findPracticeSettings(anyLong());
     }
 
     @Test
-    @DisplayName("Should update default direction")
-    void shouldUpdateDefaultDirection() {
-        // When
-        settingsService.setDefaultDirection(PracticeDirection.BACK_TO_FRONT);
+    @DisplayName("Should give up after max attempts and write next change again")
+    void shouldGiveUpAfterMaxAttempts() {
+        bindRequest(new MockHttpSession());
+        PracticeSettings failing = new PracticeSettings(15, false, PracticeDirection.FRONT_TO_BACK);
+        PracticeSettings next = new PracticeSettings(25, false, PracticeDirection.FRONT_TO_BACK);
+        when(userUseCase.getCurrentUserId()).thenReturn(USER_ID);
+        doThrow(new IllegalStateException("Constraint violation"))
+                .when(repository)
+                .savePracticeSettings(USER_ID, failing);
+        doNothing().when(repository).savePracticeSettings(USER_ID, next);
+
+        settingsService.saveSettings(failing);
+        queuedWrites.getFirst().run();
+        verify(repository, times(MAX_ATTEMPTS)).savePracticeSettings(USER_ID, failing);
+
+        settingsService.saveSettings(next);
+        assertThat(queuedWrites).hasSize(2);
+        queuedWrites.getLast().run();
+        verify(repository).savePracticeSettings(USER_ID, next);
+    }
 
-        // Then
-        assertThat(settingsService.getDefaultDirection()).isEqualTo(PracticeDirection.BACK_TO_FRONT);
+    @Test
+    @DisplayName("Should reject saving without authenticated user")
+    void shouldRejectSaveWithoutUser() {
+        when(userUseCase.getCurrentUserId()).thenThrow(new IllegalStateException("Unauthenticated"));
+
+        assertThatThrownBy(() -> settingsService.saveSettings(PracticeSettings.DEFAULTS))
+                .isInstanceOf(IllegalStateException.class);
     }
 
+    // ==================== Settings Value Tests ====================
+
     @Test
-    @DisplayName("Should allow both direction types")
-    void shouldAllowBothDirectionTypes() {
-        // Test FRONT_TO_BACK
-        settingsService.setDefaultDirection(PracticeDirection.FRONT_TO_BACK);
-        assertThat(settingsService.getDefaultDirection()).isEqualTo(PracticeDirection.FRONT_TO_BACK);
+    @DisplayName("Should clamp non-positive count to 1")
+    void shouldClampNonPositiveCountToOne() {
+        assertThat(new PracticeSettings(-5, true, PracticeDirection.FRONT_TO_BACK).defaultCount())
+                .isEqualTo(1);
+        assertThat(new PracticeSettings(0, true, PracticeDirection.FRONT_TO_BACK).defaultCount())
+                .isEqualTo(1);
+    }
 
-        // Test BACK_TO_FRONT
-        settingsService.setDefaultDirection(PracticeDirection.BACK_TO_FRONT);
-        assertThat(settingsService.getDefaultDirection()).isEqualTo(PracticeDirection.BACK_TO_FRONT);
+    @Test
+    @DisplayName("Should default null direction to FRONT_TO_BACK")
+    void shouldDefaultNullDirection() {
+        assertThat(new PracticeSettings(10, true, null).direction()).isEqualTo(PracticeDirection.FRONT_TO_BACK);
+    }
+
+    private static void bindRequest(final MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
     }
 }
@@ -6,6 +6,9 @@ import static org.assertj.core.api.Assertions.within;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.service.stats.metrics.CacheStatsRecorder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,11 +22,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 class KnownCardsCacheTest {
 
     private KnownCardsCache cache;
+    private AppCacheMetrics cacheMetrics;
     private AtomicInteger loaderCallCount;
 
     @BeforeEach
     void setUp() {
-        cache = new KnownCardsCache();
+        cacheMetrics = new AppCacheMetrics();
+        cache = new KnownCardsCache(new CacheInvalidationRegistry(), cacheMetrics);
         // Set @Value fields manually for unit tests
         ReflectionTestUtils.setField(cache, "ttlMs", 300000L);
         ReflectionTestUtils.setField(cache, "maxSize", 1000);
@@ -442,4 +447,27 @@ class KnownCardsCacheTest {
         // Debug: Log statistics after eviction
         cache.logStats();
     }
+
+    @Test
+    @DisplayName("Should push hits, misses, evictions and weight to node-wide recorder")
+    void shouldPushStatisticsToNodeWideRecorder() {
+        // Given
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+        CacheStatsRecorder recorder = cacheMetrics.recorder(CacheInvalidationRegistry.KNOWN_CARDS);
+
+        // When
+        cache.getKnownCards(1L, () -> Set.of(1L, 2L));
+        cache.getKnownCards(1L, () -> Set.of(1L, 2L));
+        cache.getKnownCards(2L, () -> Set.of(3L));
+        cache.getKnownCards(3L, () -> Set.of(4L, 5L, 6L));
+
+        // Then
+        assertThat(recorder.hits()).isEqualTo(1);
+        assertThat(recorder.misses()).isEqualTo(3);
+        assertThat(recorder.loads()).isEqualTo(3);
+        assertThat(recorder.evictions()).isEqualTo(1);
+        assertThat(recorder.size()).isEqualTo(2);
+        assertThat(recorder.weight()).isEqualTo(cache.weight());
+        assertThat(recorder.instances()).isEqualTo(1);
+    }
 }
@@ -3,13 +3,16 @@ package org.apolenkov.application.service.stats;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apolenkov.application.domain.event.DeckModifiedEvent;
 import org.apolenkov.application.domain.event.DeckModifiedEvent.ModificationType;
 import org.apolenkov.application.domain.event.ProgressChangedEvent;
 import org.apolenkov.application.domain.event.ProgressChangedEvent.ChangeType;
 import org.apolenkov.application.domain.model.FilterOption;
-import org.apolenkov.application.service.stats.metrics.CacheMetricsCollector;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,8 +32,7 @@ class PaginationCountCacheTest {
     @BeforeEach
     void setUp() {
         ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
-        CacheMetricsCollector metricsCollector = mock(CacheMetricsCollector.class);
-        cache = new PaginationCountCache(eventPublisher, metricsCollector);
+        cache = new PaginationCountCache(eventPublisher, new AppCacheMetrics(), new CacheInvalidationRegistry());
         // Set @Value fields manually for unit tests
         ReflectionTestUtils.setField(cache, "ttlMs", 60000L); // 1 minute
         ReflectionTestUtils.setField(cache, "maxSize", 500);
@@ -492,4 +494,37 @@ class PaginationCountCacheTest {
         assertThat(statsAfter.size()).isEqualTo(statsBefore.size());
         assertThat(statsAfter.skippedInvalidations()).isEqualTo(statsBefore.skippedInvalidations());
     }
+
+    // ========== BATCH AND PRELOAD TESTS ==========
+
+    @Test
+    @DisplayName("Should load only missing decks in batch and cache absent decks as zero")
+    void shouldLoadMissingDecksInBatch() {
+        // Given: Deck 1 already cached
+        cache.getCount(1L, "", FilterOption.ALL, () -> 10L);
+
+        // When: Batch request for decks 1, 2, 3 (loader knows only deck 2)
+        Map<Long, Long> result = cache.getCounts(List.of(1L, 2L, 3L), FilterOption.ALL, missing -> {
+            assertThat(missing).containsExactly(2L, 3L);
+            loaderCallCount.incrementAndGet();
+            return Map.of(2L, 20L);
+        });
+
+        // Then: All decks present, deck 3 counted as zero and cached
+        assertThat(result).containsEntry(1L, 10L).containsEntry(2L, 20L).containsEntry(3L, 0L);
+        assertThat(loaderCallCount.get()).isEqualTo(1);
+        assertThat(cache.getCount(3L, null, FilterOption.ALL, this::throwShouldBeCached))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should serve preloaded count without loader")
+    void shouldServePreloadedCount() {
+        // Given: Count preloaded (e.g. by login warmup)
+        cache.preload(1L, FilterOption.UNKNOWN_ONLY, 7L);
+
+        // When/Then: Regular lookup without search is a HIT
+        assertThat(cache.getCount(1L, "", FilterOption.UNKNOWN_ONLY, this::throwShouldBeCached))
+                .isEqualTo(7L);
+    }
 }
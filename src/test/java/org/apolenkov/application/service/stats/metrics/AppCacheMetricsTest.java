@@ -0,0 +1,128 @@
+package org.apolenkov.application.service.stats.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AppCacheMetrics binder and CacheStatsRecorder.
+ */
+class AppCacheMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private AppCacheMetrics cacheMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheMetrics = new AppCacheMetrics();
+        cacheMetrics.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should expose hits and misses recorded after binding")
+    void shouldExposeHitsAndMisses() {
+        // Given
+        CacheStatsRecorder recorder = cacheMetrics.recorder("pagination-count");
+
+        // When
+        recorder.recordHit();
+        recorder.recordHit();
+        recorder.recordMiss();
+        recorder.recordBatch(3, 2);
+
+        // Then
+        FunctionCounter hits = meterRegistry
+                .find("cache.gets")
+                .tag("cache", "pagination-count")
+                .tag("result", "hit")
+                .functionCounter();
+        FunctionCounter misses = meterRegistry
+                .find("cache.gets")
+                .tag("cache", "pagination-count")
+                .tag("result", "miss")
+                .functionCounter();
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isEqualTo(5.0);
+        assertThat(misses).isNotNull();
+        assertThat(misses.count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should expose evictions and load time")
+    void shouldExposeEvictionsAndLoadTime() {
+        // Given
+        CacheStatsRecorder recorder = cacheMetrics.recorder("known-cards");
+
+        // When
+        recorder.recordEviction();
+        recorder.recordLoad(TimeUnit.MILLISECONDS.toNanos(20));
+        recorder.recordLoad(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // Then
+        FunctionCounter evictions =
+                meterRegistry.find("cache.evictions").tag("cache", "known-cards").functionCounter();
+        FunctionTimer loads =
+                meterRegistry.find("cache.load.duration").tag("cache", "known-cards").functionTimer();
+        assertThat(evictions).isNotNull();
+        assertThat(evictions.count()).isEqualTo(1.0);
+        assertThat(loads).isNotNull();
+        assertThat(loads.count()).isEqualTo(2.0);
+        assertThat(loads.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Should sum size and weight over registered cache instances")
+    void shouldSumSizeAndWeightOverInstances() {
+        // Given
+        CacheStatsRecorder recorder = cacheMetrics.recorder("decks");
+        CacheStatsRecorder.Source first = new FixedSource(2, 10);
+        CacheStatsRecorder.Source second = new FixedSource(3, 5);
+
+        // When
+        recorder.register(first);
+        recorder.register(second);
+
+        // Then
+        Gauge size = meterRegistry.find("cache.size").tag("cache", "decks").gauge();
+        Gauge weight = meterRegistry.find("cache.weight").tag("cache", "decks").gauge();
+        Gauge instances = meterRegistry.find("cache.instances").tag("cache", "decks").gauge();
+        assertThat(size).isNotNull();
+        assertThat(size.value()).isEqualTo(5.0);
+        assertThat(weight).isNotNull();
+        assertThat(weight.value()).isEqualTo(15.0);
+        assertThat(instances).isNotNull();
+        assertThat(instances.value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should register meters for every application cache")
+    void shouldRegisterMetersForEveryCache() {
+        // Then
+        assertThat(cacheMetrics.recorders()).hasSize(4);
+        for (CacheStatsRecorder recorder : cacheMetrics.recorders()) {
+            assertThat(meterRegistry
+                            .find("cache.size")
+                            .tag("cache", recorder.getCacheName())
+                            .gauge())
+                    .isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown cache name")
+    void shouldRejectUnknownCacheName() {
+        assertThatThrownBy(() -> cacheMetrics.recorder("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record FixedSource(int size, long weight) implements CacheStatsRecorder.Source {}
+}
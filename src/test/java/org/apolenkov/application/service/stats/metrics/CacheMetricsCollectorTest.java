@@ -71,53 +71,6 @@ class CacheMetricsCollectorTest {
         assertThat(timer.totalTime(java.util.concurrent.TimeUnit.MILLISECONDS)).isGreaterThan(0);
     }
 
-    @Test
-    @DisplayName("Should record cache hit metrics")
-    void shouldRecordCacheHitMetrics() {
-        // When
-        metricsCollector.recordCacheHitMiss("pagination-count", true);
-
-        // Then
-        Counter counter = meterRegistry
-                .find("cache.access.total")
-                .tag("cache_type", "pagination-count")
-                .tag("result", "hit")
-                .counter();
-        assertThat(counter).isNotNull();
-        assertThat(counter.count()).isEqualTo(1.0);
-    }
-
-    @Test
-    @DisplayName("Should record cache miss metrics")
-    void shouldRecordCacheMissMetrics() {
-        // When
-        metricsCollector.recordCacheHitMiss("pagination-count", false);
-
-        // Then
-        Counter counter = meterRegistry
-                .find("cache.access.total")
-                .tag("cache_type", "pagination-count")
-                .tag("result", "miss")
-                .counter();
-        assertThat(counter).isNotNull();
-        assertThat(counter.count()).isEqualTo(1.0);
-    }
-
-    @Test
-    @DisplayName("Should record cache size metrics")
-    void shouldRecordCacheSizeMetrics() {
-        // When
-        metricsCollector.recordCacheSize("pagination-count", 42);
-
-        // Then
-        var gauge = meterRegistry
-                .find("cache.size")
-                .tag("cache_type", "pagination-count")
-                .gauge();
-        assertThat(gauge).isNotNull();
-        assertThat(gauge.value()).isEqualTo(42.0);
-    }
-
     @Test
     @DisplayName("Should handle multiple invalidation events")
     void shouldHandleMultipleInvalidationEvents() {
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -200,4 +201,34 @@ class JdbcUserDetailsServiceTest {
         assertThat(result).isNotNull();
         verify(userRepository).findByEmail(trimmedEmail);
     }
+
+    // ==================== UpdatePassword Tests ====================
+
+    @Test
+    @DisplayName("Should store rehashed password")
+    void shouldStoreRehashedPassword() {
+        // Given
+        String email = "test@example.com";
+        User user = new User(1L, email, "Test User");
+        user.setPasswordHash("$2a$10$old");
+        UserDetails details = org.springframework.security.core.userdetails.User.withUsername(email)
+                .password("$2a$10$old")
+                .authorities(SecurityConstants.ROLE_USER)
+                .build();
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+
+        // When
+        UserDetails result = userDetailsService.updatePassword(details, "$2a$12$new");
+
+        // Then
+        assertThat(result.getPassword()).isEqualTo("$2a$12$new");
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertThat(saved.getValue().getPasswordHash()).isEqualTo("$2a$12$new");
+        assertThat(saved.getValue().getEmail()).isEqualTo(email);
+        // Cached instance returned by repository is left untouched
+        assertThat(saved.getValue()).isNotSameAs(user);
+        assertThat(user.getPasswordHash()).isEqualTo("$2a$10$old");
+    }
 }
@@ -2,6 +2,8 @@ package org.apolenkov.application.service.user;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,12 +11,19 @@ import java.util.List;
 import java.util.Optional;
 import org.apolenkov.application.domain.port.UserRepository;
 import org.apolenkov.application.model.User;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserUseCaseService Core Tests")
@@ -30,6 +39,12 @@ class UserUseCaseServiceTest {
         userUseCaseService = new UserUseCaseService(userRepository);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     @DisplayName("Should get user by id")
     void shouldGetUserById() {
@@ -142,8 +157,82 @@ class UserUseCaseServiceTest {
         // When: Update
         User result = userUseCaseService.updateUser(user);
 
-        // Then: Email updated and Caffeine cache evicted (allEntries=true at repository level)
+        // Then: Email updated and user's cache entries evicted at repository level
         assertThat(result.getEmail()).isEqualTo("new@example.com");
         verify(userRepository).save(user);
     }
+
+    @Test
+    @DisplayName("Should memoize current user within request")
+    void shouldMemoizeCurrentUserWithinRequest() {
+        // Given: Authenticated request
+        authenticate("test@example.com");
+        User user = new User(1L, "test@example.com", "Test User");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        // When: Resolved twice in same request
+        User first = userUseCaseService.getCurrentUser();
+        User second = userUseCaseService.getCurrentUser();
+
+        // Then: Single lookup
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Should resolve current user by ID from session snapshot in next request")
+    void shouldResolveCurrentUserByIdFromSessionSnapshot() {
+        // Given: First request resolved user by email
+        MockHttpSession session = authenticate("test@example.com");
+        User user = new User(1L, "test@example.com", "Test User");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        userUseCaseService.getCurrentUser();
+
+        // When: Next request in same session
+        bindRequest(session);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        User result = userUseCaseService.getCurrentUser();
+
+        // Then: ID-keyed lookup, no second email lookup
+        assertThat(result.getId()).isEqualTo(1L);
+        verify(userRepository).findById(1L);
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return current user ID from session snapshot without repository access")
+    void shouldReturnCurrentUserIdFromSnapshot() {
+        // Given: Snapshot stored by earlier resolution
+        MockHttpSession session = authenticate("test@example.com");
+        when(userRepository.findByEmail("test@example.com"))
+                .thenReturn(Optional.of(new User(1L, "test@example.com", "Test User")));
+        userUseCaseService.getCurrentUser();
+        bindRequest(session);
+
+        // When/Then
+        assertThat(userUseCaseService.getCurrentUserId()).isEqualTo(1L);
+        verify(userRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject unauthenticated access")
+    void shouldRejectUnauthenticatedAccess() {
+        assertThatThrownBy(() -> userUseCaseService.getCurrentUser())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unauthenticated");
+    }
+
+    private MockHttpSession authenticate(final String email) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+        MockHttpSession session = new MockHttpSession();
+        bindRequest(session);
+        return session;
+    }
+
+    private static void bindRequest(final MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
 }
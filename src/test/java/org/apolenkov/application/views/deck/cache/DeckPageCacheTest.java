@@ -0,0 +1,99 @@
+package org.apolenkov.application.views.deck.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apolenkov.application.domain.event.ProgressChangedEvent;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.event.CacheInvalidationEvent;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for DeckPageCache.
+ * Tests caching of card pages and event-driven invalidation.
+ */
+@DisplayName("DeckPageCache Unit Tests")
+class DeckPageCacheTest {
+
+    private static final List<Card> PAGE = List.of(new Card(1L, 1L, "front", "back"));
+
+    private DeckPageCache cache;
+    private CacheInvalidationRegistry registry;
+    private AtomicInteger loaderCallCount;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CacheInvalidationRegistry();
+        cache = new DeckPageCache(registry, new AppCacheMetrics());
+        // Set @Value fields manually for unit tests
+        ReflectionTestUtils.setField(cache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        loaderCallCount = new AtomicInteger(0);
+    }
+
+    private List<Card> load() {
+        loaderCallCount.incrementAndGet();
+        return PAGE;
+    }
+
+    @Test
+    @DisplayName("Should serve second access of same page from cache")
+    void shouldCachePage() {
+        cache.getPage(1L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+        List<Card> result = cache.getPage(1L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+
+        assertThat(result).hasSize(1);
+        assertThat(loaderCallCount.get()).isEqualTo(1);
+        assertThat(cache.getStats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep pages of different filters separate")
+    void shouldSeparateFilters() {
+        cache.getPage(1L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+        cache.getPage(1L, FilterOption.KNOWN_ONLY, 0, 50, this::load);
+
+        assertThat(loaderCallCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop deck pages on progress change")
+    void shouldInvalidateOnProgressChange() {
+        cache.getPage(1L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+        cache.getPage(2L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+
+        cache.onProgressChanged(new ProgressChangedEvent(this, 1L));
+
+        assertThat(cache.getStats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop deck pages on card write")
+    void shouldInvalidateOnCardWrite() {
+        cache.getPage(1L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+
+        cache.onCacheInvalidation(
+                CacheInvalidationEvent.of(CacheInvalidationRegistry.PAGINATION_COUNT, 1L, "card-created"));
+
+        assertThat(cache.getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload page invalidated on another node")
+    void shouldReloadAfterRemoteInvalidation() throws InterruptedException {
+        cache.getPage(1L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+        Thread.sleep(5); // Remote invalidation strictly after caching
+        registry.recordRemoteInvalidation(CacheInvalidationRegistry.KNOWN_CARDS, "1");
+
+        cache.getPage(1L, FilterOption.UNKNOWN_ONLY, 0, 50, this::load);
+
+        assertThat(loaderCallCount.get()).isEqualTo(2);
+    }
+}
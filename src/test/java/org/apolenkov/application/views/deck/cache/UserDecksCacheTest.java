@@ -7,6 +7,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apolenkov.application.domain.event.DeckModifiedEvent;
 import org.apolenkov.application.domain.event.DeckModifiedEvent.ModificationType;
 import org.apolenkov.application.model.Deck;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +26,7 @@ class UserDecksCacheTest {
 
     @BeforeEach
     void setUp() {
-        cache = new UserDecksCache();
+        cache = new UserDecksCache(new CacheInvalidationRegistry(), new AppCacheMetrics());
         // Set @Value fields manually for unit tests
         ReflectionTestUtils.setField(cache, "ttlMs", 60000L);
         ReflectionTestUtils.setField(cache, "maxSize", 1000);
@@ -0,0 +1,199 @@
+package org.apolenkov.application.views.deck.components.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.domain.usecase.CardUseCase;
+import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for CardChunks.
+ * Tests paging of list rows over loaded chunks and filtered chunk loading.
+ */
+@DisplayName("CardChunks Unit Tests")
+class CardChunksTest {
+
+    private static final long DECK_ID = 7L;
+    private static final int CHUNK_SIZE = 5;
+
+    private CardUseCase cardUseCase;
+    private CardChunks chunks;
+
+    @BeforeEach
+    void setUp() {
+        cardUseCase = mock(CardUseCase.class);
+        DeckPageCache deckPageCache = new DeckPageCache(new CacheInvalidationRegistry(), new AppCacheMetrics());
+        ReflectionTestUtils.setField(deckPageCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(deckPageCache, "maxSize", 100);
+        chunks = new CardChunks(cardUseCase, deckPageCache, CHUNK_SIZE);
+    }
+
+    // ==================== Paging ====================
+
+    @Test
+    @DisplayName("Should serve range spanning two loaded chunks")
+    void shouldServeRangeAcrossChunks() {
+        chunks.reset(cards(0, 5));
+        chunks.putAll(Map.of(1, cards(5, 10)));
+
+        CardChunks.Slice slice = chunks.slice(3, 4, 12);
+
+        assertThat(ids(slice.rows())).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(slice.complete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should serve rows up to first missing chunk and name chunks to load")
+    void shouldReportMissingChunks() {
+        chunks.reset(cards(0, 5));
+
+        CardChunks.Slice slice = chunks.slice(3, 10, 20);
+
+        assertThat(ids(slice.rows())).containsExactly(3L, 4L);
+        assertThat(slice.complete()).isFalse();
+        assertThat(slice.loadFrom()).isEqualTo(1);
+        assertThat(slice.loadTo()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should prefetch following chunk only within item count")
+    void shouldPrefetchWithinCount() {
+        chunks.reset(cards(0, 5));
+
+        CardChunks.Slice within = chunks.slice(0, 5, 8);
+        CardChunks.Slice atEnd = chunks.slice(0, 5, 5);
+
+        assertThat(within.complete()).isTrue();
+        assertThat(within.loadFrom()).isEqualTo(1);
+        assertThat(within.loadTo()).isEqualTo(1);
+        assertThat(atEnd.complete()).isTrue();
+        assertThat(atEnd.loadFrom()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should not request rows beyond item count")
+    void shouldClampRangeToCount() {
+        chunks.reset(cards(0, 5));
+
+        CardChunks.Slice slice = chunks.slice(0, 50, 3);
+
+        assertThat(ids(slice.rows())).containsExactly(0L, 1L, 2L);
+        assertThat(slice.complete()).isTrue();
+        assertThat(slice.loadFrom()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should treat short chunk as end of list")
+    void shouldStopAtShortChunk() {
+        chunks.reset(cards(0, 2));
+
+        CardChunks.Slice slice = chunks.slice(0, 5, 10);
+
+        assertThat(ids(slice.rows())).containsExactly(0L, 1L);
+        assertThat(slice.complete()).isTrue();
+        assertThat(slice.loadFrom()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should drop loaded chunks on clear")
+    void shouldRequestChunksAgainAfterClear() {
+        chunks.reset(cards(0, 5));
+
+        chunks.clear();
+        CardChunks.Slice slice = chunks.slice(0, 5, 5);
+
+        assertThat(slice.rows()).isEmpty();
+        assertThat(slice.loadFrom()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replace loaded copy of edited card")
+    void shouldReplaceEditedCard() {
+        chunks.reset(cards(0, 5));
+        Card edited = new Card(2L, DECK_ID, "edited", "back");
+
+        chunks.replace(edited);
+
+        assertThat(chunks.slice(2, 1, 5).rows()).containsExactly(edited);
+    }
+
+    // ==================== Loading ====================
+
+    @Test
+    @DisplayName("Should load chunks without search through page cache")
+    void shouldLoadUnsearchedChunksThroughCache() {
+        PageRequest page = PageRequest.of(1, CHUNK_SIZE);
+        when(cardUseCase.getCardsWithFilter(DECK_ID, null, FilterOption.KNOWN_ONLY, page))
+                .thenReturn(cards(5, 10));
+        CardFilter filter = new CardFilter("  ", FilterOption.KNOWN_ONLY);
+
+        chunks.loadChunk(DECK_ID, filter, 1);
+        List<Card> cached = chunks.loadChunk(DECK_ID, filter, 1);
+
+        assertThat(ids(cached)).containsExactly(5L, 6L, 7L, 8L, 9L);
+        verify(cardUseCase, times(1)).getCardsWithFilter(DECK_ID, null, FilterOption.KNOWN_ONLY, page);
+    }
+
+    @Test
+    @DisplayName("Should load searched chunks with query and filter option bypassing cache")
+    void shouldLoadSearchedChunksDirectly() {
+        PageRequest page = PageRequest.of(0, CHUNK_SIZE);
+        when(cardUseCase.getCardsWithFilter(DECK_ID, "verb", FilterOption.UNKNOWN_ONLY, page)).thenReturn(cards(0, 1));
+        CardFilter filter = new CardFilter("verb", FilterOption.UNKNOWN_ONLY);
+
+        chunks.loadChunk(DECK_ID, filter, 0);
+        chunks.loadChunk(DECK_ID, filter, 0);
+
+        verify(cardUseCase, times(2)).getCardsWithFilter(DECK_ID, "verb", FilterOption.UNKNOWN_ONLY, page);
+    }
+
+    @Test
+    @DisplayName("Should stop loading range after last chunk of list")
+    void shouldStopLoadingRangeAtShortChunk() {
+        CardFilter filter = new CardFilter("verb", FilterOption.ALL);
+        when(cardUseCase.getCardsWithFilter(DECK_ID, "verb", FilterOption.ALL, PageRequest.of(1, CHUNK_SIZE)))
+                .thenReturn(cards(5, 10));
+        when(cardUseCase.getCardsWithFilter(DECK_ID, "verb", FilterOption.ALL, PageRequest.of(2, CHUNK_SIZE)))
+                .thenReturn(cards(10, 12));
+
+        Map<Integer, List<Card>> loaded = chunks.load(DECK_ID, filter, 1, 4);
+
+        assertThat(loaded).containsOnlyKeys(1, 2);
+        chunks.reset(cards(0, 5));
+        chunks.putAll(loaded);
+        assertThat(ids(chunks.slice(8, 10, 12).rows())).containsExactly(8L, 9L, 10L, 11L);
+    }
+
+    @Test
+    @DisplayName("Should ignore blank search query")
+    void shouldIgnoreBlankSearchQuery() {
+        assertThat(CardChunks.searchQueryOf(new CardFilter(" ", FilterOption.ALL))).isNull();
+        assertThat(CardChunks.searchQueryOf(null)).isNull();
+        assertThat(CardChunks.searchQueryOf(new CardFilter("verb", FilterOption.ALL))).isEqualTo("verb");
+    }
+
+    private static List<Card> cards(final long fromId, final long toId) {
+        return LongStream.range(fromId, toId)
+                .mapToObj(id -> new Card(id, DECK_ID, "front " + id, "back " + id))
+                .toList();
+    }
+
+    private static List<Long> ids(final List<Card> cards) {
+        return cards.stream().map(Card::getId).toList();
+    }
+}
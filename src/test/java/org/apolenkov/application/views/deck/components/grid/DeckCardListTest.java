@@ -0,0 +1,210 @@
+package org.apolenkov.application.views.deck.components.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.virtuallist.VirtualListLazyDataView;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.Command;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.apolenkov.application.domain.model.FilterOption;
+import org.apolenkov.application.domain.usecase.CardUseCase;
+import org.apolenkov.application.model.Card;
+import org.apolenkov.application.service.cache.CacheInvalidationRegistry;
+import org.apolenkov.application.service.query.QueryFanOut;
+import org.apolenkov.application.service.stats.StatsService;
+import org.apolenkov.application.service.stats.metrics.AppCacheMetrics;
+import org.apolenkov.application.views.deck.cache.DeckPageCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for DeckCardList.
+ * Tests incremental toggle, edit and delete of one card: the card row is patched and counts are adjusted
+ * locally without reloading the list. UI.access runs commands right away; after the initial load the
+ * data view is replaced by a mock to observe which rows are refreshed.
+ */
+@DisplayName("DeckCardList Unit Tests")
+class DeckCardListTest {
+
+    private static final long DECK_ID = 7L;
+    private static final int CHUNK_SIZE = 5;
+    private static final long TOTAL_ITEMS = 3;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final Semaphore applied = new Semaphore(0);
+
+    private CardUseCase cardUseCase;
+    private StatsService statsService;
+    private DeckCardList list;
+    private VirtualListLazyDataView<Card> dataView;
+
+    @BeforeEach
+    void setUp() {
+        UI ui = mock(UI.class);
+        when(ui.access(any(Command.class))).thenAnswer(invocation -> {
+            Command command = invocation.getArgument(0);
+            try {
+                command.execute();
+            } finally {
+                applied.release();
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+        UI.setCurrent(ui);
+
+        cardUseCase = mock(CardUseCase.class);
+        when(cardUseCase.countCardsWithFilter(eq(DECK_ID), any(), any())).thenReturn(TOTAL_ITEMS);
+        when(cardUseCase.getCardsWithFilter(eq(DECK_ID), any(), any(), any())).thenReturn(cards());
+        statsService = mock(StatsService.class);
+        when(statsService.getKnownCardIds(DECK_ID)).thenReturn(Set.of());
+
+        DeckPageCache deckPageCache = new DeckPageCache(new CacheInvalidationRegistry(), new AppCacheMetrics());
+        ReflectionTestUtils.setField(deckPageCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(deckPageCache, "maxSize", 100);
+        QueryFanOut queryFanOut = new QueryFanOut(ObservationRegistry.create(), new SimpleMeterRegistry(), 4, 1000);
+
+        list = new DeckCardList(statsService, cardUseCase, deckPageCache, queryFanOut, CHUNK_SIZE);
+        list.onAttach(new AttachEvent(list, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    // ==================== Toggle ====================
+
+    @Test
+    @DisplayName("Should re-render only toggled row under ALL filter")
+    void shouldPatchToggledRowUnderAllFilter() {
+        showDeck(null, FilterOption.ALL);
+        Card card = cards().get(1);
+
+        list.applyKnownChange(card, true);
+
+        verify(dataView).refreshItem(card);
+        verify(dataView, never()).refreshAll();
+        assertThat(knownCardIds()).containsExactly(card.getId());
+        assertThat(totalItems()).isEqualTo(TOTAL_ITEMS);
+        verifyListLoadedOnce();
+    }
+
+    @Test
+    @DisplayName("Should drop toggled row leaving filter with count adjusted locally")
+    void shouldDropToggledRowLeavingFilter() {
+        showDeck(null, FilterOption.UNKNOWN_ONLY);
+        Card card = cards().get(1);
+
+        list.applyKnownChange(card, true);
+
+        verify(dataView, never()).refreshItem(any());
+        assertThat(knownCardIds()).containsExactly(card.getId());
+        assertThat(totalItems()).isEqualTo(TOTAL_ITEMS - 1);
+        verifyListLoadedOnce();
+    }
+
+    // ==================== Edit ====================
+
+    @Test
+    @DisplayName("Should re-render only edited row and replace its loaded copy")
+    void shouldPatchEditedRow() {
+        showDeck(null, FilterOption.ALL);
+        Card edited = new Card(1L, DECK_ID, "edited", "back");
+
+        list.applyCardUpdate(edited);
+
+        verify(dataView).refreshItem(edited);
+        verify(dataView, never()).refreshAll();
+        assertThat(chunks().slice(1, 1, TOTAL_ITEMS).rows()).containsExactly(edited);
+        verifyListLoadedOnce();
+    }
+
+    @Test
+    @DisplayName("Should reload list on edit while search is active")
+    void shouldReloadEditedRowUnderSearch() throws InterruptedException {
+        showDeck("front", FilterOption.ALL);
+        Card edited = new Card(1L, DECK_ID, "edited", "back");
+
+        list.applyCardUpdate(edited);
+
+        assertThat(applied.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        verify(dataView, never()).refreshItem(any());
+        verify(cardUseCase, times(2)).countCardsWithFilter(DECK_ID, "front", FilterOption.ALL);
+    }
+
+    // ==================== Delete ====================
+
+    @Test
+    @DisplayName("Should drop deleted row with count adjusted locally")
+    void shouldDropDeletedRow() {
+        showDeck(null, FilterOption.ALL);
+
+        list.applyCardRemoval(1L);
+
+        verify(dataView, never()).refreshItem(any());
+        assertThat(totalItems()).isEqualTo(TOTAL_ITEMS - 1);
+        verifyListLoadedOnce();
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Shows deck with filter, waits for the list load and swaps in a mock data view.
+     */
+    @SuppressWarnings("unchecked")
+    private void showDeck(final String searchQuery, final FilterOption filterOption) {
+        list.updateFilter(searchQuery, filterOption);
+        list.setCurrentDeckId(DECK_ID);
+        try {
+            assertThat(applied.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        dataView = mock(VirtualListLazyDataView.class);
+        ReflectionTestUtils.setField(list, "dataView", dataView);
+    }
+
+    private void verifyListLoadedOnce() {
+        verify(cardUseCase, times(1)).countCardsWithFilter(eq(DECK_ID), any(), any());
+        verify(statsService, times(1)).getKnownCardIds(DECK_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> knownCardIds() {
+        return (Set<Long>) ReflectionTestUtils.getField(list, "knownCardIds");
+    }
+
+    private long totalItems() {
+        return (long) ReflectionTestUtils.getField(list, "totalItems");
+    }
+
+    private CardChunks chunks() {
+        return (CardChunks) ReflectionTestUtils.getField(list, "chunks");
+    }
+
+    private static List<Card> cards() {
+        return LongStream.range(0, TOTAL_ITEMS)
+                .mapToObj(id -> new Card(id, DECK_ID, "front " + id, "back " + id))
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package org.apolenkov.application.views.landing.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import org.apolenkov.application.config.cache.CacheConfiguration;
+import org.apolenkov.application.config.vaadin.AppI18NProvider;
+import org.apolenkov.application.domain.event.NewsChangedEvent;
+import org.apolenkov.application.domain.model.NewsPage;
+import org.apolenkov.application.domain.usecase.NewsUseCase;
+import org.apolenkov.application.model.NewsSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for LandingPageRenderer.
+ * Tests rendering, escaping, per-locale caching and eviction on news changes.
+ */
+@DisplayName("LandingPageRenderer Unit Tests")
+class LandingPageRendererTest {
+
+    private NewsUseCase newsUseCase;
+    private LandingPageRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        newsUseCase = mock(NewsUseCase.class);
+        NewsSummary item = new NewsSummary(1L, "Release <b>2</b>", "Новые карточки", true, "admin", LocalDateTime.now());
+        when(newsUseCase.getNewsPage(null, null, 20)).thenReturn(new NewsPage(List.of(item), null));
+        renderer = new LandingPageRenderer(
+                newsUseCase,
+                new AppI18NProvider(new SimpleMeterRegistry()),
+                new CaffeineCacheManager(CacheConfiguration.LANDING_PAGE_CACHE));
+        ReflectionTestUtils.setField(renderer, "maxNews", 20);
+    }
+
+    @Test
+    @DisplayName("Should render escaped news and login links")
+    void shouldRenderEscapedNewsAndLinks() {
+        LandingPage page = renderer.getPage(Locale.ENGLISH);
+
+        assertThat(page.html())
+                .startsWith("<!DOCTYPE html>")
+                .contains("Release &lt;b&gt;2&lt;/b&gt;")
+                .contains("Новые карточки\u2026")
+                .contains("href=\"/login\"")
+                .contains("href=\"/register\"");
+        assertThat(page.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("Should render each locale once")
+    void shouldCachePagePerLocale() {
+        LandingPage first = renderer.getPage(Locale.ENGLISH);
+        LandingPage second = renderer.getPage(Locale.UK);
+        renderer.getPage(Locale.forLanguageTag("ru"));
+
+        assertThat(second).isSameAs(first);
+        verify(newsUseCase, times(2)).getNewsPage(null, null, 20);
+    }
+
+    @Test
+    @DisplayName("Should fall back to English for unsupported locale")
+    void shouldFallBackToEnglish() {
+        LandingPage page = renderer.getPage(Locale.JAPANESE);
+
+        assertThat(page.html()).contains("<html lang=\"en\">");
+    }
+
+    @Test
+    @DisplayName("Should re-render after news changed")
+    void shouldRerenderAfterNewsChanged() {
+        LandingPage before = renderer.getPage(Locale.ENGLISH);
+        when(newsUseCase.getNewsPage(null, null, 20)).thenReturn(new NewsPage(List.of(), null));
+
+        renderer.onNewsChanged(new NewsChangedEvent(this, 1L, NewsChangedEvent.ChangeType.DELETED));
+        LandingPage after = renderer.getPage(Locale.ENGLISH);
+
+        assertThat(after.html()).doesNotContain("Release");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+}
@@ -2,6 +2,9 @@ package org.apolenkov.application.views.practice.business;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,6 +12,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 import org.apolenkov.application.domain.dto.SessionStatsDto;
 import org.apolenkov.application.domain.usecase.CardUseCase;
 import org.apolenkov.application.domain.usecase.DeckUseCase;
@@ -118,10 +123,10 @@ class PracticeSessionServiceTest {
         testCards = List.of(
                 new Card(1L, 1L, "Front 1", "Back 1", "Example 1"), new Card(2L, 1L, "Front 2", "Back 2", "Example 2"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of(1L));
 
-        List<Card> result = sessionService.getNotKnownCards(1L);
+        List<Card> result = sessionService.getNotKnownCards(1L, 10, false);
 
         assertThat(result).hasSize(1).contains(testCards.get(1));
     }
@@ -133,14 +138,61 @@ class PracticeSessionServiceTest {
         testCards = List.of(
                 new Card(1L, 1L, "Front 1", "Back 1", "Example 1"), new Card(2L, 1L, "Front 2", "Back 2", "Example 2"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of());
 
-        List<Card> result = sessionService.getNotKnownCards(1L);
+        List<Card> result = sessionService.getNotKnownCards(1L, 10, false);
 
         assertThat(result).hasSize(2).isEqualTo(testCards);
     }
 
+    @Test
+    @DisplayName("Should keep only first unknown cards up to limit in deck order")
+    void shouldLimitNotKnownCardsInDeckOrder() {
+        sessionService = new PracticeSessionService(deckUseCase, cardUseCase, statsService, practiceSettingsService);
+        testCards = List.of(
+                new Card(1L, 1L, "Front 1", "Back 1", "Example 1"),
+                new Card(2L, 1L, "Front 2", "Back 2", "Example 2"),
+                new Card(3L, 1L, "Front 3", "Back 3", "Example 3"),
+                new Card(4L, 1L, "Front 4", "Back 4", "Example 4"));
+
+        stubDeckCards(testCards);
+        when(statsService.getKnownCardIds(1L)).thenReturn(Set.of(2L));
+
+        List<Card> result = sessionService.getNotKnownCards(1L, 2, false);
+
+        assertThat(result).containsExactly(testCards.get(0), testCards.get(2));
+    }
+
+    @Test
+    @DisplayName("Should sample unknown cards up to limit when random")
+    void shouldSampleNotKnownCardsUpToLimit() {
+        sessionService = new PracticeSessionService(deckUseCase, cardUseCase, statsService, practiceSettingsService);
+        testCards = LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> new Card(id, 1L, "Front " + id, "Back " + id, "Example " + id))
+                .toList();
+
+        stubDeckCards(testCards);
+        when(statsService.getKnownCardIds(1L)).thenReturn(Set.of(1L, 2L, 3L));
+
+        List<Card> result = sessionService.getNotKnownCards(1L, 5, true);
+
+        assertThat(result).hasSize(5).doesNotHaveDuplicates().allMatch(card -> card.getId() > 3L);
+    }
+
+    @Test
+    @DisplayName("Should report whether deck has not known cards")
+    void shouldReportNotKnownCards() {
+        sessionService = new PracticeSessionService(deckUseCase, cardUseCase, statsService, practiceSettingsService);
+        testCards = List.of(
+                new Card(1L, 1L, "Front 1", "Back 1", "Example 1"), new Card(2L, 1L, "Front 2", "Back 2", "Example 2"));
+
+        stubDeckCards(testCards);
+        when(statsService.getKnownCardIds(1L)).thenReturn(Set.of(1L, 2L));
+
+        assertThat(sessionService.hasNotKnownCards(1L)).isFalse();
+    }
+
     @Test
     @DisplayName("Should resolve default count")
     void shouldResolveDefaultCount() {
@@ -148,7 +200,7 @@ class PracticeSessionServiceTest {
         testCards = List.of(
                 new Card(1L, 1L, "Front 1", "Back 1", "Example 1"), new Card(2L, 1L, "Front 2", "Back 2", "Example 2"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of());
         when(practiceSettingsService.getDefaultCount()).thenReturn(10);
 
@@ -168,7 +220,7 @@ class PracticeSessionServiceTest {
                 new Card(4L, 1L, "Front 4", "Back 4", "Example 4"),
                 new Card(5L, 1L, "Front 5", "Back 5", "Example 5"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of());
         when(practiceSettingsService.getDefaultCount()).thenReturn(3);
 
@@ -240,7 +292,7 @@ class PracticeSessionServiceTest {
                 new Card(2L, 1L, "Front 2", "Back 2", "Example 2"),
                 new Card(3L, 1L, "Front 3", "Back 3", "Example 3"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of());
 
         List<Card> result = sessionService.prepareSession(1L, 2, true);
@@ -258,7 +310,7 @@ class PracticeSessionServiceTest {
                 new Card(2L, 1L, "Front 2", "Back 2", "Example 2"),
                 new Card(3L, 1L, "Front 3", "Back 3", "Example 3"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of());
 
         List<Card> result = sessionService.prepareSession(1L, 2, false);
@@ -274,7 +326,7 @@ class PracticeSessionServiceTest {
         sessionService = new PracticeSessionService(deckUseCase, cardUseCase, statsService, practiceSettingsService);
         testCards = List.of(new Card(1L, 1L, "Front 1", "Back 1", "Example 1"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of(1L));
 
         List<Card> result = sessionService.prepareSession(1L, 5, false);
@@ -289,7 +341,7 @@ class PracticeSessionServiceTest {
         testCards = List.of(
                 new Card(1L, 1L, "Front 1", "Back 1", "Example 1"), new Card(2L, 1L, "Front 2", "Back 2", "Example 2"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of());
 
         PracticeSession result = sessionService.startSession(1L, 2, false);
@@ -333,7 +385,7 @@ class PracticeSessionServiceTest {
                 new Card(2L, 1L, "Front 2", "Back 2", "Example 2"),
                 new Card(3L, 1L, "Front 3", "Back 3", "Example 3"));
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of());
 
         // Given: Completed session
@@ -359,7 +411,7 @@ class PracticeSessionServiceTest {
 
         List<Long> failedCardIds = List.of(1L, 3L);
 
-        when(cardUseCase.getCardsByDeckId(1L)).thenReturn(testCards);
+        stubDeckCards(testCards);
         when(statsService.getKnownCardIds(1L)).thenReturn(Set.of(2L)); // Card 2 is known
 
         // When: Get failed cards
@@ -411,4 +463,14 @@ class PracticeSessionServiceTest {
         assertThat(session.getIndex()).isZero();
         assertThat(session.isShowingAnswer()).isFalse();
     }
+
+    private void stubDeckCards(final List<Card> cards) {
+        doAnswer(invocation -> {
+                    Consumer<Card> action = invocation.getArgument(1);
+                    cards.forEach(action);
+                    return null;
+                })
+                .when(cardUseCase)
+                .forEachCardInDeck(eq(1L), any());
+    }
 }
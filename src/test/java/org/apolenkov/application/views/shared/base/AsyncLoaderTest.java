@@ -0,0 +1,203 @@
+package org.apolenkov.application.views.shared.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.Command;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AsyncLoader.
+ * Tests off-lock fetch with apply under the session lock, cancellation and error delivery.
+ * UI.access is emulated by running the command under a lock standing in for the session lock.
+ */
+@DisplayName("AsyncLoader Unit Tests")
+class AsyncLoaderTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final long QUIET_PERIOD_MS = 200;
+
+    private final ReentrantLock sessionLock = new ReentrantLock();
+    private final CompletableFuture<RuntimeException> accessFailure = new CompletableFuture<>();
+
+    private UI ui;
+    private Div owner;
+    private AsyncLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        ui = mock(UI.class);
+        when(ui.access(any(Command.class))).thenAnswer(invocation -> {
+            Command command = invocation.getArgument(0);
+            sessionLock.lock();
+            try {
+                command.execute();
+            } catch (RuntimeException e) {
+                accessFailure.complete(e);
+            } finally {
+                sessionLock.unlock();
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+        UI.setCurrent(ui);
+        owner = new Div();
+        loader = new AsyncLoader(owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    @DisplayName("Should reject null owner")
+    void shouldRejectNullOwner() {
+        assertThatThrownBy(() -> new AsyncLoader(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should fetch without session lock and apply result under it")
+    void shouldFetchOffLockAndApplyUnderLock() throws Exception {
+        CountDownLatch fetched = new CountDownLatch(1);
+        CompletableFuture<Boolean> applyHeldLock = new CompletableFuture<>();
+        CompletableFuture<String> applied = new CompletableFuture<>();
+
+        // Caller holds the session lock (UI thread) for the whole fetch
+        sessionLock.lock();
+        try {
+            loader.load(
+                    "test",
+                    () -> {
+                        fetched.countDown();
+                        return "data";
+                    },
+                    data -> {
+                        applyHeldLock.complete(sessionLock.isHeldByCurrentThread());
+                        applied.complete(data);
+                    });
+
+            assertThat(fetched.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            assertThat(loader.isLoading()).isTrue();
+        } finally {
+            sessionLock.unlock();
+        }
+
+        assertThat(applied.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("data");
+        assertThat(applyHeldLock.get()).isTrue();
+        assertThat(loader.isLoading()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not apply load cancelled by owner detach")
+    void shouldNotApplyAfterDetach() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean applied = new AtomicBoolean();
+        loader.load("test", () -> awaitAndReturn(release, "data"), data -> applied.set(true));
+
+        ComponentUtil.fireEvent(owner, new DetachEvent(owner));
+        release.countDown();
+
+        assertThat(loader.isLoading()).isFalse();
+        verify(ui, after(QUIET_PERIOD_MS).never()).access(any(Command.class));
+        assertThat(applied).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should apply only the latest of superseded loads")
+    void shouldApplyOnlyLatestLoad() throws Exception {
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicBoolean firstApplied = new AtomicBoolean();
+        CompletableFuture<String> secondApplied = new CompletableFuture<>();
+        loader.load("first", () -> awaitAndReturn(releaseFirst, "first"), data -> firstApplied.set(true));
+
+        loader.load("second", () -> "second", secondApplied::complete);
+        assertThat(secondApplied.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("second");
+        releaseFirst.countDown();
+
+        verify(ui, after(QUIET_PERIOD_MS).times(1)).access(any(Command.class));
+        assertThat(firstApplied).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should deliver fetch failure to error handler under session lock")
+    void shouldDeliverErrorToHandler() throws Exception {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CompletableFuture<RuntimeException> handled = new CompletableFuture<>();
+        CompletableFuture<Boolean> handlerHeldLock = new CompletableFuture<>();
+        AtomicBoolean applied = new AtomicBoolean();
+
+        loader.<String>load(
+                "test",
+                () -> {
+                    throw failure;
+                },
+                data -> applied.set(true),
+                e -> {
+                    handlerHeldLock.complete(sessionLock.isHeldByCurrentThread());
+                    handled.complete(e);
+                });
+
+        assertThat(handled.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(failure);
+        assertThat(handlerHeldLock.get()).isTrue();
+        assertThat(applied).isFalse();
+        assertThat(loader.isLoading()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should rethrow fetch failure under session lock without error handler")
+    void shouldRethrowErrorUnderLock() throws Exception {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        loader.<String>load(
+                "test",
+                () -> {
+                    throw failure;
+                },
+                data -> {});
+
+        assertThat(accessFailure.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("Should not apply load cancelled explicitly")
+    void shouldNotApplyAfterCancel() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean applied = new AtomicBoolean();
+        loader.load("test", () -> awaitAndReturn(release, "data"), data -> applied.set(true));
+
+        loader.cancel();
+        release.countDown();
+
+        verify(ui, after(QUIET_PERIOD_MS).never()).access(any(Command.class));
+        assertThat(applied).isFalse();
+    }
+
+    private static <T> T awaitAndReturn(final CountDownLatch latch, final T value) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
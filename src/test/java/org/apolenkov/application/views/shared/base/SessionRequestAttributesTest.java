@@ -0,0 +1,96 @@
+package org.apolenkov.application.views.shared.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vaadin.flow.server.WrappedHttpSession;
+import com.vaadin.flow.server.WrappedSession;
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.DestructionCallbackBindingListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for SessionRequestAttributes.
+ * Tests session-backed scopes used by background view loads.
+ */
+@DisplayName("SessionRequestAttributes Unit Tests")
+class SessionRequestAttributesTest {
+
+    private HttpSession httpSession;
+    private SessionRequestAttributes attributes;
+
+    @BeforeEach
+    void setUp() {
+        httpSession = mock(HttpSession.class);
+        WrappedSession session = new WrappedHttpSession(httpSession);
+        attributes = new SessionRequestAttributes(session);
+    }
+
+    @Test
+    @DisplayName("Should reject null session")
+    void shouldRejectNullSession() {
+        assertThatThrownBy(() -> new SessionRequestAttributes(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should read and write session scope through HTTP session")
+    void shouldUseHttpSessionForSessionScope() {
+        when(httpSession.getAttribute("bean")).thenReturn("value");
+
+        attributes.setAttribute("other", 1, RequestAttributes.SCOPE_SESSION);
+
+        verify(httpSession).setAttribute("other", 1);
+        assertThat(attributes.getAttribute("bean", RequestAttributes.SCOPE_SESSION))
+                .isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Should keep request scope local")
+    void shouldKeepRequestScopeLocal() {
+        attributes.setAttribute("user", "alice", RequestAttributes.SCOPE_REQUEST);
+
+        assertThat(attributes.getAttribute("user", RequestAttributes.SCOPE_REQUEST))
+                .isEqualTo("alice");
+        assertThat(attributes.getAttributeNames(RequestAttributes.SCOPE_REQUEST))
+                .containsExactly("user");
+        verify(httpSession, never()).setAttribute(eq("user"), any());
+
+        attributes.removeAttribute("user", RequestAttributes.SCOPE_REQUEST);
+        assertThat(attributes.getAttribute("user", RequestAttributes.SCOPE_REQUEST))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Should bind session destruction callback to HTTP session")
+    void shouldRegisterSessionDestructionCallback() {
+        attributes.registerDestructionCallback("bean", () -> {}, RequestAttributes.SCOPE_SESSION);
+
+        verify(httpSession)
+                .setAttribute(
+                        eq(ServletRequestAttributes.DESTRUCTION_CALLBACK_NAME_PREFIX + "bean"),
+                        any(DestructionCallbackBindingListener.class));
+    }
+
+    @Test
+    @DisplayName("Should expose HTTP session as reference and mutex")
+    void shouldExposeHttpSession() {
+        when(httpSession.getId()).thenReturn("sid");
+
+        assertThat(attributes.resolveReference(RequestAttributes.REFERENCE_SESSION))
+                .isSameAs(httpSession);
+        assertThat(attributes.resolveReference(RequestAttributes.REFERENCE_REQUEST))
+                .isNull();
+        assertThat(attributes.getSessionMutex()).isSameAs(httpSession);
+        assertThat(attributes.getSessionId()).isEqualTo("sid");
+    }
+}